@@ -0,0 +1,142 @@
+package scrabble;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Class that builds the mid-game Boards and Frames shared by the benchmarks
+ *
+ * The moves are the best move for each rack found by the MoveGenerator on the full word list, so the Board has
+ * long words, auxiliary words and used premium Squares as a real game would after eight turns.
+ */
+public class BenchmarkFixtures {
+
+    /**
+     * Moves of the mid-game Board in order: row, column, direction (0 across, 1 down) and the whole word
+     */
+    private final static Object[][] MID_GAME_MOVES = {
+            {7, 3, 0, "RESIANT"},
+            {6, 5, 0, "ULZIE"},
+            {5, 8, 0, "WHOLE"},
+            {4, 10, 0, "JARK"},
+            {5, 1, 0, "BOGEY"},
+            {0, 13, 1, "KLICK"},
+            {4, 14, 1, "SWARD"},
+            {4, 12, 1, "REFORMATE"}
+    };
+
+    /**
+     * Rack of the Player to move on the mid-game Board
+     */
+    public final static String MID_GAME_RACK = "AEGINST";
+
+    /**
+     * A valid Bingo on the mid-game Board for MID_GAME_RACK: row, column, direction and the whole word
+     */
+    public final static Object[] MID_GAME_BINGO = {8, 13, 1, "EATINGS"};
+
+    /**
+     * A valid move through Tiles already on the mid-game Board: row, column, direction and the whole word
+     */
+    public final static Object[] MID_GAME_THROUGH = {2, 10, 1, "GAJOS"};
+
+    /**
+     * Private Constructor as the class only has static methods
+     */
+    private BenchmarkFixtures(){
+    }
+
+    /**
+     * Method to build the mid-game Board checked against the full word list
+     *
+     * @return The mid-game Board
+     * @throws FileNotFoundException If the word list is missing
+     */
+    public static Board midGameBoard() throws FileNotFoundException {
+
+        Board board = new Board(LexiconRegistry.getLexicon());
+        Player player = new Player("Fixture", new Pool());
+
+        //For loop to play each move as a finished turn would
+        for (Object[] move : MID_GAME_MOVES) {
+            MoveInfo moveInfo = moveInfo(move, player);
+
+            setFrame(player, requiredTiles(board, moveInfo));
+            board.placeTiles(moveInfo);
+
+            board.setWordSquaresNormal(moveInfo.getPrimaryWord());
+            for (Word auxiliary : moveInfo.getAuxiliaryWords()) {
+                board.setWordSquaresNormal(auxiliary);
+            }
+        }
+
+        return board;
+    }
+
+    /**
+     * Method to create a Player holding MID_GAME_RACK
+     *
+     * @return The Player
+     */
+    public static Player midGamePlayer(){
+
+        Player player = new Player("Benchmark", new Pool());
+        setFrame(player, MID_GAME_RACK);
+
+        return player;
+    }
+
+    /**
+     * Method to create the MoveInfo of a fixture move
+     *
+     * @param move Row, column, direction (0 across, 1 down) and the whole word
+     * @param player Player making the move
+     * @return The MoveInfo of the move
+     */
+    public static MoveInfo moveInfo(Object[] move, Player player){
+
+        UserInput.Direction direction = (Integer) move[2] == 0 ? UserInput.Direction.HORIZONTAL : UserInput.Direction.VERTICAL;
+
+        return new MoveInfo(player, new int[]{(Integer) move[0], (Integer) move[1]}, direction, ((String) move[3]).toCharArray());
+    }
+
+    /**
+     * Method to set the Tiles in a Player's Frame
+     *
+     * @param player The Player
+     * @param letters The letters of the Tiles
+     */
+    public static void setFrame(Player player, String letters){
+
+        player.getPlayerFrame().returnFrame().clear();
+
+        for (char c : letters.toCharArray()) {
+            player.getPlayerFrame().addTile(new Tile(c));
+        }
+    }
+
+    /**
+     * Method to find the letters a move needs that are not already on the Board
+     *
+     * @param board The Board
+     * @param moveInfo The move
+     * @return The letters the Player must hold
+     */
+    private static String requiredTiles(Board board, MoveInfo moveInfo){
+
+        StringBuilder result = new StringBuilder();
+        Word primary = moveInfo.getPrimaryWord();
+        char[] word = primary.getWord();
+        boolean horizontal = primary.getDirection() == UserInput.Direction.HORIZONTAL;
+
+        for (int k = 0; k < word.length; k++) {
+            int i = primary.getStartPosition()[0] + (horizontal ? 0 : k);
+            int j = primary.getStartPosition()[1] + (horizontal ? k : 0);
+
+            if (!board.isOccupied(i, j)){
+                result.append(word[k]);
+            }
+        }
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package scrabble;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for validating, scoring and generating moves on a mid-game Board
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardBenchmark {
+
+    /**
+     * The word of the Bingo in char array form
+     */
+    private final static char[] BINGO_WORD = ((String) BenchmarkFixtures.MID_GAME_BINGO[3]).toCharArray();
+
+    /**
+     * The mid-game Board
+     */
+    private Board board;
+
+    /**
+     * Player holding the mid-game rack
+     */
+    private Player player;
+
+    /**
+     * A Bingo placed on the Board to be scored, then taken back after each invocation
+     */
+    private MoveInfo placedMove;
+
+    /**
+     * Validator of the mid-game Board
+     */
+    private MoveValidator validator;
+
+    /**
+     * Generator of moves with the full word list
+     */
+    private MoveGenerator generator;
+
+    /**
+     * Method to build the mid-game Board before measuring
+     *
+     * @throws FileNotFoundException If the word list is missing
+     */
+    @Setup
+    public void setUp() throws FileNotFoundException {
+
+        board = BenchmarkFixtures.midGameBoard();
+        player = BenchmarkFixtures.midGamePlayer();
+        validator = new MoveValidator(board);
+        generator = new MoveGenerator(LexiconRegistry.getGaddag());
+
+        //Place the Bingo so its Tiles are on the Board when it is scored
+        placedMove = BenchmarkFixtures.moveInfo(BenchmarkFixtures.MID_GAME_BINGO, player);
+        board.placeTiles(placedMove);
+        board.removeMove(placedMove);
+        BenchmarkFixtures.setFrame(player, BenchmarkFixtures.MID_GAME_RACK);
+    }
+
+    /**
+     * Benchmark checking a Bingo, the MoveInfo is created each time as the game does for each command
+     *
+     * @return True if the move is valid
+     */
+    @Benchmark
+    public boolean checkValidMoveBingo() {
+        return board.checkValidMove(BenchmarkFixtures.moveInfo(BenchmarkFixtures.MID_GAME_BINGO, player));
+    }
+
+    /**
+     * Benchmark checking a move that plays through Tiles already on the Board
+     *
+     * @return True if the move is valid
+     */
+    @Benchmark
+    public boolean checkValidMoveThrough() {
+        return board.checkValidMove(BenchmarkFixtures.moveInfo(BenchmarkFixtures.MID_GAME_THROUGH, player));
+    }
+
+    /**
+     * Benchmark scoring a Bingo and its auxiliary words with its Tiles on the Board
+     *
+     * @return The score of the move
+     */
+    @Benchmark
+    public int calculateScore() {
+
+        placeBingo();
+
+        try {
+            return board.calculateScore(placedMove);
+        } finally {
+            board.removeMove(placedMove);
+        }
+    }
+
+    /**
+     * Benchmark validating and scoring a Bingo without creating objects
+     *
+     * @return The score of the move
+     */
+    @Benchmark
+    public int validateAndScore() {
+
+        validator.validate(8, 13, UserInput.Direction.VERTICAL, BINGO_WORD, player.getPlayerFrame());
+
+        return validator.score();
+    }
+
+    /**
+     * Benchmark finding every legal move for the mid-game rack
+     *
+     * @return The moves found
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<GeneratedMove> generateMoves() {
+        return generator.generateMoves(board, player.getPlayerFrame());
+    }
+
+    /**
+     * Method to put the Tiles of the Bingo back on the Board without changing the Player's score or Frame
+     */
+    private void placeBingo() {
+
+        int[][] positions = placedMove.getRequiredTilesPositions();
+        char[] tiles = placedMove.getRequiredTiles();
+
+        for (int n = 0; n < tiles.length; n++) {
+            board.placeTile(new Tile(tiles[n]), positions[n][0], positions[n][1]);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package scrabble;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for loading the dictionary and checking the words of a move against it
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryBenchmark {
+
+    /**
+     * Path of the compiled binary Dawg of the word list
+     */
+    private Path compiledDawg;
+
+    /**
+     * Game checked against the full word list
+     */
+    private Scrabble scrabble;
+
+    /**
+     * A valid move on the mid-game Board that makes auxiliary words
+     */
+    private MoveInfo validMove;
+
+    /**
+     * A move on the mid-game Board whose primary word is not in the dictionary
+     */
+    private MoveInfo invalidMove;
+
+    /**
+     * Method to load the word list and build the mid-game moves before measuring
+     *
+     * @throws IOException If the word list is missing
+     * @throws URISyntaxException If the compiled Dawg is not a file
+     */
+    @Setup
+    public void setUp() throws IOException, URISyntaxException {
+
+        compiledDawg = Paths.get(LexiconRegistry.class.getResource(LexiconCompiler.compiledName(LexiconRegistry.DEFAULT_WORD_LIST)).toURI());
+        scrabble = new Scrabble(LexiconRegistry.getLexicon());
+
+        Board board = BenchmarkFixtures.midGameBoard();
+        Player player = BenchmarkFixtures.midGamePlayer();
+
+        //Fill in the auxiliary words of each move as the game does before checking the dictionary
+        validMove = BenchmarkFixtures.moveInfo(BenchmarkFixtures.MID_GAME_BINGO, player);
+        board.checkValidMove(validMove);
+
+        invalidMove = BenchmarkFixtures.moveInfo(new Object[]{2, 10, 1, "GAJOE"}, player);
+        board.checkValidMove(invalidMove);
+    }
+
+    /**
+     * Benchmark parsing the word list and building a Dawg, the cost of loading without the compiled file
+     *
+     * @return The Dawg built
+     * @throws IOException If the word list is missing
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public Lexicon buildFromWordList() throws IOException {
+
+        try (InputStream stream = LexiconRegistry.class.getResourceAsStream(LexiconRegistry.DEFAULT_WORD_LIST)) {
+            return Dawg.build(stream);
+        }
+    }
+
+    /**
+     * Benchmark memory mapping the compiled Dawg, the cost of the first game loading the dictionary
+     *
+     * @return The Dawg mapped
+     * @throws IOException If the compiled Dawg can not be read
+     */
+    @Benchmark
+    public Lexicon mapCompiled() throws IOException {
+        return Dawg.map(compiledDawg);
+    }
+
+    /**
+     * Benchmark starting a new game, which shares the Lexicon already loaded
+     *
+     * @return The new game
+     * @throws FileNotFoundException If the word list is missing
+     */
+    @Benchmark
+    public Scrabble newGame() throws FileNotFoundException {
+        return new Scrabble(LexiconRegistry.getLexicon());
+    }
+
+    /**
+     * Benchmark checking a valid Bingo and its auxiliary words against the dictionary
+     *
+     * @return True if every word is valid
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean dictionaryWordsValid() {
+        return scrabble.dictionaryWords(validMove);
+    }
+
+    /**
+     * Benchmark checking a move whose primary word is not in the dictionary
+     *
+     * @return True if every word is valid
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean dictionaryWordsInvalid() {
+        return scrabble.dictionaryWords(invalidMove);
+    }
+}
@@ -0,0 +1,95 @@
+package scrabble;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for checking a Frame has the Tiles a move needs
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameBenchmark {
+
+    /**
+     * Frame holding the mid-game rack
+     */
+    private Frame frame;
+
+    /**
+     * Frame holding a blank Tile
+     */
+    private Frame blankFrame;
+
+    /**
+     * Tiles of a Bingo using the whole rack
+     */
+    private final char[] bingo = "EATINGS".toCharArray();
+
+    /**
+     * Tiles of a short move
+     */
+    private final char[] shortMove = "GAS".toCharArray();
+
+    /**
+     * Tiles the rack does not have, found missing only at the last letter
+     */
+    private final char[] missing = "AEGINSS".toCharArray();
+
+    /**
+     * Method to fill the Frames before measuring
+     */
+    @Setup
+    public void setUp() {
+
+        frame = BenchmarkFixtures.midGamePlayer().getPlayerFrame();
+
+        Player player = new Player("Blank", new Pool());
+        BenchmarkFixtures.setFrame(player, "AEGIN S");
+        blankFrame = player.getPlayerFrame();
+    }
+
+    /**
+     * Benchmark checking the Frame has every Tile of a Bingo
+     *
+     * @return True if the Frame has the Tiles
+     */
+    @Benchmark
+    public boolean checkTilesBingo() {
+        return frame.checkTiles(bingo);
+    }
+
+    /**
+     * Benchmark checking the Frame has the Tiles of a short move
+     *
+     * @return True if the Frame has the Tiles
+     */
+    @Benchmark
+    public boolean checkTilesShort() {
+        return frame.checkTiles(shortMove);
+    }
+
+    /**
+     * Benchmark checking Tiles the Frame does not have
+     *
+     * @return True if the Frame has the Tiles
+     */
+    @Benchmark
+    public boolean checkTilesMissing() {
+        return frame.checkTiles(missing);
+    }
+
+    /**
+     * Benchmark checking a Frame with a blank Tile, which does not stand in for a missing letter
+     *
+     * @return True if the Frame has the Tiles
+     */
+    @Benchmark
+    public boolean checkTilesWithBlank() {
+        return blankFrame.checkTiles(bingo);
+    }
+}
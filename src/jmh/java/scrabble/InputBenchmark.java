@@ -0,0 +1,33 @@
+package scrabble;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing the commands typed into the game
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InputBenchmark {
+
+    /**
+     * The command to parse
+     */
+    @Param({"I13 D EATINGS", "C10 D GAJOS", "EXCHANGE AEG", "BLANK E", "PASS", "H7 X WORD"})
+    public String command;
+
+    /**
+     * Benchmark parsing a command
+     *
+     * @return The parsed command
+     */
+    @Benchmark
+    public UserInput parseInput() {
+        return UserInput.parseInput(command);
+    }
+}
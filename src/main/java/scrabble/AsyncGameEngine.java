@@ -0,0 +1,246 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidGameEngineException;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Class that runs the commands of a GameEngine on a thread of its own and returns their results as futures
+ *
+ * Validating a move, looking up the words of a challenge and loading the dictionary can take long enough to freeze
+ * a user interface if they run on its thread. Each command of an AsyncGameEngine is queued to a single engine
+ * thread, so commands run one at a time in the order they were sent and the GameEngine never needs locking. A
+ * caller may read the GameEngine itself once every future it is waiting on has completed, as no command is then
+ * running; completing a future happens before any action the caller chains to it.
+ */
+public class AsyncGameEngine implements AutoCloseable {
+
+    /**
+     * The engine the commands are run on
+     */
+    private final GameEngine engine;
+
+    /**
+     * The single thread the commands are run on
+     */
+    private final ExecutorService executor;
+
+    /**
+     * AsyncGameEngine Constructor
+     *
+     * @param engine The engine the commands are run on, which must not be used by another thread
+     * @throws InvalidGameEngineException If the engine is null
+     */
+    public AsyncGameEngine(GameEngine engine){
+        this(engine, newExecutor());
+    }
+
+    /**
+     * AsyncGameEngine Constructor for an engine thread that is already running
+     *
+     * @param engine The engine the commands are run on
+     * @param executor The single thread the commands are run on
+     * @throws InvalidGameEngineException If the engine is null
+     */
+    private AsyncGameEngine(GameEngine engine, ExecutorService executor){
+        if (engine == null){
+            throw new InvalidGameEngineException("The engine can not be null.");
+        }
+
+        this.engine = engine;
+        this.executor = executor;
+    }
+
+    /**
+     * Method to create an engine for a new game of the default word list, loading the dictionary on the engine thread
+     *
+     * @return Future of the engine, completed once the dictionary is loaded
+     */
+    public static CompletableFuture<AsyncGameEngine> load(){
+        return load(LexiconRegistry.DEFAULT_WORD_LIST);
+    }
+
+    /**
+     * Method to create an engine for a new game, loading the dictionary on the engine thread
+     *
+     * The dictionary is only read once per word list (see LexiconRegistry), so the engines of later games are
+     * ready at once.
+     *
+     * @param wordList Name of the word list resource in the scrabble package
+     * @return Future of the engine, completed with an UncheckedIOException if the word list is missing
+     */
+    public static CompletableFuture<AsyncGameEngine> load(String wordList){
+
+        ExecutorService executor = newExecutor();
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return new AsyncGameEngine(new GameEngine(LexiconRegistry.getLexicon(wordList)), executor);
+            } catch (FileNotFoundException e) {
+                executor.shutdown();
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Accessor Method for the engine
+     *
+     * @return The engine, only to be read while no command is running
+     */
+    public GameEngine getEngine(){
+        return engine;
+    }
+
+    /**
+     * Method to run any command on the engine thread
+     *
+     * @param command The command, given the engine
+     * @param <T> Type of the result of the command
+     * @return Future of the result, completed with the exception if the command throws one
+     * @throws java.util.concurrent.RejectedExecutionException If the AsyncGameEngine is closed
+     */
+    public <T> CompletableFuture<T> submit(Function<GameEngine, T> command){
+        return CompletableFuture.supplyAsync(() -> command.apply(engine), executor);
+    }
+
+    /**
+     * Method to name the next Player
+     *
+     * @param name The name of the Player
+     * @return Future of the Player created
+     * @see GameEngine#addPlayer(String)
+     */
+    public CompletableFuture<Player> addPlayer(String name){
+        return submit(game -> game.addPlayer(name));
+    }
+
+    /**
+     * Method for the current Player to place a word, validating and scoring it on the engine thread
+     *
+     * @param startPosition Start position of the word (row, column)
+     * @param direction Direction of the word
+     * @param word The whole word, including Tiles already on the Board
+     * @return Future of the move placed on the Board
+     * @see GameEngine#place(int[], UserInput.Direction, char[])
+     */
+    public CompletableFuture<MoveInfo> place(int[] startPosition, UserInput.Direction direction, char[] word){
+        return submit(game -> game.place(startPosition, direction, word));
+    }
+
+    /**
+     * Method for the opponent to accept or challenge the pending move, looking up its words on the engine thread
+     *
+     * @param challenged True if the opponent challenges the move
+     * @return Future of true if the move was taken off the Board
+     * @see GameEngine#challenge(boolean)
+     */
+    public CompletableFuture<Boolean> challenge(boolean challenged){
+        return submit(game -> game.challenge(challenged));
+    }
+
+    /**
+     * Method for the current Player to pass their turn
+     *
+     * @return Future completed once the turn is passed
+     * @see GameEngine#pass()
+     */
+    public CompletableFuture<Void> pass(){
+        return submit(game -> {
+            game.pass();
+            return null;
+        });
+    }
+
+    /**
+     * Method for the current Player to exchange Tiles in their Frame for Tiles from the Pool
+     *
+     * @param tiles The chars of the Tiles to exchange
+     * @return Future completed once the Tiles are exchanged
+     * @see GameEngine#exchange(char[])
+     */
+    public CompletableFuture<Void> exchange(char[] tiles){
+        return submit(game -> {
+            game.exchange(tiles);
+            return null;
+        });
+    }
+
+    /**
+     * Method for the current Player to set the letters of the blank Tiles in their Frame
+     *
+     * @param letters The letters for the blank Tiles
+     * @return Future completed once the blank Tiles are set
+     * @see GameEngine#setBlanks(char[])
+     */
+    public CompletableFuture<Void> setBlanks(char[] letters){
+        return submit(game -> {
+            game.setBlanks(letters);
+            return null;
+        });
+    }
+
+    /**
+     * Method for the current Player to change their name
+     *
+     * @param name The new name
+     * @return Future completed once the name is changed
+     * @see GameEngine#rename(String)
+     */
+    public CompletableFuture<Void> rename(String name){
+        return submit(game -> {
+            game.rename(name);
+            return null;
+        });
+    }
+
+    /**
+     * Method to end the game early
+     *
+     * @return Future completed once the game is over
+     * @see GameEngine#quit()
+     */
+    public CompletableFuture<Void> quit(){
+        return submit(game -> {
+            game.quit();
+            return null;
+        });
+    }
+
+    /**
+     * Method to find the exception a command threw from the exception its future completed with
+     *
+     * @param error The exception the future completed with
+     * @return The exception thrown by the command
+     */
+    public static Throwable cause(Throwable error){
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Method to stop the engine thread once the commands already sent have run
+     */
+    @Override
+    public void close(){
+        executor.shutdown();
+    }
+
+    /**
+     * Method to create the single engine thread, which does not keep the program running
+     *
+     * @return The executor of the engine thread
+     */
+    private static ExecutorService newExecutor(){
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scrabble-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
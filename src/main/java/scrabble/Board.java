@@ -26,11 +26,113 @@ public class Board {
      */
     private Square[][] boardSquares;
 
+    /**
+     * Cross-check mask allowing every letter, bit n is set if letter 'A' + n is allowed
+     */
+    public final static int ALL_LETTERS = (1 << 26) - 1;
+
+    /**
+     * The Lexicon used to find the cross-checks, null if every letter is allowed
+     */
+    private final Lexicon lexicon;
+
+    /**
+     * Letters that can be placed on each Square without making an invalid word across the move,
+     * indexed by Direction of the move then i * BOARD_SIZE + j
+     */
+    private final int[][] crossChecks = new int[2][BOARD_SIZE * BOARD_SIZE];
+
+    /**
+     * Sum of the Tile values of the word across the move next to each Square, -1 if there is none,
+     * indexed the same as crossChecks
+     */
+    private final int[][] crossScores = new int[2][BOARD_SIZE * BOARD_SIZE];
+
+    /**
+     * Occupancy of the Board by row, row i is bits 16 * (i % 4) to 16 * (i % 4) + 14 of rowOccupancy[i / 4]
+     * with bit j of the row set if Square i j has a Tile
+     */
+    private final long[] rowOccupancy = new long[4];
+
+    /**
+     * Transposed copy of rowOccupancy, column j holds bit i set if Square i j has a Tile
+     */
+    private final long[] columnOccupancy = new long[4];
+
+    /**
+     * Mask of the 15 bits of a row or column
+     */
+    private final static int LINE_MASK = (1 << BOARD_SIZE) - 1;
+
+    /**
+     * Bit i * BOARD_SIZE + j is set if Square i j is empty and next to a Tile
+     */
+    private final long[] anchors = new long[4];
+
+    /**
+     * Bit i is set if the vertical move cross-checks of row i must be found again
+     */
+    private int dirtyRows;
+
+    /**
+     * Bit j is set if the horizontal move cross-checks of column j must be found again
+     */
+    private int dirtyColumns;
+
+    /**
+     * Zobrist hash of the Tiles on the Board
+     */
+    private long hash;
+
+    /**
+     * Zobrist key of the Tile on each Square, by i * BOARD_SIZE + j, 0 if the Square is empty
+     */
+    private final long[] squareKeys = new long[BOARD_SIZE * BOARD_SIZE];
+
+    /**
+     * Bit i is set if row i changed since the last snapshot was published
+     */
+    private int snapshotRows;
+
+    /**
+     * The last snapshot published, read by any thread without locking
+     */
+    private volatile BoardSnapshot snapshot;
+
+    /**
+     * Bit j of entry i is set if Square i j changed since it was last taken by a view of the Board
+     */
+    private final int[] changedSquares = new int[BOARD_SIZE];
+
+    /**
+     * Buffer used to check words across a move
+     */
+    private final char[] crossWord = new char[BOARD_SIZE];
+
+    /**
+     * Validator used to check moves placed on the Board
+     */
+    private final MoveValidator validator = new MoveValidator(this);
+
 
     /**
      * Board Constructor
+     *
+     * Every letter passes the cross-checks as there is no Lexicon to check them with
      */
     public Board(){
+        this((Lexicon) null);
+    }
+
+
+    /**
+     * Board Constructor
+     *
+     * @param lexicon The Lexicon used to find which letters each Square allows, null to allow every letter
+     */
+    public Board(Lexicon lexicon){
+
+        this.lexicon = lexicon;
 
         //Set boardSquare
         boardSquares = new Square[BOARD_SIZE][BOARD_SIZE];
@@ -40,13 +142,56 @@ public class Board {
     }
 
 
+    /**
+     * Board copy Constructor
+     *
+     * The copy shares the Tiles on the Board, which must not be changed while it is in use, so moves can be tried
+     * on the copy from another thread.
+     *
+     * @param board The Board to copy
+     */
+    public Board(Board board){
+
+        this(board.lexicon);
+
+        //For loop to copy the SquareType and Tile of every Square
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                Square square = board.boardSquares[i][j];
+
+                if (square.getType() == Square.SquareType.NORMAL){
+                    boardSquares[i][j].setNormal();
+                }
+                if (!square.isEmpty()){
+                    boardSquares[i][j].setTile(square.getTile());
+                }
+            }
+        }
+    }
+
+
     /**
      * Method to fill the board full of blank Square
      */
     private void newBoard() {
 
+        //An empty Board allows every letter everywhere and has no Tiles to be next to
+        for (int[] checks : crossChecks) {
+            Arrays.fill(checks, ALL_LETTERS);
+        }
+        for (int[] scores : crossScores) {
+            Arrays.fill(scores, -1);
+        }
+        Arrays.fill(anchors, 0);
+        Arrays.fill(rowOccupancy, 0);
+        Arrays.fill(columnOccupancy, 0);
+        dirtyRows = 0;
+        dirtyColumns = 0;
+        hash = 0;
+        Arrays.fill(squareKeys, 0);
+
         //Centre Square is Start
-        boardSquares[7][7] = new Square(Square.SquareType.START);
+        boardSquares[7][7] = new Square(Square.SquareType.START, this, 7, 7);
 
         //Stores the SquareType
         Square.SquareType type;
@@ -61,12 +206,21 @@ public class Board {
                 type = boardSquareType(i + "" + j);
 
                 //Create the Square in each of the quadrants
-                boardSquares[i][j] = new Square(type);
-                boardSquares[j][BOARD_SIZE - 1 - i] = new Square(type);
-                boardSquares[BOARD_SIZE - 1 - i][BOARD_SIZE - 1 - j] = new Square(type);
-                boardSquares[BOARD_SIZE - 1 - j][i] = new Square(type);
+                boardSquares[i][j] = new Square(type, this, i, j);
+                boardSquares[j][BOARD_SIZE - 1 - i] = new Square(type, this, j, BOARD_SIZE - 1 - i);
+                boardSquares[BOARD_SIZE - 1 - i][BOARD_SIZE - 1 - j] = new Square(type, this, BOARD_SIZE - 1 - i, BOARD_SIZE - 1 - j);
+                boardSquares[BOARD_SIZE - 1 - j][i] = new Square(type, this, BOARD_SIZE - 1 - j, i);
             }
         }
+
+        //Readers see the empty Board until the next snapshot is published
+        snapshot = new BoardSnapshot(null, boardSquares, LINE_MASK, hash);
+        snapshotRows = 0;
+
+        //Views of the Board must draw every Square again
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            changedSquares[i] = LINE_MASK;
+        }
     }
 
     /**
@@ -77,6 +231,15 @@ public class Board {
         return this.boardSquares;
     }
 
+    /**
+     * Accessor Method for the Lexicon
+     *
+     * @return The Lexicon used to find the cross-checks, null if every letter is allowed
+     */
+    public Lexicon getLexicon(){
+        return this.lexicon;
+    }
+
 
 
     /**
@@ -236,40 +399,30 @@ public class Board {
      */
     protected boolean checkValidMove(MoveInfo moveInfo){
 
-        boolean validMove;
+        Word word = moveInfo.getPrimaryWord();
 
-        //If the word is at least length 2 and the start and end positions are valid
-        if (moveInfo.getPrimaryWord().getWord().length >= 2 && checkValidPosition(moveInfo.getPrimaryWord().getStartPosition()) && checkValidPosition(moveInfo.getPrimaryWord().getDirection() == UserInput.Direction.VERTICAL ? new int[]{moveInfo.getPrimaryWord().getStartPosition()[0] + moveInfo.getPrimaryWord().getWord().length - 1, moveInfo.getPrimaryWord().getStartPosition()[1]} : new int[]{moveInfo.getPrimaryWord().getStartPosition()[0], moveInfo.getPrimaryWord().getStartPosition()[1] + moveInfo.getPrimaryWord().getWord().length - 1})){
+        //Positions must have an i and j component
+        checkValidPosition(word.getStartPosition());
 
-            //The word os the whole Word on the Board
-            if (wholeWord(moveInfo.getPrimaryWord())) {
-                getRequiredTiles(moveInfo);
-                findAuxiliaryWords(moveInfo);
+        int result = validator.validate(word.getStartPosition()[0], word.getStartPosition()[1], word.getDirection(), word.getWord(), moveInfo.getPlayer().getPlayerFrame());
 
-                // Checks that the player has each of the Tiles in their Frame
-                if (checkPlayerHasTiles(moveInfo.getPlayer(), moveInfo.getRequiredTiles())) {
+        if (result != MoveValidator.VALID){
+            throw new InvalidMoveInfoException(MoveValidator.message(result));
+        }
 
-                    //If the the Word connects to another Word or Start Square
-                    if (checkWordConnects(moveInfo)){
-                        validMove = true;
-                    }
-                    else {
-                        throw new InvalidMoveInfoException("The Word did not connect to a Word or Start Square.");
-                    }
+        //Copy the Tiles the move places into the MoveInfo
+        char[] tiles = new char[validator.getRequiredCount()];
+        int[][] positions = new int[tiles.length][];
 
-                } else {
-                    throw new InvalidMoveInfoException("The Player does not have the required Tiles for this move.");
-                }
-            }
-            else {
-                throw new InvalidMoveInfoException("The Word is not the whole Word on the Board.");
-            }
-        }
-        else{
-            throw new InvalidMoveInfoException("The Word does not fit on the Board or is less than 2 letters long.");
+        for (int n = 0; n < tiles.length; n++) {
+            tiles[n] = validator.getRequiredTile(n);
+            positions[n] = new int[]{validator.getRequiredRow(n), validator.getRequiredColumn(n)};
         }
 
-        return validMove;
+        moveInfo.setRequiredTiles(tiles, positions);
+        findAuxiliaryWords(moveInfo);
+
+        return true;
     }
 
 
@@ -301,11 +454,15 @@ public class Board {
 
             moveInfo.getPlayer().increaseScore(moveInfo.getMoveScore());
 
-            // Loops through each move and places the Tile on the Board
-            for(int i = 0; i < moveInfo.getRequiredTiles().length; i++){
+            // Loops through each move and places a different Tile of the Frame on the Board
+            Tile[] placedTiles = new Tile[moveInfo.getRequiredTiles().length];
+
+            for(int i = 0; i < placedTiles.length; i++){
 
-                placeTile(moveInfo.getPlayer().getPlayerFrame().getTile(moveInfo.getRequiredTiles()[i]), moveInfo.getRequiredTilesPositions()[i][0], moveInfo.getRequiredTilesPositions()[i][1]);
+                placedTiles[i] = chooseTile(moveInfo.getPlayer().getPlayerFrame(), moveInfo.getRequiredTiles()[i], placedTiles, i);
+                placeTile(placedTiles[i], moveInfo.getRequiredTilesPositions()[i][0], moveInfo.getRequiredTilesPositions()[i][1]);
             }
+            moveInfo.setPlacedTiles(placedTiles);
 
 
             moveInfo.setScore(calculateScore(moveInfo));
@@ -317,6 +474,50 @@ public class Board {
 
 
 
+    /**
+     * Method to choose the Tile of the Frame placed for a char of a move
+     *
+     * A blank Tile set to a letter is only used once the Tiles of that letter are all placed, so a word like DIFF
+     * played with one F and a blank places both Tiles rather than the same F twice.
+     *
+     * @param frame Frame of the Player making the move
+     * @param c Character of the Tile wanted
+     * @param chosen Tiles already chosen for the move
+     * @param count Number of Tiles already chosen
+     * @return A Tile with the given character that has not been chosen
+     * @throws InvalidMoveInfoException The Frame has no such Tile left
+     */
+    private static Tile chooseTile(Frame frame, char c, Tile[] chosen, int count){
+
+        Tile blank = null;
+
+        for (Tile tile : frame.returnFrame()) {
+
+            //Tiles equal by letter and value, so a Tile already chosen is found by identity
+            boolean used = false;
+            for (int i = 0; i < count; i++) {
+                used |= chosen[i] == tile;
+            }
+
+            if (used || tile.getCharacter() != c){
+                continue;
+            }
+            if (tile.getValue() != 0 || c == ' '){
+                return tile;
+            }
+            if (blank == null){
+                blank = tile;
+            }
+        }
+
+        if (blank == null){
+            throw new InvalidMoveInfoException("The Player does not have the Tiles for the move.");
+        }
+        return blank;
+    }
+
+
+
     /**
      * Method to validate that a position passed in is on the board
      *
@@ -349,193 +550,94 @@ public class Board {
 
 
     /**
-     * Method to check the Word connects on the Board
-     * @param moveInfo Move to check
+     * Method to find all the auxiliary Words of a move
      *
-     * @return True if valid
+     * @param moveInfo The move
      */
-    private Boolean checkWordConnects(MoveInfo moveInfo) {
+    private void findAuxiliaryWords(MoveInfo moveInfo){
 
-        // Boolean to store if a connecting tile has been found
-        boolean connectCheck = false;
+        //Auxiliary Words run across the primary Word
+        UserInput.Direction across = moveInfo.getPrimaryWord().getDirection() == UserInput.Direction.VERTICAL ? UserInput.Direction.HORIZONTAL : UserInput.Direction.VERTICAL;
 
-        // Check if a the first tile of the game has been placed, since it doesn't need to have a connecting tile
-        if (boardSquares[7][7].isEmpty()) {
+        //For loop to go through each of requiredTiles
+        for (int n = 0; n < moveInfo.getRequiredTiles().length; n++) {
 
-            // If the first tile of the game hasn't been placed and the position [7][7] is not passed in
-            if (moveInfo.getPrimaryWord().getDirection() == UserInput.Direction.VERTICAL ? (moveInfo.getPrimaryWord().getStartPosition()[1] == 7 && moveInfo.getPrimaryWord().getStartPosition()[0] <= 7 && moveInfo.getPrimaryWord().getStartPosition()[0] + moveInfo.getPrimaryWord().getWord().length >= 7) : (moveInfo.getPrimaryWord().getStartPosition()[0] == 7 && moveInfo.getPrimaryWord().getStartPosition()[1] <= 7 && moveInfo.getPrimaryWord().getStartPosition()[1] + moveInfo.getPrimaryWord().getWord().length  >= 7)) {
-                connectCheck = true;
+            int i = moveInfo.getRequiredTilesPositions()[n][0];
+            int j = moveInfo.getRequiredTilesPositions()[n][1];
+
+            //The Tile's line across the move and its position along it
+            int line = across == UserInput.Direction.HORIZONTAL ? getRowOccupancy(i) : getColumnOccupancy(j);
+            int k = across == UserInput.Direction.HORIZONTAL ? j : i;
+
+            //If there is a Tile either side across the move, find and add the newly modified Word
+            if ((line & ((1 << k) >>> 1 | (1 << k) << 1)) != 0) {
+                moveInfo.addAuxiliaryWord(findWord(i, j, across, line, moveInfo.getRequiredTiles()[n]));
             }
         }
-        //Else if the word made auxiliary Words or the required Tiles is less than the total chars in the Word
-        else if(moveInfo.getAuxiliaryWords().size() > 0 || moveInfo.getRequiredTiles().length < moveInfo.getPrimaryWord().getWord().length){
-                connectCheck = true;
-        }
-
-        return connectCheck;
     }
 
-
     /**
-     * Method to find the required Tiles that the Player needs to place
+     * Method to find the Word made through a new Tile
      *
-     * @param moveInfo The move to get required Tiles
-     * @throws InvalidMoveInfoException The Word does not match current Tiles on the Board
+     * @param i Row of the new Tile
+     * @param j Column of the new Tile
+     * @param direction Direction of the Word
+     * @param line Occupancy of the Word's row or column
+     * @param newTile The char of the new Tile
+     * @return The Word
      */
-    private void getRequiredTiles(MoveInfo moveInfo){
-
-        int[][] tilePositions = new  int[moveInfo.getPrimaryWord().getWord().length][2];
-        char[] tiles = new char[moveInfo.getPrimaryWord().getWord().length];
-
-        int numTiles = 0;
-
-        //For loop to run through each char in the word and find if a tile needs to be placed
-        for (int i = 0; i < moveInfo.getPrimaryWord().getWord().length; i++){
+    private Word findWord(int i, int j, UserInput.Direction direction, int line, char newTile){
 
-            //Current position changes which axis is increased
-            int[] currentPosition = moveInfo.getPrimaryWord().getDirection() == UserInput.Direction.VERTICAL? new int[]{moveInfo.getPrimaryWord().getStartPosition()[0] + i, moveInfo.getPrimaryWord().getStartPosition()[1]}: new int[]{moveInfo.getPrimaryWord().getStartPosition()[0], moveInfo.getPrimaryWord().getStartPosition()[1] + i};
+        //Find the run of Tiles through the new Tile
+        int k = direction == UserInput.Direction.HORIZONTAL ? j : i;
+        int start = runStart(line, k);
+        int end = runEnd(line, k);
 
-            Square currentSquare = this.getSquare(currentPosition[0], currentPosition[1]);
+        char[] word = new char[end - start + 1];
 
-            //If the Square is empty then a  tile is required
-            if (currentSquare.isEmpty()){
-                tilePositions[numTiles] = currentPosition;
-                tiles[numTiles] = moveInfo.getPrimaryWord().getWord()[i];
-                numTiles++;
+        //For loop to get the word chars
+        for (int n = start; n <= end; n++) {
+            if (n == k){
+                word[n - start] = newTile;
             }
-            //Else check the tiles on the board match the word
-            else if (moveInfo.getPrimaryWord().getWord()[i] != currentSquare.getTile().getCharacter()){
-                throw new InvalidMoveInfoException("Word does not match tiles on the board.");
+            else {
+                word[n - start] = direction == UserInput.Direction.HORIZONTAL ? boardSquares[i][n].getTile().getCharacter() : boardSquares[n][j].getTile().getCharacter();
             }
         }
 
-        //Set the required Tiles. Trim the array size to match numTiles
-        moveInfo.setRequiredTiles(Arrays.copyOfRange(tiles, 0, numTiles), Arrays.copyOfRange(tilePositions, 0, numTiles));
-    }
-
-    /**
-     * Method to check the word is the whole word
-     *
-     * @param word Word to check
-     * @return True if whole word
-     */
-    private boolean wholeWord(Word word){
-
-        boolean result;
-
-        //If Word is vertical
-        if (word.getDirection() == UserInput.Direction.VERTICAL){
-            //The start tile is the top edge of the board or the previous square is empty and the last tile is the bottom edge or the next square is empty
-            result = (word.getStartPosition()[0] == 0 || this.getSquare(word.getStartPosition()[0] - 1, word.getStartPosition()[1]).isEmpty()) && (word.getStartPosition()[0] + word.getWord().length - 1 == BOARD_SIZE - 1 || this.getSquare(word.getStartPosition()[0] + word.getWord().length , word.getStartPosition()[1]).isEmpty());
-        }
-        //Else horizontal
-        else {
-            //The start tile is the left edge of the board or the previous square is empty and the last tile is the right edge or the next square is empty
-            result = (word.getStartPosition()[1] == 0 || this.getSquare(word.getStartPosition()[0], word.getStartPosition()[1] - 1).isEmpty()) && (word.getStartPosition()[1] + word.getWord().length -1 == BOARD_SIZE - 1 || this.getSquare(word.getStartPosition()[0], word.getStartPosition()[1] + word.getWord().length).isEmpty());
-        }
+        int[] position = direction == UserInput.Direction.HORIZONTAL ? new int[]{i, start} : new int[]{start, j};
 
-        return result;
+        return new Word(position, direction, word);
     }
 
-
     /**
-     * Method to find all the auxiliary Words of a move
+     * Method to find where the run of Tiles through a position along a line starts
      *
-     * @param moveInfo The move
+     * @param line Occupancy of the line
+     * @param k The position, counted as having a Tile
+     * @return Position of the first Tile of the run
      */
-    private void findAuxiliaryWords(MoveInfo moveInfo){
-
-        //If the primaryWord is Vertical
-        if(moveInfo.getPrimaryWord().getDirection() == UserInput.Direction.VERTICAL) {
-
-            //For loop to go through each of requiredTiles
-            for (int i = 0; i < moveInfo.getRequiredTiles().length; i++) {
-
-                int[] currentPosition = moveInfo.getRequiredTilesPositions()[i];
-
-                //If the previous tile Horizontal is valid
-                if (checkValidPosition(new int[]{currentPosition[0], currentPosition[1] - 1}) && !getSquare(currentPosition[0], currentPosition[1] - 1).isEmpty()) {
-                    //Find and add the newly modified Word to the auxiliaryWords
-                    moveInfo.addAuxiliaryWord(findWord(new int[]{moveInfo.getRequiredTilesPositions()[i][0], moveInfo.getRequiredTilesPositions()[i][1] - 1}, UserInput.Direction.HORIZONTAL, moveInfo.getRequiredTilesPositions()[i], moveInfo.getRequiredTiles()[i]));
-                }
-                //Else if the next tile Horizontal is valid
-                else if (checkValidPosition(new int[]{currentPosition[0], currentPosition[1] + 1}) && !getSquare(currentPosition[0], currentPosition[1] + 1).isEmpty()) {
-                    //Find and add the newly modified Word to the auxiliaryWords
-                    moveInfo.addAuxiliaryWord(findWord(new int[]{moveInfo.getRequiredTilesPositions()[i][0], moveInfo.getRequiredTilesPositions()[i][1] + 1}, UserInput.Direction.HORIZONTAL, moveInfo.getRequiredTilesPositions()[i], moveInfo.getRequiredTiles()[i]));
-                }
-
-            }
-        }
-        //Horizontal
-        else {
-            for (int i = 0; i < moveInfo.getRequiredTiles().length; i++) {
+    static int runStart(int line, int k){
 
-                int[] currentPosition = moveInfo.getRequiredTilesPositions()[i];
+        //The highest empty position before k is just before the run
+        int gaps = ~line & ((1 << k) - 1);
 
-                //If the previous tile Vertical is valid
-                if (checkValidPosition(new int[]{currentPosition[0] - 1 , currentPosition[1]}) && !getSquare(currentPosition[0] - 1, currentPosition[1]).isEmpty()) {
-                    //Find and add the newly modified Word to the auxiliaryWords
-                    moveInfo.addAuxiliaryWord(findWord(new int[]{moveInfo.getRequiredTilesPositions()[i][0] - 1, moveInfo.getRequiredTilesPositions()[i][1]}, UserInput.Direction.VERTICAL, moveInfo.getRequiredTilesPositions()[i], moveInfo.getRequiredTiles()[i]));
-                }
-                //Else if the next tile Vertical is valid
-                else if (checkValidPosition(new int[]{currentPosition[0] + 1 , currentPosition[1]}) && !getSquare(currentPosition[0] + 1, currentPosition[1]).isEmpty()) {
-                    //Find and add the newly modified Word to the auxiliaryWords
-                    moveInfo.addAuxiliaryWord(findWord(new int[]{moveInfo.getRequiredTilesPositions()[i][0] + 1, moveInfo.getRequiredTilesPositions()[i][1]}, UserInput.Direction.VERTICAL, moveInfo.getRequiredTilesPositions()[i], moveInfo.getRequiredTiles()[i] ));
-                }
-            }
-        }
+        return 32 - Integer.numberOfLeadingZeros(gaps);
     }
 
     /**
-     * Method to find the Word given a position on the Board and Direction
+     * Method to find where the run of Tiles through a position along a line ends
      *
-     * @param position Position in the Word
-     * @param direction Direction of the Word
-     * @return The Word
-     * @throws InvalidBoardException The position is invalid
+     * @param line Occupancy of the line
+     * @param k The position, counted as having a Tile
+     * @return Position of the last Tile of the run
      */
-    private Word findWord(int[] position, UserInput.Direction direction, int[] newTilePos, char newTile){
-
-        if (position.length == 2 && checkValidPosition(position)){
-
-            char[] word = new char[BOARD_SIZE];
-
-            int[] currentPosition = position;
-            Square currentSquare;
+    static int runEnd(int line, int k){
 
-            //Direction of the position to update
-            int dirIndex = direction == UserInput.Direction.VERTICAL? 0:1;
+        //The lowest empty position after k is just after the run, bit 15 is always empty
+        int gaps = ~line & -(1 << (k + 1));
 
-            //While loop till board edge or empty Square
-            while(checkValidPosition(currentPosition) && (!getSquare(currentPosition[0], currentPosition[1]).isEmpty() || Arrays.equals(currentPosition, newTilePos))){
-                currentPosition[dirIndex]--;
-            }
-
-            currentPosition[dirIndex]++;
-            position = currentPosition.clone();
-
-            int i;
-
-            //For loop to get the word chars
-            for (i = 0; i < word.length && checkValidPosition(currentPosition) && (!(currentSquare = getSquare(currentPosition[0], currentPosition[1])).isEmpty() || Arrays.equals(currentPosition, newTilePos)); i++) {
-
-                //If the current position is new tile position
-                if (Arrays.equals(currentPosition, newTilePos)){
-                    word[i] = newTile;
-                }
-                else {
-                    word[i] = currentSquare.getTile().getCharacter();
-                }
-
-                currentPosition[dirIndex]++;
-            }
-
-            //Return the Word with the array shorted to just the chars
-            return new Word(position, direction, Arrays.copyOfRange(word, 0, i));
-        }
-        else{
-            throw new InvalidBoardException("Position invalid position inputted.");
-        }
+        return Integer.numberOfTrailingZeros(gaps) - 1;
     }
 
     /**
@@ -635,4 +737,350 @@ public class Board {
         }
     }
 
+    /**
+     * Method to find which letters can be placed on a Square without making an invalid word across the move
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @param direction Direction of the move
+     * @return Bit n is set if letter 'A' + n is allowed, 0 if the Square has a Tile
+     * @throws InvalidBoardException Coordinates are not inside the Board
+     */
+    public int getCrossCheck(int i, int j, UserInput.Direction direction){
+        getSquare(i, j);
+        updateCrossChecks(direction);
+
+        return crossChecks[direction.ordinal()][i * BOARD_SIZE + j];
+    }
+
+    /**
+     * Method to find the score of the word across the move that a Tile on a Square would join
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @param direction Direction of the move
+     * @return Sum of the Tile values next to the Square across the move, -1 if there are none
+     * @throws InvalidBoardException Coordinates are not inside the Board
+     */
+    public int getCrossScore(int i, int j, UserInput.Direction direction){
+        getSquare(i, j);
+        updateCrossChecks(direction);
+
+        return crossScores[direction.ordinal()][i * BOARD_SIZE + j];
+    }
+
+    /**
+     * Method to check if a move can be built from a Square
+     *
+     * Until the Start Square is covered it is the only anchor, after that every empty Square next to a Tile is one.
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @return True if the Square is an anchor
+     * @throws InvalidBoardException Coordinates are not inside the Board
+     */
+    public boolean isAnchor(int i, int j){
+        getSquare(i, j);
+
+        if (!isOccupied(7, 7)){
+            return i == 7 && j == 7;
+        }
+
+        int bit = i * BOARD_SIZE + j;
+        return (anchors[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Method to get every anchor as a bitmap
+     *
+     * @return Copy of the anchors, bit i * BOARD_SIZE + j set if Square i j is an anchor
+     */
+    public long[] getAnchors(){
+
+        if (!isOccupied(7, 7)){
+            long[] start = new long[anchors.length];
+            int bit = 7 * BOARD_SIZE + 7;
+            start[bit >>> 6] = 1L << bit;
+            return start;
+        }
+
+        return anchors.clone();
+    }
+
+    /**
+     * Method to check if a Square has a Tile using the occupancy bitboard
+     *
+     * @param i Row of the Square, must be on the Board
+     * @param j Column of the Square, must be on the Board
+     * @return True if the Square has a Tile
+     */
+    public boolean isOccupied(int i, int j){
+        return (getRowOccupancy(i) & (1 << j)) != 0;
+    }
+
+    /**
+     * Method to get the occupancy of a row
+     *
+     * @param i The row, must be on the Board
+     * @return Bit j is set if Square i j has a Tile
+     */
+    public int getRowOccupancy(int i){
+        return (int) (rowOccupancy[i >>> 2] >>> ((i & 3) << 4)) & LINE_MASK;
+    }
+
+    /**
+     * Method to get the occupancy of a column
+     *
+     * @param j The column, must be on the Board
+     * @return Bit i is set if Square i j has a Tile
+     */
+    public int getColumnOccupancy(int j){
+        return (int) (columnOccupancy[j >>> 2] >>> ((j & 3) << 4)) & LINE_MASK;
+    }
+
+    /**
+     * Method to mark a Square as changed after its SquareType changed
+     *
+     * Called by the Square itself.
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     */
+    void typeChanged(int i, int j){
+        snapshotRows |= 1 << i;
+        changedSquares[i] |= 1 << j;
+    }
+
+    /**
+     * Method for a view of the Board to find the Squares of a row it must draw again
+     *
+     * A Square is marked when its Tile or SquareType changes and unmarked when its row is taken, so a view that
+     * takes every row after each change only redraws the Squares that changed. Squares that changed and changed
+     * back, like a move that was challenged off the Board, are still marked.
+     *
+     * @param i The row
+     * @return Bit j is set if Square i j changed since the row was last taken
+     */
+    public int takeChangedSquares(int i){
+        int changed = changedSquares[i];
+        changedSquares[i] = 0;
+        return changed;
+    }
+
+    /**
+     * Method to publish a snapshot of the Board for other threads to read
+     *
+     * Must be called by the thread that changes the Board. Only the rows changed since the last snapshot are copied.
+     *
+     * @return The snapshot published, the last one if nothing changed
+     */
+    public BoardSnapshot publishSnapshot(){
+
+        if (snapshotRows != 0){
+            snapshot = new BoardSnapshot(snapshot, boardSquares, snapshotRows, hash);
+            snapshotRows = 0;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Accessor Method for the last snapshot published
+     *
+     * Can be called from any thread while the Board is being changed, unlike getBoardSquares.
+     *
+     * @return The last snapshot published
+     */
+    public BoardSnapshot getSnapshot(){
+        return snapshot;
+    }
+
+    /**
+     * Accessor Method for the Zobrist hash of the Board
+     *
+     * @return The same hash for any Board with the same Tiles on the same Squares, 0 for an empty Board
+     */
+    public long getHash(){
+        return hash;
+    }
+
+    /**
+     * Method to get the occupancy of a row or column
+     *
+     * @param index The row or column
+     * @param direction HORIZONTAL for a row, VERTICAL for a column
+     * @return The occupancy of the line, 0 if the line is off the Board
+     */
+    int lineOccupancy(int index, UserInput.Direction direction){
+        if (index < 0 || index >= BOARD_SIZE){
+            return 0;
+        }
+        return direction == UserInput.Direction.HORIZONTAL ? getRowOccupancy(index) : getColumnOccupancy(index);
+    }
+
+    /**
+     * Method to update the caches after a Tile is placed on or removed from a Square
+     *
+     * Called by the Square itself so Tiles placed straight on a Square are seen too.
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     */
+    void tileChanged(int i, int j){
+
+        //Flip the Square's bit in both bitboards
+        long rowBit = 1L << (((i & 3) << 4) + j);
+        long columnBit = 1L << (((j & 3) << 4) + i);
+
+        if (boardSquares[i][j].isEmpty()){
+            rowOccupancy[i >>> 2] &= ~rowBit;
+            columnOccupancy[j >>> 2] &= ~columnBit;
+        }
+        else {
+            rowOccupancy[i >>> 2] |= rowBit;
+            columnOccupancy[j >>> 2] |= columnBit;
+        }
+
+        snapshotRows |= 1 << i;
+        changedSquares[i] |= 1 << j;
+
+        //Take the old Tile's key out of the hash and put the new Tile's in, the old Tile may already be gone
+        int square = i * BOARD_SIZE + j;
+        hash ^= squareKeys[square];
+        squareKeys[square] = boardSquares[i][j].isEmpty() ? 0 : Zobrist.tile(i, j, boardSquares[i][j].getTile());
+        hash ^= squareKeys[square];
+
+        //Cross-checks across a horizontal move look up and down the column, and across a vertical move along the row
+        dirtyColumns |= 1 << j;
+        dirtyRows |= 1 << i;
+
+        //The Square and its neighbours are the only Squares that can become or stop being anchors
+        updateAnchor(i, j);
+        updateAnchor(i - 1, j);
+        updateAnchor(i + 1, j);
+        updateAnchor(i, j - 1);
+        updateAnchor(i, j + 1);
+    }
+
+    /**
+     * Method to find if a Square is empty and next to a Tile
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     */
+    private void updateAnchor(int i, int j){
+
+        if (!CoordinateValidationCheck(i, j)){
+            return;
+        }
+
+        //Empty with a Tile either side along the row or column
+        int row = getRowOccupancy(i);
+        int column = getColumnOccupancy(j);
+        boolean anchor = (row & (1 << j)) == 0 && ((row & ((1 << j) >>> 1 | (1 << j) << 1)) != 0 || (column & ((1 << i) >>> 1 | (1 << i) << 1)) != 0);
+
+        int bit = i * BOARD_SIZE + j;
+
+        if (anchor){
+            anchors[bit >>> 6] |= 1L << bit;
+        }
+        else {
+            anchors[bit >>> 6] &= ~(1L << bit);
+        }
+    }
+
+    /**
+     * Method to find the cross-checks again for every line changed since they were last found
+     *
+     * @param direction Direction of the move
+     */
+    private void updateCrossChecks(UserInput.Direction direction){
+
+        if (direction == UserInput.Direction.HORIZONTAL){
+            //For loop to update each changed column
+            while (dirtyColumns != 0){
+                int j = Integer.numberOfTrailingZeros(dirtyColumns);
+                dirtyColumns &= dirtyColumns - 1;
+
+                for (int i = 0; i < BOARD_SIZE; i++) {
+                    updateCrossCheck(i, j, direction);
+                }
+            }
+        }
+        else {
+            //For loop to update each changed row
+            while (dirtyRows != 0){
+                int i = Integer.numberOfTrailingZeros(dirtyRows);
+                dirtyRows &= dirtyRows - 1;
+
+                for (int j = 0; j < BOARD_SIZE; j++) {
+                    updateCrossCheck(i, j, direction);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to find which letters can be placed on a Square given the Tiles across the move from it
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @param direction Direction of the move
+     */
+    private void updateCrossCheck(int i, int j, UserInput.Direction direction){
+
+        int index = i * BOARD_SIZE + j;
+        int[] checks = crossChecks[direction.ordinal()];
+        int[] scores = crossScores[direction.ordinal()];
+
+        if (!boardSquares[i][j].isEmpty()){
+            checks[index] = 0;
+            scores[index] = -1;
+            return;
+        }
+
+        //The word across a horizontal move runs down the column
+        int di = direction == UserInput.Direction.HORIZONTAL ? 1 : 0;
+        int dj = 1 - di;
+
+        //Count the Tiles before and after the Square across the move
+        int line = direction == UserInput.Direction.HORIZONTAL ? getColumnOccupancy(j) : getRowOccupancy(i);
+        int k = direction == UserInput.Direction.HORIZONTAL ? i : j;
+        int before = k - runStart(line, k);
+        int after = runEnd(line, k) - k;
+
+        if (before == 0 && after == 0){
+            checks[index] = ALL_LETTERS;
+            scores[index] = -1;
+            return;
+        }
+
+        //Copy the Tiles across the move around a gap for the Square
+        int score = 0;
+        for (int n = -before; n <= after; n++) {
+            if (n != 0){
+                Tile tile = boardSquares[i + n * di][j + n * dj].getTile();
+                crossWord[n + before] = tile.getCharacter();
+                score += tile.getValue();
+            }
+        }
+
+        int mask = ALL_LETTERS;
+
+        //Try each letter in the gap
+        if (lexicon != null){
+            mask = 0;
+            for (int letter = 0; letter < 26; letter++) {
+                crossWord[before] = (char) ('A' + letter);
+
+                if (lexicon.contains(crossWord, 0, before + after + 1)){
+                    mask |= 1 << letter;
+                }
+            }
+        }
+
+        checks[index] = mask;
+        scores[index] = score;
+    }
+
 }
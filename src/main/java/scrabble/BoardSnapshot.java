@@ -0,0 +1,183 @@
+package scrabble;
+
+/**
+ * Class that stores an unchangeable copy of the Tiles and SquareTypes of a Board
+ *
+ * A snapshot is made of 15 unchangeable rows. When the Board publishes a new snapshot only the rows changed since the
+ * last one are copied and the rest are shared, so publishing after a move copies the one to seven rows it touched.
+ * As nothing in a snapshot ever changes, any number of threads can read it while the game goes on, without locks.
+ */
+public final class BoardSnapshot {
+
+    /**
+     * The rows of the Board, shared with the snapshots before and after this one where they did not change
+     */
+    private final Row[] rows;
+
+    /**
+     * Zobrist hash of the Board when the snapshot was made
+     */
+    private final long hash;
+
+    /**
+     * Number of snapshots the Board published before this one
+     */
+    private final long version;
+
+    /**
+     * BoardSnapshot Constructor, called by the Board on the thread that changes it
+     *
+     * @param previous The last snapshot of the Board, null for the first
+     * @param squares The Squares of the Board
+     * @param changedRows Bit i is set if row i changed since the last snapshot, ignored for the first
+     * @param hash Zobrist hash of the Board
+     */
+    BoardSnapshot(BoardSnapshot previous, Square[][] squares, int changedRows, long hash){
+
+        rows = previous == null ? new Row[Board.BOARD_SIZE] : previous.rows.clone();
+
+        for (int i = 0; i < Board.BOARD_SIZE; i++) {
+            if (previous == null || (changedRows & (1 << i)) != 0){
+                rows[i] = new Row(squares[i]);
+            }
+        }
+
+        this.hash = hash;
+        this.version = previous == null ? 0 : previous.version + 1;
+    }
+
+    /**
+     * Method to check if a Square has a Tile
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @return True if the Square had a Tile
+     */
+    public boolean isOccupied(int i, int j){
+        return (rows[i].occupancy & (1 << j)) != 0;
+    }
+
+    /**
+     * Method to find the letter on a Square
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @return The letter of the Tile, the letter a blank stands for, ' ' if the Square was empty
+     */
+    public char getLetter(int i, int j){
+        return rows[i].letters[j];
+    }
+
+    /**
+     * Method to check if the Tile on a Square is a blank
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @return True if the Square had a blank Tile
+     */
+    public boolean isBlank(int i, int j){
+        return (rows[i].blanks & (1 << j)) != 0;
+    }
+
+    /**
+     * Method to find the SquareType of a Square
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @return The SquareType of the Square
+     */
+    public Square.SquareType getType(int i, int j){
+        return rows[i].types[j];
+    }
+
+    /**
+     * Method to find which Squares of a row have Tiles
+     *
+     * @param i The row
+     * @return Bit j is set if Square i j had a Tile
+     */
+    public int getRowOccupancy(int i){
+        return rows[i].occupancy;
+    }
+
+    /**
+     * Accessor Method for the Zobrist hash
+     *
+     * @return The hash of the Board when the snapshot was made
+     */
+    public long getHash(){
+        return hash;
+    }
+
+    /**
+     * Accessor Method for the version
+     *
+     * @return The number of snapshots the Board published before this one
+     */
+    public long getVersion(){
+        return version;
+    }
+
+    /**
+     * Method to check if a row is shared with another snapshot, as it did not change between them
+     *
+     * @param other The other snapshot
+     * @param i The row
+     * @return True if both snapshots hold the same row object
+     */
+    public boolean sharesRow(BoardSnapshot other, int i){
+        return rows[i] == other.rows[i];
+    }
+
+    /**
+     * Class that stores one unchangeable row of the Board
+     */
+    private static final class Row {
+
+        /**
+         * Letter on each Square, ' ' if the Square is empty
+         */
+        private final char[] letters = new char[Board.BOARD_SIZE];
+
+        /**
+         * SquareType of each Square
+         */
+        private final Square.SquareType[] types = new Square.SquareType[Board.BOARD_SIZE];
+
+        /**
+         * Bit j is set if Square j has a Tile
+         */
+        private final int occupancy;
+
+        /**
+         * Bit j is set if Square j has a blank Tile
+         */
+        private final int blanks;
+
+        /**
+         * Row Constructor
+         *
+         * @param squares The Squares of the row
+         */
+        private Row(Square[] squares){
+
+            int occupied = 0, blank = 0;
+
+            for (int j = 0; j < Board.BOARD_SIZE; j++) {
+                types[j] = squares[j].getType();
+
+                if (squares[j].isEmpty()){
+                    letters[j] = ' ';
+                }
+                else {
+                    letters[j] = squares[j].getTile().getCharacter();
+                    occupied |= 1 << j;
+                    blank |= squares[j].getTile().getValue() == 0 ? 1 << j : 0;
+                }
+            }
+
+            occupancy = occupied;
+            blanks = blank;
+        }
+    }
+}
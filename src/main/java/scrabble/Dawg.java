@@ -0,0 +1,518 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidLexiconException;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * Class that represents a Lexicon as a minimized Directed Acyclic Word Graph
+ *
+ * Every node is stored as a run of packed int edges. Each edge holds its letter, whether a word ends
+ * after taking it, whether it is the last edge of its node and the offset of the child node's edges.
+ * Words that share prefixes and suffixes share nodes, so the whole graph is a single run of ints.
+ * The edges are never changed after building so a Dawg is safe to share between threads.
+ *
+ * A Dawg can be written to a binary file and memory mapped back, in which case it is queried in place
+ * outside the Java heap. The file is a header of five ints (magic, version, word count, root offset,
+ * edge count) followed by the packed edges, all big endian.
+ */
+public class Dawg implements Lexicon {
+
+    /**
+     * Bits of an edge that hold the letter (0 - 25, or 26 for Gaddag.SEPARATOR)
+     */
+    private final static int LETTER_MASK = 0x1F;
+
+    /**
+     * Bit of an edge set if a word ends after taking the edge
+     */
+    private final static int TERMINAL = 1 << 5;
+
+    /**
+     * Bit of an edge set if it is the last edge of its node
+     */
+    final static int LAST_EDGE = 1 << 6;
+
+    /**
+     * Bit position of the child offset in an edge
+     */
+    private final static int CHILD_SHIFT = 7;
+
+    /**
+     * Largest child offset that fits in an edge
+     */
+    final static int MAX_CHILD = -1 >>> CHILD_SHIFT;
+
+    /**
+     * First int of a binary Dawg file ("DAWG")
+     */
+    private final static int MAGIC = 0x44415747;
+
+    /**
+     * Version of the binary Dawg file format
+     */
+    private final static int VERSION = 1;
+
+    /**
+     * Size of the binary file header in bytes
+     */
+    private final static int HEADER_BYTES = 5 * Integer.BYTES;
+
+    /**
+     * The packed edges of every node, index 0 is unused and a child offset of 0 means no children
+     */
+    private final IntBuffer edges;
+
+    /**
+     * Offset of the root node's edges
+     */
+    private final int root;
+
+    /**
+     * Number of words in the Dawg
+     */
+    private final int wordCount;
+
+    /**
+     * Dawg Constructor
+     *
+     * @param edges The packed edges, read with absolute gets only
+     * @param root Offset of the root node's edges
+     * @param wordCount Number of words in the Dawg
+     */
+    Dawg(IntBuffer edges, int root, int wordCount){
+        this.edges = edges;
+        this.root = root;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Method to build a Dawg from a collection of words
+     *
+     * @param words The words, in any order and case
+     * @return The Dawg containing the words
+     * @throws InvalidLexiconException If a word contains characters other than letters
+     */
+    public static Dawg build(Collection<String> words){
+
+        DawgBuilder builder = new DawgBuilder();
+
+        //Add each word in order
+        for (String word : sortWords(words)) {
+            builder.add(word);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Method to build a Dawg from a word list with one word per line
+     *
+     * @param wordList Stream of the word list, closed when read
+     * @return The Dawg containing the words in the list
+     * @throws IOException If the word list can not be read
+     * @throws InvalidLexiconException If a word contains characters other than letters
+     */
+    public static Dawg build(InputStream wordList) throws IOException {
+        return build(readWords(wordList));
+    }
+
+    /**
+     * Method to read a word list with one word per line
+     *
+     * @param wordList Stream of the word list, closed when read
+     * @return The words in the list, blank lines removed
+     * @throws IOException If the word list can not be read
+     */
+    static ArrayList<String> readWords(InputStream wordList) throws IOException {
+
+        ArrayList<String> words = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(wordList, StandardCharsets.UTF_8))) {
+
+            String line;
+
+            //Read each word in the list
+            while ((line = reader.readLine()) != null){
+                line = line.trim();
+
+                if (!line.isEmpty()) {
+                    words.add(line);
+                }
+            }
+        }
+
+        return words;
+    }
+
+    /**
+     * Method to convert words to capitals, sort them and remove duplicates
+     *
+     * @param words The words in any order and case
+     * @return The sorted capitalised words without duplicates or empty words
+     */
+    static ArrayList<String> sortWords(Collection<String> words){
+
+        ArrayList<String> sorted = new ArrayList<>(words.size());
+
+        //Convert each word to capitals
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                sorted.add(word.toUpperCase(Locale.ROOT));
+            }
+        }
+
+        Collections.sort(sorted);
+
+        //Remove duplicates in place
+        int unique = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            if (unique == 0 || !sorted.get(i).equals(sorted.get(unique - 1))) {
+                sorted.set(unique++, sorted.get(i));
+            }
+        }
+
+        return new ArrayList<>(sorted.subList(0, unique));
+    }
+
+    /**
+     * Method to memory map a binary Dawg file
+     *
+     * The edges are queried straight from the mapped file so loading does not depend on the number of words.
+     *
+     * @param file Path of the binary Dawg file
+     * @return The Dawg stored in the file
+     * @throws IOException If the file can not be read
+     * @throws InvalidLexiconException If the file is not a valid binary Dawg
+     */
+    public static Dawg map(Path file) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            //The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            return fromBuffer(buffer);
+        }
+    }
+
+    /**
+     * Method to read a binary Dawg into memory outside the Java heap
+     *
+     * Used when the file can not be mapped, such as a resource inside a jar.
+     *
+     * @param in Stream of the binary Dawg, closed when read
+     * @return The Dawg stored in the stream
+     * @throws IOException If the stream can not be read
+     * @throws InvalidLexiconException If the stream is not a valid binary Dawg
+     */
+    public static Dawg read(InputStream in) throws IOException {
+
+        try (DataInputStream data = new DataInputStream(in)) {
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            data.readFully(header.array());
+
+            int edgeCount = header.getInt(4 * Integer.BYTES);
+
+            if (edgeCount < 1 || edgeCount > MAX_CHILD){
+                throw new InvalidLexiconException("Invalid edge count in binary Dawg.");
+            }
+
+            //Copy the header and edges into one direct buffer
+            ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER_BYTES + edgeCount * Integer.BYTES);
+            buffer.put(header);
+
+            ReadableByteChannel channel = Channels.newChannel(data);
+            while (buffer.hasRemaining()){
+                if (channel.read(buffer) < 0){
+                    throw new InvalidLexiconException("Binary Dawg is shorter than its header says.");
+                }
+            }
+
+            buffer.flip();
+
+            return fromBuffer(buffer);
+        }
+    }
+
+    /**
+     * Method to check the header of a binary Dawg and wrap its edges
+     *
+     * @param buffer Buffer holding the whole binary Dawg from position 0
+     * @return The Dawg using the buffer's edges
+     * @throws InvalidLexiconException If the buffer is not a valid binary Dawg
+     */
+    private static Dawg fromBuffer(ByteBuffer buffer){
+
+        if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC){
+            throw new InvalidLexiconException("Not a binary Dawg.");
+        }
+        else if (buffer.getInt(Integer.BYTES) != VERSION){
+            throw new InvalidLexiconException("Unsupported binary Dawg version " + buffer.getInt(Integer.BYTES) + ".");
+        }
+
+        int wordCount = buffer.getInt(2 * Integer.BYTES);
+        int root = buffer.getInt(3 * Integer.BYTES);
+        int edgeCount = buffer.getInt(4 * Integer.BYTES);
+
+        if (edgeCount < 1 || buffer.limit() != HEADER_BYTES + (long) edgeCount * Integer.BYTES || root < 0 || root >= edgeCount){
+            throw new InvalidLexiconException("Binary Dawg size does not match its header.");
+        }
+
+        buffer.position(HEADER_BYTES);
+        IntBuffer edges = buffer.slice().asIntBuffer();
+
+        return new Dawg(edges, root, wordCount);
+    }
+
+    /**
+     * Method to write the Dawg in binary form
+     *
+     * @param out Stream to write to, flushed but not closed
+     * @throws IOException If the stream can not be written
+     */
+    public void write(OutputStream out) throws IOException {
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+
+        //Header
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(wordCount);
+        data.writeInt(root);
+        data.writeInt(edges.limit());
+
+        //Edges
+        for (int i = 0; i < edges.limit(); i++) {
+            data.writeInt(edges.get(i));
+        }
+
+        data.flush();
+    }
+
+    /**
+     * Method to check if a word is in the Dawg
+     *
+     * @param word The word in char array form (capital letters)
+     * @return True if the word is in the Dawg
+     */
+    @Override
+    public boolean contains(char[] word) {
+        return contains(word, 0, word.length);
+    }
+
+    /**
+     * Method to check if part of a char array is a word in the Dawg
+     *
+     * @param word The char array holding the word (capital letters)
+     * @param offset Index of the first letter of the word
+     * @param length Number of letters in the word
+     * @return True if the word is in the Dawg
+     */
+    @Override
+    public boolean contains(char[] word, int offset, int length) {
+
+        int node = root;
+
+        //Follow the edge for each letter of the word
+        for (int i = 0; i < length; i++) {
+            int letter = word[offset + i] - 'A';
+
+            if (letter < 0 || letter >= 26 || node == 0){
+                return false;
+            }
+
+            int edge = findEdge(node, letter);
+
+            if (edge < 0){
+                return false;
+            }
+            //On the last letter the word is in the Dawg if a word ends on the edge
+            else if (i == length - 1){
+                return isTerminal(edge);
+            }
+
+            node = getChild(edge);
+        }
+
+        return false;
+    }
+
+    /**
+     * Accessor Method for the number of words
+     *
+     * @return The number of words in the Dawg
+     */
+    @Override
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * Accessor Method for the root node
+     *
+     * @return The offset of the root node, 0 if the Dawg is empty
+     */
+    public int getRoot() {
+        return root;
+    }
+
+    /**
+     * Accessor Method for the number of packed edges
+     *
+     * @return The number of edges in the Dawg
+     */
+    public int getEdgeCount() {
+        return edges.limit() - 1;
+    }
+
+    /**
+     * Method to find the edge for a letter leaving a node
+     *
+     * @param node The offset of the node, must not be 0
+     * @param letter The letter (0 - 25, or Gaddag.SEPARATOR)
+     * @return The index of the edge, -1 if the node has no edge for the letter
+     */
+    public int findEdge(int node, int letter) {
+
+        int edge = node;
+
+        //Edges are sorted by letter so stop once past the letter
+        while (true){
+            int current = edges.get(edge) & LETTER_MASK;
+
+            if (current == letter){
+                return edge;
+            }
+            else if (current > letter || isLast(edges.get(edge))){
+                return -1;
+            }
+
+            edge++;
+        }
+    }
+
+    /**
+     * Method to find the letter of an edge
+     *
+     * @param edge The index of the edge
+     * @return The letter (0 - 25, or Gaddag.SEPARATOR)
+     */
+    public int getLetter(int edge) {
+        return edges.get(edge) & LETTER_MASK;
+    }
+
+    /**
+     * Method to check if a word ends after taking an edge
+     *
+     * @param edge The index of the edge
+     * @return True if a word ends on the edge
+     */
+    public boolean isTerminal(int edge) {
+        return (edges.get(edge) & TERMINAL) != 0;
+    }
+
+    /**
+     * Method to check if an edge is the last edge of its node
+     *
+     * @param edge The index of the edge
+     * @return True if there are no more edges in the node
+     */
+    public boolean isLastEdge(int edge) {
+        return isLast(edges.get(edge));
+    }
+
+    /**
+     * Method to find the node an edge leads to
+     *
+     * @param edge The index of the edge
+     * @return The offset of the child node, 0 if it has no edges
+     */
+    public int getChild(int edge) {
+        return edges.get(edge) >>> CHILD_SHIFT;
+    }
+
+    /**
+     * Method to read an edge in packed form so its parts can be taken with one read
+     *
+     * @param edge The index of the edge
+     * @return The packed edge
+     */
+    int getPackedEdge(int edge) {
+        return edges.get(edge);
+    }
+
+    /**
+     * Method to pack an edge into an int
+     *
+     * @param letter The letter (0 - 25, or Gaddag.SEPARATOR)
+     * @param terminal If a word ends after taking the edge
+     * @param child Offset of the child node
+     * @param last If the edge is the last of its node
+     * @return The packed edge
+     */
+    static int encodeEdge(int letter, boolean terminal, int child, boolean last){
+        return letter | (terminal ? TERMINAL : 0) | (last ? LAST_EDGE : 0) | (child << CHILD_SHIFT);
+    }
+
+    /**
+     * Method to find the letter of a packed edge
+     *
+     * @param edge The packed edge
+     * @return The letter
+     */
+    static int letterOf(int edge){
+        return edge & LETTER_MASK;
+    }
+
+    /**
+     * Method to check if a packed edge is terminal
+     *
+     * @param edge The packed edge
+     * @return True if a word ends on the edge
+     */
+    static boolean terminalOf(int edge){
+        return (edge & TERMINAL) != 0;
+    }
+
+    /**
+     * Method to check if a packed edge is the last of its node
+     *
+     * @param edge The packed edge
+     * @return True if it is the last edge
+     */
+    static boolean isLast(int edge){
+        return (edge & LAST_EDGE) != 0;
+    }
+
+    /**
+     * Method to find the child node of a packed edge
+     *
+     * @param edge The packed edge
+     * @return The offset of the child node, 0 if it has no edges
+     */
+    static int childOf(int edge){
+        return edge >>> CHILD_SHIFT;
+    }
+}
@@ -0,0 +1,320 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidLexiconException;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Class that builds a minimized Dawg from words added in sorted order
+ *
+ * Uses incremental minimization: once a word is added, every node on the previous word's path below the
+ * common prefix can no longer change, so it is either merged with an identical node already built or
+ * written to the packed edge array.
+ */
+class DawgBuilder {
+
+    /**
+     * Starting capacity of the packed edge array
+     */
+    private final static int INITIAL_EDGES = 1 << 12;
+
+    /**
+     * Number of symbols words can be made of, starting at 'A'
+     */
+    private final int alphabetSize;
+
+    /**
+     * The packed edges of every finished node, index 0 is reserved to mean "no children"
+     */
+    private int[] edges = new int[INITIAL_EDGES];
+
+    /**
+     * Number of entries used in edges
+     */
+    private int edgeCount = 1;
+
+    /**
+     * Open addressing hash table of finished node offsets, 0 marks an empty slot
+     */
+    private int[] register = new int[INITIAL_EDGES];
+
+    /**
+     * Number of nodes in the register
+     */
+    private int registerSize = 0;
+
+    /**
+     * Edges of the unfinished nodes on the path of the last word, indexed by depth
+     */
+    private int[][] pathEdges;
+
+    /**
+     * Number of edges of each unfinished node on the path
+     */
+    private int[] pathEdgeCount = new int[16];
+
+    /**
+     * The last word added
+     */
+    private char[] previous = new char[16];
+
+    /**
+     * Length of the last word added
+     */
+    private int previousLength = 0;
+
+    /**
+     * Number of words added
+     */
+    private int wordCount = 0;
+
+    /**
+     * DawgBuilder Constructor for words of capital letters
+     */
+    DawgBuilder(){
+        this(26);
+    }
+
+    /**
+     * DawgBuilder Constructor
+     *
+     * @param alphabetSize Number of symbols words can be made of, starting at 'A' (27 allows Gaddag.SEPARATOR)
+     */
+    DawgBuilder(int alphabetSize){
+        this.alphabetSize = alphabetSize;
+        pathEdges = new int[16][alphabetSize];
+    }
+
+    /**
+     * Method to add a word to the Dawg
+     *
+     * @param word The word in capital letters, must come after the previous word in alphabetical order
+     * @throws InvalidLexiconException If the word is empty, contains other characters or is out of order
+     */
+    void add(CharSequence word){
+
+        int length = word.length();
+
+        if (length == 0){
+            throw new InvalidLexiconException("Words in a Lexicon can not be empty.");
+        }
+
+        //Grow the path arrays for long words
+        if (length >= pathEdgeCount.length){
+            growPath(length + 1);
+        }
+
+        //Find how much of the previous word is shared
+        int prefix = 0;
+        while (prefix < length && prefix < previousLength && word.charAt(prefix) == previous[prefix]){
+            prefix++;
+        }
+
+        //The word must be greater than the previous word
+        if (prefix == length || (prefix < previousLength && word.charAt(prefix) < previous[prefix])){
+            throw new InvalidLexiconException("Words must be added in alphabetical order without duplicates: " + word);
+        }
+
+        //Nodes below the common prefix are finished
+        finishPath(prefix);
+
+        //Add the rest of the word as new nodes on the path
+        for (int depth = prefix; depth < length; depth++) {
+
+            char c = word.charAt(depth);
+
+            if (c < 'A' || c >= 'A' + alphabetSize){
+                throw new InvalidLexiconException("Words in a Lexicon can only contain capital letters: " + word);
+            }
+
+            pathEdges[depth][pathEdgeCount[depth]++] = Dawg.encodeEdge(c - 'A', depth == length - 1, 0, false);
+            pathEdgeCount[depth + 1] = 0;
+            previous[depth] = c;
+        }
+
+        previousLength = length;
+        wordCount++;
+    }
+
+    /**
+     * Method to finish building and return the Dawg
+     *
+     * @return The minimized Dawg of every word added
+     */
+    Dawg build(){
+        return build(wordCount);
+    }
+
+    /**
+     * Method to finish building and return the Dawg with a given word count
+     *
+     * @param size The number of words the Dawg stands for, when each added sequence is not a word
+     * @return The minimized Dawg of every word added
+     */
+    Dawg build(int size){
+        finishPath(0);
+        int root = intern(0);
+
+        return new Dawg(IntBuffer.wrap(Arrays.copyOf(edges, edgeCount)), root, size);
+    }
+
+    /**
+     * Method to finish every node on the path deeper than a depth
+     *
+     * @param depth The depth of the deepest node that stays unfinished
+     */
+    private void finishPath(int depth){
+
+        //Finish from the deepest node up so children are finished before their parents
+        for (int i = previousLength; i > depth; i--) {
+            int child = intern(i);
+
+            //Point the parent's last edge at the finished child
+            int last = pathEdgeCount[i - 1] - 1;
+            pathEdges[i - 1][last] = Dawg.encodeEdge(Dawg.letterOf(pathEdges[i - 1][last]), Dawg.terminalOf(pathEdges[i - 1][last]), child, false);
+        }
+
+        if (previousLength > depth){
+            previousLength = depth;
+        }
+    }
+
+    /**
+     * Method to find a finished node identical to a node on the path, or write it if there is none
+     *
+     * @param depth Depth of the node on the path
+     * @return The offset of the node's edges, 0 if the node has no edges
+     */
+    private int intern(int depth){
+
+        int count = pathEdgeCount[depth];
+
+        if (count == 0){
+            return 0;
+        }
+
+        int[] nodeEdges = pathEdges[depth];
+        int mask = register.length - 1;
+        int slot = hash(nodeEdges, count) & mask;
+
+        //Linear probe for an identical node
+        while (register[slot] != 0){
+            if (sameNode(register[slot], nodeEdges, count)){
+                return register[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        //No identical node so write this one
+        int offset = edgeCount;
+
+        if (edgeCount + count > edges.length){
+            edges = Arrays.copyOf(edges, Math.max(edges.length * 2, edgeCount + count));
+        }
+
+        if (offset + count - 1 > Dawg.MAX_CHILD){
+            throw new InvalidLexiconException("Too many edges to pack into a Dawg.");
+        }
+
+        for (int i = 0; i < count; i++) {
+            edges[edgeCount++] = nodeEdges[i] | (i == count - 1 ? Dawg.LAST_EDGE : 0);
+        }
+
+        register[slot] = offset;
+        registerSize++;
+
+        //Keep the register at most half full
+        if (registerSize * 2 > register.length){
+            growRegister();
+        }
+
+        return offset;
+    }
+
+    /**
+     * Method to check if a finished node has the same edges as a node on the path
+     *
+     * @param offset Offset of the finished node
+     * @param nodeEdges Edges of the node on the path
+     * @param count Number of edges of the node on the path
+     * @return True if the nodes are the same
+     */
+    private boolean sameNode(int offset, int[] nodeEdges, int count){
+
+        for (int i = 0; i < count; i++) {
+            int edge = edges[offset + i];
+
+            if ((edge & ~Dawg.LAST_EDGE) != nodeEdges[i] || Dawg.isLast(edge) != (i == count - 1)){
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method to hash the edges of a node
+     *
+     * @param nodeEdges The edges of the node
+     * @param count The number of edges
+     * @return The hash of the edges
+     */
+    private static int hash(int[] nodeEdges, int count){
+        int result = count;
+
+        for (int i = 0; i < count; i++) {
+            result = result * 0x01000193 ^ nodeEdges[i];
+        }
+
+        //Spread the bits so the low bits used by the mask are mixed
+        return result ^ (result >>> 16);
+    }
+
+    /**
+     * Method to double the size of the register
+     */
+    private void growRegister(){
+        int[] old = register;
+        register = new int[old.length * 2];
+        int mask = register.length - 1;
+
+        //Reinsert every node
+        for (int offset : old) {
+            if (offset != 0) {
+                int count = 1;
+                while (!Dawg.isLast(edges[offset + count - 1])){
+                    count++;
+                }
+
+                int[] nodeEdges = new int[count];
+                for (int i = 0; i < count; i++) {
+                    nodeEdges[i] = edges[offset + i] & ~Dawg.LAST_EDGE;
+                }
+
+                int slot = hash(nodeEdges, count) & mask;
+                while (register[slot] != 0){
+                    slot = (slot + 1) & mask;
+                }
+                register[slot] = offset;
+            }
+        }
+    }
+
+    /**
+     * Method to grow the arrays that hold the path of the last word
+     *
+     * @param depth The number of nodes the path must hold
+     */
+    private void growPath(int depth){
+        int oldLength = pathEdgeCount.length;
+
+        pathEdges = Arrays.copyOf(pathEdges, depth);
+        for (int i = oldLength; i < depth; i++) {
+            pathEdges[i] = new int[alphabetSize];
+        }
+
+        pathEdgeCount = Arrays.copyOf(pathEdgeCount, depth);
+        previous = Arrays.copyOf(previous, depth);
+    }
+}
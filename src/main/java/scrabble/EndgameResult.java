@@ -0,0 +1,104 @@
+package scrabble;
+
+/**
+ * Class that stores the move an EndgameSolver found and how far it searched
+ */
+public class EndgameResult {
+
+    /**
+     * The best move found, null to pass
+     */
+    private final GeneratedMove move;
+
+    /**
+     * Points the Player to move gains on the opponent by the end of the game with best play
+     */
+    private final int value;
+
+    /**
+     * Number of turns the last complete search looked ahead
+     */
+    private final int depth;
+
+    /**
+     * True if the search reached the end of the game on every line, so the value is exact
+     */
+    private final boolean exact;
+
+    /**
+     * Number of positions searched
+     */
+    private final long nodes;
+
+    /**
+     * EndgameResult Constructor
+     *
+     * @param move The best move found, null to pass
+     * @param value Points the Player to move gains on the opponent by the end of the game
+     * @param depth Number of turns the last complete search looked ahead
+     * @param exact True if the value is exact
+     * @param nodes Number of positions searched
+     */
+    public EndgameResult(GeneratedMove move, int value, int depth, boolean exact, long nodes){
+        this.move = move;
+        this.value = value;
+        this.depth = depth;
+        this.exact = exact;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Accessor Method for the move
+     *
+     * @return The best move found, null to pass
+     */
+    public GeneratedMove getMove() {
+        return move;
+    }
+
+    /**
+     * Accessor Method for the value
+     *
+     * @return Points the Player to move gains on the opponent by the end of the game, an estimate if not exact
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Accessor Method for the depth
+     *
+     * @return Number of turns the last complete search looked ahead
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Accessor Method for exact
+     *
+     * @return True if the search reached the end of the game on every line
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Accessor Method for the number of positions searched
+     *
+     * @return Number of positions searched
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * toString method for EndgameResult
+     *
+     * @return The move and its value in string form
+     */
+    @Override
+    public String toString() {
+        return (move == null ? "Pass" : move.toString()) + " value " + value + (exact ? " (exact" : " (depth " + depth) + ", " + nodes + " positions)";
+    }
+}
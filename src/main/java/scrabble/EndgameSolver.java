@@ -0,0 +1,468 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidEndgameSolverException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Class that finds the best move once the Pool is empty and both Frames are known
+ *
+ * The search is a negamax alpha-beta search deepened one turn at a time until it reaches the end of the game on every
+ * line or runs out of time. Moves are tried highest score first, after the best move found for the position by the
+ * last search. Positions are stored in a transposition table keyed by the Zobrist hash of the Tiles on the Board and
+ * the racks of the Player to move and the opponent, so a position reached by playing the same moves in another order
+ * is searched once.
+ *
+ * The game ends as in Scrabble.isGameOver and Scrabble.gameOver: when a Player uses their last Tile each Player loses
+ * the value of the Tiles left in their own Frame. Two passes in a row would only repeat the position, so they end the
+ * game the same way. An EndgameSolver reuses its Board and table between calls so each thread should have its own.
+ */
+public class EndgameSolver {
+
+    /**
+     * Most turns a search looks ahead, enough for both Players to place one Tile a turn
+     */
+    public final static int MAX_DEPTH = 2 * Frame.FRAME_SIZE + 2;
+
+    /**
+     * Default number of bits of the transposition table index, 2^20 positions
+     */
+    public final static int DEFAULT_TABLE_BITS = 20;
+
+    /**
+     * Depth stored for a position searched to the end of the game on every line
+     */
+    private final static byte EXACT_DEPTH = Byte.MAX_VALUE;
+
+    /**
+     * Kinds of value stored in the transposition table
+     */
+    private final static byte EXACT = 0, LOWER_BOUND = 1, UPPER_BOUND = 2;
+
+    /**
+     * Value larger than any spread, used as the bounds of the first search
+     */
+    private final static int INFINITY = 1_000_000;
+
+    /**
+     * Zobrist key of the last turn being a pass
+     */
+    private final static long PASS_KEY = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Value of each Tile, blanks at index 26
+     */
+    private final static int[] TILE_VALUES = new int[Pool.LETTER_COUNT];
+
+    static {
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            TILE_VALUES[letter] = Tile.charValue(Pool.letterChar(letter));
+        }
+    }
+
+    /**
+     * MoveGenerator used to find the moves of each position
+     */
+    private final MoveGenerator generator;
+
+    /**
+     * Transposition table hash, value, depth, kind of value and index of the best move of each slot
+     */
+    private final long[] tableKeys;
+    private final int[] tableValues;
+    private final byte[] tableDepths;
+    private final byte[] tableKinds;
+    private final short[] tableMoves;
+
+    /**
+     * Mask of the transposition table index
+     */
+    private final int tableMask;
+
+    /**
+     * Copy of the Board the search plays moves on
+     */
+    private Board board;
+
+    /**
+     * Number of each Tile in each Player's Frame, by Player then letter
+     */
+    private final int[][] racks = new int[2][Pool.LETTER_COUNT];
+
+    /**
+     * Player to move in the search, 0 for the Player the search is for
+     */
+    private int side;
+
+    /**
+     * Zobrist hash of each Player's rack, the search Board keeps its own hash
+     */
+    private final long[] rackHashes = new long[2];
+
+    /**
+     * Number of positions searched
+     */
+    private long nodes;
+
+    /**
+     * Number of times a search stopped before the end of the game, by depth or by a table value that did
+     */
+    private long horizonHits;
+
+    /**
+     * Time the search must stop by, from System.nanoTime
+     */
+    private long deadline;
+
+    /**
+     * True once the search has run out of time
+     */
+    private boolean timedOut;
+
+    /**
+     * Best move of the root of the last search, in the order of rootMoves, -1 to pass
+     */
+    private int rootBest;
+
+    /**
+     * Moves of the root position, highest score first
+     */
+    private ArrayList<GeneratedMove> rootMoves;
+
+    /**
+     * EndgameSolver Constructor
+     *
+     * @param gaddag Gaddag used to find the moves
+     * @param tableBits Number of bits of the transposition table index, the table holds 2^tableBits positions
+     * @throws InvalidEndgameSolverException If the Gaddag is null or the table size is not 1 to 26 bits
+     */
+    public EndgameSolver(Gaddag gaddag, int tableBits){
+        if (gaddag == null){
+            throw new InvalidEndgameSolverException("The gaddag can not be null.");
+        }
+        if (tableBits < 1 || tableBits > 26){
+            throw new InvalidEndgameSolverException("The table must have 1 to 26 index bits.");
+        }
+
+        generator = new MoveGenerator(gaddag);
+
+        tableKeys = new long[1 << tableBits];
+        tableValues = new int[1 << tableBits];
+        tableDepths = new byte[1 << tableBits];
+        tableKinds = new byte[1 << tableBits];
+        tableMoves = new short[1 << tableBits];
+        tableMask = (1 << tableBits) - 1;
+    }
+
+    /**
+     * EndgameSolver Constructor with a table of 2^20 positions
+     *
+     * @param gaddag Gaddag used to find the moves
+     */
+    public EndgameSolver(Gaddag gaddag){
+        this(gaddag, DEFAULT_TABLE_BITS);
+    }
+
+    /**
+     * Method to find the best move for a Player of a game whose Pool is empty
+     *
+     * @param scrabble The game, which is not changed
+     * @param player The Player to move
+     * @param timeLimitMillis Time allowed for the search in milliseconds
+     * @return The best move found and its value
+     * @throws InvalidEndgameSolverException If the Pool is not empty or the Player is not in the game
+     */
+    public EndgameResult solve(Scrabble scrabble, Player player, long timeLimitMillis){
+        if (!scrabble.getPool().isEmpty()){
+            throw new InvalidEndgameSolverException("The endgame can only be solved once the pool is empty.");
+        }
+
+        Player[] players = scrabble.getPlayers();
+
+        if (player != players[0] && player != players[1]){
+            throw new InvalidEndgameSolverException("The player is not in the game.");
+        }
+
+        Player opponent = player == players[0] ? players[1] : players[0];
+
+        return solve(scrabble.getBoard(), player.getPlayerFrame().rack().getCounts(), opponent.getPlayerFrame().rack().getCounts(), timeLimitMillis);
+    }
+
+    /**
+     * Method to find the best move for a rack of Tiles against a known opponent rack
+     *
+     * @param board The Board, which is not changed
+     * @param rack Number of each Tile of the Player to move, blanks at index 26
+     * @param opponentRack Number of each Tile of the opponent
+     * @param timeLimitMillis Time allowed for the search in milliseconds
+     * @return The best move found and its value
+     * @throws InvalidEndgameSolverException If the time limit is not positive
+     */
+    public EndgameResult solve(Board board, int[] rack, int[] opponentRack, long timeLimitMillis){
+        if (timeLimitMillis <= 0){
+            throw new InvalidEndgameSolverException("The time limit must be positive.");
+        }
+
+        this.board = new Board(board);
+        System.arraycopy(rack, 0, racks[0], 0, Pool.LETTER_COUNT);
+        System.arraycopy(opponentRack, 0, racks[1], 0, Pool.LETTER_COUNT);
+
+        side = 0;
+        rackHashes[0] = Zobrist.rack(racks[0]);
+        rackHashes[1] = Zobrist.rack(racks[1]);
+        nodes = 0;
+        timedOut = false;
+        deadline = System.nanoTime() + timeLimitMillis * 1_000_000L;
+        rootMoves = null;
+        rootBest = -1;
+
+        EndgameResult result = null;
+
+        //Searches one turn deeper each time until the end of the game is reached on every line or time runs out
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+
+            long horizon = horizonHits;
+            int value = search(depth, -INFINITY, INFINITY, 0, true);
+
+            //A search cut short is thrown away, unless there is nothing better than the highest scoring move
+            if (timedOut){
+                if (result == null){
+                    GeneratedMove highest = rootMoves == null || rootMoves.isEmpty() ? null : rootMoves.get(0);
+                    result = new EndgameResult(highest, highest == null ? 0 : highest.getScore(), 0, false, nodes);
+                }
+                break;
+            }
+
+            result = new EndgameResult(rootBest < 0 ? null : rootMoves.get(rootBest), value, depth, horizonHits == horizon, nodes);
+
+            if (result.isExact()){
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to search a position
+     *
+     * @param depth Number of turns left to look ahead
+     * @param alpha Value the Player to move is already sure of
+     * @param beta Value the opponent is already sure of, less is not searched
+     * @param passes 1 if the last turn was a pass
+     * @param root True for the position the search started from
+     * @return Points the Player to move gains on the opponent by the end of the game
+     */
+    private int search(int depth, int alpha, int beta, int passes, boolean root){
+
+        nodes++;
+
+        //Every position generates its moves, so the clock is cheap to check at each one
+        if (System.nanoTime() - deadline > 0){
+            timedOut = true;
+        }
+        if (timedOut){
+            return 0;
+        }
+
+        int[] own = racks[side];
+        int[] other = racks[1 - side];
+
+        //The value only depends on the Tiles and whose turn it is, not on which Player the search is for
+        long key = Zobrist.position(board.getHash(), rackHashes[side], rackHashes[1 - side]) ^ (passes == 1 ? PASS_KEY : 0);
+        int slot = (int) (key ^ (key >>> 32)) & tableMask;
+        int tableMove = -2;
+        int alphaStart = alpha;
+
+        //A value stored for this position from a search at least as deep can be used instead of searching again
+        if (tableKeys[slot] == key){
+            tableMove = tableMoves[slot];
+
+            if (tableDepths[slot] >= depth && !root){
+                int value = tableValues[slot];
+
+                if (tableDepths[slot] != EXACT_DEPTH){
+                    horizonHits++;
+                }
+
+                if (tableKinds[slot] == EXACT){
+                    return value;
+                }
+                if (tableKinds[slot] == LOWER_BOUND){
+                    alpha = Math.max(alpha, value);
+                }
+                else {
+                    beta = Math.min(beta, value);
+                }
+                if (alpha >= beta){
+                    return value;
+                }
+            }
+        }
+
+        //Out of depth, guess that each Player will be left with the Tiles they have now
+        if (depth == 0){
+            horizonHits++;
+            return rackValue(other) - rackValue(own);
+        }
+
+        long horizon = horizonHits;
+
+        ArrayList<GeneratedMove> moves = root && rootMoves != null ? rootMoves : generator.generateMoves(board, own);
+        if (moves != rootMoves){
+            moves.sort(Comparator.comparingInt(GeneratedMove::getScore).reversed());
+        }
+        if (root){
+            rootMoves = moves;
+        }
+
+        int best = -INFINITY;
+        int bestMove = -1;
+        boolean hasTableMove = tableMove >= -1 && tableMove < moves.size();
+
+        //Tries the table's best move, then every move highest score first, then passing
+        for (int n = hasTableMove ? -1 : 0; n <= moves.size(); n++) {
+
+            int index = n < 0 ? tableMove : n == moves.size() ? -1 : n;
+
+            if (n >= 0 && hasTableMove && index == tableMove){
+                continue;
+            }
+
+            int value;
+
+            if (index < 0){
+                //Two passes in a row end the game
+                if (passes == 1){
+                    value = rackValue(other) - rackValue(own);
+                }
+                else {
+                    side = 1 - side;
+                    value = -search(depth - 1, -beta, -alpha, 1, false);
+                    side = 1 - side;
+                }
+            }
+            else {
+                GeneratedMove move = moves.get(index);
+                int score = move.getScore();
+
+                makeMove(move, own);
+
+                //Using the last Tile ends the game and the opponent loses the Tiles they have left
+                if (isEmpty(own)){
+                    value = score + rackValue(other);
+                }
+                else {
+                    side = 1 - side;
+                    value = score - search(depth - 1, -(beta - score), -(alpha - score), 0, false);
+                    side = 1 - side;
+                }
+
+                unmakeMove(move, own);
+            }
+
+            if (timedOut){
+                return 0;
+            }
+
+            if (value > best){
+                best = value;
+                bestMove = index;
+            }
+
+            alpha = Math.max(alpha, value);
+            if (alpha >= beta){
+                break;
+            }
+        }
+
+        //Stores the value, exact for every deeper search if no line stopped before the end of the game
+        tableKeys[slot] = key;
+        tableValues[slot] = best;
+        tableDepths[slot] = horizonHits == horizon ? EXACT_DEPTH : (byte) depth;
+        tableKinds[slot] = best <= alphaStart ? UPPER_BOUND : best >= beta ? LOWER_BOUND : EXACT;
+        tableMoves[slot] = (short) bestMove;
+
+        if (root){
+            rootBest = bestMove;
+        }
+
+        return best;
+    }
+
+    /**
+     * Method to play a move on the search Board and take its Tiles from a rack
+     *
+     * @param move The move
+     * @param rack The rack of the Player making the move
+     */
+    private void makeMove(GeneratedMove move, int[] rack){
+        move.place(board);
+        updateTiles(move, rack, -1);
+    }
+
+    /**
+     * Method to take a move back off the search Board and return its Tiles to a rack
+     *
+     * @param move The move
+     * @param rack The rack of the Player who made the move
+     */
+    private void unmakeMove(GeneratedMove move, int[] rack){
+        move.remove(board);
+        updateTiles(move, rack, 1);
+    }
+
+    /**
+     * Method to move the Tiles of a move between a rack and the Board, keeping the rack's hash in step
+     *
+     * @param move The move
+     * @param rack The rack of the Player making the move
+     * @param change -1 to take the Tiles from the rack, 1 to return them
+     */
+    private void updateTiles(GeneratedMove move, int[] rack, int change){
+
+        char[] word = move.getWord();
+
+        for (int k = 0; k < word.length; k++) {
+            if (move.isPlaced(k)){
+                int letter = move.isBlank(k) ? Pool.BLANK : word[k] - 'A';
+
+                rackHashes[side] ^= Zobrist.rack(letter, rack[letter]) ^ Zobrist.rack(letter, rack[letter] + change);
+                rack[letter] += change;
+            }
+        }
+    }
+
+    /**
+     * Method to find the value of the Tiles in a rack
+     *
+     * @param rack Number of each Tile
+     * @return The sum of the Tile values
+     */
+    private static int rackValue(int[] rack){
+        int result = 0;
+
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            result += rack[letter] * TILE_VALUES[letter];
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to check if a rack has no Tiles
+     *
+     * @param rack Number of each Tile
+     * @return True if the rack is empty
+     */
+    private static boolean isEmpty(int[] rack){
+        for (int count : rack) {
+            if (count != 0){
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
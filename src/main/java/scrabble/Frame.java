@@ -13,7 +13,17 @@ public class Frame {
     /**
      * ArrayList of Tiles in the Frame
      */
-    private ArrayList<Tile> playerFrame = new ArrayList<>();
+    private TileList playerFrame = new TileList();
+
+    /**
+     * Number of each letter in the Frame, kept in step with playerFrame
+     */
+    private final Rack rack = new Rack();
+
+    /**
+     * Modification count of playerFrame when the Rack was last in step with it
+     */
+    private int rackModifications = 0;
 
     /**
      * The reference to the pool to access Tiles from
@@ -67,6 +77,47 @@ public class Frame {
     }
 
 
+    /**
+     * Accessor method for the Rack of the Frame
+     *
+     * @return A copy of the number of each letter in the Frame, blank Tiles counted as blanks
+     */
+    public Rack getRack(){
+        return new Rack(rack());
+    }
+
+
+    /**
+     * Accessor method for the Zobrist hash of the Frame
+     *
+     * @return The same hash for any Frame with the same Tiles, blank Tiles counted as blanks
+     */
+    public long getHash(){
+        return rack().getHash();
+    }
+
+
+    /**
+     * Method to find the Rack of the Frame, rebuilding it if playerFrame was changed through returnFrame
+     *
+     * @return The Rack of the Frame, which must not be changed outside Frame
+     */
+    Rack rack(){
+
+        if (rackModifications != playerFrame.modifications()){
+            rack.clear();
+
+            for (Tile tile : playerFrame) {
+                rack.add(Rack.index(tile));
+            }
+
+            rackModifications = playerFrame.modifications();
+        }
+
+        return rack;
+    }
+
+
     /**
      * Method to check if the playerFrame has Tiles in it
      *
@@ -85,8 +136,8 @@ public class Frame {
      */
     public void removeTile(int i){
 
-        if(i >= 0 && i <= 6) {
-            playerFrame.remove(i);
+        if(i >= 0 && i < playerFrame.size()) {
+            removeAt(i);
         }
 
         else{
@@ -105,12 +156,17 @@ public class Frame {
      */
     public void removeTile(char c){
 
+        //Only a blank Tile set to c can be found if the Rack has no c
+        if(!rack().contains(Pool.BLANK) && (Rack.index(c) < 0 || !rack().contains(Rack.index(c)))){
+            throw new InvalidFrameException("Tile not in frame");
+        }
+
         //For Loop to check each tile in frame
-        for(Tile t: playerFrame){
+        for(int i = 0; i < playerFrame.size(); i++){
 
             //If c matches Character of the Tile
-            if(t.getCharacter() == c){
-                playerFrame.remove(t);
+            if(playerFrame.get(i).getCharacter() == c){
+                removeAt(i);
                 return;
             }
         }
@@ -125,10 +181,10 @@ public class Frame {
     public void removeTile(Tile t){
 
         //For loop to check each tile
-        for(Tile t2: playerFrame){
+        for(int i = 0; i < playerFrame.size(); i++){
 
-            if(t2 == t){
-                playerFrame.remove(t);
+            if(playerFrame.get(i) == t){
+                removeAt(i);
                 return;
             }
         }
@@ -198,8 +254,23 @@ public class Frame {
             throw new InvalidFrameException("Frame can't contain more than 7 tiles");
         }
 
-        // Adds the Tile to the playerFrame
+        // Adds the Tile to the playerFrame and the Rack
+        Rack current = rack();
         playerFrame.add(tile);
+        current.add(Rack.index(tile));
+        rackModifications = playerFrame.modifications();
+    }
+
+
+    /**
+     * Method to remove the Tile at an index from playerFrame and the Rack
+     *
+     * @param i Index of the Tile
+     */
+    private void removeAt(int i){
+        Rack current = rack();
+        current.remove(Rack.index(playerFrame.remove(i)));
+        rackModifications = playerFrame.modifications();
     }
 
 
@@ -240,27 +311,45 @@ public class Frame {
      * @throws InvalidFrameException The Frame is empty
      */
     public boolean checkTiles(char[] word){
+        return checkTiles(word, word.length);
+    }
+
+
+    /**
+     * Method to check if the first characters of a list are in the Frame
+     *
+     * A blank Tile set to a letter matches that letter and an unset blank Tile matches ' '.
+     * @param word: List of characters to check
+     * @param length: Number of characters of the list to check
+     * @return Boolean answer
+     * @throws InvalidFrameException The list is empty
+     */
+    public boolean checkTiles(char[] word, int length){
 
-        if(word.length == 0){
+        if(length == 0){
             throw new InvalidFrameException("Cannot check for 0 tiles in Frame");
         }
-        // Loops through each Character passed in
 
-        ArrayList<Tile> temp = new ArrayList<>(playerFrame);
+        // Without blank Tiles every char is a letter in the Rack
+        if(!rack().contains(Pool.BLANK)){
+            return rack.containsAll(word, length);
+        }
 
+        // Blank Tiles match by the char they are set to, so match each char against a Tile in the Frame
+        ArrayList<Tile> temp = new ArrayList<>(playerFrame);
 
         // Checks if any of the of the character passed in not Tiles in the Frame, if so false is returned
-        for (char c : word) {
+        for (int i = 0; i < length; i++) {
             for (int j = 0; j < temp.size(); j++) {
 
-                if (temp.get(j).getCharacter() == c) {
+                if (temp.get(j).getCharacter() == word[i]) {
 
                     temp.remove(j);
                     break;
                 }
             }
         }
-        return temp.size() == playerFrame.size() - word.length;
+        return temp.size() == playerFrame.size() - length;
 
     }
 
@@ -475,4 +564,31 @@ public class Frame {
     }
 
 
+    /**
+     * ArrayList of Tiles that counts every change, so the Frame knows when to rebuild its Rack
+     */
+    private static class TileList extends ArrayList<Tile> {
+
+        /**
+         * Method to find how many times the list has been changed
+         *
+         * @return The modification count of the list
+         */
+        int modifications(){
+            return modCount;
+        }
+
+        /**
+         * Method to replace a Tile, counted as a change unlike in ArrayList
+         *
+         * @param index Index of the Tile to replace
+         * @param tile The new Tile
+         * @return The Tile replaced
+         */
+        @Override
+        public Tile set(int index, Tile tile){
+            modCount++;
+            return super.set(index, tile);
+        }
+    }
 }
@@ -0,0 +1,222 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidLexiconException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Class that represents a Lexicon as a GADDAG for generating moves
+ *
+ * Each word is stored once for every letter it can be built outwards from. For a word split after its
+ * i-th letter the path is the first i letters reversed, the SEPARATOR, then the rest of the word
+ * (Eg: CARE split after A is stored as A C ^ R E). Starting from any letter already on the Board a move
+ * generator can therefore read leftwards then switch to reading rightwards. The paths are stored in a
+ * minimized Dawg so the Gaddag can be written, memory mapped and shared the same way.
+ */
+public class Gaddag implements Lexicon {
+
+    /**
+     * Symbol that marks the switch from reading leftwards to reading rightwards
+     */
+    public final static int SEPARATOR = 26;
+
+    /**
+     * Character form of SEPARATOR used while building paths, sorts after 'Z'
+     */
+    private final static char SEPARATOR_CHAR = (char) ('A' + SEPARATOR);
+
+    /**
+     * The minimized graph of every path
+     */
+    private final Dawg graph;
+
+    /**
+     * Gaddag Constructor
+     *
+     * @param graph The minimized graph of every path
+     */
+    Gaddag(Dawg graph){
+        this.graph = graph;
+    }
+
+    /**
+     * Method to build a Gaddag from a collection of words
+     *
+     * @param words The words, in any order and case
+     * @return The Gaddag containing the words
+     * @throws InvalidLexiconException If a word contains characters other than letters
+     */
+    public static Gaddag build(Collection<String> words){
+
+        ArrayList<String> sorted = Dawg.sortWords(words);
+        DawgBuilder builder = new DawgBuilder(SEPARATOR + 1);
+        ArrayList<String> paths = new ArrayList<>();
+
+        //Paths start with the letter the word is split after, so building one starting letter at a time
+        //keeps the paths in order without holding every path in memory at once
+        for (char first = 'A'; first <= 'Z'; first++) {
+
+            paths.clear();
+
+            for (String word : sorted) {
+                for (int i = 1; i <= word.length(); i++) {
+                    if (word.charAt(i - 1) == first){
+                        paths.add(path(word, i));
+                    }
+                }
+            }
+
+            Collections.sort(paths);
+
+            for (String path : paths) {
+                builder.add(path);
+            }
+        }
+
+        return new Gaddag(builder.build(sorted.size()));
+    }
+
+    /**
+     * Method to build a Gaddag from a word list with one word per line
+     *
+     * @param wordList Stream of the word list, closed when read
+     * @return The Gaddag containing the words in the list
+     * @throws IOException If the word list can not be read
+     * @throws InvalidLexiconException If a word contains characters other than letters
+     */
+    public static Gaddag build(InputStream wordList) throws IOException {
+        return build(Dawg.readWords(wordList));
+    }
+
+    /**
+     * Method to memory map a binary Gaddag file
+     *
+     * @param file Path of the binary Gaddag file
+     * @return The Gaddag stored in the file
+     * @throws IOException If the file can not be read
+     * @throws InvalidLexiconException If the file is not a valid binary Dawg
+     */
+    public static Gaddag map(Path file) throws IOException {
+        return new Gaddag(Dawg.map(file));
+    }
+
+    /**
+     * Method to read a binary Gaddag into memory outside the Java heap
+     *
+     * @param in Stream of the binary Gaddag, closed when read
+     * @return The Gaddag stored in the stream
+     * @throws IOException If the stream can not be read
+     * @throws InvalidLexiconException If the stream is not a valid binary Dawg
+     */
+    public static Gaddag read(InputStream in) throws IOException {
+        return new Gaddag(Dawg.read(in));
+    }
+
+    /**
+     * Method to write the Gaddag in binary form
+     *
+     * @param out Stream to write to, flushed but not closed
+     * @throws IOException If the stream can not be written
+     */
+    public void write(OutputStream out) throws IOException {
+        graph.write(out);
+    }
+
+    /**
+     * Method to create the path of a word split after a letter
+     *
+     * @param word The word in capitals
+     * @param split Number of letters before the split (1 - length)
+     * @return The reversed first part, then the SEPARATOR and the rest if any letters are left
+     */
+    private static String path(String word, int split){
+
+        StringBuilder result = new StringBuilder(word.length() + 1);
+
+        for (int i = split - 1; i >= 0; i--) {
+            result.append(word.charAt(i));
+        }
+
+        if (split < word.length()){
+            result.append(SEPARATOR_CHAR).append(word, split, word.length());
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Method to check if a word is in the Gaddag
+     *
+     * @param word The word in char array form (capital letters)
+     * @return True if the word is in the Gaddag
+     */
+    @Override
+    public boolean contains(char[] word) {
+        return contains(word, 0, word.length);
+    }
+
+    /**
+     * Method to check if part of a char array is a word in the Gaddag
+     *
+     * The word is looked up by its path split after the last letter, which is the word reversed.
+     *
+     * @param word The char array holding the word (capital letters)
+     * @param offset Index of the first letter of the word
+     * @param length Number of letters in the word
+     * @return True if the word is in the Gaddag
+     */
+    @Override
+    public boolean contains(char[] word, int offset, int length) {
+
+        int node = graph.getRoot();
+
+        //Follow the word backwards
+        for (int i = offset + length - 1; i >= offset; i--) {
+            int letter = word[i] - 'A';
+
+            if (letter < 0 || letter >= SEPARATOR || node == 0){
+                return false;
+            }
+
+            int edge = graph.findEdge(node, letter);
+
+            if (edge < 0){
+                return false;
+            }
+            else if (i == offset){
+                return graph.isTerminal(edge);
+            }
+
+            node = graph.getChild(edge);
+        }
+
+        return false;
+    }
+
+    /**
+     * Accessor Method for the number of words
+     *
+     * @return The number of words in the Gaddag
+     */
+    @Override
+    public int size() {
+        return graph.size();
+    }
+
+    /**
+     * Accessor Method for the graph of paths
+     *
+     * Move generators walk the graph with the Dawg edge methods, using SEPARATOR as a letter.
+     *
+     * @return The minimized graph of every path
+     */
+    public Dawg getGraph() {
+        return graph;
+    }
+}
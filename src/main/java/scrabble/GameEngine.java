@@ -0,0 +1,470 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidGameEngineException;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class that runs the turns of a game of Scrabble without a user interface
+ *
+ * The engine owns the state of the game: naming the Players, whose turn it is, the move waiting to be challenged
+ * and the end of the game. Each command is a method call that changes the state or throws an exception and leaves
+ * it unchanged, so bots, servers and benchmarks can play games without parsing or printing text.
+ */
+public class GameEngine {
+
+    /**
+     * Enum of the states of the game
+     */
+    public enum State {
+        SETUP,
+        PLAYING,
+        AWAITING_CHALLENGE,
+        GAME_OVER
+    }
+
+    /**
+     * Number of Players in a game
+     */
+    public final static int PLAYER_COUNT = 2;
+
+    /**
+     * The game being played
+     */
+    private final Scrabble scrabble;
+
+    /**
+     * Random used to choose the first Player
+     */
+    private final Random random;
+
+    /**
+     * State of the game
+     */
+    private State state = State.SETUP;
+
+    /**
+     * Number of Players named so far
+     */
+    private int playersAdded = 0;
+
+    /**
+     * Index of the Player whose turn it is
+     */
+    private int currentPlayer = 0;
+
+    /**
+     * The move placed on the Board waiting to be challenged, null if there is none
+     */
+    private MoveInfo pendingMove;
+
+    /**
+     * Log the commands the engine accepts are appended to, null if they are not logged
+     */
+    private GameEventLog eventLog;
+
+    /**
+     * Id of the game in its GameEventLog
+     */
+    private int gameId;
+
+    /**
+     * Future of the record of the last command logged, completed at once if none has been
+     */
+    private CompletableFuture<Void> logged = CompletableFuture.completedFuture(null);
+
+    /**
+     * GameEngine Constructor
+     *
+     * @param scrabble The game to run, its Players are created by addPlayer
+     * @param random Random used to choose the first Player
+     * @throws InvalidGameEngineException If the game or Random is null
+     */
+    public GameEngine(Scrabble scrabble, Random random){
+        if (scrabble == null || random == null){
+            throw new InvalidGameEngineException("The game and random can not be null.");
+        }
+
+        this.scrabble = scrabble;
+        this.random = random;
+    }
+
+    /**
+     * GameEngine Constructor
+     *
+     * Creates a new game checked against a given dictionary
+     * @param dictionary The Lexicon of valid words
+     */
+    public GameEngine(Lexicon dictionary){
+        this(new Scrabble(dictionary), new Random());
+    }
+
+    /**
+     * Accessor Method for the game
+     *
+     * @return The game being played
+     */
+    public Scrabble getScrabble(){
+        return scrabble;
+    }
+
+    /**
+     * Accessor Method for the State
+     *
+     * @return The State of the game
+     */
+    public State getState(){
+        return state;
+    }
+
+    /**
+     * Accessor Method for the index of the Player whose turn it is
+     *
+     * @return The index of the current Player in the Players array
+     */
+    public int getCurrentPlayerIndex(){
+        return currentPlayer;
+    }
+
+    /**
+     * Accessor Method for the Player whose turn it is
+     *
+     * @return The current Player
+     */
+    public Player getCurrentPlayer(){
+        return scrabble.getPlayers()[currentPlayer];
+    }
+
+    /**
+     * Accessor Method for the Player waiting for their turn, who may challenge the pending move
+     *
+     * @return The other Player
+     */
+    public Player getOpponent(){
+        return scrabble.getPlayers()[(currentPlayer + 1) % PLAYER_COUNT];
+    }
+
+    /**
+     * Accessor Method for the move waiting to be challenged
+     *
+     * @return The pending move, null if there is none
+     */
+    public MoveInfo getPendingMove(){
+        return pendingMove;
+    }
+
+    /**
+     * Accessor Method for the last move that was kept on the Board
+     *
+     * @return The last move in the move history, null if no move has been made
+     */
+    public MoveInfo getLastMove(){
+        return scrabble.getMoveHistory().isEmpty() ? null : scrabble.getMoveHistory().get(scrabble.getMoveHistory().size() - 1);
+    }
+
+    /**
+     * Method to append every command the engine accepts from now on to a GameEventLog
+     *
+     * @param eventLog The log, null to stop logging
+     * @param gameId Id of the game in the log
+     */
+    void record(GameEventLog eventLog, int gameId){
+        this.eventLog = eventLog;
+        this.gameId = gameId;
+    }
+
+    /**
+     * Accessor Method for the future of the commands logged
+     *
+     * The records of a GameEventLog are forced to the disk in order, so a reply to a command should only be sent once
+     * this future completes.
+     *
+     * @return A future completed once every command accepted so far is on the disk, or exceptionally if one can not be
+     * written
+     */
+    public CompletableFuture<Void> getLogged(){
+        return logged;
+    }
+
+    /**
+     * Method to set the State of a game loaded from a GameSnapshot, whose Board, Players and Pool are already set
+     *
+     * @param state The State of the game, not AWAITING_CHALLENGE as the pending move is placed again instead
+     * @param currentPlayer Index of the Player whose turn it is
+     */
+    void restore(State state, int currentPlayer){
+        playersAdded = 0;
+        for (Player player : scrabble.getPlayers()) {
+            if (player != null){
+                playersAdded++;
+            }
+        }
+
+        this.state = state;
+        this.currentPlayer = currentPlayer;
+        this.pendingMove = null;
+    }
+
+    /**
+     * Method to name the next Player, the game starts with a random Player once every Player is named
+     *
+     * @param name The name of the Player
+     * @return The Player created
+     * @throws InvalidGameEngineException If every Player has already been named
+     */
+    public Player addPlayer(String name){
+        checkState(State.SETUP, "Players can only be added before the game starts.");
+
+        scrabble.createPlayer(name, playersAdded);
+        Player player = scrabble.getPlayers()[playersAdded];
+        playersAdded++;
+        log(GameEvent.playerAdded(gameId, name));
+
+        if (playersAdded == PLAYER_COUNT){
+            currentPlayer = random.nextInt(PLAYER_COUNT);
+            state = State.PLAYING;
+        }
+
+        return player;
+    }
+
+    /**
+     * Method for the current Player to place a word, the move is scored and waits to be challenged
+     *
+     * @param startPosition Start position of the word (row, column)
+     * @param direction Direction of the word
+     * @param word The whole word, including Tiles already on the Board
+     * @return The move placed on the Board
+     * @throws InvalidGameEngineException If it is not a Player's turn to move or the position has no row and column
+     */
+    public MoveInfo place(int[] startPosition, UserInput.Direction direction, char[] word){
+        checkState(State.PLAYING, "A move can only be made during a Player's turn.");
+
+        if (startPosition.length != 2 || !Board.checkValidPosition(startPosition)){
+            throw new InvalidGameEngineException("Invalid Start Position Inputted.");
+        }
+
+        MoveInfo move = new MoveInfo(getCurrentPlayer(), startPosition, direction, word);
+        scrabble.getBoard().placeTiles(move);
+
+        pendingMove = move;
+        state = State.AWAITING_CHALLENGE;
+        log(GameEvent.placed(gameId, startPosition, direction, word));
+
+        return move;
+    }
+
+    /**
+     * Method for the opponent to accept or challenge the pending move
+     *
+     * If the challenge succeeds the move is taken off the Board and the turn passes to the opponent. If it fails the
+     * move is kept and the opponent's turn is skipped. If there is no challenge the move is kept and the turn passes.
+     *
+     * @param challenged True if the opponent challenges the move
+     * @return True if the move was taken off the Board
+     * @throws InvalidGameEngineException If no move is waiting to be challenged
+     */
+    public boolean challenge(boolean challenged){
+        checkState(State.AWAITING_CHALLENGE, "There is no move to challenge.");
+
+        boolean removed = challenged && !scrabble.dictionaryWords(pendingMove);
+
+        if (removed){
+            scrabble.getBoard().removeMove(pendingMove);
+            getCurrentPlayer().getPlayerFrame().setToBlank();
+        }
+        else {
+            commitMove();
+        }
+
+        //Readers of the Board only see moves once they can no longer be challenged
+        scrabble.getBoard().publishSnapshot();
+
+        pendingMove = null;
+        state = State.PLAYING;
+        log(GameEvent.challenged(gameId, challenged));
+
+        //A failed challenge costs the challenger their turn
+        if (!challenged || removed){
+            nextTurn();
+        }
+        else {
+            checkGameOver();
+        }
+
+        return removed;
+    }
+
+    /**
+     * Method for the current Player to pass their turn
+     *
+     * @throws InvalidGameEngineException If it is not a Player's turn to move
+     */
+    public void pass(){
+        checkState(State.PLAYING, "A turn can only be passed during a Player's turn.");
+
+        getCurrentPlayer().getPlayerFrame().setToBlank();
+        log(GameEvent.passed(gameId));
+        nextTurn();
+    }
+
+    /**
+     * Method for the current Player to exchange Tiles in their Frame for Tiles from the Pool
+     *
+     * @param tiles The chars of the Tiles to exchange
+     * @throws InvalidGameEngineException If it is not a Player's turn to move or the Frame does not have the Tiles
+     */
+    public void exchange(char[] tiles){
+        checkState(State.PLAYING, "Tiles can only be exchanged during a Player's turn.");
+
+        if (!getCurrentPlayer().getPlayerFrame().checkTiles(tiles)){
+            throw new InvalidGameEngineException("The Player does not have the Tiles to exchange.");
+        }
+
+        getCurrentPlayer().getPlayerFrame().swapTiles(tiles);
+        log(GameEvent.exchanged(gameId, tiles));
+        nextTurn();
+    }
+
+    /**
+     * Method for the current Player to set the letters of the blank Tiles in their Frame
+     *
+     * @param letters The letters for the blank Tiles
+     * @throws InvalidGameEngineException If it is not a Player's turn to move or the Frame has no blank Tile
+     */
+    public void setBlanks(char[] letters){
+        checkState(State.PLAYING, "Blank Tiles can only be set during a Player's turn.");
+
+        if (!getCurrentPlayer().getPlayerFrame().hasBlank()){
+            throw new InvalidGameEngineException("Player does not have a blank tile to set");
+        }
+
+        getCurrentPlayer().getPlayerFrame().setBlanks(letters);
+        log(GameEvent.blanksSet(gameId, letters));
+    }
+
+    /**
+     * Method for the current Player to change their name
+     *
+     * @param name The new name
+     * @throws InvalidGameEngineException If it is not a Player's turn to move
+     */
+    public void rename(String name){
+        checkState(State.PLAYING, "A name can only be changed during a Player's turn.");
+
+        getCurrentPlayer().setName(name);
+        log(GameEvent.renamed(gameId, name));
+    }
+
+    /**
+     * Method to end the game early, the Tiles left in each Frame are taken from the Players' scores
+     *
+     * @throws InvalidGameEngineException If the game has not started or is already over
+     */
+    public void quit(){
+        if (state == State.SETUP || state == State.GAME_OVER){
+            throw new InvalidGameEngineException("Only a game in progress can be ended.");
+        }
+
+        //A move waiting to be challenged is taken back, with the blank Tiles set for it
+        if (pendingMove != null){
+            scrabble.getBoard().removeMove(pendingMove);
+            getCurrentPlayer().getPlayerFrame().setToBlank();
+            pendingMove = null;
+        }
+
+        log(GameEvent.quit(gameId));
+        endGame();
+    }
+
+    /**
+     * Method to find the winner of a finished game
+     *
+     * @return The Player with the highest score, null if the game is a draw
+     * @throws InvalidGameEngineException If the game is not over
+     */
+    public Player getWinner(){
+        checkState(State.GAME_OVER, "The game is not over.");
+
+        Player[] players = scrabble.getPlayers();
+
+        if (players[0].getScore() == players[1].getScore()){
+            return null;
+        }
+
+        return players[0].getScore() > players[1].getScore() ? players[0] : players[1];
+    }
+
+    /**
+     * Method to append an accepted command to the GameEventLog, if the engine has one
+     *
+     * The record is written by the log's writer thread, so the command does not wait for the disk; getLogged tells
+     * when it is there.
+     *
+     * @param event The command
+     */
+    private void log(GameEvent event){
+        if (eventLog != null){
+            logged = eventLog.append(event);
+        }
+    }
+
+    /**
+     * Method to keep the pending move, scoring it and refilling the Player's Frame
+     */
+    private void commitMove(){
+        Player player = getCurrentPlayer();
+
+        //The Tiles placed are removed rather than the first Tiles of their letters, which may be a blank set to one
+        for (Tile tile : pendingMove.getPlacedTiles()) {
+            player.getPlayerFrame().removeTile(tile);
+        }
+        player.increaseScore(pendingMove.getMoveScore());
+        player.getPlayerFrame().fillFrame();
+
+        //Premium Squares only count for the move that covers them
+        scrabble.getBoard().setWordSquaresNormal(pendingMove.getPrimaryWord());
+        player.getPlayerFrame().setToBlank();
+
+        scrabble.getMoveHistory().add(pendingMove);
+    }
+
+    /**
+     * Method to pass the turn to the next Player unless the game is over
+     */
+    private void nextTurn(){
+        currentPlayer = (currentPlayer + 1) % PLAYER_COUNT;
+        checkGameOver();
+    }
+
+    /**
+     * Method to end the game if the Pool and a Player's Frame are empty
+     */
+    private void checkGameOver(){
+        if (scrabble.isGameOver()){
+            endGame();
+        }
+    }
+
+    /**
+     * Method to take the Tiles left from each Player's score and end the game
+     */
+    private void endGame(){
+        scrabble.gameOver();
+        state = State.GAME_OVER;
+    }
+
+    /**
+     * Method to check the game is in the State a command needs
+     *
+     * @param expected The State needed
+     * @param message Message of the exception if the game is in another State
+     * @throws InvalidGameEngineException If the game is not in the State needed
+     */
+    private void checkState(State expected, String message){
+        if (state != expected){
+            throw new InvalidGameEngineException(message);
+        }
+    }
+}
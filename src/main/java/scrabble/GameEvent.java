@@ -0,0 +1,400 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidGameEventLogException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class for one command a GameEngine accepted, as it is stored in a GameEventLog
+ *
+ * An event holds only what the command was given, never the Players or Tiles it changed: a game started from the
+ * same seed and given the same events in order ends up exactly as it was, so the events are all that is needed to
+ * rebuild it. Each event is encoded as a type byte, the id of its game and a few bytes of arguments.
+ */
+public final class GameEvent {
+
+    /**
+     * Enum of the commands that are stored, in the order of their type byte
+     */
+    public enum Type {
+        CREATED,
+        PLAYER_ADDED,
+        PLACED,
+        CHALLENGED,
+        PASSED,
+        EXCHANGED,
+        BLANKS_SET,
+        RENAMED,
+        QUIT
+    }
+
+    /**
+     * Array of the Types by their type byte
+     */
+    private final static Type[] TYPES = Type.values();
+
+    /**
+     * Longest text an event can hold, in bytes
+     */
+    public final static int MAX_TEXT = 0xFFFF;
+
+    /**
+     * Type of the command
+     */
+    private final Type type;
+
+    /**
+     * Id of the game in its GameEventLog
+     */
+    private final int gameId;
+
+    /**
+     * Seed of the game, only used by CREATED
+     */
+    private final long seed;
+
+    /**
+     * Row of the start position, only used by PLACED
+     */
+    private final int row;
+
+    /**
+     * Column of the start position, only used by PLACED
+     */
+    private final int column;
+
+    /**
+     * Direction of the word, only used by PLACED
+     */
+    private final UserInput.Direction direction;
+
+    /**
+     * True if the move was challenged, only used by CHALLENGED
+     */
+    private final boolean challenged;
+
+    /**
+     * UTF-8 bytes of the name, word or letters of the command, empty if it has none
+     */
+    private final byte[] text;
+
+    /**
+     * GameEvent Constructor
+     *
+     * @param type Type of the command
+     * @param gameId Id of the game
+     * @param seed Seed of the game
+     * @param row Row of the start position
+     * @param column Column of the start position
+     * @param direction Direction of the word
+     * @param challenged True if the move was challenged
+     * @param text UTF-8 bytes of the text of the command
+     * @throws InvalidGameEventLogException If the text is longer than MAX_TEXT bytes
+     */
+    private GameEvent(Type type, int gameId, long seed, int row, int column, UserInput.Direction direction,
+                      boolean challenged, byte[] text){
+        if (text.length > MAX_TEXT){
+            throw new InvalidGameEventLogException("The text of an event can not be longer than " + MAX_TEXT + " bytes.");
+        }
+
+        this.type = type;
+        this.gameId = gameId;
+        this.seed = seed;
+        this.row = row;
+        this.column = column;
+        this.direction = direction;
+        this.challenged = challenged;
+        this.text = text;
+    }
+
+    /**
+     * Method to make an event that carries only text
+     *
+     * @param type Type of the command
+     * @param gameId Id of the game
+     * @param text The text of the command
+     * @return The event
+     */
+    private static GameEvent of(Type type, int gameId, String text){
+        return new GameEvent(type, gameId, 0, 0, 0, null, false, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to make the event that starts a game
+     *
+     * @param gameId Id of the game
+     * @param name Name of the game
+     * @param seed Seed of the game's Pool and first Player
+     * @return The event
+     */
+    public static GameEvent created(int gameId, String name, long seed){
+        return new GameEvent(Type.CREATED, gameId, seed, 0, 0, null, false, name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to make the event of GameEngine.addPlayer
+     *
+     * @param gameId Id of the game
+     * @param name The name of the Player
+     * @return The event
+     */
+    public static GameEvent playerAdded(int gameId, String name){
+        return of(Type.PLAYER_ADDED, gameId, name);
+    }
+
+    /**
+     * Method to make the event of GameEngine.place
+     *
+     * @param gameId Id of the game
+     * @param startPosition Start position of the word (row, column)
+     * @param direction Direction of the word
+     * @param word The whole word
+     * @return The event
+     */
+    public static GameEvent placed(int gameId, int[] startPosition, UserInput.Direction direction, char[] word){
+        return new GameEvent(Type.PLACED, gameId, 0, startPosition[0], startPosition[1], direction, false,
+                new String(word).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to make the event of GameEngine.challenge
+     *
+     * @param gameId Id of the game
+     * @param challenged True if the move was challenged
+     * @return The event
+     */
+    public static GameEvent challenged(int gameId, boolean challenged){
+        return new GameEvent(Type.CHALLENGED, gameId, 0, 0, 0, null, challenged, new byte[0]);
+    }
+
+    /**
+     * Method to make the event of GameEngine.pass
+     *
+     * @param gameId Id of the game
+     * @return The event
+     */
+    public static GameEvent passed(int gameId){
+        return of(Type.PASSED, gameId, "");
+    }
+
+    /**
+     * Method to make the event of GameEngine.exchange
+     *
+     * @param gameId Id of the game
+     * @param tiles The chars of the Tiles exchanged
+     * @return The event
+     */
+    public static GameEvent exchanged(int gameId, char[] tiles){
+        return of(Type.EXCHANGED, gameId, new String(tiles));
+    }
+
+    /**
+     * Method to make the event of GameEngine.setBlanks
+     *
+     * @param gameId Id of the game
+     * @param letters The letters for the blank Tiles
+     * @return The event
+     */
+    public static GameEvent blanksSet(int gameId, char[] letters){
+        return of(Type.BLANKS_SET, gameId, new String(letters));
+    }
+
+    /**
+     * Method to make the event of GameEngine.rename
+     *
+     * @param gameId Id of the game
+     * @param name The new name
+     * @return The event
+     */
+    public static GameEvent renamed(int gameId, String name){
+        return of(Type.RENAMED, gameId, name);
+    }
+
+    /**
+     * Method to make the event of GameEngine.quit
+     *
+     * @param gameId Id of the game
+     * @return The event
+     */
+    public static GameEvent quit(int gameId){
+        return of(Type.QUIT, gameId, "");
+    }
+
+    /**
+     * Accessor Method for the Type
+     *
+     * @return The Type of the command
+     */
+    public Type getType(){
+        return type;
+    }
+
+    /**
+     * Accessor Method for the id of the game
+     *
+     * @return The id of the game in its GameEventLog
+     */
+    public int getGameId(){
+        return gameId;
+    }
+
+    /**
+     * Accessor Method for the seed
+     *
+     * @return The seed of the game, 0 unless the event is CREATED
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * Accessor Method for the text
+     *
+     * @return The name, word or letters of the command, empty if it has none
+     */
+    public String getText(){
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method to find the number of bytes the event is encoded in
+     *
+     * @return The number of bytes write puts
+     */
+    public int size(){
+        switch (type) {
+            case CREATED:
+                return 5 + 8 + 2 + text.length;
+            case PLACED:
+                return 5 + 3 + 2 + text.length;
+            case CHALLENGED:
+                return 5 + 1;
+            case PASSED:
+            case QUIT:
+                return 5;
+            default:
+                return 5 + 2 + text.length;
+        }
+    }
+
+    /**
+     * Method to encode the event
+     *
+     * @param buffer Buffer to put the event in, with at least size bytes remaining
+     */
+    public void write(ByteBuffer buffer){
+
+        buffer.put((byte) type.ordinal());
+        buffer.putInt(gameId);
+
+        switch (type) {
+            case CREATED:
+                buffer.putLong(seed);
+                break;
+            case PLACED:
+                buffer.put((byte) row);
+                buffer.put((byte) column);
+                buffer.put((byte) direction.ordinal());
+                break;
+            case CHALLENGED:
+                buffer.put((byte) (challenged ? 1 : 0));
+                return;
+            case PASSED:
+            case QUIT:
+                return;
+            default:
+                break;
+        }
+
+        buffer.putShort((short) text.length);
+        buffer.put(text);
+    }
+
+    /**
+     * Method to decode an event written by write
+     *
+     * @param buffer Buffer holding the event
+     * @return The event
+     * @throws InvalidGameEventLogException If the bytes are not an event
+     */
+    public static GameEvent read(ByteBuffer buffer){
+        try {
+            int ordinal = buffer.get();
+
+            if (ordinal < 0 || ordinal >= TYPES.length){
+                throw new InvalidGameEventLogException("Unknown event type " + ordinal + ".");
+            }
+
+            Type type = TYPES[ordinal];
+            int gameId = buffer.getInt();
+            long seed = 0;
+            int row = 0;
+            int column = 0;
+            UserInput.Direction direction = null;
+
+            switch (type) {
+                case CREATED:
+                    seed = buffer.getLong();
+                    break;
+                case PLACED:
+                    row = buffer.get();
+                    column = buffer.get();
+                    direction = UserInput.Direction.values()[buffer.get()];
+                    break;
+                case CHALLENGED:
+                    return challenged(gameId, buffer.get() != 0);
+                case PASSED:
+                case QUIT:
+                    return of(type, gameId, "");
+                default:
+                    break;
+            }
+
+            byte[] text = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(text);
+
+            return new GameEvent(type, gameId, seed, row, column, direction, false, text);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidGameEventLogException("The bytes are not a whole event.");
+        }
+    }
+
+    /**
+     * Method to run the command of the event again on the engine of its game
+     *
+     * @param engine The engine of the game
+     * @throws InvalidGameEventLogException If the event is CREATED, which starts an engine rather than running on one
+     */
+    public void apply(GameEngine engine){
+        switch (type) {
+            case PLAYER_ADDED:
+                engine.addPlayer(getText());
+                break;
+            case PLACED:
+                engine.place(new int[]{row, column}, direction, getText().toCharArray());
+                break;
+            case CHALLENGED:
+                engine.challenge(challenged);
+                break;
+            case PASSED:
+                engine.pass();
+                break;
+            case EXCHANGED:
+                engine.exchange(getText().toCharArray());
+                break;
+            case BLANKS_SET:
+                engine.setBlanks(getText().toCharArray());
+                break;
+            case RENAMED:
+                engine.rename(getText());
+                break;
+            case QUIT:
+                engine.quit();
+                break;
+            default:
+                throw new InvalidGameEventLogException("A " + type + " event can not be run on an engine.");
+        }
+    }
+}
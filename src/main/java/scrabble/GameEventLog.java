@@ -0,0 +1,531 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidGameEventLogException;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * Class for an append-only file of the GameEvents of many games, from which every game still being played can be
+ * rebuilt after the program stops
+ *
+ * Each event is written as a record of its length, a CRC32 of its bytes and the event itself. Appending only copies
+ * the record into a buffer; a writer thread of the log writes everything appended since its last write in one go and
+ * forces it to the disk once, so many games appending at once share each flush (group commit). The future returned
+ * by append completes once its record is on the disk.
+ *
+ * Opening a log replays it: each game is started from the seed of its CREATED event and given its events in order,
+ * which rebuilds its Board, Frames, Pool and scores exactly. A record cut short or damaged by a crash ends the replay,
+ * so only the commands being written when the program stopped are lost. The file is then rewritten with the events of
+ * the games still being played only, so games that ended are never replayed again and the file does not grow with
+ * every game the log has ever held.
+ */
+public class GameEventLog implements Closeable {
+
+    /**
+     * Number of bytes before the event of a record, its length and CRC32
+     */
+    private final static int HEADER = 8;
+
+    /**
+     * Longest event a record can hold, in bytes
+     */
+    private final static int MAX_EVENT = 5 + 8 + 2 + GameEvent.MAX_TEXT;
+
+    /**
+     * Size the buffer of appended records starts at
+     */
+    private final static int INITIAL_BUFFER = 8 * 1024;
+
+    /**
+     * Channel of the file the records are appended to
+     */
+    private final FileChannel channel;
+
+    /**
+     * Lexicon of the games of the log
+     */
+    private final Lexicon lexicon;
+
+    /**
+     * Games that were being played when the log was last closed, by name
+     */
+    private final Map<String, GameEngine> recovered = new LinkedHashMap<>();
+
+    /**
+     * Lock guarding the fields below it
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Records appended but not yet taken by the writer thread
+     */
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER);
+
+    /**
+     * Buffer of the last batch written, reused for the next but one batch, null while it is being written
+     */
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER);
+
+    /**
+     * Futures of the records in pending, and of callers of sync waiting for them
+     */
+    private List<CompletableFuture<Void>> waiting = new ArrayList<>();
+
+    /**
+     * Checksum of the records, reset for each record
+     */
+    private final CRC32 checksum = new CRC32();
+
+    /**
+     * Id the next game created is given
+     */
+    private int nextGameId;
+
+    /**
+     * Number of batches forced to the disk
+     */
+    private long batches;
+
+    /**
+     * The exception the writer thread failed with, null if it has not failed
+     */
+    private IOException failure;
+
+    /**
+     * True once the log is closed
+     */
+    private boolean closed;
+
+    /**
+     * Thread writing the batches of records
+     */
+    private final Thread writer;
+
+    /**
+     * GameEventLog Constructor, which replays the file, rewrites it without the games that ended and opens it to
+     * append more events
+     *
+     * @param file The file of the log, created if it does not exist
+     * @param lexicon Lexicon of the games of the log
+     * @throws IOException If the file can not be read or written
+     * @throws InvalidGameEventLogException If the Lexicon is null or a whole record of the file is not an event
+     */
+    public GameEventLog(Path file, Lexicon lexicon) throws IOException {
+        if (lexicon == null){
+            throw new InvalidGameEventLogException("The lexicon can not be null.");
+        }
+
+        this.lexicon = lexicon;
+
+        //The events of the games still being played replace the file, which also drops a record cut short by a crash
+        compact(file, Files.exists(file) ? replay(file) : Collections.emptyList());
+
+        this.channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+
+        writer = new Thread(this::writeBatches, "scrabble-event-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Accessor Method for the games rebuilt when the log was opened
+     *
+     * @return The games that had started and not ended, by name, whose commands are appended to this log
+     */
+    public Map<String, GameEngine> getRecoveredGames(){
+        return Collections.unmodifiableMap(recovered);
+    }
+
+    /**
+     * Method to start a game whose commands are appended to the log
+     *
+     * @param name Name of the game
+     * @return The engine of the game
+     */
+    public GameEngine newGame(String name){
+        return newGame(name, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Method to start a game from a given seed whose commands are appended to the log
+     *
+     * @param name Name of the game
+     * @param seed Seed of the game's Pool and first Player
+     * @return The engine of the game
+     */
+    public GameEngine newGame(String name, long seed){
+
+        int gameId;
+        synchronized (lock) {
+            gameId = nextGameId++;
+        }
+
+        append(GameEvent.created(gameId, name, seed));
+
+        GameEngine engine = start(seed);
+        engine.record(this, gameId);
+        return engine;
+    }
+
+    /**
+     * Method to append an event to the log
+     *
+     * Called by any thread. The record is only copied into a buffer; the future completes when the writer thread has
+     * forced it to the disk, or completes exceptionally if the log is closed or can not be written.
+     *
+     * @param event The event
+     * @return A future completed once the event is on the disk
+     */
+    public CompletableFuture<Void> append(GameEvent event){
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        synchronized (lock) {
+            if (closed || failure != null){
+                future.completeExceptionally(failure != null ? failure : new IOException("The event log is closed."));
+                return future;
+            }
+
+            reserve(HEADER + event.size());
+            putRecord(pending, event, checksum);
+
+            waiting.add(future);
+            lock.notifyAll();
+        }
+
+        return future;
+    }
+
+    /**
+     * Method to wait until every event appended so far is on the disk
+     *
+     * @throws IOException If the log is closed or can not be written
+     */
+    public void sync() throws IOException {
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        synchronized (lock) {
+            if (failure != null){
+                throw failure;
+            }
+            if (closed){
+                throw new IOException("The event log is closed.");
+            }
+
+            waiting.add(future);
+            lock.notifyAll();
+        }
+
+        try {
+            future.join();
+        } catch (RuntimeException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Accessor Method for the number of batches
+     *
+     * @return The number of times the writer thread forced records to the disk
+     */
+    public long getBatchCount(){
+        synchronized (lock) {
+            return batches;
+        }
+    }
+
+    /**
+     * Method to write the events appended so far and close the file, only the first call has an effect
+     *
+     * @throws IOException If the file can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        synchronized (lock) {
+            if (closed){
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        channel.close();
+    }
+
+    /**
+     * Method to put the record of an event
+     *
+     * @param buffer Buffer with room for the record
+     * @param event The event
+     * @param crc Checksum to use
+     */
+    private static void putRecord(ByteBuffer buffer, GameEvent event, CRC32 crc){
+        int start = buffer.position();
+        buffer.position(start + HEADER);
+        event.write(buffer);
+
+        int length = buffer.position() - start - HEADER;
+        crc.reset();
+        crc.update(buffer.array(), start + HEADER, length);
+        buffer.putInt(start, length);
+        buffer.putInt(start + 4, (int) crc.getValue());
+    }
+
+    /**
+     * Method to make room in the pending buffer
+     *
+     * @param bytes Number of bytes that will be put
+     */
+    private void reserve(int bytes){
+        if (pending.remaining() < bytes){
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + bytes));
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+    }
+
+    /**
+     * Method run by the writer thread to write and force each batch of records until the log is closed
+     */
+    private void writeBatches(){
+
+        while (true) {
+            ByteBuffer batch;
+            List<CompletableFuture<Void>> done;
+
+            synchronized (lock) {
+                while (!closed && waiting.isEmpty()) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        //Only close stops the writer, so the records already appended are still written
+                    }
+                }
+
+                if (waiting.isEmpty()){
+                    return;
+                }
+
+                //Appends made while this batch is written go to the other buffer and make up the next batch
+                batch = pending;
+                pending = spare != null ? spare : ByteBuffer.allocate(INITIAL_BUFFER);
+                spare = null;
+                done = waiting;
+                waiting = new ArrayList<>();
+            }
+
+            IOException error = null;
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+
+            batch.clear();
+
+            synchronized (lock) {
+                spare = batch;
+                batches++;
+
+                if (error != null && failure == null){
+                    failure = error;
+                }
+            }
+
+            for (CompletableFuture<Void> future : done) {
+                if (error == null){
+                    future.complete(null);
+                }
+                else {
+                    future.completeExceptionally(error);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to rebuild the games of the file, keeping those that have started and not ended
+     *
+     * @param file The file of the log
+     * @return The events of the games kept, each game's in order
+     * @throws IOException If the file can not be read
+     */
+    private List<List<GameEvent>> replay(Path file) throws IOException {
+
+        //Games are kept in the order they were created, so a name used again recovers its newest game
+        Map<Integer, GameEngine> engines = new TreeMap<>();
+        Map<Integer, String> names = new HashMap<>();
+        Map<Integer, List<GameEvent>> events = new HashMap<>();
+        byte[] record = new byte[MAX_EVENT];
+        CRC32 crc = new CRC32();
+
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 64 * 1024))) {
+
+            while (true) {
+                int length;
+                int expected;
+
+                try {
+                    length = in.readInt();
+                    expected = in.readInt();
+
+                    if (length <= 0 || length > MAX_EVENT){
+                        break;
+                    }
+
+                    in.readFully(record, 0, length);
+                } catch (EOFException e) {
+                    //The file ended, possibly in the middle of a record cut short by a crash
+                    break;
+                }
+
+                crc.reset();
+                crc.update(record, 0, length);
+
+                if ((int) crc.getValue() != expected){
+                    break;
+                }
+
+                GameEvent event = GameEvent.read(ByteBuffer.wrap(record, 0, length));
+                nextGameId = Math.max(nextGameId, event.getGameId() + 1);
+
+                if (event.getType() == GameEvent.Type.CREATED){
+                    engines.put(event.getGameId(), start(event.getSeed()));
+                    names.put(event.getGameId(), event.getText());
+                    events.put(event.getGameId(), new ArrayList<>());
+                    events.get(event.getGameId()).add(event);
+                    continue;
+                }
+
+                GameEngine engine = engines.get(event.getGameId());
+
+                if (engine == null){
+                    continue;
+                }
+
+                try {
+                    event.apply(engine);
+                    events.get(event.getGameId()).add(event);
+                } catch (RuntimeException e) {
+                    //Only accepted commands are logged, so a game they no longer fit (a different Lexicon) is dropped
+                    engine = null;
+                }
+
+                //A game that ended is forgotten at once, so its events are not kept while the rest is replayed
+                if (engine == null || engine.getState() == GameEngine.State.GAME_OVER){
+                    engines.remove(event.getGameId());
+                    names.remove(event.getGameId());
+                    events.remove(event.getGameId());
+                }
+            }
+        }
+
+        for (Map.Entry<Integer, GameEngine> entry : engines.entrySet()) {
+            GameEngine engine = entry.getValue();
+
+            if (engine.getState() == GameEngine.State.PLAYING || engine.getState() == GameEngine.State.AWAITING_CHALLENGE){
+                engine.record(this, entry.getKey());
+                recovered.put(names.get(entry.getKey()), engine);
+            }
+        }
+
+        //Only the games recovered are kept, an older game whose name was used again can not be joined
+        List<List<GameEvent>> live = new ArrayList<>();
+        for (Map.Entry<Integer, GameEngine> entry : engines.entrySet()) {
+            if (recovered.get(names.get(entry.getKey())) == entry.getValue()){
+                live.add(events.get(entry.getKey()));
+            }
+        }
+
+        return live;
+    }
+
+    /**
+     * Method to replace the file of the log with the events of the games still being played
+     *
+     * The events are written to another file and forced to the disk before it is moved over the file of the log, so
+     * a crash while compacting leaves the old file whole.
+     *
+     * @param file The file of the log
+     * @param games The events of each game kept
+     * @throws IOException If the file can not be written
+     */
+    private static void compact(Path file, List<List<GameEvent>> games) throws IOException {
+
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        CRC32 crc = new CRC32();
+
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            for (List<GameEvent> game : games) {
+                for (GameEvent event : game) {
+                    if (buffer.remaining() < HEADER + event.size()){
+                        buffer.flip();
+                        while (buffer.hasRemaining()) {
+                            out.write(buffer);
+                        }
+                        buffer.clear();
+                    }
+                    putRecord(buffer, event, crc);
+                }
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false);
+        }
+
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Method to start the engine of a game from its seed
+     *
+     * @param seed Seed of the game's Pool and first Player
+     * @return The engine, with no Players
+     */
+    private GameEngine start(long seed){
+        return new GameEngine(new Scrabble(lexicon, new Pool(seed)), new Random(seed));
+    }
+}
@@ -0,0 +1,237 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidGameLogException;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class that keeps the most recent lines of a game's dialogue in a fixed size ring buffer
+ *
+ * Adding a line when the log is full drops the oldest line, so the memory a log uses and the time an add takes
+ * do not grow with the length of a session. A log can spill the lines it drops to a file, which then holds the
+ * whole session once the log is closed. Spilled lines are buffered until flush is called after a batch of adds.
+ */
+public class GameLog implements Closeable {
+
+    /**
+     * Number of lines kept by a log made without a capacity
+     */
+    public final static int DEFAULT_CAPACITY = 1000;
+
+    /**
+     * The lines kept, the oldest at index head
+     */
+    private final String[] lines;
+
+    /**
+     * Index of the oldest line kept
+     */
+    private int head;
+
+    /**
+     * Number of lines kept
+     */
+    private int size;
+
+    /**
+     * Number of lines ever added
+     */
+    private long total;
+
+    /**
+     * Writer the dropped lines are spilled to, null if they are discarded
+     */
+    private Writer spill;
+
+    /**
+     * True if lines have been spilled since the spill file was last flushed
+     */
+    private boolean unflushed;
+
+    /**
+     * True once the log is closed
+     */
+    private boolean closed;
+
+    /**
+     * GameLog Constructor that keeps DEFAULT_CAPACITY lines and discards older ones
+     */
+    public GameLog(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * GameLog Constructor that discards the lines it drops
+     *
+     * @param capacity Number of lines kept
+     * @throws InvalidGameLogException If the capacity is less than 1
+     */
+    public GameLog(int capacity){
+        if (capacity < 1){
+            throw new InvalidGameLogException("The capacity must be at least 1.");
+        }
+
+        lines = new String[capacity];
+    }
+
+    /**
+     * GameLog Constructor that spills the lines it drops to a file
+     *
+     * @param capacity Number of lines kept
+     * @param file File the lines are appended to, created if it does not exist
+     * @throws InvalidGameLogException If the capacity is less than 1
+     * @throws IOException If the file can not be opened
+     */
+    public GameLog(int capacity, Path file) throws IOException {
+        this(capacity);
+
+        spill = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Method to add a line, dropping the oldest line if the log is full
+     *
+     * @param line The line
+     * @return The line dropped, null if the log was not full
+     * @throws InvalidGameLogException If the line is null or the log is closed
+     * @throws UncheckedIOException If the line dropped can not be spilled
+     */
+    public String add(String line){
+        if (line == null){
+            throw new InvalidGameLogException("The line can not be null.");
+        }
+        if (closed){
+            throw new InvalidGameLogException("The log is closed.");
+        }
+
+        String dropped = null;
+
+        if (size == lines.length){
+            dropped = lines[head];
+            lines[head] = line;
+            head = (head + 1) % lines.length;
+            write(dropped);
+        }
+        else {
+            lines[(head + size) % lines.length] = line;
+            size++;
+        }
+
+        total++;
+        return dropped;
+    }
+
+    /**
+     * Method to find a line kept
+     *
+     * @param index 0 for the oldest line kept, size() - 1 for the newest
+     * @return The line
+     * @throws InvalidGameLogException If the index is not of a line kept
+     */
+    public String get(int index){
+        if (index < 0 || index >= size){
+            throw new InvalidGameLogException("There is no line " + index + " in the log.");
+        }
+
+        return lines[(head + index) % lines.length];
+    }
+
+    /**
+     * Accessor Method for the number of lines kept
+     *
+     * @return The number of lines that can be got
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Accessor Method for the capacity
+     *
+     * @return The most lines the log keeps
+     */
+    public int getCapacity(){
+        return lines.length;
+    }
+
+    /**
+     * Accessor Method for the number of lines ever added
+     *
+     * @return The lines kept plus the lines dropped
+     */
+    public long getTotal(){
+        return total;
+    }
+
+    /**
+     * Method to write the lines spilled so far to the spill file, so they are not lost if the log is never closed
+     *
+     * @throws UncheckedIOException If the spill file can not be written
+     */
+    public void flush(){
+        if (spill == null || !unflushed){
+            return;
+        }
+
+        try {
+            spill.flush();
+            unflushed = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Method to close the log, spilling the lines still kept after the lines dropped
+     *
+     * @throws IOException If the spill file can not be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed){
+            return;
+        }
+        closed = true;
+
+        if (spill != null){
+            try {
+                for (int i = 0; i < size; i++) {
+                    spill.write(get(i));
+                    spill.write('\n');
+                }
+            } finally {
+                spill.close();
+                spill = null;
+            }
+        }
+    }
+
+    /**
+     * Method to spill a line dropped from the log
+     *
+     * @param line The line
+     * @throws UncheckedIOException If the line can not be written
+     */
+    private void write(String line){
+        if (spill == null){
+            return;
+        }
+
+        try {
+            spill.write(line);
+            spill.write('\n');
+            unflushed = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
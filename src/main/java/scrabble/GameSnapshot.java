@@ -0,0 +1,370 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidGameSnapshotException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+/**
+ * Class that saves a whole game to a few hundred bytes and loads it back
+ *
+ * A snapshot holds what a game is rather than how it got there: one byte for each of the 225 Squares ('A' to 'Z' for
+ * a Tile, 'a' to 'z' for a blank set to a letter, 0 if empty), a bit for each premium Square already used, each Frame
+ * and the Pool as the number of each letter, the names and scores of the Players and whose turn it is. A move waiting
+ * to be challenged is saved as the move and placed again when the game is loaded. Snapshots start with a version and
+ * end with a CRC32, so a damaged or newer snapshot is refused rather than loaded wrongly.
+ *
+ * The move history and the order Tiles will be drawn from the Pool are not saved, a loaded game draws with a new Random.
+ */
+public final class GameSnapshot {
+
+    /**
+     * Version of the snapshots written
+     */
+    public final static int VERSION = 1;
+
+    /**
+     * Bytes every snapshot starts with, "SG"
+     */
+    private final static short MAGIC = 0x5347;
+
+    /**
+     * Number of Squares on the Board
+     */
+    private final static int SQUARES = Board.BOARD_SIZE * Board.BOARD_SIZE;
+
+    /**
+     * Largest snapshot, a Board, two Players, the Pool and the longest pending move
+     */
+    private final static int MAX_SIZE = 1024;
+
+    /**
+     * SquareType of each Square of a new Board, to find the premium Squares used
+     */
+    private final static Square.SquareType[] LAYOUT = layout();
+
+    /**
+     * GameSnapshot Constructor, which is private as the class only has static methods
+     */
+    private GameSnapshot(){
+    }
+
+    /**
+     * Method to save a game
+     *
+     * @param engine The engine of the game
+     * @return The bytes of the snapshot
+     */
+    public static byte[] save(GameEngine engine){
+
+        ByteBuffer out = ByteBuffer.allocate(MAX_SIZE);
+        Scrabble scrabble = engine.getScrabble();
+        Board board = scrabble.getBoard();
+        MoveInfo pending = engine.getPendingMove();
+
+        out.putShort(MAGIC);
+        out.put((byte) VERSION);
+        out.put((byte) engine.getState().ordinal());
+        out.put((byte) engine.getCurrentPlayerIndex());
+
+        //Each Player as their name, score and the number of each letter in their Frame, an empty name if not added yet
+        for (Player player : scrabble.getPlayers()) {
+            if (player == null){
+                out.put((byte) 0);
+                continue;
+            }
+
+            putText(out, player.getName());
+            out.putInt(player.getScore());
+
+            Rack rack = player.getPlayerFrame().getRack();
+            for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+                out.put((byte) rack.count(letter));
+            }
+        }
+
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            out.put((byte) scrabble.getPool().getCount(letter));
+        }
+
+        //The Tiles of a pending move are left out, as they are placed again from the move
+        boolean[] pendingSquares = new boolean[SQUARES];
+        if (pending != null){
+            for (int[] position : pending.getRequiredTilesPositions()) {
+                pendingSquares[position[0] * Board.BOARD_SIZE + position[1]] = true;
+            }
+        }
+
+        byte[] used = new byte[(SQUARES + 7) / 8];
+
+        for (int k = 0; k < SQUARES; k++) {
+            Square square = board.getSquare(k / Board.BOARD_SIZE, k % Board.BOARD_SIZE);
+
+            if (square.isEmpty() || pendingSquares[k]){
+                out.put((byte) 0);
+            }
+            else {
+                Tile tile = square.getTile();
+                out.put((byte) (tile.getValue() == 0 ? Character.toLowerCase(tile.getCharacter()) : tile.getCharacter()));
+            }
+
+            if (square.getType() == Square.SquareType.NORMAL && LAYOUT[k] != Square.SquareType.NORMAL){
+                used[k >> 3] |= 1 << (k & 7);
+            }
+        }
+        out.put(used);
+
+        //Blank Tiles the current Player has set to letters, which a pending move needs to be placed again
+        StringBuilder blanks = new StringBuilder();
+        Player current = engine.getState() == GameEngine.State.SETUP ? null : engine.getCurrentPlayer();
+        if (current != null){
+            for (Tile tile : current.getPlayerFrame().returnFrame()) {
+                if (tile.getValue() == 0 && tile.getCharacter() != ' '){
+                    blanks.append(tile.getCharacter());
+                }
+            }
+        }
+        putText(out, blanks.toString());
+
+        if (pending == null){
+            out.put((byte) 0);
+        }
+        else {
+            Word word = pending.getPrimaryWord();
+            out.put((byte) 1);
+            out.put((byte) word.getStartPosition()[0]);
+            out.put((byte) word.getStartPosition()[1]);
+            out.put((byte) word.getDirection().ordinal());
+            putText(out, new String(word.getWord()));
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, out.position());
+        out.putInt((int) crc.getValue());
+
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    /**
+     * Method to load a game
+     *
+     * @param bytes The bytes of a snapshot
+     * @param lexicon Lexicon of the game
+     * @return The engine of the game, which plays on from where it was saved
+     * @throws InvalidGameSnapshotException If the bytes are not a whole snapshot of this version or older
+     */
+    public static GameEngine load(byte[] bytes, Lexicon lexicon){
+
+        if (bytes.length < 9){
+            throw new InvalidGameSnapshotException("The snapshot is too short.");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+
+        if (in.getShort() != MAGIC){
+            throw new InvalidGameSnapshotException("The bytes are not a snapshot.");
+        }
+
+        int version = in.get();
+        if (version < 1 || version > VERSION){
+            throw new InvalidGameSnapshotException("Snapshot version " + version + " can not be loaded.");
+        }
+
+        if (in.getInt(bytes.length - 4) != (int) crc.getValue()){
+            throw new InvalidGameSnapshotException("The snapshot is damaged.");
+        }
+
+        try {
+            return read(in, lexicon);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new InvalidGameSnapshotException("The snapshot is too short.");
+        } catch (InvalidGameSnapshotException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidGameSnapshotException("The snapshot is not a game that can be played: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method to save a game to a file
+     *
+     * @param engine The engine of the game
+     * @param file The file, replaced if it exists
+     * @throws IOException If the file can not be written
+     */
+    public static void write(GameEngine engine, Path file) throws IOException {
+        Files.write(file, save(engine));
+    }
+
+    /**
+     * Method to load a game from a file
+     *
+     * @param file The file
+     * @param lexicon Lexicon of the game
+     * @return The engine of the game
+     * @throws IOException If the file can not be read
+     * @throws InvalidGameSnapshotException If the file is not a whole snapshot of this version or older
+     */
+    public static GameEngine read(Path file, Lexicon lexicon) throws IOException {
+        return load(Files.readAllBytes(file), lexicon);
+    }
+
+    /**
+     * Method to read the game from a snapshot whose header has been checked
+     *
+     * @param in The snapshot, after its version
+     * @param lexicon Lexicon of the game
+     * @return The engine of the game
+     */
+    private static GameEngine read(ByteBuffer in, Lexicon lexicon){
+
+        GameEngine.State state = GameEngine.State.values()[in.get()];
+        int currentPlayer = in.get();
+
+        Pool pool = new Pool();
+        Scrabble scrabble = new Scrabble(lexicon, pool);
+        Board board = scrabble.getBoard();
+
+        for (int i = 0; i < GameEngine.PLAYER_COUNT; i++) {
+            String name = getText(in);
+
+            if (name.isEmpty()){
+                continue;
+            }
+
+            int score = in.getInt();
+            scrabble.createPlayer(name, i);
+            Player player = scrabble.getPlayers()[i];
+            Frame frame = player.getPlayerFrame();
+
+            //The Tiles the new Player drew are put back and the saved letters taken instead
+            while (!frame.isEmpty()) {
+                pool.receiveTile(frame.getTile(0));
+                frame.removeTile(0);
+            }
+
+            for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+                for (int count = in.get(); count > 0; count--) {
+                    pool.takeLetter(letter);
+                    frame.addTile(new Tile(Pool.letterChar(letter)));
+                }
+            }
+
+            if (score >= 0){
+                player.increaseScore(score);
+            }
+            else {
+                player.decreaseScore(-score);
+            }
+        }
+
+        byte[] poolCounts = new byte[Pool.LETTER_COUNT];
+        in.get(poolCounts);
+
+        for (int k = 0; k < SQUARES; k++) {
+            char c = (char) in.get();
+
+            if (c == 0){
+                continue;
+            }
+
+            Tile tile;
+            if (Character.isLowerCase(c)){
+                pool.takeLetter(Pool.BLANK);
+                tile = new Tile(' ');
+                tile.setCharacter(Character.toUpperCase(c));
+            }
+            else {
+                pool.takeLetter(Rack.index(c));
+                tile = new Tile(c);
+            }
+
+            board.getSquare(k / Board.BOARD_SIZE, k % Board.BOARD_SIZE).setTile(tile);
+        }
+
+        byte[] used = new byte[(SQUARES + 7) / 8];
+        in.get(used);
+
+        for (int k = 0; k < SQUARES; k++) {
+            if ((used[k >> 3] & (1 << (k & 7))) != 0){
+                board.getSquare(k / Board.BOARD_SIZE, k % Board.BOARD_SIZE).setNormal();
+            }
+        }
+
+        //Every Tile is on the Board, in a Frame or in the Pool, so what is left must be the saved Pool
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            if (pool.getCount(letter) != poolCounts[letter]){
+                throw new InvalidGameSnapshotException("The Tiles of the snapshot do not add up.");
+            }
+        }
+
+        String blanks = getText(in);
+
+        GameEngine engine = new GameEngine(scrabble, new Random());
+        engine.restore(state == GameEngine.State.AWAITING_CHALLENGE ? GameEngine.State.PLAYING : state, currentPlayer);
+
+        if (!blanks.isEmpty()){
+            engine.getCurrentPlayer().getPlayerFrame().setBlanks(blanks.toCharArray());
+        }
+
+        if (in.get() != 0){
+            int[] startPosition = {in.get(), in.get()};
+            UserInput.Direction direction = UserInput.Direction.values()[in.get()];
+            engine.place(startPosition, direction, getText(in).toCharArray());
+        }
+
+        board.publishSnapshot();
+
+        return engine;
+    }
+
+    /**
+     * Method to put a short text as its length and UTF-8 bytes
+     *
+     * @param out Buffer to put the text in
+     * @param text The text, at most 255 bytes
+     */
+    private static void putText(ByteBuffer out, String text){
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.put((byte) bytes.length);
+        out.put(bytes);
+    }
+
+    /**
+     * Method to get a text put by putText
+     *
+     * @param in Buffer holding the text
+     * @return The text
+     */
+    private static String getText(ByteBuffer in){
+        byte[] bytes = new byte[in.get() & 0xFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method to find the SquareType of each Square of a new Board
+     *
+     * @return The SquareTypes, row by row
+     */
+    private static Square.SquareType[] layout(){
+        Board board = new Board();
+        Square.SquareType[] layout = new Square.SquareType[SQUARES];
+
+        for (int k = 0; k < SQUARES; k++) {
+            layout[k] = board.getSquare(k / Board.BOARD_SIZE, k % Board.BOARD_SIZE).getType();
+        }
+
+        return layout;
+    }
+}
@@ -0,0 +1,269 @@
+package scrabble;
+
+/**
+ * Class that stores a legal move found by the MoveGenerator
+ *
+ * The word is the whole word made along the move's direction, including Tiles already on the Board.
+ */
+public class GeneratedMove {
+
+    /**
+     * Row of the first letter of the word
+     */
+    private final int row;
+
+    /**
+     * Column of the first letter of the word
+     */
+    private final int column;
+
+    /**
+     * Direction of the word
+     */
+    private final UserInput.Direction direction;
+
+    /**
+     * The whole word in char array form, blanks shown as the letter they stand for
+     */
+    private final char[] word;
+
+    /**
+     * Bit i is set if letter i of the word is a Tile placed by this move
+     */
+    private final int placedMask;
+
+    /**
+     * Bit i is set if letter i of the word is a placed blank Tile
+     */
+    private final int blankMask;
+
+    /**
+     * Score of the move
+     */
+    private final int score;
+
+    /**
+     * GeneratedMove Constructor
+     *
+     * @param row Row of the first letter of the word
+     * @param column Column of the first letter of the word
+     * @param direction Direction of the word
+     * @param word The whole word in char array form
+     * @param placedMask Bit i set if letter i is placed by this move
+     * @param blankMask Bit i set if letter i is a placed blank Tile
+     * @param score Score of the move
+     */
+    public GeneratedMove(int row, int column, UserInput.Direction direction, char[] word, int placedMask, int blankMask, int score){
+        this.row = row;
+        this.column = column;
+        this.direction = direction;
+        this.word = word;
+        this.placedMask = placedMask;
+        this.blankMask = blankMask;
+        this.score = score;
+    }
+
+    /**
+     * Accessor Method for the row
+     *
+     * @return Row of the first letter of the word
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Accessor Method for the column
+     *
+     * @return Column of the first letter of the word
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Accessor Method for the Start Position
+     *
+     * @return The co-ordinates of the first letter of the word (row, col)
+     */
+    public int[] getStartPosition() {
+        return new int[]{row, column};
+    }
+
+    /**
+     * Accessor Method for the Direction
+     *
+     * @return The Direction of the word
+     */
+    public UserInput.Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Accessor Method for the word
+     *
+     * @return The whole word in char array form
+     */
+    public char[] getWord() {
+        return word;
+    }
+
+    /**
+     * Accessor Method for the score
+     *
+     * @return The score of the move
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Method to check if a letter of the word is placed by this move
+     *
+     * @param index Index of the letter in the word
+     * @return True if the Tile is placed by this move
+     */
+    public boolean isPlaced(int index) {
+        return (placedMask & (1 << index)) != 0;
+    }
+
+    /**
+     * Method to check if a letter of the word is a placed blank Tile
+     *
+     * @param index Index of the letter in the word
+     * @return True if the letter is a blank Tile
+     */
+    public boolean isBlank(int index) {
+        return (blankMask & (1 << index)) != 0;
+    }
+
+    /**
+     * Method to find the number of Tiles placed by this move
+     *
+     * @return The number of Tiles placed
+     */
+    public int getTilesPlaced() {
+        return Integer.bitCount(placedMask);
+    }
+
+    /**
+     * Method to find the Tiles needed from the Frame for this move
+     *
+     * @return The chars of the Tiles needed, ' ' for a blank Tile
+     */
+    public char[] getRequiredTiles() {
+
+        char[] result = new char[getTilesPlaced()];
+        int count = 0;
+
+        //For loop to collect each placed letter in order
+        for (int i = 0; i < word.length; i++) {
+            if (isPlaced(i)) {
+                result[count++] = isBlank(i) ? ' ' : word[i];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to find the letters the blank Tiles of this move stand for
+     *
+     * @return The letters of the blank Tiles in word order, empty if no blanks are used
+     */
+    public char[] getBlankLetters() {
+
+        char[] result = new char[Integer.bitCount(blankMask)];
+        int count = 0;
+
+        for (int i = 0; i < word.length; i++) {
+            if (isBlank(i)) {
+                result[count++] = word[i];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to find the leave key of the Tiles kept after this move
+     *
+     * @param rackCounts Number of each letter in the Frame, blanks at index 26, unchanged when the method returns
+     * @return The Rack leave key of the Tiles not placed
+     */
+    public long leaveKey(int[] rackCounts) {
+
+        //Take the placed Tiles from the counts, find the key, then put them back
+        for (int i = 0; i < word.length; i++) {
+            if (isPlaced(i)) {
+                rackCounts[isBlank(i) ? Pool.BLANK : word[i] - 'A']--;
+            }
+        }
+
+        long key = Rack.leaveKey(rackCounts);
+
+        for (int i = 0; i < word.length; i++) {
+            if (isPlaced(i)) {
+                rackCounts[isBlank(i) ? Pool.BLANK : word[i] - 'A']++;
+            }
+        }
+
+        return key;
+    }
+
+    /**
+     * Method to put the Tiles of this move on a Board without a Player, for trying moves ahead
+     *
+     * @param board The Board to place the Tiles on, which must be the Board the move was generated for
+     */
+    public void place(Board board) {
+
+        for (int i = 0; i < word.length; i++) {
+            if (isPlaced(i)) {
+                Tile tile = new Tile(isBlank(i) ? ' ' : word[i]);
+
+                if (isBlank(i)) {
+                    tile.setCharacter(word[i]);
+                }
+
+                board.placeTile(tile, row + (direction == UserInput.Direction.VERTICAL ? i : 0), column + (direction == UserInput.Direction.HORIZONTAL ? i : 0));
+            }
+        }
+    }
+
+    /**
+     * Method to take the Tiles of this move back off a Board after place
+     *
+     * @param board The Board the Tiles were placed on
+     */
+    public void remove(Board board) {
+
+        for (int i = 0; i < word.length; i++) {
+            if (isPlaced(i)) {
+                board.getSquare(row + (direction == UserInput.Direction.VERTICAL ? i : 0), column + (direction == UserInput.Direction.HORIZONTAL ? i : 0)).setEmpty();
+            }
+        }
+    }
+
+    /**
+     * Method to create the MoveInfo for a Player to make this move on the Board
+     *
+     * Any blank Tiles in the Player's Frame must be set to getBlankLetters before the move is placed.
+     *
+     * @param player Player making the move
+     * @return The MoveInfo of this move
+     */
+    public MoveInfo toMoveInfo(Player player) {
+        return new MoveInfo(player, getStartPosition(), direction, word.clone());
+    }
+
+    /**
+     * toString method for GeneratedMove in the same form as the place command (Eg: H7 A HELLO)
+     *
+     * @return The move and its score in string form
+     */
+    @Override
+    public String toString() {
+        return (char) ('A' + row) + "" + column + " " + (direction == UserInput.Direction.HORIZONTAL ? "A" : "D") + " " + new String(word) + " (" + score + ")";
+    }
+}
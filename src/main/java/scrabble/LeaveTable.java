@@ -0,0 +1,348 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidLeaveTableException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Class that stores the value of the Tiles a Player keeps after a move, by Rack leave key
+ *
+ * Values are in points, how much better the Player is expected to score next turn with the leave than on average.
+ * The table is an open-addressing hash map of int keys to float values kept under half full, so a lookup is a
+ * multiply, a shift and nearly always a single probe. Leaves not in the table are valued as the sum of the value of
+ * each of their Tiles.
+ */
+public class LeaveTable {
+
+    /**
+     * Most Tiles in a leave stored in the table, a Player keeps at most 6 after placing a Tile
+     */
+    public final static int MAX_LEAVE = Frame.FRAME_SIZE - 1;
+
+    /**
+     * Name of the precomputed table resource in the scrabble package
+     */
+    public final static String LEAVE_TABLE = "leaves.bin";
+
+    /**
+     * Magic number at the start of the binary file ("LEAV")
+     */
+    private final static int MAGIC = 0x4C454156;
+
+    /**
+     * Version of the binary file format
+     */
+    private final static int VERSION = 1;
+
+    /**
+     * Key of an empty slot, no leave key is negative
+     */
+    private final static int EMPTY = -1;
+
+    /**
+     * Bits of each Tile in a leave key
+     */
+    private final static int KEY_BITS = 5;
+
+    /**
+     * The table loaded from the LEAVE_TABLE resource, null until first used
+     */
+    private static LeaveTable defaultTable;
+
+    /**
+     * Leave key in each slot, EMPTY if the slot is free
+     */
+    private int[] keys;
+
+    /**
+     * Value of the leave in each slot
+     */
+    private float[] values;
+
+    /**
+     * Number of bits to shift a hash right to find a slot
+     */
+    private int shift;
+
+    /**
+     * Number of leaves in the table
+     */
+    private int size;
+
+    /**
+     * Value of each Tile for leaves not in the table, blanks at index 26
+     */
+    private final float[] tileValues = new float[Pool.LETTER_COUNT];
+
+    /**
+     * LeaveTable Constructor
+     *
+     * @param expectedLeaves Number of leaves the table is sized for, it grows if more are added
+     */
+    public LeaveTable(int expectedLeaves){
+        allocate(Math.max(16, Integer.highestOneBit(Math.max(expectedLeaves, 1) * 2 - 1) << 1));
+    }
+
+    /**
+     * LeaveTable Constructor for an empty table, every leave is worth 0 until values are added
+     */
+    public LeaveTable(){
+        this(16);
+    }
+
+    /**
+     * Method to find the table loaded from the LEAVE_TABLE resource
+     *
+     * @return The precomputed table, an empty table if the resource has not been generated
+     * @throws UncheckedIOException If the resource can not be read
+     */
+    public static synchronized LeaveTable getDefault(){
+
+        if (defaultTable == null){
+            try (InputStream stream = LeaveTable.class.getResourceAsStream(LEAVE_TABLE)) {
+                defaultTable = stream == null ? new LeaveTable() : read(stream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return defaultTable;
+    }
+
+    /**
+     * Method to find the value of a leave
+     *
+     * @param key The Rack leave key
+     * @return The value of the leave, the sum of its Tile values if it is not in the table
+     */
+    public float get(long key){
+
+        if (key >= 0 && key <= Integer.MAX_VALUE){
+            int k = (int) key;
+
+            //Linear probing from the slot of the key until the key or an empty slot is found
+            for (int slot = slot(k); keys[slot] != EMPTY; slot = (slot + 1) & (keys.length - 1)) {
+                if (keys[slot] == k){
+                    return values[slot];
+                }
+            }
+        }
+
+        return sumOfTiles(key);
+    }
+
+    /**
+     * Method to find the value of the Tiles in a Rack
+     *
+     * @param rack The Rack
+     * @return The value of the leave
+     */
+    public float get(Rack rack){
+        return get(rack.leaveKey());
+    }
+
+    /**
+     * Method to check if a leave has its own value in the table
+     *
+     * @param key The Rack leave key
+     * @return True if the leave is in the table
+     */
+    public boolean contains(long key){
+
+        if (key < 0 || key > Integer.MAX_VALUE){
+            return false;
+        }
+
+        for (int slot = slot((int) key); keys[slot] != EMPTY; slot = (slot + 1) & (keys.length - 1)) {
+            if (keys[slot] == (int) key){
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Method to set the value of a leave
+     *
+     * @param key The Rack leave key
+     * @param value The value of the leave
+     * @throws InvalidLeaveTableException If the leave has more than MAX_LEAVE Tiles
+     */
+    public void put(long key, float value){
+
+        if (key < 0 || key >>> (MAX_LEAVE * KEY_BITS) != 0){
+            throw new InvalidLeaveTableException("A leave can have at most " + MAX_LEAVE + " tiles.");
+        }
+
+        //Grow before the table is half full
+        if ((size + 1) * 2 > keys.length){
+            grow();
+        }
+
+        int k = (int) key;
+        int slot = slot(k);
+
+        while (keys[slot] != EMPTY && keys[slot] != k){
+            slot = (slot + 1) & (keys.length - 1);
+        }
+
+        if (keys[slot] == EMPTY){
+            keys[slot] = k;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Accessor Method for the value of a Tile used for leaves not in the table
+     *
+     * @param letter Index of the letter, Pool.BLANK for a blank Tile
+     * @return The value of the Tile
+     */
+    public float getTileValue(int letter){
+        return tileValues[letter];
+    }
+
+    /**
+     * Mutator Method for the value of a Tile used for leaves not in the table
+     *
+     * @param letter Index of the letter, Pool.BLANK for a blank Tile
+     * @param value The value of the Tile
+     */
+    public void setTileValue(int letter, float value){
+        tileValues[letter] = value;
+    }
+
+    /**
+     * Accessor Method for the number of leaves
+     *
+     * @return The number of leaves in the table
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Method to write the table in binary form
+     *
+     * @param out Stream to write to, it is flushed but not closed
+     * @throws IOException If the stream can not be written
+     */
+    public void write(OutputStream out) throws IOException {
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(size);
+
+        for (float value : tileValues) {
+            data.writeFloat(value);
+        }
+
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY){
+                data.writeInt(keys[slot]);
+                data.writeFloat(values[slot]);
+            }
+        }
+
+        data.flush();
+    }
+
+    /**
+     * Method to read a table written by write
+     *
+     * @param in Stream to read from, it is not closed
+     * @return The table read
+     * @throws IOException If the stream can not be read or is not a leave table
+     */
+    public static LeaveTable read(InputStream in) throws IOException {
+
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+
+        if (data.readInt() != MAGIC || data.readInt() != VERSION){
+            throw new IOException("The stream is not a leave table.");
+        }
+
+        int size = data.readInt();
+        LeaveTable table = new LeaveTable(size);
+
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            table.tileValues[letter] = data.readFloat();
+        }
+
+        for (int i = 0; i < size; i++) {
+            table.put(data.readInt(), data.readFloat());
+        }
+
+        return table;
+    }
+
+    /**
+     * Method to find the first slot to probe for a key
+     *
+     * @param key The leave key
+     * @return Index of the slot
+     */
+    private int slot(int key){
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Method to value a leave as the sum of its Tile values
+     *
+     * @param key The Rack leave key
+     * @return The sum of the values of the Tiles
+     */
+    private float sumOfTiles(long key){
+
+        float result = 0;
+
+        for (; key != 0; key >>>= KEY_BITS) {
+            result += tileValues[(int) (key & ((1 << KEY_BITS) - 1)) - 1];
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to create empty slots
+     *
+     * @param capacity Number of slots, a power of two
+     */
+    private void allocate(int capacity){
+        keys = new int[capacity];
+        values = new float[capacity];
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Method to double the number of slots and put every leave back
+     */
+    private void grow(){
+
+        int[] oldKeys = keys;
+        float[] oldValues = values;
+
+        allocate(keys.length * 2);
+        size = 0;
+
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY){
+                put(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+}
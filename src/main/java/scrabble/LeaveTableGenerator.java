@@ -0,0 +1,228 @@
+package scrabble;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class that builds a LeaveTable from the turns of simulated games
+ *
+ * Each leave is valued by how much more than average its Player scored on their next turn. Leaves seen only a few
+ * times are pulled towards the sum of the values of their Tiles, and leaves never seen get that sum alone, so the
+ * table has a value for every one of the leaves of up to 6 Tiles the Pool can make.
+ */
+public class LeaveTableGenerator {
+
+    /**
+     * Number of different leaves of up to 6 Tiles the standard Pool can make, including the empty leave
+     */
+    public final static int LEAVE_COUNT = 914_625;
+
+    /**
+     * Number of times a leave must be seen for its own average to count as much as the sum of its Tile values
+     */
+    public final static int SHRINKAGE = 20;
+
+    /**
+     * Simulator the games are played with
+     */
+    private final Simulator simulator;
+
+    /**
+     * Number of times each leave was seen and the total score of the next turns, by leave key
+     */
+    private final ConcurrentHashMap<Long, double[]> leaves = new ConcurrentHashMap<>();
+
+    /**
+     * Total score of every turn that followed a leave
+     */
+    private final DoubleAdder totalScore = new DoubleAdder();
+
+    /**
+     * Number of turns that followed a leave
+     */
+    private final LongAdder totalTurns = new LongAdder();
+
+    /**
+     * LeaveTableGenerator Constructor
+     *
+     * @param simulator Simulator to play the games with
+     */
+    public LeaveTableGenerator(Simulator simulator){
+        this.simulator = simulator;
+    }
+
+    /**
+     * Method to play games and record the score that followed each leave
+     *
+     * @param games Number of games to play
+     * @param seed Seed of the run
+     * @return The scores of the games played
+     */
+    public SimulationResult play(int games, long seed){
+        return simulator.run(games, seed, LeaveObserver::new);
+    }
+
+    /**
+     * Method to find the number of different leaves seen
+     *
+     * @return Number of leaves seen at least once
+     */
+    public int leavesSeen(){
+        return leaves.size();
+    }
+
+    /**
+     * Method to build the table from the games played so far
+     *
+     * @return A table with a value for every leave of up to 6 Tiles
+     */
+    public LeaveTable build(){
+
+        double mean = totalTurns.sum() == 0 ? 0 : totalScore.sum() / totalTurns.sum();
+        LeaveTable table = new LeaveTable(LEAVE_COUNT);
+
+        //Each Tile's value is the average share of the leaves it was in, weighted by how often they were seen
+        double[] tileTotals = new double[Pool.LETTER_COUNT];
+        double[] tileWeights = new double[Pool.LETTER_COUNT];
+
+        leaves.forEach((key, stats) -> {
+            int tiles = (Long.SIZE - Long.numberOfLeadingZeros(key) + 4) / 5;
+
+            if (tiles > 0){
+                double share = (stats[1] / stats[0] - mean) / tiles;
+
+                for (long k = key; k != 0; k >>>= 5) {
+                    int letter = (int) (k & 31) - 1;
+                    tileTotals[letter] += stats[0] * share;
+                    tileWeights[letter] += stats[0];
+                }
+            }
+        });
+
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            table.setTileValue(letter, tileWeights[letter] == 0 ? 0 : (float) (tileTotals[letter] / tileWeights[letter]));
+        }
+
+        //Values every leave the standard Pool can make, up to the number of each Tile in the Pool
+        Pool pool = new Pool(0);
+        int[] limits = new int[Pool.LETTER_COUNT];
+
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            limits[letter] = pool.getCount(letter);
+        }
+
+        addLeaves(table, mean, limits, new int[Pool.LETTER_COUNT], 0, 0);
+
+        return table;
+    }
+
+    /**
+     * Method to record that a leave was followed by a turn's score
+     *
+     * @param key The Rack leave key
+     * @param score Score of the Player's next turn
+     */
+    private void record(long key, int score){
+
+        //Leaves of 7 Tiles come from passing and are never looked up
+        if (key >>> (LeaveTable.MAX_LEAVE * 5) != 0){
+            return;
+        }
+
+        leaves.compute(key, (k, stats) -> {
+            if (stats == null){
+                stats = new double[2];
+            }
+            stats[0]++;
+            stats[1] += score;
+            return stats;
+        });
+
+        totalScore.add(score);
+        totalTurns.increment();
+    }
+
+    /**
+     * Method to add every leave made by adding Tiles from a letter onwards
+     *
+     * @param table The table to add to
+     * @param mean Average score of a turn
+     * @param limits Number of each Tile in the standard Pool
+     * @param counts Number of each Tile in the leave so far
+     * @param letter Index of the next letter to choose a count for
+     * @param tiles Number of Tiles in the leave so far
+     */
+    private void addLeaves(LeaveTable table, double mean, int[] limits, int[] counts, int letter, int tiles){
+
+        if (letter == Pool.LETTER_COUNT){
+            long key = Rack.leaveKey(counts);
+            float prior = table.get(key);
+            double[] stats = leaves.get(key);
+
+            //Shrinks the leave's own average towards the sum of its Tile values
+            table.put(key, stats == null ? prior : (float) ((stats[1] - stats[0] * mean + SHRINKAGE * prior) / (stats[0] + SHRINKAGE)));
+            return;
+        }
+
+        for (int count = 0; count <= limits[letter] && tiles + count <= LeaveTable.MAX_LEAVE; count++) {
+            counts[letter] = count;
+            addLeaves(table, mean, limits, counts, letter + 1, tiles + count);
+        }
+
+        counts[letter] = 0;
+    }
+
+    /**
+     * Class that pairs each Player's leave with the score of their next turn in one game
+     */
+    private class LeaveObserver implements Simulator.TurnObserver {
+
+        /**
+         * Leave key each Player kept on their last turn, -1 before their first turn
+         */
+        private final long[] lastLeave = {-1, -1};
+
+        @Override
+        public void turnPlayed(int player, long leaveKey, int score) {
+            if (lastLeave[player] >= 0){
+                record(lastLeave[player], score);
+            }
+
+            lastLeave[player] = leaveKey;
+        }
+    }
+
+    /**
+     * Main method to play greedy bots against each other and write the leave table
+     *
+     * @param args The number of games, the file to write, then optionally the seed of the run
+     * @throws IOException If the word list is missing or the file can not be written
+     */
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 2 && args.length != 3){
+            System.out.println("Usage: LeaveTableGenerator <games> <output file> [seed]");
+            return;
+        }
+
+        int games = Integer.parseInt(args[0]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        LeaveTableGenerator generator = new LeaveTableGenerator(new Simulator(LexiconRegistry.getLexicon(), LexiconRegistry.getGaddag(), PlayerStrategy.GREEDY, PlayerStrategy.GREEDY));
+
+        System.out.println("Seed: " + seed);
+        System.out.println(generator.play(games, seed));
+
+        LeaveTable table = generator.build();
+
+        try (OutputStream out = new FileOutputStream(args[1])) {
+            table.write(out);
+        }
+
+        System.out.println("Wrote " + table.size() + " leaves, " + generator.leavesSeen() + " seen in play: " + args[1]);
+    }
+}
@@ -0,0 +1,35 @@
+package scrabble;
+
+/**
+ * Interface for the dictionary of valid words used to check moves in the Game of Scrabble
+ *
+ * Words are queried as arrays of capital letters so no Strings need to be created per lookup.
+ * A Lexicon can not be changed once built so one instance can be shared by every game and thread.
+ */
+public interface Lexicon {
+
+    /**
+     * Method to check if a word is in the Lexicon
+     *
+     * @param word The word in char array form (capital letters)
+     * @return True if the word is in the Lexicon
+     */
+    boolean contains(char[] word);
+
+    /**
+     * Method to check if part of a char array is a word in the Lexicon
+     *
+     * @param word The char array holding the word (capital letters)
+     * @param offset Index of the first letter of the word
+     * @param length Number of letters in the word
+     * @return True if the word is in the Lexicon
+     */
+    boolean contains(char[] word, int offset, int length);
+
+    /**
+     * Method to find the number of words in the Lexicon
+     *
+     * @return The number of words
+     */
+    int size();
+}
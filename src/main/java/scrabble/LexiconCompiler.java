@@ -0,0 +1,120 @@
+package scrabble;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Class that compiles a word list into binary Dawg and Gaddag files at build time
+ *
+ * Run by the compileLexicon Gradle task so the game can memory map the dictionary instead of parsing the word list.
+ * The Gaddag takes a few seconds to build so it is only worth compiling ahead of time.
+ */
+public class LexiconCompiler {
+
+    /**
+     * LexiconCompiler can not be created
+     */
+    private LexiconCompiler(){
+    }
+
+    /**
+     * Method to find the name of the binary Dawg file for a word list
+     *
+     * @param wordList Name of the word list (Eg: sowpods.txt)
+     * @return Name of the binary Dawg file (Eg: sowpods.dawg)
+     */
+    public static String compiledName(String wordList){
+        int extension = wordList.lastIndexOf('.');
+
+        return (extension > 0 ? wordList.substring(0, extension) : wordList) + ".dawg";
+    }
+
+    /**
+     * Method to find the name of the binary Gaddag file for a word list
+     *
+     * @param wordList Name of the word list (Eg: sowpods.txt)
+     * @return Name of the binary Gaddag file (Eg: sowpods.gaddag)
+     */
+    public static String compiledGaddagName(String wordList){
+        int extension = wordList.lastIndexOf('.');
+
+        return (extension > 0 ? wordList.substring(0, extension) : wordList) + ".gaddag";
+    }
+
+    /**
+     * Method to compile a word list into a binary Dawg file
+     *
+     * @param wordList Path of the word list with one word per line
+     * @param output Path to write the binary Dawg to
+     * @return The compiled Dawg
+     * @throws IOException If the word list can not be read or the output can not be written
+     */
+    public static Dawg compile(Path wordList, Path output) throws IOException {
+
+        Dawg dawg = Dawg.build(new FileInputStream(wordList.toFile()));
+
+        //Create the output folder if needed
+        if (output.getParent() != null){
+            Files.createDirectories(output.getParent());
+        }
+
+        try (OutputStream out = new FileOutputStream(output.toFile())) {
+            dawg.write(out);
+        }
+
+        return dawg;
+    }
+
+    /**
+     * Method to compile a word list into a binary Gaddag file
+     *
+     * @param wordList Path of the word list with one word per line
+     * @param output Path to write the binary Gaddag to
+     * @return The compiled Gaddag
+     * @throws IOException If the word list can not be read or the output can not be written
+     */
+    public static Gaddag compileGaddag(Path wordList, Path output) throws IOException {
+
+        Gaddag gaddag = Gaddag.build(new FileInputStream(wordList.toFile()));
+
+        //Create the output folder if needed
+        if (output.getParent() != null){
+            Files.createDirectories(output.getParent());
+        }
+
+        try (OutputStream out = new FileOutputStream(output.toFile())) {
+            gaddag.write(out);
+        }
+
+        return gaddag;
+    }
+
+    /**
+     * Main Function
+     *
+     * @param args Path of the word list, path of the binary Dawg to write then optionally the binary Gaddag to write
+     * @throws IOException If the word list can not be read or the output can not be written
+     */
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 2 && args.length != 3){
+            System.out.println("Usage: LexiconCompiler <word list> <output .dawg file> [output .gaddag file]");
+            return;
+        }
+
+        Dawg dawg = compile(Paths.get(args[0]), Paths.get(args[1]));
+
+        System.out.println("Compiled " + dawg.size() + " words into " + dawg.getEdgeCount() + " edges: " + args[1]);
+
+        if (args.length == 3){
+            Gaddag gaddag = compileGaddag(Paths.get(args[0]), Paths.get(args[2]));
+
+            System.out.println("Compiled " + gaddag.size() + " words into " + gaddag.getGraph().getEdgeCount() + " edges: " + args[2]);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package scrabble;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that holds one shared Lexicon per word list for the whole program
+ *
+ * Each word list is read the first time it is asked for and every later game reuses the same
+ * immutable Lexicon, so creating a game does not read the dictionary again. If the build compiled
+ * the word list into a binary Dawg (see LexiconCompiler) that file is memory mapped instead. Gaddags for
+ * move generation are shared the same way.
+ */
+public final class LexiconRegistry {
+
+    /**
+     * The word list used by the Scrabble Game
+     */
+    public final static String DEFAULT_WORD_LIST = "sowpods.txt";
+
+    /**
+     * The loaded Lexicons keyed by word list resource name
+     */
+    private final static ConcurrentHashMap<String, Lexicon> lexicons = new ConcurrentHashMap<>();
+
+    /**
+     * The loaded Gaddags keyed by word list resource name
+     */
+    private final static ConcurrentHashMap<String, Gaddag> gaddags = new ConcurrentHashMap<>();
+
+    /**
+     * LexiconRegistry can not be created
+     */
+    private LexiconRegistry(){
+    }
+
+    /**
+     * Method to get the shared Lexicon for the default word list
+     *
+     * @return The Lexicon of the default word list
+     * @throws FileNotFoundException If the word list is missing
+     */
+    public static Lexicon getLexicon() throws FileNotFoundException {
+        return getLexicon(DEFAULT_WORD_LIST);
+    }
+
+    /**
+     * Method to get the shared Lexicon for a word list, loading it if this is the first request
+     *
+     * Threads asking for the same word list at the same time wait for a single load.
+     *
+     * @param wordList Name of the word list resource in the scrabble package
+     * @return The Lexicon of the word list
+     * @throws FileNotFoundException If the word list is missing
+     */
+    public static Lexicon getLexicon(String wordList) throws FileNotFoundException {
+
+        //Fast path once the word list is loaded
+        Lexicon result = lexicons.get(wordList);
+
+        if (result == null) {
+            try {
+                result = lexicons.computeIfAbsent(wordList, LexiconRegistry::loadLexicon);
+            } catch (UncheckedIOException e) {
+                //Unwrap a missing word list so callers see the checked exception
+                if (e.getCause() instanceof FileNotFoundException) {
+                    throw (FileNotFoundException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to get the shared Gaddag for the default word list
+     *
+     * @return The Gaddag of the default word list
+     * @throws FileNotFoundException If the word list is missing
+     */
+    public static Gaddag getGaddag() throws FileNotFoundException {
+        return getGaddag(DEFAULT_WORD_LIST);
+    }
+
+    /**
+     * Method to get the shared Gaddag for a word list, loading it if this is the first request
+     *
+     * @param wordList Name of the word list resource in the scrabble package
+     * @return The Gaddag of the word list
+     * @throws FileNotFoundException If the word list is missing
+     */
+    public static Gaddag getGaddag(String wordList) throws FileNotFoundException {
+
+        //Fast path once the word list is loaded
+        Gaddag result = gaddags.get(wordList);
+
+        if (result == null) {
+            try {
+                result = gaddags.computeIfAbsent(wordList, LexiconRegistry::loadGaddag);
+            } catch (UncheckedIOException e) {
+                //Unwrap a missing word list so callers see the checked exception
+                if (e.getCause() instanceof FileNotFoundException) {
+                    throw (FileNotFoundException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to check if a word list has been loaded
+     *
+     * @param wordList Name of the word list resource
+     * @return True if the Lexicon is loaded
+     */
+    public static boolean isLoaded(String wordList){
+        return lexicons.containsKey(wordList);
+    }
+
+    /**
+     * Method to load a word list into a Lexicon, using its compiled binary Dawg if there is one
+     *
+     * @param wordList Name of the word list resource in the scrabble package
+     * @return The Lexicon of the word list
+     * @throws UncheckedIOException If the word list is missing or can not be read
+     */
+    private static Lexicon loadLexicon(String wordList){
+
+        try {
+            URL compiled = LexiconRegistry.class.getResource(LexiconCompiler.compiledName(wordList));
+
+            //Map the compiled Dawg in place if it is a file, else copy it out of the jar
+            if (compiled != null){
+                if ("file".equals(compiled.getProtocol())){
+                    return Dawg.map(Paths.get(compiled.toURI()));
+                }
+                return Dawg.read(compiled.openStream());
+            }
+
+            InputStream stream = LexiconRegistry.class.getResourceAsStream(wordList);
+
+            if (stream == null){
+                throw new FileNotFoundException("Word list " + wordList + " not found.");
+            }
+
+            //Fall back to parsing the word list
+            return Dawg.build(stream);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+
+    /**
+     * Method to load a word list into a Gaddag, using its compiled binary Gaddag if there is one
+     *
+     * @param wordList Name of the word list resource in the scrabble package
+     * @return The Gaddag of the word list
+     * @throws UncheckedIOException If the word list is missing or can not be read
+     */
+    private static Gaddag loadGaddag(String wordList){
+
+        try {
+            URL compiled = LexiconRegistry.class.getResource(LexiconCompiler.compiledGaddagName(wordList));
+
+            //Map the compiled Gaddag in place if it is a file, else copy it out of the jar
+            if (compiled != null){
+                if ("file".equals(compiled.getProtocol())){
+                    return Gaddag.map(Paths.get(compiled.toURI()));
+                }
+                return Gaddag.read(compiled.openStream());
+            }
+
+            InputStream stream = LexiconRegistry.class.getResourceAsStream(wordList);
+
+            if (stream == null){
+                throw new FileNotFoundException("Word list " + wordList + " not found.");
+            }
+
+            //Fall back to building from the word list, which takes a few seconds
+            return Gaddag.build(stream);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidMonteCarloRankerException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class that ranks the best candidate moves by simulating the opponent's reply
+ *
+ * The static equity of a move, its score plus the value of the Tiles it keeps, ignores what the move opens up for the
+ * opponent. The top candidates by static equity are each played on a copy of the Board against opponent racks drawn
+ * from the unseen Tiles, the Pool and the opponent's Frame, and the opponent replies with its own best equity move.
+ * Rounds of simulations run across the threads of a ForkJoinPool until the time budget or the iteration limit is
+ * reached. Every simulation is seeded from the seed, the candidate and its index, so with an iteration limit and no
+ * time limit the ranking is the same on any number of threads.
+ */
+public class MonteCarloRanker {
+
+    /**
+     * Number of simulations of one candidate a task runs on its own copy of the Board
+     */
+    public final static int ITERATIONS_PER_TASK = 8;
+
+    /**
+     * Standard deviation of the change in the spread over one turn of each Player, in points
+     */
+    public final static double SPREAD_SD_PER_TURN = 27;
+
+    /**
+     * Average number of Tiles a Player places each turn, used to estimate the turns left
+     */
+    private final static double TILES_PER_TURN = 4;
+
+    /**
+     * Table of the value of the Tiles kept after a move
+     */
+    private final LeaveTable leaves;
+
+    /**
+     * Number of candidate moves to simulate
+     */
+    private final int candidates;
+
+    /**
+     * Time allowed for the simulations in nanoseconds
+     */
+    private final long timeBudget;
+
+    /**
+     * Most simulations of each candidate
+     */
+    private final int maxIterations;
+
+    /**
+     * Pool of threads the simulations are run on
+     */
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * MoveGenerator of each thread, as a MoveGenerator reuses its buffers between calls
+     */
+    private final ThreadLocal<MoveGenerator> generators;
+
+    /**
+     * MonteCarloRanker Constructor
+     *
+     * @param gaddag Gaddag used to find the moves
+     * @param leaves Table of the value of the Tiles kept after a move
+     * @param candidates Number of candidate moves to simulate
+     * @param timeBudgetMillis Time allowed for the simulations in milliseconds
+     * @param maxIterations Most simulations of each candidate
+     * @param forkJoinPool Pool of threads to run the simulations on
+     * @throws InvalidMonteCarloRankerException If an argument is null or a limit is not positive
+     */
+    public MonteCarloRanker(Gaddag gaddag, LeaveTable leaves, int candidates, long timeBudgetMillis, int maxIterations, ForkJoinPool forkJoinPool){
+        if (gaddag == null || leaves == null || forkJoinPool == null){
+            throw new InvalidMonteCarloRankerException("The gaddag, leave table and pool can not be null.");
+        }
+        if (candidates <= 0 || timeBudgetMillis <= 0 || maxIterations <= 0){
+            throw new InvalidMonteCarloRankerException("The candidates, time budget and iterations must be positive.");
+        }
+
+        this.leaves = leaves;
+        this.candidates = candidates;
+        this.timeBudget = timeBudgetMillis * 1_000_000L;
+        this.maxIterations = maxIterations;
+        this.forkJoinPool = forkJoinPool;
+        this.generators = ThreadLocal.withInitial(() -> new MoveGenerator(gaddag));
+    }
+
+    /**
+     * MonteCarloRanker Constructor
+     *
+     * Simulates until the time budget runs out on every core using the common ForkJoinPool
+     * @param gaddag Gaddag used to find the moves
+     * @param leaves Table of the value of the Tiles kept after a move
+     * @param candidates Number of candidate moves to simulate
+     * @param timeBudgetMillis Time allowed for the simulations in milliseconds
+     */
+    public MonteCarloRanker(Gaddag gaddag, LeaveTable leaves, int candidates, long timeBudgetMillis){
+        this(gaddag, leaves, candidates, timeBudgetMillis, Integer.MAX_VALUE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method to rank the candidate moves for a Player's turn
+     *
+     * @param board The Board, which is not changed
+     * @param player The Player whose turn it is
+     * @param opponent The other Player, whose Tiles are treated as unseen
+     * @param pool The Pool, which is not changed
+     * @param seed Seed of the simulations
+     * @return The candidates simulated, best equity first, empty if the Player has no legal move
+     */
+    public List<RankedMove> rank(Board board, Player player, Player opponent, Pool pool, long seed){
+
+        int[] rackCounts = player.getPlayerFrame().rack().getCounts();
+        List<RankedMove> ranked = new ArrayList<>();
+
+        for (GeneratedMove move : generators.get().generateMoves(board, rackCounts)) {
+            ranked.add(new RankedMove(move, move.getScore() + leaves.get(move.leaveKey(rackCounts))));
+        }
+
+        //Keeps the best candidates by static equity
+        ranked.sort(Comparator.comparingDouble(RankedMove::getStaticEquity).reversed());
+        if (ranked.size() > candidates){
+            ranked = new ArrayList<>(ranked.subList(0, candidates));
+        }
+
+        //The opponent's Tiles are unseen, so they go back in the bag to be drawn at random
+        Pool unseen = pool.copy(new SplittableRandom(seed));
+        int[] opponentCounts = opponent.getPlayerFrame().rack().getCounts();
+
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            for (int n = 0; n < opponentCounts[letter]; n++) {
+                unseen.returnLetter(letter);
+            }
+        }
+
+        int spread = player.getScore() - opponent.getScore();
+        long deadline = System.nanoTime() + timeBudget;
+
+        //Rounds of simulations of every candidate until the limits are reached
+        for (int done = 0; done < maxIterations && !ranked.isEmpty() && System.nanoTime() - deadline < 0; done += ITERATIONS_PER_TASK) {
+
+            List<RolloutTask> tasks = new ArrayList<>();
+
+            for (int c = 0; c < ranked.size(); c++) {
+                tasks.add(new RolloutTask(board, ranked.get(c), rackCounts, unseen, spread, seed ^ (c + 1) * 0x9E3779B97F4A7C15L, done, Math.min(done + ITERATIONS_PER_TASK, maxIterations)));
+            }
+
+            forkJoinPool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        ranked.sort(Comparator.comparingDouble(RankedMove::getEquity).reversed());
+
+        return ranked;
+    }
+
+    /**
+     * Method to find the chance of winning with a spread
+     *
+     * @param spread Points the Player is ahead by
+     * @param tilesLeft Tiles left in the bag
+     * @return Chance of winning from 0 to 1
+     */
+    static double winProbability(double spread, int tilesLeft){
+
+        //Each Player has the turns to empty the bag and one more to play out
+        double turns = 1 + tilesLeft / (2 * TILES_PER_TURN);
+
+        return normal(spread / (SPREAD_SD_PER_TURN * Math.sqrt(turns)));
+    }
+
+    /**
+     * Method to find the standard normal cumulative distribution
+     *
+     * @param x Number of standard deviations
+     * @return Chance a standard normal value is below x
+     */
+    private static double normal(double x){
+
+        //Abramowitz and Stegun 7.1.26, accurate to 1.5e-7
+        double z = Math.abs(x) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * z);
+        double erf = 1 - ((((1.061405429 * t - 1.453152027) * t + 1.421413741) * t - 0.284496736) * t + 0.254829592) * t * Math.exp(-z * z);
+
+        return x >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    /**
+     * Class that runs a range of simulations of one candidate on its own copy of the Board
+     */
+    private class RolloutTask extends RecursiveAction {
+
+        /**
+         * Board the copy is made from
+         */
+        private final Board board;
+
+        /**
+         * The candidate to simulate
+         */
+        private final RankedMove candidate;
+
+        /**
+         * Number of each letter in the Player's Frame
+         */
+        private final int[] rackCounts;
+
+        /**
+         * The bag with the opponent's Tiles put back
+         */
+        private final Pool unseen;
+
+        /**
+         * Points the Player is ahead by before the move
+         */
+        private final int spread;
+
+        /**
+         * Seed of the candidate's simulations
+         */
+        private final long seed;
+
+        /**
+         * Index of the first simulation and one past the last simulation of the range
+         */
+        private final int from, to;
+
+        /**
+         * RolloutTask Constructor
+         *
+         * @param board Board the copy is made from
+         * @param candidate The candidate to simulate
+         * @param rackCounts Number of each letter in the Player's Frame
+         * @param unseen The bag with the opponent's Tiles put back
+         * @param spread Points the Player is ahead by before the move
+         * @param seed Seed of the candidate's simulations
+         * @param from Index of the first simulation
+         * @param to Index one past the last simulation
+         */
+        RolloutTask(Board board, RankedMove candidate, int[] rackCounts, Pool unseen, int spread, long seed, int from, int to){
+            this.board = board;
+            this.candidate = candidate;
+            this.rackCounts = rackCounts;
+            this.unseen = unseen;
+            this.spread = spread;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Method to run the simulations of the range
+         */
+        @Override
+        protected void compute() {
+
+            Board copy = new Board(board);
+            GeneratedMove move = candidate.getMove();
+            MoveGenerator generator = generators.get();
+
+            double leave = leaves.get(move.leaveKey(rackCounts));
+            int[] opponentCounts = new int[Pool.LETTER_COUNT];
+
+            move.place(copy);
+
+            for (int iteration = from; iteration < to; iteration++) {
+
+                Pool bag = unseen.copy(new SplittableRandom(seed + iteration * 0xBF58476D1CE4E5B9L));
+
+                //Draws the opponent's Tiles, then the Player refills from what is left
+                Arrays.fill(opponentCounts, 0);
+                for (int n = 0; n < Frame.FRAME_SIZE && !bag.isEmpty(); n++) {
+                    opponentCounts[bag.drawLetter()]++;
+                }
+                for (int n = 0; n < move.getTilesPlaced() && !bag.isEmpty(); n++) {
+                    bag.drawLetter();
+                }
+
+                //The opponent replies with its best equity move, or passes if it has none
+                GeneratedMove reply = null;
+                double replyEquity = leaves.get(Rack.leaveKey(opponentCounts));
+
+                for (GeneratedMove option : generator.generateMoves(copy, opponentCounts)) {
+                    double equity = option.getScore() + leaves.get(option.leaveKey(opponentCounts));
+
+                    if (reply == null || equity > replyEquity){
+                        reply = option;
+                        replyEquity = equity;
+                    }
+                }
+
+                int tilesLeft = Math.max(0, bag.tilesInPool() - (reply == null ? 0 : reply.getTilesPlaced()));
+                double equity = move.getScore() + leave - replyEquity;
+
+                candidate.add(equity, winProbability(spread + equity, tilesLeft));
+            }
+
+            move.remove(copy);
+        }
+    }
+}
@@ -0,0 +1,559 @@
+package scrabble;
+
+import java.util.ArrayList;
+
+/**
+ * Class that finds every legal move for a Frame on a Board using a Gaddag
+ *
+ * Each row and column is copied into flat arrays (letters, premium multipliers, cross-checks and anchors),
+ * then moves are grown outwards from each anchor square: leftwards (or upwards) along the Gaddag path
+ * until the SEPARATOR, then rightwards (or downwards). A move is only generated from its leftmost anchor
+ * so no move is found twice.
+ *
+ * A MoveGenerator reuses its working arrays between calls so each thread should have its own.
+ */
+public class MoveGenerator {
+
+    /**
+     * Cross-check mask allowing every letter
+     */
+    private final static int ALL_LETTERS = (1 << 26) - 1;
+
+    /**
+     * Index of blank Tiles in the rack counts
+     */
+    private final static int BLANK = 26;
+
+    /**
+     * Value of each letter's Tile, indexed by letter (0 - 25)
+     */
+    private final static int[] LETTER_VALUES = new int[26];
+
+    static {
+        for (int i = 0; i < 26; i++) {
+            LETTER_VALUES[i] = Tile.charValue((char) ('A' + i));
+        }
+    }
+
+    /**
+     * The Gaddag used to build moves
+     */
+    private final Gaddag gaddag;
+
+    /**
+     * The graph of the Gaddag
+     */
+    private final Dawg graph;
+
+    /**
+     * The Lexicon used to check words made across the move
+     */
+    private final Lexicon lexicon;
+
+    // Arrays describing the line (row or column) being searched, indexed by position along the line
+
+    /**
+     * Letter on each square (0 - 25), -1 if empty
+     */
+    private final int[] lineLetters = new int[Board.BOARD_SIZE];
+
+    /**
+     * Value of the Tile on each square
+     */
+    private final int[] lineValues = new int[Board.BOARD_SIZE];
+
+    /**
+     * Letters that can be placed on each square without making an invalid word across the line
+     */
+    private final int[] lineCrossMasks = new int[Board.BOARD_SIZE];
+
+    /**
+     * Sum of the Tile values across the line next to each square, -1 if no word is made across
+     */
+    private final int[] lineCrossScores = new int[Board.BOARD_SIZE];
+
+    /**
+     * Letter multiplier of each empty square
+     */
+    private final int[] lineLetterMultipliers = new int[Board.BOARD_SIZE];
+
+    /**
+     * Word multiplier of each empty square
+     */
+    private final int[] lineWordMultipliers = new int[Board.BOARD_SIZE];
+
+    /**
+     * If each square is an anchor
+     */
+    private final boolean[] lineAnchors = new boolean[Board.BOARD_SIZE];
+
+    // State of the search
+
+    /**
+     * Number of each letter in the rack, blanks at index 26
+     */
+    private final int[] rack = new int[27];
+
+    /**
+     * Letters of the word being built, indexed by position along the line
+     */
+    private final char[] wordLetters = new char[Board.BOARD_SIZE];
+
+    /**
+     * If each letter of the word being built is placed by the move
+     */
+    private final boolean[] wordPlaced = new boolean[Board.BOARD_SIZE];
+
+    /**
+     * If each letter of the word being built is a blank Tile
+     */
+    private final boolean[] wordBlanks = new boolean[Board.BOARD_SIZE];
+
+    /**
+     * Buffer used to check words across the line
+     */
+    private final char[] crossWord = new char[Board.BOARD_SIZE];
+
+    /**
+     * Index of the line being searched
+     */
+    private int line;
+
+    /**
+     * Direction of the line being searched
+     */
+    private UserInput.Direction direction;
+
+    /**
+     * Position of the anchor being searched along the line
+     */
+    private int anchor;
+
+    /**
+     * The moves found
+     */
+    private ArrayList<GeneratedMove> moves;
+
+    /**
+     * MoveGenerator Constructor
+     *
+     * @param gaddag The Gaddag of valid words, also used to check words made across each move
+     */
+    public MoveGenerator(Gaddag gaddag){
+        this.gaddag = gaddag;
+        this.graph = gaddag.getGraph();
+        this.lexicon = gaddag;
+    }
+
+    /**
+     * Accessor Method for the Gaddag
+     *
+     * @return The Gaddag used to build moves
+     */
+    public Gaddag getGaddag() {
+        return gaddag;
+    }
+
+    /**
+     * Method to find every legal move for a Frame
+     *
+     * @param board The Board to play on
+     * @param frame The Frame of the Player making the move, blank Tiles can stand for any letter
+     * @return Every legal move with its score
+     */
+    public ArrayList<GeneratedMove> generateMoves(Board board, Frame frame){
+
+        //Blank Tiles are counted as blanks as they may already stand for a letter
+        int[] rackCounts = frame.rack().getCounts();
+
+        return generateMoves(board, rackCounts);
+    }
+
+    /**
+     * Method to find every legal move for a rack of Tiles
+     *
+     * @param board The Board to play on
+     * @param rackCounts Number of each letter (0 - 25) and of blank Tiles (26)
+     * @return Every legal move with its score
+     */
+    public ArrayList<GeneratedMove> generateMoves(Board board, int[] rackCounts){
+
+        System.arraycopy(rackCounts, 0, rack, 0, rack.length);
+        moves = new ArrayList<>();
+
+        Square[][] squares = board.getBoardSquares();
+
+        //Search each row across then each column down
+        for (int i = 0; i < Board.BOARD_SIZE; i++) {
+            searchLine(board, squares, i, UserInput.Direction.HORIZONTAL);
+        }
+        for (int j = 0; j < Board.BOARD_SIZE; j++) {
+            searchLine(board, squares, j, UserInput.Direction.VERTICAL);
+        }
+
+        ArrayList<GeneratedMove> result = moves;
+        moves = null;
+
+        return result;
+    }
+
+    /**
+     * Method to find the highest scoring legal move for a Frame
+     *
+     * @param board The Board to play on
+     * @param frame The Frame of the Player making the move
+     * @return The highest scoring move, null if there is no legal move
+     */
+    public GeneratedMove bestMove(Board board, Frame frame){
+
+        GeneratedMove best = null;
+
+        for (GeneratedMove move : generateMoves(board, frame)) {
+            if (best == null || move.getScore() > best.getScore()){
+                best = move;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Method to copy a line into the line arrays and search each of its anchors
+     *
+     * The anchors and cross-checks kept by the Board are used, unless the Board has no Lexicon to find
+     * cross-checks with, in which case they are found with the Gaddag.
+     *
+     * @param board The Board to play on
+     * @param squares The Squares of the Board
+     * @param index Index of the row or column
+     * @param lineDirection Direction of the line
+     */
+    private void searchLine(Board board, Square[][] squares, int index, UserInput.Direction lineDirection){
+
+        line = index;
+        direction = lineDirection;
+
+        boolean boardCrossChecks = board.getLexicon() != null;
+        boolean hasAnchor = false;
+
+        //Copy each square of the line
+        for (int k = 0; k < Board.BOARD_SIZE; k++) {
+
+            Square square = square(squares, k);
+
+            if (!square.isEmpty()){
+                lineLetters[k] = square.getTile().getCharacter() - 'A';
+                lineValues[k] = square.getTile().getValue();
+                lineAnchors[k] = false;
+            }
+            else {
+                lineLetters[k] = -1;
+                lineValues[k] = 0;
+
+                int i = direction == UserInput.Direction.HORIZONTAL ? line : k;
+                int j = direction == UserInput.Direction.HORIZONTAL ? k : line;
+
+                lineAnchors[k] = board.isAnchor(i, j);
+                hasAnchor |= lineAnchors[k];
+
+                setMultipliers(k, square.getType());
+
+                if (boardCrossChecks){
+                    lineCrossMasks[k] = board.getCrossCheck(i, j, direction);
+                    lineCrossScores[k] = board.getCrossScore(i, j, direction);
+                }
+                else {
+                    setCrossCheck(squares, k);
+                }
+            }
+        }
+
+        //Search from each anchor
+        for (int k = 0; k < Board.BOARD_SIZE && hasAnchor; k++) {
+            if (lineAnchors[k]){
+                anchor = k;
+                extend(k, k, graph.getRoot(), true, 0, 1, 0, 0);
+            }
+        }
+    }
+
+    /**
+     * Method to continue the word onto a position along the line
+     *
+     * Each edge of the node is read once: while reading leftwards the SEPARATOR edge switches to reading
+     * rightwards from the square after the anchor, every other edge is a letter to try on the position.
+     *
+     * @param k Position along the line to fill next, may be off the Board while reading leftwards
+     * @param start Position of the first letter of the word so far
+     * @param node Current node of the Gaddag graph, must not be 0
+     * @param leftwards True while reading leftwards from the anchor
+     * @param wordSum Sum of the letter scores of the word
+     * @param wordMultiplier Product of the word multipliers of the word
+     * @param crossSum Total score of the words made across the line
+     * @param placed Number of Tiles placed
+     */
+    private void extend(int k, int start, int node, boolean leftwards, int wordSum, int wordMultiplier, int crossSum, int placed){
+
+        boolean onBoard = k >= 0 && k < Board.BOARD_SIZE;
+
+        //A Tile on the Board must be part of the word
+        if (onBoard && lineLetters[k] >= 0){
+            int edge = graph.findEdge(node, lineLetters[k]);
+
+            if (edge >= 0){
+                wordLetters[k] = (char) ('A' + lineLetters[k]);
+                wordPlaced[k] = false;
+                wordBlanks[k] = false;
+                next(k, leftwards ? k : start, graph.getPackedEdge(edge), leftwards, wordSum + lineValues[k], wordMultiplier, crossSum, placed);
+            }
+            return;
+        }
+
+        //Moving leftwards onto another anchor would find moves that anchor will find
+        boolean canPlace = onBoard && (!leftwards || k == anchor || !lineAnchors[k]);
+        int crossMask = canPlace ? lineCrossMasks[k] : 0;
+
+        //Try each letter leaving the node that the rack and cross-check allow
+        for (int edge = node; ; edge++) {
+            int packed = graph.getPackedEdge(edge);
+            int letter = Dawg.letterOf(packed);
+
+            if (letter == Gaddag.SEPARATOR){
+                //The word starts after k, so read rightwards from the square after the anchor
+                if (leftwards && anchor + 1 < Board.BOARD_SIZE){
+                    extend(anchor + 1, k + 1, Dawg.childOf(packed), false, wordSum, wordMultiplier, crossSum, placed);
+                }
+            }
+            else if ((crossMask & (1 << letter)) != 0){
+
+                wordLetters[k] = (char) ('A' + letter);
+                wordPlaced[k] = true;
+
+                if (rack[letter] > 0){
+                    rack[letter]--;
+                    wordBlanks[k] = false;
+                    placeLetter(k, start, packed, leftwards, LETTER_VALUES[letter], wordSum, wordMultiplier, crossSum, placed);
+                    rack[letter]++;
+                }
+
+                if (rack[BLANK] > 0){
+                    rack[BLANK]--;
+                    wordBlanks[k] = true;
+                    placeLetter(k, start, packed, leftwards, 0, wordSum, wordMultiplier, crossSum, placed);
+                    rack[BLANK]++;
+                }
+            }
+
+            if (Dawg.isLast(packed)){
+                break;
+            }
+        }
+    }
+
+    /**
+     * Method to score a Tile placed on an empty square then continue the word
+     *
+     * @param k Position along the line
+     * @param start Position of the first letter of the word so far
+     * @param edge The packed Gaddag edge for the letter
+     * @param leftwards True while reading leftwards from the anchor
+     * @param value Value of the Tile placed
+     * @param wordSum Sum of the letter scores of the word
+     * @param wordMultiplier Product of the word multipliers of the word
+     * @param crossSum Total score of the words made across the line
+     * @param placed Number of Tiles placed before this one
+     */
+    private void placeLetter(int k, int start, int edge, boolean leftwards, int value, int wordSum, int wordMultiplier, int crossSum, int placed){
+
+        int letterScore = value * lineLetterMultipliers[k];
+
+        //A word across the line scores the Tile with the square's premiums too
+        if (lineCrossScores[k] >= 0){
+            crossSum += (lineCrossScores[k] + letterScore) * lineWordMultipliers[k];
+        }
+
+        next(k, leftwards ? k : start, edge, leftwards, wordSum + letterScore, wordMultiplier * lineWordMultipliers[k], crossSum, placed + 1);
+    }
+
+    /**
+     * Method to record the word if it is complete and move on to the next position
+     *
+     * @param k Position along the line of the letter just added
+     * @param start Position of the first letter of the word
+     * @param edge The packed Gaddag edge just taken
+     * @param leftwards True while reading leftwards from the anchor
+     * @param wordSum Sum of the letter scores of the word
+     * @param wordMultiplier Product of the word multipliers of the word
+     * @param crossSum Total score of the words made across the line
+     * @param placed Number of Tiles placed
+     */
+    private void next(int k, int start, int edge, boolean leftwards, int wordSum, int wordMultiplier, int crossSum, int placed){
+
+        if (Dawg.terminalOf(edge)){
+            //Reading leftwards the word runs from k to the anchor, rightwards from start to k, if nothing is on either side
+            if (leftwards ? isOpen(k - 1) && isOpen(anchor + 1) : isOpen(k + 1)){
+                record(start, leftwards ? anchor : k, wordSum, wordMultiplier, crossSum, placed);
+            }
+        }
+
+        int child = Dawg.childOf(edge);
+
+        //Keep reading in the same direction, leftwards can also switch direction at the next node
+        if (child != 0 && (leftwards || k + 1 < Board.BOARD_SIZE)){
+            extend(leftwards ? k - 1 : k + 1, start, child, leftwards, wordSum, wordMultiplier, crossSum, placed);
+        }
+    }
+
+    /**
+     * Method to add a complete word to the moves found
+     *
+     * @param start Position of the first letter along the line
+     * @param end Position of the last letter along the line
+     * @param wordSum Sum of the letter scores of the word
+     * @param wordMultiplier Product of the word multipliers of the word
+     * @param crossSum Total score of the words made across the line
+     * @param placed Number of Tiles placed
+     */
+    private void record(int start, int end, int wordSum, int wordMultiplier, int crossSum, int placed){
+
+        //A single Tile making words both ways is found when searching across, so skip it searching down
+        if (end == start || (placed == 1 && direction == UserInput.Direction.VERTICAL && lineCrossScores[anchor] >= 0)){
+            return;
+        }
+
+        char[] word = new char[end - start + 1];
+        int placedMask = 0, blankMask = 0;
+
+        for (int i = 0; i < word.length; i++) {
+            word[i] = wordLetters[start + i];
+            placedMask |= wordPlaced[start + i] ? 1 << i : 0;
+            blankMask |= wordPlaced[start + i] && wordBlanks[start + i] ? 1 << i : 0;
+        }
+
+        int score = wordSum * wordMultiplier + crossSum + (placed == Frame.FRAME_SIZE ? Board.BINGO : 0);
+
+        if (direction == UserInput.Direction.HORIZONTAL){
+            moves.add(new GeneratedMove(line, start, direction, word, placedMask, blankMask, score));
+        }
+        else {
+            moves.add(new GeneratedMove(start, line, direction, word, placedMask, blankMask, score));
+        }
+    }
+
+    /**
+     * Method to check a position along the line is off the Board or empty
+     *
+     * @param k Position along the line
+     * @return True if no Tile is at the position
+     */
+    private boolean isOpen(int k){
+        return k < 0 || k >= Board.BOARD_SIZE || lineLetters[k] < 0;
+    }
+
+    /**
+     * Method to find the Square at a position along the line
+     *
+     * @param squares The Squares of the Board
+     * @param k Position along the line
+     * @return The Square
+     */
+    private Square square(Square[][] squares, int k){
+        return direction == UserInput.Direction.HORIZONTAL ? squares[line][k] : squares[k][line];
+    }
+
+    /**
+     * Method to set the premium multipliers of an empty square
+     *
+     * @param k Position along the line
+     * @param type The SquareType of the square
+     */
+    private void setMultipliers(int k, Square.SquareType type){
+
+        lineLetterMultipliers[k] = 1;
+        lineWordMultipliers[k] = 1;
+
+        //Switch statement to find the multiplier of the SquareType
+        switch (type){
+            case TRIPLE_WORD:
+                lineWordMultipliers[k] = 3;
+                break;
+            case DOUBLE_WORD:
+            case START:
+                lineWordMultipliers[k] = 2;
+                break;
+            case TRIPLE_LETTER:
+                lineLetterMultipliers[k] = 3;
+                break;
+            case DOUBLE_LETTER:
+                lineLetterMultipliers[k] = 2;
+                break;
+            default:
+        }
+    }
+
+    /**
+     * Method to find which letters can go on an empty square given the Tiles across the line from it
+     *
+     * @param squares The Squares of the Board
+     * @param k Position along the line
+     */
+    private void setCrossCheck(Square[][] squares, int k){
+
+        int i = direction == UserInput.Direction.HORIZONTAL ? line : k;
+        int j = direction == UserInput.Direction.HORIZONTAL ? k : line;
+        int di = direction == UserInput.Direction.HORIZONTAL ? 1 : 0;
+        int dj = 1 - di;
+
+        //Find the first Tile before the square across the line
+        int before = 0;
+        while (inBoard(i - (before + 1) * di, j - (before + 1) * dj) && !squares[i - (before + 1) * di][j - (before + 1) * dj].isEmpty()){
+            before++;
+        }
+
+        //Find the last Tile after the square across the line
+        int after = 0;
+        while (inBoard(i + (after + 1) * di, j + (after + 1) * dj) && !squares[i + (after + 1) * di][j + (after + 1) * dj].isEmpty()){
+            after++;
+        }
+
+        if (before == 0 && after == 0){
+            lineCrossMasks[k] = ALL_LETTERS;
+            lineCrossScores[k] = -1;
+            return;
+        }
+
+        //Copy the Tiles across the line around a gap for the square
+        int crossScore = 0;
+        for (int n = -before; n <= after; n++) {
+            if (n != 0){
+                Tile tile = squares[i + n * di][j + n * dj].getTile();
+                crossWord[n + before] = tile.getCharacter();
+                crossScore += tile.getValue();
+            }
+        }
+
+        //Try each letter in the gap
+        int mask = 0;
+        for (int letter = 0; letter < 26; letter++) {
+            crossWord[before] = (char) ('A' + letter);
+
+            if (lexicon.contains(crossWord, 0, before + after + 1)){
+                mask |= 1 << letter;
+            }
+        }
+
+        lineCrossMasks[k] = mask;
+        lineCrossScores[k] = crossScore;
+    }
+
+    /**
+     * Method to check if coordinates are on the Board
+     *
+     * @param i Row
+     * @param j Column
+     * @return True if on the Board
+     */
+    private static boolean inBoard(int i, int j){
+        return i >= 0 && i < Board.BOARD_SIZE && j >= 0 && j < Board.BOARD_SIZE;
+    }
+}
@@ -24,6 +24,11 @@ public class MoveInfo {
      */
     private int[][] requiredTilesPositions;
 
+    /**
+     * The Tiles of the Frame placed on the Board, in the order of requiredTiles, null until the move is placed
+     */
+    private Tile[] placedTiles;
+
     /**
      * Array of all other words being created
      */
@@ -66,6 +71,24 @@ public class MoveInfo {
         return requiredTilesPositions;
     }
 
+    /**
+     * Accessor Method for placedTiles
+     *
+     * @return placedTiles, null if the move has not been placed
+     */
+    public Tile[] getPlacedTiles() {
+        return placedTiles;
+    }
+
+    /**
+     * Mutator Method for placedTiles
+     *
+     * @param placedTiles The Tiles of the Frame placed on the Board, in the order of requiredTiles
+     */
+    void setPlacedTiles(Tile[] placedTiles) {
+        this.placedTiles = placedTiles;
+    }
+
     /**
      * Accessor Method for moveScore
      *
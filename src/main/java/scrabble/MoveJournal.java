@@ -0,0 +1,324 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidMoveJournalException;
+
+/**
+ * Class that makes moves on a game and takes them back, recording only what each move changed
+ *
+ * Making a move takes its Tiles from the Player's Frame, places them, sets their Squares to normal, adds the score
+ * and refills the Frame from the Pool. The journal entry keeps the Tiles, the SquareTypes they covered and the
+ * letters drawn, so undoing the move reverses each change and redoing it draws the same letters again, all in time
+ * proportional to the Tiles placed. Search code can explore a game tree on the real Board, Frames and Pool without
+ * copying them. Entries are reused, so a deep search does not create objects for each move made.
+ */
+public class MoveJournal {
+
+    /**
+     * Board the moves are made on
+     */
+    private final Board board;
+
+    /**
+     * Pool the Frames are refilled from
+     */
+    private final Pool pool;
+
+    /**
+     * Entries of the moves made, then the moves undone that can be redone
+     */
+    private Entry[] entries = new Entry[16];
+
+    /**
+     * Number of moves made
+     */
+    private int made;
+
+    /**
+     * Number of moves made plus the moves undone that can be redone
+     */
+    private int top;
+
+    /**
+     * Scratch buffer of the Tiles a move needs, ' ' for a blank
+     */
+    private final char[] required = new char[Frame.FRAME_SIZE];
+
+    /**
+     * MoveJournal Constructor
+     *
+     * @param board Board the moves are made on
+     * @param pool Pool the Frames are refilled from
+     * @throws InvalidMoveJournalException If the Board or Pool is null
+     */
+    public MoveJournal(Board board, Pool pool){
+        if (board == null || pool == null){
+            throw new InvalidMoveJournalException("The board and pool can not be null.");
+        }
+
+        this.board = board;
+        this.pool = pool;
+    }
+
+    /**
+     * MoveJournal Constructor for the Board and Pool of a game
+     *
+     * @param scrabble The game
+     */
+    public MoveJournal(Scrabble scrabble){
+        this(scrabble.getBoard(), scrabble.getPool());
+    }
+
+    /**
+     * Method for a Player to make a move, forgetting any moves undone
+     *
+     * @param player The Player making the move
+     * @param move The move, which must be legal on the Board
+     * @throws InvalidMoveJournalException If the Player's Frame does not have the Tiles of the move
+     */
+    public void make(Player player, GeneratedMove move){
+
+        Frame frame = player.getPlayerFrame();
+        char[] word = move.getWord();
+        int count = 0;
+
+        for (int k = 0; k < word.length; k++) {
+            if (move.isPlaced(k)){
+                required[count++] = move.isBlank(k) ? ' ' : word[k];
+            }
+        }
+
+        if (!frame.rack().containsAll(required, count)){
+            throw new InvalidMoveJournalException("The Player does not have the Tiles for " + move + ".");
+        }
+
+        if (made == entries.length){
+            Entry[] grown = new Entry[entries.length * 2];
+            System.arraycopy(entries, 0, grown, 0, made);
+            entries = grown;
+        }
+        if (entries[made] == null){
+            entries[made] = new Entry();
+        }
+
+        Entry entry = entries[made];
+        entry.player = player;
+        entry.move = move;
+        entry.drawnCount = -1;
+
+        apply(entry);
+
+        made++;
+        top = made;
+    }
+
+    /**
+     * Method to take back the last move made
+     *
+     * @return The move taken back
+     * @throws InvalidMoveJournalException If there is no move to take back
+     */
+    public GeneratedMove undo(){
+        if (made == 0){
+            throw new InvalidMoveJournalException("There is no move to undo.");
+        }
+
+        Entry entry = entries[--made];
+        Frame frame = entry.player.getPlayerFrame();
+
+        //Put the Tiles drawn back in the Pool
+        for (int n = entry.drawnCount - 1; n >= 0; n--) {
+            frame.removeTile(entry.drawnTiles[n]);
+            pool.returnLetter(entry.drawnLetters[n]);
+        }
+
+        entry.player.decreaseScore(entry.move.getScore());
+
+        //Lift the Tiles placed, restoring their Squares and blanks, and return them to the Frame
+        for (int n = entry.placedCount - 1; n >= 0; n--) {
+            Square square = board.getSquare(entry.rows[n], entry.columns[n]);
+            Tile tile = square.getTile();
+
+            square.restoreType(entry.types[n]);
+            square.setEmpty();
+
+            if (tile.getValue() == 0){
+                tile.setNull();
+            }
+            frame.addTile(tile);
+        }
+
+        return entry.move;
+    }
+
+    /**
+     * Method to make the last move undone again, drawing the same Tiles
+     *
+     * @return The move made again
+     * @throws InvalidMoveJournalException If there is no move to redo
+     */
+    public GeneratedMove redo(){
+        if (made == top){
+            throw new InvalidMoveJournalException("There is no move to redo.");
+        }
+
+        Entry entry = entries[made];
+        apply(entry);
+        made++;
+
+        return entry.move;
+    }
+
+    /**
+     * Method to check if there is a move to undo
+     *
+     * @return True if a move has been made
+     */
+    public boolean canUndo(){
+        return made > 0;
+    }
+
+    /**
+     * Method to check if there is a move to redo
+     *
+     * @return True if a move has been undone since the last move was made
+     */
+    public boolean canRedo(){
+        return made < top;
+    }
+
+    /**
+     * Accessor Method for the number of moves made
+     *
+     * @return The number of moves that can be undone
+     */
+    public int size(){
+        return made;
+    }
+
+    /**
+     * Method to make the move of an entry and record what it changed
+     *
+     * @param entry The entry, whose drawnCount is -1 to draw at random or the letters to draw again
+     */
+    private void apply(Entry entry){
+
+        GeneratedMove move = entry.move;
+        Frame frame = entry.player.getPlayerFrame();
+        char[] word = move.getWord();
+        int n = 0;
+
+        //Move each Tile from the Frame to the Board and flatten its Square
+        for (int k = 0; k < word.length; k++) {
+            if (move.isPlaced(k)){
+                int i = move.getRow() + (move.getDirection() == UserInput.Direction.VERTICAL ? k : 0);
+                int j = move.getColumn() + (move.getDirection() == UserInput.Direction.HORIZONTAL ? k : 0);
+                Tile tile = takeTile(frame, word[k], move.isBlank(k));
+
+                //A blank may still be set to the letter of an earlier move
+                if (move.isBlank(k)){
+                    if (tile.getCharacter() != ' '){
+                        tile.setNull();
+                    }
+                    tile.setCharacter(word[k]);
+                }
+
+                board.placeTile(tile, i, j);
+
+                entry.rows[n] = i;
+                entry.columns[n] = j;
+                entry.types[n] = board.getSquare(i, j).setNormal();
+                n++;
+            }
+        }
+        entry.placedCount = n;
+
+        entry.player.increaseScore(move.getScore());
+
+        //Refill the Frame, with the same letters as before when redoing
+        if (entry.drawnCount < 0){
+            entry.drawnCount = Math.min(n, pool.tilesInPool());
+
+            for (int d = 0; d < entry.drawnCount; d++) {
+                entry.drawnLetters[d] = pool.drawLetter();
+
+                //The Tiles an earlier move of the entry drew were taken back by undo, so they are reused
+                if (entry.drawnTiles[d] == null){
+                    entry.drawnTiles[d] = new Tile(Pool.letterChar(entry.drawnLetters[d]));
+                }
+                else {
+                    entry.drawnTiles[d].reset(Pool.letterChar(entry.drawnLetters[d]));
+                }
+            }
+        }
+        else {
+            for (int d = 0; d < entry.drawnCount; d++) {
+                pool.takeLetter(entry.drawnLetters[d]);
+            }
+        }
+
+        for (int d = 0; d < entry.drawnCount; d++) {
+            frame.addTile(entry.drawnTiles[d]);
+        }
+    }
+
+    /**
+     * Method to remove a Tile from a Frame
+     *
+     * @param frame The Frame
+     * @param letter The letter of the Tile
+     * @param blank True for a blank Tile
+     * @return The Tile removed
+     */
+    private static Tile takeTile(Frame frame, char letter, boolean blank){
+
+        for (int i = 0; i < frame.returnFrame().size(); i++) {
+            Tile tile = frame.returnFrame().get(i);
+
+            if (blank ? tile.getValue() == 0 : tile.getValue() != 0 && tile.getCharacter() == letter){
+                frame.removeTile(i);
+                return tile;
+            }
+        }
+
+        throw new InvalidMoveJournalException("The Player does not have the Tile " + letter + ".");
+    }
+
+    /**
+     * Class that records what one move changed
+     */
+    private static class Entry {
+
+        /**
+         * The Player who made the move
+         */
+        private Player player;
+
+        /**
+         * The move
+         */
+        private GeneratedMove move;
+
+        /**
+         * Row, column and SquareType before the move of each Square a Tile was placed on
+         */
+        private final int[] rows = new int[Frame.FRAME_SIZE];
+        private final int[] columns = new int[Frame.FRAME_SIZE];
+        private final Square.SquareType[] types = new Square.SquareType[Frame.FRAME_SIZE];
+
+        /**
+         * Number of Tiles placed
+         */
+        private int placedCount;
+
+        /**
+         * Letter and Tile of each Tile drawn to refill the Frame
+         */
+        private final int[] drawnLetters = new int[Frame.FRAME_SIZE];
+        private final Tile[] drawnTiles = new Tile[Frame.FRAME_SIZE];
+
+        /**
+         * Number of Tiles drawn, -1 before the move is first made
+         */
+        private int drawnCount;
+    }
+}
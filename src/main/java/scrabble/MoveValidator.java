@@ -0,0 +1,336 @@
+package scrabble;
+
+/**
+ * Class that validates and scores moves on a Board without creating any objects
+ *
+ * Moves are given as primitive co-ordinates and a char array, and the result is a code rather than an exception,
+ * so thousands of candidate moves can be rated each turn. The checks are the same, and in the same order, as
+ * Board.checkValidMove. A MoveValidator reuses its scratch buffers between calls so each thread should have its own.
+ */
+public class MoveValidator {
+
+    /**
+     * The move is valid
+     */
+    public final static int VALID = 0;
+
+    /**
+     * The word does not fit on the Board or is less than 2 letters long
+     */
+    public final static int OFF_BOARD = 1;
+
+    /**
+     * The word is not the whole word on the Board
+     */
+    public final static int NOT_WHOLE_WORD = 2;
+
+    /**
+     * The word does not match the Tiles already on the Board
+     */
+    public final static int TILE_MISMATCH = 3;
+
+    /**
+     * The move places no Tiles or more Tiles than a Frame holds
+     */
+    public final static int TILE_COUNT = 4;
+
+    /**
+     * The Frame does not have the Tiles needed
+     */
+    public final static int MISSING_TILES = 5;
+
+    /**
+     * The word does not connect to a Tile or cover the Start Square
+     */
+    public final static int NOT_CONNECTED = 6;
+
+    /**
+     * The Board moves are checked against
+     */
+    private final Board board;
+
+    /**
+     * Rows of the Tiles the last valid move places
+     */
+    private final int[] requiredRows = new int[Frame.FRAME_SIZE];
+
+    /**
+     * Columns of the Tiles the last valid move places
+     */
+    private final int[] requiredColumns = new int[Frame.FRAME_SIZE];
+
+    /**
+     * Chars of the Tiles the last valid move places
+     */
+    private final char[] requiredTiles = new char[Frame.FRAME_SIZE];
+
+    /**
+     * Number of Tiles the last valid move places
+     */
+    private int requiredCount;
+
+    /**
+     * Row and column of the first letter of the last move validated
+     */
+    private int row, column;
+
+    /**
+     * Direction of the last move validated
+     */
+    private UserInput.Direction direction;
+
+    /**
+     * Word of the last move validated
+     */
+    private char[] word;
+
+    /**
+     * Frame of the last move validated
+     */
+    private Frame frame;
+
+    /**
+     * MoveValidator Constructor
+     *
+     * @param board The Board moves are checked against
+     */
+    public MoveValidator(Board board){
+        this.board = board;
+    }
+
+    /**
+     * Method to find the message Board.checkValidMove gives for a result code
+     *
+     * @param result The result code
+     * @return The message of the InvalidMoveInfoException for the result
+     */
+    public static String message(int result){
+
+        //Switch statement to find the message of the result
+        switch (result){
+            case VALID:
+                return "The move is valid.";
+            case OFF_BOARD:
+                return "The Word does not fit on the Board or is less than 2 letters long.";
+            case NOT_WHOLE_WORD:
+                return "The Word is not the whole Word on the Board.";
+            case TILE_MISMATCH:
+                return "Word does not match tiles on the board.";
+            case TILE_COUNT:
+                return "There must be between 1-7 required Tiles and must be positions for each Tile";
+            case MISSING_TILES:
+                return "The Player does not have the required Tiles for this move.";
+            case NOT_CONNECTED:
+                return "The Word did not connect to a Word or Start Square.";
+            default:
+                return "The move is invalid.";
+        }
+    }
+
+    /**
+     * Method to check if a move is valid
+     *
+     * @param row Row of the first letter
+     * @param column Column of the first letter
+     * @param direction Direction of the word
+     * @param word The whole word, including Tiles already on the Board
+     * @param frame Frame of the Player making the move
+     * @return VALID or the code of the first check the move fails
+     */
+    public int validate(int row, int column, UserInput.Direction direction, char[] word, Frame frame){
+
+        this.row = row;
+        this.column = column;
+        this.direction = direction;
+        this.word = word;
+        this.frame = frame;
+        requiredCount = 0;
+
+        boolean horizontal = direction == UserInput.Direction.HORIZONTAL;
+
+        //Index of the word's line and its first and last positions along the line
+        int line = horizontal ? row : column;
+        int start = horizontal ? column : row;
+        int end = start + word.length - 1;
+
+        //If the word is at least length 2 and the start and end positions are valid
+        if (word.length < 2 || line < 0 || line >= Board.BOARD_SIZE || start < 0 || end >= Board.BOARD_SIZE){
+            return OFF_BOARD;
+        }
+
+        int occupancy = horizontal ? board.getRowOccupancy(line) : board.getColumnOccupancy(line);
+
+        //The Squares before and after the word must be off the Board or empty
+        if ((occupancy & (((1 << start) >>> 1) | (1 << (end + 1)))) != 0){
+            return NOT_WHOLE_WORD;
+        }
+
+        Square[][] squares = board.getBoardSquares();
+        int placed = 0;
+
+        //For loop to run through each char in the word and find if a tile needs to be placed
+        for (int k = start; k <= end; k++) {
+
+            char c = word[k - start];
+
+            if ((occupancy & (1 << k)) == 0){
+                if (placed < Frame.FRAME_SIZE){
+                    requiredRows[placed] = horizontal ? row : k;
+                    requiredColumns[placed] = horizontal ? k : column;
+                    requiredTiles[placed] = c;
+                }
+                placed++;
+            }
+            //Else check the tiles on the board match the word
+            else if ((horizontal ? squares[row][k] : squares[k][column]).getTile().getCharacter() != c){
+                return TILE_MISMATCH;
+            }
+        }
+
+        if (placed == 0 || placed > Frame.FRAME_SIZE){
+            return TILE_COUNT;
+        }
+
+        if (!frame.checkTiles(requiredTiles, placed)){
+            return MISSING_TILES;
+        }
+
+        //Mask of the Squares the word covers along its line
+        int span = ((1 << word.length) - 1) << start;
+
+        if (!board.isOccupied(7, 7)){
+            //The first word must cover the Start Square
+            if (line != 7 || (span & (1 << 7)) == 0){
+                return NOT_CONNECTED;
+            }
+        }
+        //Else the word must cover a Tile or have a Tile beside it
+        else if (((occupancy | board.lineOccupancy(line - 1, direction) | board.lineOccupancy(line + 1, direction)) & span) == 0){
+            return NOT_CONNECTED;
+        }
+
+        requiredCount = placed;
+
+        return VALID;
+    }
+
+    /**
+     * Method to score the last move validated as if its Tiles were placed
+     *
+     * New Tiles score their Square's premium and every Tile already on the Board scores its face value.
+     *
+     * @return The score of the move, -1 if the last move was not valid
+     */
+    public int score(){
+
+        if (requiredCount == 0){
+            return -1;
+        }
+
+        boolean horizontal = direction == UserInput.Direction.HORIZONTAL;
+        Square[][] squares = board.getBoardSquares();
+
+        int wordSum = 0, wordMultiplier = 1, crossTotal = 0, n = 0;
+        int start = horizontal ? column : row;
+
+        //For loop to run through each Square of the word
+        for (int k = start; k < start + word.length; k++) {
+
+            int i = horizontal ? row : k;
+            int j = horizontal ? k : column;
+
+            //A Tile already on the Board scores its face value
+            if (n >= requiredCount || requiredRows[n] != i || requiredColumns[n] != j){
+                wordSum += squares[i][j].getTile().getValue();
+                continue;
+            }
+
+            Square.SquareType type = squares[i][j].getType();
+            int letterScore = frame.getTile(requiredTiles[n]).getValue() * letterMultiplier(type);
+
+            wordSum += letterScore;
+            wordMultiplier *= wordMultiplier(type);
+
+            //Score the word across the move through the new Tile
+            int across = horizontal ? board.getColumnOccupancy(j) : board.getRowOccupancy(i);
+            int position = horizontal ? i : j;
+            int first = Board.runStart(across, position);
+            int last = Board.runEnd(across, position);
+
+            if (first != last){
+                int crossSum = letterScore;
+
+                for (int m = first; m <= last; m++) {
+                    if (m != position){
+                        crossSum += (horizontal ? squares[m][j] : squares[i][m]).getTile().getValue();
+                    }
+                }
+
+                crossTotal += crossSum * wordMultiplier(type);
+            }
+
+            n++;
+        }
+
+        return wordSum * wordMultiplier + crossTotal + (requiredCount == Frame.FRAME_SIZE ? Board.BINGO : 0);
+    }
+
+    /**
+     * Accessor Method for the number of Tiles the last valid move places
+     *
+     * @return The number of Tiles placed, 0 if the last move was not valid
+     */
+    public int getRequiredCount() {
+        return requiredCount;
+    }
+
+    /**
+     * Accessor Method for a Tile the last valid move places
+     *
+     * @param n Index of the Tile, in word order
+     * @return The char of the Tile
+     */
+    public char getRequiredTile(int n) {
+        return requiredTiles[n];
+    }
+
+    /**
+     * Accessor Method for the row of a Tile the last valid move places
+     *
+     * @param n Index of the Tile, in word order
+     * @return Row of the Tile
+     */
+    public int getRequiredRow(int n) {
+        return requiredRows[n];
+    }
+
+    /**
+     * Accessor Method for the column of a Tile the last valid move places
+     *
+     * @param n Index of the Tile, in word order
+     * @return Column of the Tile
+     */
+    public int getRequiredColumn(int n) {
+        return requiredColumns[n];
+    }
+
+    /**
+     * Method to find the letter multiplier of a SquareType
+     *
+     * @param type The SquareType
+     * @return 3 for TRIPLE_LETTER, 2 for DOUBLE_LETTER, else 1
+     */
+    private static int letterMultiplier(Square.SquareType type){
+        return type == Square.SquareType.TRIPLE_LETTER ? 3 : type == Square.SquareType.DOUBLE_LETTER ? 2 : 1;
+    }
+
+    /**
+     * Method to find the word multiplier of a SquareType
+     *
+     * @param type The SquareType
+     * @return 3 for TRIPLE_WORD, 2 for DOUBLE_WORD and START, else 1
+     */
+    private static int wordMultiplier(Square.SquareType type){
+        return type == Square.SquareType.TRIPLE_WORD ? 3 : type == Square.SquareType.DOUBLE_WORD || type == Square.SquareType.START ? 2 : 1;
+    }
+}
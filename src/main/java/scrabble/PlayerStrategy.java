@@ -0,0 +1,71 @@
+package scrabble;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Interface for a bot that chooses the move a Player makes in a simulated game
+ *
+ * A strategy is shared by every game a Simulator plays at once, so it must not keep state between calls. Any
+ * randomness should come from the Random passed in, which is seeded for each game so games can be replayed.
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Strategy that always makes the highest scoring move
+     */
+    PlayerStrategy GREEDY = (board, player, moves, random) -> {
+        GeneratedMove best = null;
+
+        //For loop to find the highest scoring move, the first found wins a tie
+        for (GeneratedMove move : moves) {
+            if (best == null || move.getScore() > best.getScore()){
+                best = move;
+            }
+        }
+
+        return best;
+    };
+
+    /**
+     * Strategy that makes any legal move with equal chance
+     */
+    PlayerStrategy RANDOM = (board, player, moves, random) -> moves.isEmpty() ? null : moves.get(random.nextInt(moves.size()));
+
+    /**
+     * Method to create a strategy that makes the move with the highest score plus value of the Tiles kept
+     *
+     * @param leaves Table of the value of each leave
+     * @return A strategy that weighs each move's score against its leave
+     */
+    static PlayerStrategy equity(LeaveTable leaves) {
+        return (board, player, moves, random) -> {
+            int[] rackCounts = player.getPlayerFrame().rack().getCounts();
+            GeneratedMove best = null;
+            float bestEquity = 0;
+
+            //For loop to find the move with the highest equity, the first found wins a tie
+            for (GeneratedMove move : moves) {
+                float equity = move.getScore() + leaves.get(move.leaveKey(rackCounts));
+
+                if (best == null || equity > bestEquity){
+                    best = move;
+                    bestEquity = equity;
+                }
+            }
+
+            return best;
+        };
+    }
+
+    /**
+     * Method to choose the move for a Player's turn
+     *
+     * @param board The Board, which must not be changed
+     * @param player The Player whose turn it is
+     * @param moves Every legal move for the Player's Frame
+     * @param random Random seeded for the game
+     * @return The move to make, null to pass the turn
+     */
+    GeneratedMove chooseMove(Board board, Player player, List<GeneratedMove> moves, Random random);
+}
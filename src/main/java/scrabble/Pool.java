@@ -3,23 +3,41 @@ package scrabble;
 import scrabble.exceptions.InvalidPoolException;
 import scrabble.exceptions.InvalidTileException;
 
-import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
- * Class that represent a Character Tile for the Game of Scrabble
+ * Class that represent the bag of Tiles for the Game of Scrabble
+ *
+ * The Pool only keeps the number of each letter left, as Tiles of the same letter can not be told apart. A draw picks
+ * a letter weighted by its count in at most 27 steps however many Tiles are left, and a copy is two small arrays so
+ * Monte Carlo rollouts can each draw from their own Pool.
  */
 public class Pool {
 
     /**
-     * The ArrayList of all the tiles in the pool
+     * Index of blank Tiles in the letter counts
      */
-    private ArrayList<Tile> poolTiles;
+    public final static int BLANK = 26;
+
+    /**
+     * Number of different Tiles, the letters A to Z and the blank
+     */
+    public final static int LETTER_COUNT = 27;
+
+    /**
+     * Number of each Tile left in the Pool, A to Z then blanks at index 26
+     */
+    private final int[] counts;
+
+    /**
+     * Total number of Tiles left in the Pool
+     */
+    private int size;
 
     /**
      * Random used for randomly picking tiles from the bag
      */
-    private Random randomPool;
+    private final SplittableRandom randomPool;
 
     /**
      * Standard English Tiles
@@ -33,18 +51,10 @@ public class Pool {
      */
     public void poolFill() throws InvalidTileException {
 
-        // Creates a new array list for poolTiles
-        ArrayList<Tile> poolFile = new ArrayList<>();
-
-        // For loop to run through each letter in the alphabet and empty tile in the standardEngTiles array
-        for (int i = 0; i < 27; i++){
-
-            // For loop to add the amount of tile of letter i specified in standardEngTiles
-            for(int j = 0; j < standardEngTiles[i][1]; j++){
-
-                // Adds each to the Pool
-                poolTiles.add(new Tile(standardEngTiles[i][0]));
-            }
+        // For loop to add the amount of each letter and the blank tile specified in standardEngTiles
+        for (int i = 0; i < LETTER_COUNT; i++){
+            counts[i] += standardEngTiles[i][1];
+            size += standardEngTiles[i][1];
         }
     }
 
@@ -58,15 +68,19 @@ public class Pool {
     public String toString() {
 
         // Sets the start of the result string
-        String result = "Pool: Size: " + poolTiles.size() + "\n";
+        StringBuilder result = new StringBuilder("Pool: Size: " + size + "\n");
+
+        // For loop to run through each letter and toString a Tile for each one left
+        for (int i = 0; i < LETTER_COUNT; i++){
+            String tile = new Tile(letterChar(i)).toString() + "\n";
 
-        // For loop to run through each Tile in the poolTiles array and toString them
-        for (int i = 0; i < poolTiles.size(); i++){
-            result = result + poolTiles.get(i).toString() + "\n";
+            for (int j = 0; j < counts[i]; j++) {
+                result.append(tile);
+            }
         }
 
         // Return the result string
-        return result;
+        return result.toString();
     }
 
 
@@ -77,36 +91,76 @@ public class Pool {
      * @throws InvalidPoolException If the pool is empty
      */
     public Tile removeTile () throws InvalidPoolException{
+        return new Tile(letterChar(drawLetter()));
+    }
+
+
+    /**
+     * Method to remove a random tile from the pool without creating a Tile
+     *
+     * @return The index of the letter removed, 0 to 25 for A to Z and BLANK for a blank tile
+     * @throws InvalidPoolException If the pool is empty
+     */
+    public int drawLetter() throws InvalidPoolException{
         if (isEmpty()){
             throw new InvalidPoolException("There is no tiles to remove.");
         }
-        else {
 
-            // Calls randomPoolIndex to select a random tile in the pool to remove
-            return poolTiles.remove(randomPoolIndex());
+        // Picks a tile at random, then finds the letter whose count covers it
+        int pick = randomPool.nextInt(size);
+        int letter = 0;
+
+        while (pick >= counts[letter]){
+            pick -= counts[letter];
+            letter++;
         }
+
+        counts[letter]--;
+        size--;
+
+        return letter;
+    }
+
+
+    /**
+     * Method to remove a given letter from the pool, for replaying a draw
+     *
+     * @param letter The index of the letter, 0 to 25 for A to Z and BLANK for a blank tile
+     * @throws InvalidPoolException If the pool has none of the letter
+     */
+    public void takeLetter(int letter){
+        if (letter < 0 || letter >= LETTER_COUNT || counts[letter] == 0){
+            throw new InvalidPoolException("There is no tile with index " + letter + " to remove.");
+        }
+
+        counts[letter]--;
+        size--;
     }
 
 
     /**
      * Method to take in a tile and add it to a pool
      *
-     * @param tileAdded The tile to be added to the pool
+     * @param tileAdded The tile to be added to the pool, a blank tile set to a letter is returned as a blank
      */
     public void receiveTile(Tile tileAdded){
-        poolTiles.add(tileAdded);
+        returnLetter(tileAdded.getValue() == 0 ? BLANK : letterIndex(tileAdded.getCharacter()));
     }
 
 
     /**
-     * Method to get a random index in poolTiles between 0 - poolTiles size - 1
+     * Method to add a tile to the pool by its letter index
      *
-     * @return A random index in poolTiles
+     * @param letter The index of the letter, 0 to 25 for A to Z and BLANK for a blank tile
+     * @throws InvalidPoolException If the index is not a letter or blank
      */
-    private int randomPoolIndex(){
+    public void returnLetter(int letter){
+        if (letter < 0 || letter >= LETTER_COUNT){
+            throw new InvalidPoolException("There is no tile with index " + letter + ".");
+        }
 
-        // Return a random int between 0 - poolTiles.size-1
-        return randomPool.nextInt(poolTiles.size());
+        counts[letter]++;
+        size++;
     }
 
 
@@ -116,7 +170,18 @@ public class Pool {
      * @return The number of tiles in pool
      */
     public int tilesInPool(){
-        return poolTiles.size();
+        return size;
+    }
+
+
+    /**
+     * Method to find the number of tiles of a letter in the pool
+     *
+     * @param letter The index of the letter, 0 to 25 for A to Z and BLANK for a blank tile
+     * @return The number of tiles of the letter left
+     */
+    public int getCount(int letter){
+        return counts[letter];
     }
 
 
@@ -126,7 +191,50 @@ public class Pool {
      * @return True if pool is empty
      */
     public boolean isEmpty(){
-        return poolTiles.size() == 0;
+        return size == 0;
+    }
+
+
+    /**
+     * Method to copy the pool for a rollout, the copy draws with a Random split from this pool's Random
+     *
+     * @return A pool with the same tiles that draws independently of this pool
+     */
+    public Pool copy(){
+        return new Pool(this, randomPool.split());
+    }
+
+
+    /**
+     * Method to copy the pool for a rollout with a given Random
+     *
+     * @param random Random for the copy to draw with
+     * @return A pool with the same tiles that draws with the given Random
+     */
+    public Pool copy(SplittableRandom random){
+        return new Pool(this, random);
+    }
+
+
+    /**
+     * Method to find the letter index of a tile char
+     *
+     * @param c The char of the tile, ' ' for a blank tile
+     * @return 0 to 25 for A to Z and BLANK for a blank tile
+     */
+    public static int letterIndex(char c){
+        return c == ' ' ? BLANK : c - 'A';
+    }
+
+
+    /**
+     * Method to find the tile char of a letter index
+     *
+     * @param letter 0 to 25 for A to Z and BLANK for a blank tile
+     * @return The char of the tile, ' ' for a blank tile
+     */
+    public static char letterChar(int letter){
+        return letter == BLANK ? ' ' : (char) ('A' + letter);
     }
 
 
@@ -135,17 +243,57 @@ public class Pool {
      */
     public Pool() {
 
-        // Creates an ArrayList of Tiles
-        poolTiles = new ArrayList<>();
+        // Each new SplittableRandom is seeded differently, even if two pools are created at the same time
+        this(new SplittableRandom());
+    }
+
 
-        // Sets the seed of randomPool to the time that the Pool was created
-        randomPool = new Random(System.currentTimeMillis());
+    /**
+     * Pool constructor that draws Tiles in the same order each time for a given seed
+     *
+     * @param seed Seed of the Random used to pick Tiles
+     */
+    public Pool(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+
+    /**
+     * Pool constructor that draws Tiles with a given Random
+     *
+     * @param random Random used to pick Tiles
+     * @throws InvalidPoolException If the Random is null
+     */
+    public Pool(SplittableRandom random) {
+        if (random == null){
+            throw new InvalidPoolException("The random can not be null.");
+        }
+
+        counts = new int[LETTER_COUNT];
+        randomPool = random;
 
         // Fills the Pool with Tiles
         this.poolFill();
     }
 
 
+    /**
+     * Pool copy constructor
+     *
+     * @param pool The pool to copy the tiles of
+     * @param random Random used to pick Tiles
+     */
+    private Pool(Pool pool, SplittableRandom random) {
+        if (random == null){
+            throw new InvalidPoolException("The random can not be null.");
+        }
+
+        counts = pool.counts.clone();
+        size = pool.size;
+        randomPool = random;
+    }
+
+
     public static void main(String[] args) {
         //Initialising pool
         Pool pool = new Pool();
@@ -0,0 +1,283 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidFrameException;
+
+/**
+ * Class that stores the Tiles of a Frame as the number of each letter
+ *
+ * Letters A to Z are at index 0 to 25 and blank Tiles at index 26 whatever letter they have been set to, as the
+ * letter of a blank can change but it is still a blank. Checking, adding and removing a letter are single array
+ * operations, and the leave key of a Rack is the same for any order of the same Tiles.
+ */
+public class Rack {
+
+    /**
+     * Number of bits of each Tile in a leave key
+     */
+    private final static int KEY_BITS = 5;
+
+    /**
+     * Number of each letter, blanks at index 26
+     */
+    private final int[] counts = new int[Pool.LETTER_COUNT];
+
+    /**
+     * Total number of Tiles
+     */
+    private int size;
+
+    /**
+     * Zobrist hash of the letter counts
+     */
+    private long hash;
+
+    /**
+     * Rack Constructor for an empty Rack
+     */
+    public Rack(){
+    }
+
+    /**
+     * Rack Constructor
+     *
+     * @param letters The letters of the Tiles, ' ' for a blank Tile
+     * @throws InvalidFrameException If there are more Tiles than a Frame holds or a char is not a letter or blank
+     */
+    public Rack(String letters){
+        for (int i = 0; i < letters.length(); i++) {
+            add(index(letters.charAt(i)));
+        }
+    }
+
+    /**
+     * Rack copy Constructor
+     *
+     * @param rack The Rack to copy
+     */
+    public Rack(Rack rack){
+        System.arraycopy(rack.counts, 0, counts, 0, counts.length);
+        size = rack.size;
+        hash = rack.hash;
+    }
+
+    /**
+     * Method to find the index of a Tile in the letter counts
+     *
+     * @param tile The Tile
+     * @return 0 to 25 for A to Z, Pool.BLANK for a blank Tile even if it is set to a letter
+     */
+    public static int index(Tile tile){
+        return tile.getValue() == 0 ? Pool.BLANK : tile.getCharacter() - 'A';
+    }
+
+    /**
+     * Method to find the index of a char in the letter counts
+     *
+     * @param c The char, ' ' for a blank Tile
+     * @return 0 to 25 for A to Z, Pool.BLANK for ' ', -1 for any other char
+     */
+    public static int index(char c){
+        if (c == ' '){
+            return Pool.BLANK;
+        }
+        return c >= 'A' && c <= 'Z' ? c - 'A' : -1;
+    }
+
+    /**
+     * Method to find the number of Tiles of a letter
+     *
+     * @param letter Index of the letter, Pool.BLANK for blank Tiles
+     * @return The number of Tiles of the letter
+     */
+    public int count(int letter){
+        return counts[letter];
+    }
+
+    /**
+     * Method to check if the Rack has a Tile of a letter
+     *
+     * @param letter Index of the letter, Pool.BLANK for blank Tiles
+     * @return True if the Rack has at least one
+     */
+    public boolean contains(int letter){
+        return counts[letter] > 0;
+    }
+
+    /**
+     * Method to check if the Rack has every Tile of a word, counting repeated letters
+     *
+     * @param word The chars of the Tiles, ' ' for a blank Tile
+     * @param length Number of chars of the word to check
+     * @return True if the Rack has every Tile, false if a char is not a letter or blank
+     */
+    public boolean containsAll(char[] word, int length){
+
+        boolean result = true;
+        int checked = 0;
+
+        //Take each Tile from the counts until one is missing
+        for (; checked < length; checked++) {
+            int letter = index(word[checked]);
+
+            if (letter < 0 || counts[letter] == 0){
+                result = false;
+                break;
+            }
+            counts[letter]--;
+        }
+
+        //Put back the Tiles taken
+        for (int i = 0; i < checked; i++) {
+            counts[index(word[i])]++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to add a Tile
+     *
+     * @param letter Index of the letter, Pool.BLANK for a blank Tile
+     * @throws InvalidFrameException If the Rack is full or the index is not a letter or blank
+     */
+    public void add(int letter){
+        if (letter < 0 || letter >= Pool.LETTER_COUNT){
+            throw new InvalidFrameException("There is no tile with index " + letter + ".");
+        }
+        if (size == Frame.FRAME_SIZE){
+            throw new InvalidFrameException("Frame can't contain more than 7 tiles");
+        }
+
+        hash ^= Zobrist.rack(letter, counts[letter]) ^ Zobrist.rack(letter, counts[letter] + 1);
+        counts[letter]++;
+        size++;
+    }
+
+    /**
+     * Method to remove a Tile
+     *
+     * @param letter Index of the letter, Pool.BLANK for a blank Tile
+     * @throws InvalidFrameException If the Rack does not have the Tile
+     */
+    public void remove(int letter){
+        if (letter < 0 || letter >= Pool.LETTER_COUNT || counts[letter] == 0){
+            throw new InvalidFrameException("Tile not in frame");
+        }
+
+        hash ^= Zobrist.rack(letter, counts[letter]) ^ Zobrist.rack(letter, counts[letter] - 1);
+        counts[letter]--;
+        size--;
+    }
+
+    /**
+     * Method to remove every Tile
+     */
+    public void clear(){
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        size = 0;
+        hash = 0;
+    }
+
+    /**
+     * Accessor Method for the number of Tiles
+     *
+     * @return The number of Tiles
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Method to check if the Rack has no Tiles
+     *
+     * @return True if the Rack is empty
+     */
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Method to copy the letter counts
+     *
+     * @return The number of each letter, blanks at index 26
+     */
+    public int[] getCounts(){
+        return counts.clone();
+    }
+
+    /**
+     * Accessor Method for the Zobrist hash
+     *
+     * @return The same hash for any Rack with the same Tiles, 0 for an empty Rack
+     */
+    public long getHash(){
+        return hash;
+    }
+
+    /**
+     * Method to find the leave key of the Rack
+     *
+     * @return The same key for any Rack with the same Tiles
+     */
+    public long leaveKey(){
+        return leaveKey(counts);
+    }
+
+    /**
+     * Method to find the leave key of a set of letter counts
+     *
+     * The key is the letter indices plus one in ascending order, packed 5 bits each with the first in the lowest
+     * bits, so a key holds up to 12 Tiles and 0 is the empty leave.
+     *
+     * @param counts The number of each letter, blanks at index 26
+     * @return The leave key
+     * @throws InvalidFrameException If there are more Tiles than a key holds
+     */
+    public static long leaveKey(int[] counts){
+
+        long key = 0;
+        int shift = 0;
+
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            for (int n = 0; n < counts[letter]; n++) {
+                if (shift > Long.SIZE - KEY_BITS){
+                    throw new InvalidFrameException("Too many tiles for a leave key.");
+                }
+
+                key |= (long) (letter + 1) << shift;
+                shift += KEY_BITS;
+            }
+        }
+
+        return key;
+    }
+
+    /**
+     * Method to find the letters of a leave key
+     *
+     * @param key The leave key
+     * @return The letters in ascending order, ' ' for a blank Tile
+     */
+    public static String leaveString(long key){
+
+        StringBuilder result = new StringBuilder();
+
+        for (; key != 0; key >>>= KEY_BITS) {
+            result.append(Pool.letterChar((int) (key & ((1 << KEY_BITS) - 1)) - 1));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * toString method for Rack
+     *
+     * @return The letters of the Tiles in ascending order, ' ' for a blank Tile
+     */
+    @Override
+    public String toString(){
+        return leaveString(leaveKey());
+    }
+}
@@ -0,0 +1,112 @@
+package scrabble;
+
+/**
+ * Class that stores a candidate move and the results of simulating the turns after it
+ *
+ * Results are added from several threads at once, so the totals are only read once ranking has finished.
+ */
+public class RankedMove {
+
+    /**
+     * The candidate move
+     */
+    private final GeneratedMove move;
+
+    /**
+     * Score of the move plus the value of the Tiles it keeps
+     */
+    private final double staticEquity;
+
+    /**
+     * Number of simulations of the move
+     */
+    private int iterations;
+
+    /**
+     * Total equity over every simulation
+     */
+    private double equityTotal;
+
+    /**
+     * Total chance of winning over every simulation
+     */
+    private double winTotal;
+
+    /**
+     * RankedMove Constructor
+     *
+     * @param move The candidate move
+     * @param staticEquity Score of the move plus the value of the Tiles it keeps
+     */
+    public RankedMove(GeneratedMove move, double staticEquity){
+        this.move = move;
+        this.staticEquity = staticEquity;
+    }
+
+    /**
+     * Method to add the result of one simulation
+     *
+     * @param equity Equity of the move in the simulation
+     * @param win Chance of winning after the simulated turns
+     */
+    synchronized void add(double equity, double win){
+        iterations++;
+        equityTotal += equity;
+        winTotal += win;
+    }
+
+    /**
+     * Accessor Method for the move
+     *
+     * @return The candidate move
+     */
+    public GeneratedMove getMove() {
+        return move;
+    }
+
+    /**
+     * Accessor Method for the static equity
+     *
+     * @return Score of the move plus the value of the Tiles it keeps
+     */
+    public double getStaticEquity() {
+        return staticEquity;
+    }
+
+    /**
+     * Accessor Method for the number of simulations
+     *
+     * @return Number of times the move was simulated
+     */
+    public synchronized int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Method to find the average equity of the move
+     *
+     * @return Score plus leave less the opponent's reply and leave, the static equity if it was never simulated
+     */
+    public synchronized double getEquity() {
+        return iterations == 0 ? staticEquity : equityTotal / iterations;
+    }
+
+    /**
+     * Method to find the average chance of winning after the move
+     *
+     * @return Chance of winning from 0 to 1, 0.5 if the move was never simulated
+     */
+    public synchronized double getWinProbability() {
+        return iterations == 0 ? 0.5 : winTotal / iterations;
+    }
+
+    /**
+     * toString method for RankedMove
+     *
+     * @return The move with its equity and chance of winning in string form
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("%s equity %.1f win %.1f%% (%d simulations)", move, getEquity(), 100 * getWinProbability(), iterations);
+    }
+}
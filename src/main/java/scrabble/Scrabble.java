@@ -2,11 +2,8 @@ package scrabble;
 
 import scrabble.exceptions.InvalidScrabbleException;
 
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Scanner;
 
 
 public class Scrabble {
@@ -17,9 +14,9 @@ public class Scrabble {
     private Board board;
 
     /**
-     * HashSet to store the dictionary of valid words
+     * Lexicon to store the dictionary of valid words
      */
-    private HashSet<String> dictionary;
+    private Lexicon dictionary;
 
     /**
      * The Pool of Tiles for the Scrabble Game
@@ -39,21 +36,49 @@ public class Scrabble {
     /**
      * Scrabble Game Constructor
      *
-     * Creates a new game of Scrabble
-     * @throws FileNotFoundException If Scanner fails to find Scrabble Dictionary
+     * Creates a new game of Scrabble using the shared dictionary
+     * @throws FileNotFoundException If the Scrabble Dictionary can not be found
      */
     public Scrabble() throws FileNotFoundException {
-        board = new Board();
+        this(LexiconRegistry.getLexicon());
+    }
 
-        pool = new Pool();
+    /**
+     * Scrabble Game Constructor
+     *
+     * Creates a new game of Scrabble with a given dictionary
+     * @param dictionary The Lexicon of valid words
+     * @throws InvalidScrabbleException If the dictionary is null
+     */
+    public Scrabble(Lexicon dictionary) {
+        this(dictionary, new Pool());
+    }
+
+    /**
+     * Scrabble Game Constructor
+     *
+     * Creates a new game of Scrabble with a given dictionary and Pool, so a seeded Pool can replay a game
+     * @param dictionary The Lexicon of valid words
+     * @param pool The Pool of Tiles for the game
+     * @throws InvalidScrabbleException If the dictionary or Pool is null
+     */
+    public Scrabble(Lexicon dictionary, Pool pool) {
+        if (dictionary == null){
+            throw new InvalidScrabbleException("The dictionary can not be null.");
+        }
+        if (pool == null){
+            throw new InvalidScrabbleException("The pool can not be null.");
+        }
+
+        board = new Board(dictionary);
+
+        this.pool = pool;
 
         players = new Player[2];
 
         moveHistory = new ArrayList<>();
 
-        dictionary = new HashSet(267753);
-
-        loadDictionary();
+        this.dictionary = dictionary;
     }
 
     /**
@@ -83,6 +108,15 @@ public class Scrabble {
         return this.players;
     }
 
+    /**
+     * Accessor Method for the dictionary
+     *
+     * @return The Lexicon of valid words
+     */
+    public Lexicon getDictionary(){
+        return this.dictionary;
+    }
+
     /**
      * Accessor Method for MoveHistory
      *
@@ -123,7 +157,9 @@ public class Scrabble {
 
             MoveInfo move = new MoveInfo(player, startPosition, direction, word);
             board.placeTiles(move);
-            player.getPlayerFrame().removeTiles(move.getRequiredTiles());
+            for (Tile tile : move.getPlacedTiles()) {
+                player.getPlayerFrame().removeTile(tile);
+            }
             moveHistory.add(move);
 
             player.getPlayerFrame().setToBlank();
@@ -154,31 +190,6 @@ public class Scrabble {
         }
     }
 
-    /**
-     * Method to scan in the dictionary for the game of Scrabble
-     *
-     * @throws FileNotFoundException
-     */
-    private void loadDictionary() throws FileNotFoundException {
-
-            String currentWord;
-
-            //Create scanner for the dictionary text file
-            Scanner scanner = new Scanner(Scrabble.class.getResourceAsStream("sowpods.txt"));
-
-            //While loop to scan in each word in the dictionary file
-            while (scanner.hasNext()) {
-                currentWord = scanner.nextLine().toUpperCase();
-
-                if (currentWord != null) {
-                    //Add the word to the dictionary HashSet
-                    dictionary.add(currentWord);
-                }
-            }
-
-            scanner.close();
-    }
-
     /**
      * Method to validate the words created in a move
      *
@@ -186,25 +197,13 @@ public class Scrabble {
      * @return True if all words are valid
      */
     public boolean dictionaryWords(MoveInfo move){
-        boolean result = true;
-        //First word is the primary word of the move
-        String currentWord = new String(move.getPrimaryWord().getWord());
 
-        //If the primary word is not in the dictionary
-        if (!dictionary.contains(currentWord)){
-            result = false;
-        }
-        else {
-            //For loop to check each auxiliary word is in the for loop
-            for (int i = 0; i < move.getAuxiliaryWords().size() && result; i++) {
-
-                currentWord = new String(move.getAuxiliaryWords().get(i).getWord());
+        //First word is the primary word of the move
+        boolean result = dictionary.contains(move.getPrimaryWord().getWord());
 
-                //If word is not in the dictionary
-                if (!dictionary.contains(currentWord)){
-                    result = false;
-                }
-            }
+        //For loop to check each auxiliary word is in the dictionary
+        for (int i = 0; i < move.getAuxiliaryWords().size() && result; i++) {
+            result = dictionary.contains(move.getAuxiliaryWords().get(i).getWord());
         }
 
         return result;
@@ -0,0 +1,225 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidSimulatorException;
+
+import java.util.Arrays;
+
+/**
+ * Class that stores the final scores of a Simulator run and the statistics of their distribution
+ */
+public class SimulationResult {
+
+    /**
+     * Final score of every game, by Player then game
+     */
+    private final int[][] scores;
+
+    /**
+     * Scores of each Player sorted, for percentiles
+     */
+    private final int[][] sorted;
+
+    /**
+     * Time the run took in nanoseconds
+     */
+    private final long elapsedNanos;
+
+    /**
+     * SimulationResult Constructor
+     *
+     * @param scores Final score of every game, by Player then game
+     * @param elapsedNanos Time the run took in nanoseconds
+     */
+    public SimulationResult(int[][] scores, long elapsedNanos){
+        this.scores = scores;
+        this.elapsedNanos = elapsedNanos;
+
+        sorted = new int[scores.length][];
+        for (int player = 0; player < scores.length; player++) {
+            sorted[player] = scores[player].clone();
+            Arrays.sort(sorted[player]);
+        }
+    }
+
+    /**
+     * Accessor Method for the number of games
+     *
+     * @return The number of games played
+     */
+    public int getGames(){
+        return scores[0].length;
+    }
+
+    /**
+     * Accessor Method for the time taken
+     *
+     * @return The time the run took in nanoseconds
+     */
+    public long getElapsedNanos(){
+        return elapsedNanos;
+    }
+
+    /**
+     * Method to find the rate games were played at
+     *
+     * @return The number of games played each second
+     */
+    public double getGamesPerSecond(){
+        return getGames() / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Accessor Method for the final score of one game
+     *
+     * @param player Index of the Player
+     * @param game Index of the game
+     * @return The final score of the Player in the game
+     */
+    public int getScore(int player, int game){
+        return scores[checkPlayer(player)][game];
+    }
+
+    /**
+     * Method to find the number of games a Player won
+     *
+     * @param player Index of the Player
+     * @return The number of games the Player scored more than the other Player
+     */
+    public int getWins(int player){
+        checkPlayer(player);
+
+        int wins = 0;
+        for (int game = 0; game < getGames(); game++) {
+            if (scores[player][game] > scores[1 - player][game]){
+                wins++;
+            }
+        }
+
+        return wins;
+    }
+
+    /**
+     * Method to find the number of drawn games
+     *
+     * @return The number of games with equal scores
+     */
+    public int getDraws(){
+        return getGames() - getWins(0) - getWins(1);
+    }
+
+    /**
+     * Method to find the mean score of a Player
+     *
+     * @param player Index of the Player
+     * @return The mean final score
+     */
+    public double getMeanScore(int player){
+        checkPlayer(player);
+
+        long total = 0;
+        for (int score : scores[player]) {
+            total += score;
+        }
+
+        return (double) total / getGames();
+    }
+
+    /**
+     * Method to find the standard deviation of a Player's scores
+     *
+     * @param player Index of the Player
+     * @return The standard deviation of the final scores
+     */
+    public double getStandardDeviation(int player){
+        double mean = getMeanScore(player);
+
+        double total = 0;
+        for (int score : scores[player]) {
+            total += (score - mean) * (score - mean);
+        }
+
+        return Math.sqrt(total / getGames());
+    }
+
+    /**
+     * Method to find a percentile of a Player's scores
+     *
+     * @param player Index of the Player
+     * @param percentile The percentile between 0 and 100
+     * @return The lowest score at least that percent of games are at or below
+     * @throws InvalidSimulatorException If the percentile is outside 0 to 100
+     */
+    public int getPercentile(int player, double percentile){
+        checkPlayer(player);
+
+        if (percentile < 0 || percentile > 100){
+            throw new InvalidSimulatorException("The percentile must be between 0 and 100.");
+        }
+
+        int index = (int) Math.ceil(percentile / 100 * getGames()) - 1;
+
+        return sorted[player][Math.max(index, 0)];
+    }
+
+    /**
+     * Method to count a Player's scores in buckets of equal width
+     *
+     * @param player Index of the Player
+     * @param bucketWidth Width of each bucket in points
+     * @return The number of games in each bucket, bucket 0 starts at the lowest score
+     * @throws InvalidSimulatorException If the bucket width is not positive
+     */
+    public int[] getHistogram(int player, int bucketWidth){
+        checkPlayer(player);
+
+        if (bucketWidth <= 0){
+            throw new InvalidSimulatorException("The bucket width must be positive.");
+        }
+
+        int lowest = sorted[player][0];
+        int[] result = new int[(sorted[player][getGames() - 1] - lowest) / bucketWidth + 1];
+
+        for (int score : scores[player]) {
+            result[(score - lowest) / bucketWidth]++;
+        }
+
+        return result;
+    }
+
+    /**
+     * toString method for SimulationResult
+     *
+     * @return The rate of games and the score distribution of each Player in string form
+     */
+    @Override
+    public String toString(){
+        StringBuilder result = new StringBuilder();
+
+        result.append(String.format("Games: %d in %.2f s (%.1f games/s)%n", getGames(), elapsedNanos / 1e9, getGamesPerSecond()));
+
+        for (int player = 0; player < scores.length; player++) {
+            result.append(String.format("Player %d: wins %d, mean %.1f, sd %.1f, min %d, p10 %d, median %d, p90 %d, max %d%n",
+                    player + 1, getWins(player), getMeanScore(player), getStandardDeviation(player), getPercentile(player, 0),
+                    getPercentile(player, 10), getPercentile(player, 50), getPercentile(player, 90), getPercentile(player, 100)));
+        }
+
+        result.append("Draws: ").append(getDraws());
+
+        return result.toString();
+    }
+
+    /**
+     * Method to check a Player index is in the results
+     *
+     * @param player Index of the Player
+     * @return The index
+     * @throws InvalidSimulatorException If there is no Player with the index
+     */
+    private int checkPlayer(int player){
+        if (player < 0 || player >= scores.length){
+            throw new InvalidSimulatorException("There is no player " + player + ".");
+        }
+
+        return player;
+    }
+}
@@ -0,0 +1,303 @@
+package scrabble;
+
+import scrabble.exceptions.InvalidSimulatorException;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Class that plays complete bot against bot games to compare PlayerStrategies
+ *
+ * Games are split between the threads of a work-stealing ForkJoinPool. Each game gets its own seed from the seed of
+ * the run, which picks its Tiles, its first Player and the choices of its strategies, so any game can be replayed
+ * on its own and a run gives the same scores on any number of threads.
+ */
+public class Simulator {
+
+    /**
+     * Number of turns in a row without a score that ends a game, as all Players are stuck
+     */
+    public final static int MAX_SCORELESS_TURNS = 6;
+
+    /**
+     * Number of games a task plays itself rather than splitting between threads
+     */
+    private final static int GAMES_PER_TASK = 4;
+
+    /**
+     * Dictionary the games are checked against
+     */
+    private final Lexicon dictionary;
+
+    /**
+     * Gaddag of the dictionary used to find the legal moves
+     */
+    private final Gaddag gaddag;
+
+    /**
+     * Strategy of each Player, by index in the Players array
+     */
+    private final PlayerStrategy[] strategies;
+
+    /**
+     * Pool of threads the games are played on
+     */
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * MoveGenerator of each thread, as a MoveGenerator reuses its buffers between calls
+     */
+    private final ThreadLocal<MoveGenerator> generators;
+
+    /**
+     * Interface for collecting statistics from the turns of one game, a new observer is made for each game
+     */
+    public interface TurnObserver {
+
+        /**
+         * Method called after each turn of the game
+         *
+         * @param player Index of the Player who made the turn
+         * @param leaveKey Rack leave key of the Tiles the Player kept, before the Frame was refilled
+         * @param score Score of the turn, 0 for a pass
+         */
+        void turnPlayed(int player, long leaveKey, int score);
+    }
+
+    /**
+     * Simulator Constructor
+     *
+     * @param dictionary Dictionary the games are checked against
+     * @param gaddag Gaddag of the same dictionary
+     * @param first Strategy of the first Player
+     * @param second Strategy of the second Player
+     * @param forkJoinPool Pool of threads to play the games on
+     * @throws InvalidSimulatorException If any argument is null
+     */
+    public Simulator(Lexicon dictionary, Gaddag gaddag, PlayerStrategy first, PlayerStrategy second, ForkJoinPool forkJoinPool){
+        if (dictionary == null || gaddag == null || first == null || second == null || forkJoinPool == null){
+            throw new InvalidSimulatorException("The dictionary, gaddag, strategies and pool can not be null.");
+        }
+
+        this.dictionary = dictionary;
+        this.gaddag = gaddag;
+        this.strategies = new PlayerStrategy[]{first, second};
+        this.forkJoinPool = forkJoinPool;
+        this.generators = ThreadLocal.withInitial(() -> new MoveGenerator(this.gaddag));
+    }
+
+    /**
+     * Simulator Constructor
+     *
+     * Plays the games on every core using the common ForkJoinPool
+     * @param dictionary Dictionary the games are checked against
+     * @param gaddag Gaddag of the same dictionary
+     * @param first Strategy of the first Player
+     * @param second Strategy of the second Player
+     */
+    public Simulator(Lexicon dictionary, Gaddag gaddag, PlayerStrategy first, PlayerStrategy second){
+        this(dictionary, gaddag, first, second, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method to find the seed of one game of a run
+     *
+     * @param seed Seed of the run
+     * @param game Index of the game in the run
+     * @return Seed of the game
+     */
+    public static long gameSeed(long seed, int game){
+        return new SplittableRandom(seed + game * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    /**
+     * Method to play a number of games across the threads of the pool
+     *
+     * @param games Number of games to play
+     * @param seed Seed of the run
+     * @return The scores of every game and the time taken
+     * @throws InvalidSimulatorException If the number of games is not positive
+     */
+    public SimulationResult run(int games, long seed){
+        return run(games, seed, null);
+    }
+
+    /**
+     * Method to play a number of games across the threads of the pool, reporting every turn
+     *
+     * @param games Number of games to play
+     * @param seed Seed of the run
+     * @param observers Supplies a new TurnObserver for each game, null to not observe the games
+     * @return The scores of every game and the time taken
+     * @throws InvalidSimulatorException If the number of games is not positive
+     */
+    public SimulationResult run(int games, long seed, Supplier<TurnObserver> observers){
+        if (games <= 0){
+            throw new InvalidSimulatorException("The number of games must be positive.");
+        }
+
+        int[][] scores = new int[GameEngine.PLAYER_COUNT][games];
+
+        long start = System.nanoTime();
+        forkJoinPool.invoke(new GameTask(scores, seed, observers, 0, games));
+
+        return new SimulationResult(scores, System.nanoTime() - start);
+    }
+
+    /**
+     * Method to play one complete game on the calling thread
+     *
+     * @param seed Seed of the game
+     * @return The final score of each Player, by index in the Players array
+     */
+    public int[] playGame(long seed){
+        return playGame(seed, null);
+    }
+
+    /**
+     * Method to play one complete game on the calling thread, reporting every turn
+     *
+     * @param seed Seed of the game
+     * @param observer Observer of the turns of the game, null to not observe the game
+     * @return The final score of each Player, by index in the Players array
+     */
+    public int[] playGame(long seed, TurnObserver observer){
+
+        Random random = new Random(seed);
+        GameEngine engine = new GameEngine(new Scrabble(dictionary, new Pool(random.nextLong())), random);
+
+        engine.addPlayer("Player1");
+        engine.addPlayer("Player2");
+
+        Board board = engine.getScrabble().getBoard();
+        MoveGenerator generator = generators.get();
+        int scoreless = 0;
+
+        //While loop to play turns until the game ends
+        while (engine.getState() != GameEngine.State.GAME_OVER) {
+
+            int index = engine.getCurrentPlayerIndex();
+            Player player = engine.getCurrentPlayer();
+            ArrayList<GeneratedMove> moves = generator.generateMoves(board, player.getPlayerFrame());
+            GeneratedMove move = strategies[index].chooseMove(board, player, moves, random);
+
+            int[] rackCounts = observer == null ? null : player.getPlayerFrame().getRack().getCounts();
+            int score = 0;
+
+            if (move == null){
+                engine.pass();
+                scoreless++;
+            }
+            else {
+                //Blank Tiles must be set to their letters before the move is placed
+                if (move.getBlankLetters().length > 0){
+                    engine.setBlanks(move.getBlankLetters());
+                }
+
+                MoveInfo moveInfo = engine.place(move.getStartPosition(), move.getDirection(), move.getWord().clone());
+
+                //Bots only make legal moves so they are never challenged
+                engine.challenge(false);
+                score = moveInfo.getMoveScore();
+                scoreless = score == 0 ? scoreless + 1 : 0;
+            }
+
+            if (observer != null){
+                observer.turnPlayed(index, move == null ? Rack.leaveKey(rackCounts) : move.leaveKey(rackCounts), score);
+            }
+
+            if (scoreless >= MAX_SCORELESS_TURNS && engine.getState() != GameEngine.State.GAME_OVER){
+                engine.quit();
+            }
+        }
+
+        Player[] players = engine.getScrabble().getPlayers();
+
+        return new int[]{players[0].getScore(), players[1].getScore()};
+    }
+
+    /**
+     * Task that plays a range of games, splitting it in half between threads until it is small
+     */
+    private class GameTask extends RecursiveAction {
+
+        /**
+         * Scores of every game of the run, by Player then game
+         */
+        private final int[][] scores;
+
+        /**
+         * Seed of the run
+         */
+        private final long seed;
+
+        /**
+         * Supplies a new TurnObserver for each game, null to not observe the games
+         */
+        private final Supplier<TurnObserver> observers;
+
+        /**
+         * Index of the first game and one past the last game of the range
+         */
+        private final int from, to;
+
+        /**
+         * GameTask Constructor
+         *
+         * @param scores Scores of every game of the run
+         * @param seed Seed of the run
+         * @param observers Supplies a new TurnObserver for each game, null to not observe the games
+         * @param from Index of the first game
+         * @param to Index one past the last game
+         */
+        GameTask(int[][] scores, long seed, Supplier<TurnObserver> observers, int from, int to){
+            this.scores = scores;
+            this.seed = seed;
+            this.observers = observers;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Method to play the range of games or split it between two tasks
+         */
+        @Override
+        protected void compute(){
+
+            if (to - from <= GAMES_PER_TASK){
+                for (int game = from; game < to; game++) {
+                    int[] result = playGame(gameSeed(seed, game), observers == null ? null : observers.get());
+
+                    scores[0][game] = result[0];
+                    scores[1][game] = result[1];
+                }
+            }
+            else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new GameTask(scores, seed, observers, from, middle), new GameTask(scores, seed, observers, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Main method to play greedy bots against each other and print the results
+     *
+     * @param args The number of games, then optionally the seed of the run
+     * @throws FileNotFoundException If the word list is missing
+     */
+    public static void main(String[] args) throws FileNotFoundException {
+
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+
+        Simulator simulator = new Simulator(LexiconRegistry.getLexicon(), LexiconRegistry.getGaddag(), PlayerStrategy.GREEDY, PlayerStrategy.GREEDY);
+
+        System.out.println("Seed: " + seed);
+        System.out.println(simulator.run(games, seed));
+    }
+}
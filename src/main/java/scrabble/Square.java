@@ -31,14 +31,39 @@ public class Square {
      */
     private SquareType squareType;
 
+    /**
+     * The Board the Square is on, told when a Tile is placed or removed, null if not on a Board
+     */
+    private final Board board;
+
+    /**
+     * Row and column of the Square on the Board
+     */
+    private final int row, column;
+
     /**
      * Square Constructor
      *
      * @param type The SquareType of the Square
      */
     public Square(SquareType type){
+        this(type, null, 0, 0);
+    }
+
+    /**
+     * Square Constructor for a Square on a Board
+     *
+     * @param type The SquareType of the Square
+     * @param board The Board the Square is on
+     * @param row Row of the Square on the Board
+     * @param column Column of the Square on the Board
+     */
+    Square(SquareType type, Board board, int row, int column){
         squareType = type;
         squareTile = null;
+        this.board = board;
+        this.row = row;
+        this.column = column;
     }
 
     /**
@@ -78,9 +103,27 @@ public class Square {
 
         squareType = SquareType.NORMAL;
 
+        //Keep the Board's snapshot and views in step
+        if (board != null){
+            board.typeChanged(row, column);
+        }
+
         return temp;
     }
 
+    /**
+     * Method to put back the SquareType setNormal returned, for taking back a move
+     *
+     * @param type The SquareType the Square had
+     */
+    void restoreType(SquareType type){
+        squareType = type;
+
+        if (board != null){
+            board.typeChanged(row, column);
+        }
+    }
+
     /**
      * Mutator Method for Tile on Square
      *
@@ -96,6 +139,11 @@ public class Square {
             }
             else{
                 squareTile = tile;
+
+                //Keep the Board's occupancy in step
+                if (board != null){
+                    board.tileChanged(row, column);
+                }
             }
         }
         //Else throw an Exception
@@ -173,6 +221,11 @@ public class Square {
         else{
             Tile temp = squareTile;
             squareTile = null;
+
+            //Keep the Board's occupancy in step
+            if (board != null){
+                board.tileChanged(row, column);
+            }
             return temp;
         }
     }
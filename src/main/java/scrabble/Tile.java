@@ -76,7 +76,7 @@ public class Tile implements Comparable<Tile> {
      * @param c Char that value needs to be found
      * @return Short value of inputted char
      */
-    private short charValue(char c){
+    static short charValue(char c){
 
         //Switch statement for each chars and their values
         switch (c) {
@@ -218,6 +218,16 @@ public class Tile implements Comparable<Tile> {
         }
     }
 
+    /**
+     * Method to make the Tile a Tile of another letter, for reusing Tiles that are in no Frame or on no Board
+     *
+     * @param c Character for the Tile, ' ' for a blank
+     */
+    void reset(char c){
+        character = c;
+        value = charValue(c);
+    }
+
     /**
      * toString Method for Tile
      *
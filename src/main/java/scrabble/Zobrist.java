@@ -0,0 +1,113 @@
+package scrabble;
+
+import java.util.SplittableRandom;
+
+/**
+ * Class that holds the random keys of the 64-bit Zobrist hashes of Boards and Racks
+ *
+ * A hash is the exclusive or of the key of every Tile on every Square, or of every letter count in a Rack, so it is
+ * updated by one exclusive or when a Tile is placed or removed and is the same however the position was reached. The
+ * keys come from a fixed seed, so hashes are the same on every run and can be stored.
+ */
+public final class Zobrist {
+
+    /**
+     * Number of keys of each Square, a key for each letter and for a blank set to each letter
+     */
+    private final static int SQUARE_KEYS = 2 * 26;
+
+    /**
+     * Key of each Tile on each Square, by (i * BOARD_SIZE + j) * 52 + letter, plus 26 for a blank
+     */
+    private final static long[] TILE_KEYS = new long[Board.BOARD_SIZE * Board.BOARD_SIZE * SQUARE_KEYS];
+
+    /**
+     * Key of each count of each letter in a Rack, by letter then count, the key of a count of 0 is 0
+     */
+    private final static long[][] RACK_KEYS = new long[Pool.LETTER_COUNT][Frame.FRAME_SIZE + 1];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5C4AB813L);
+
+        for (int k = 0; k < TILE_KEYS.length; k++) {
+            TILE_KEYS[k] = random.nextLong();
+        }
+        for (long[] letter : RACK_KEYS) {
+            for (int count = 1; count < letter.length; count++) {
+                letter[count] = random.nextLong();
+            }
+        }
+    }
+
+    /**
+     * Zobrist Constructor, there are no Zobrist objects
+     */
+    private Zobrist(){
+    }
+
+    /**
+     * Method to find the key of a Tile on a Square
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @param letter The letter of the Tile, the letter it stands for if it is a blank
+     * @param blank True if the Tile is a blank
+     * @return The key of the Tile
+     */
+    public static long tile(int i, int j, char letter, boolean blank){
+        return TILE_KEYS[(i * Board.BOARD_SIZE + j) * SQUARE_KEYS + letter - 'A' + (blank ? 26 : 0)];
+    }
+
+    /**
+     * Method to find the key of a Tile on a Square
+     *
+     * @param i Row of the Square
+     * @param j Column of the Square
+     * @param tile The Tile
+     * @return The key of the Tile
+     */
+    public static long tile(int i, int j, Tile tile){
+        return tile(i, j, tile.getCharacter(), tile.getValue() == 0);
+    }
+
+    /**
+     * Method to find the key of a count of a letter in a Rack
+     *
+     * @param letter Index of the letter, Pool.BLANK for a blank Tile
+     * @param count Number of the letter
+     * @return The key of the count, 0 for a count of 0
+     */
+    public static long rack(int letter, int count){
+        return RACK_KEYS[letter][count];
+    }
+
+    /**
+     * Method to find the hash of a set of letter counts
+     *
+     * @param counts The number of each letter, blanks at index 26
+     * @return The hash, the same as the hash of a Rack with the same Tiles
+     */
+    public static long rack(int[] counts){
+        long hash = 0;
+
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            hash ^= RACK_KEYS[letter][counts[letter]];
+        }
+
+        return hash;
+    }
+
+    /**
+     * Method to combine the hashes of a Board and two Racks into the hash of a position
+     *
+     * The second Rack's hash is rotated so swapping the Racks gives a different position.
+     *
+     * @param board Hash of the Board
+     * @param toMove Hash of the Rack of the Player to move
+     * @param other Hash of the other Player's Rack
+     * @return Hash of the position
+     */
+    public static long position(long board, long toMove, long other){
+        return board ^ toMove ^ Long.rotateLeft(other, 29);
+    }
+}
@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for EndgameSolver Classes
+ */
+public class InvalidEndgameSolverException extends IllegalArgumentException{
+    public  InvalidEndgameSolverException(String s){
+        super(s);
+    }
+}
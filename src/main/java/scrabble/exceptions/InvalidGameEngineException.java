@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for GameEngine Class
+ */
+public class InvalidGameEngineException extends IllegalArgumentException{
+    public  InvalidGameEngineException(String s){
+        super(s);
+    }
+}
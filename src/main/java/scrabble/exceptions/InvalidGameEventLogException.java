@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for GameEventLog Classes
+ */
+public class InvalidGameEventLogException extends IllegalArgumentException{
+    public  InvalidGameEventLogException(String s){
+        super(s);
+    }
+}
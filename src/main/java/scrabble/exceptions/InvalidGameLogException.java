@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for GameLog Class
+ */
+public class InvalidGameLogException extends IllegalArgumentException{
+    public  InvalidGameLogException(String s){
+        super(s);
+    }
+}
@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for GameServer Classes
+ */
+public class InvalidGameServerException extends IllegalArgumentException{
+    public  InvalidGameServerException(String s){
+        super(s);
+    }
+}
@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for GameSnapshot Class
+ */
+public class InvalidGameSnapshotException extends IllegalArgumentException{
+    public  InvalidGameSnapshotException(String s){
+        super(s);
+    }
+}
@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for LeaveTable Classes
+ */
+public class InvalidLeaveTableException extends IllegalArgumentException{
+    public  InvalidLeaveTableException(String s){
+        super(s);
+    }
+}
@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for Lexicon Classes
+ */
+public class InvalidLexiconException extends IllegalArgumentException{
+    public  InvalidLexiconException(String s){
+        super(s);
+    }
+}
@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for MonteCarloRanker Classes
+ */
+public class InvalidMonteCarloRankerException extends IllegalArgumentException{
+    public  InvalidMonteCarloRankerException(String s){
+        super(s);
+    }
+}
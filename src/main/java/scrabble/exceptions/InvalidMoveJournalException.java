@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for MoveJournal Class
+ */
+public class InvalidMoveJournalException extends IllegalArgumentException{
+    public  InvalidMoveJournalException(String s){
+        super(s);
+    }
+}
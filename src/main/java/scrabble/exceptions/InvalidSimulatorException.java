@@ -0,0 +1,10 @@
+package scrabble.exceptions;
+
+/**
+ * Custom Exception for Simulator Class
+ */
+public class InvalidSimulatorException extends IllegalArgumentException{
+    public  InvalidSimulatorException(String s){
+        super(s);
+    }
+}
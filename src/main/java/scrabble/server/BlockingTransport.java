@@ -0,0 +1,124 @@
+package scrabble.server;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Class for the transport that gives each client a thread that blocks reading its Socket
+ *
+ * Simple and fast for a few hundred clients, but every connected client holds a thread even while it is idle.
+ */
+class BlockingTransport implements Transport {
+
+    /**
+     * Server the clients connect to
+     */
+    private final GameServer server;
+
+    /**
+     * Socket the clients connect to
+     */
+    private final ServerSocket serverSocket;
+
+    /**
+     * Clients that are connected
+     */
+    private final Set<SocketConnection> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Threads that read the lines of each client
+     */
+    private final ExecutorService connectionThreads = Executors.newCachedThreadPool(GameServer.daemon("scrabble-connection"));
+
+    /**
+     * BlockingTransport Constructor
+     *
+     * @param server Server the clients connect to
+     * @param port Port to listen on, 0 for any free port
+     * @throws IOException If the port can not be listened on
+     */
+    BlockingTransport(GameServer server, int port) throws IOException {
+        this.server = server;
+        this.serverSocket = new ServerSocket(port, 1024);
+    }
+
+    /**
+     * Method to start accepting clients on a thread of its own
+     */
+    @Override
+    public void start(){
+        GameServer.daemon("scrabble-accept").newThread(this::accept).start();
+    }
+
+    /**
+     * Accessor Method for the port
+     *
+     * @return The port the clients connect to
+     */
+    @Override
+    public int getPort(){
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Method to stop accepting clients and close every client's Socket
+     */
+    @Override
+    public void close(){
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            //The Socket is closed either way
+        }
+
+        //Closing the Sockets ends the threads blocked reading them
+        for (SocketConnection connection : connections) {
+            connection.close();
+        }
+
+        connectionThreads.shutdown();
+    }
+
+    /**
+     * Method to accept clients until the transport is closed
+     */
+    private void accept(){
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+
+                SocketConnection connection = new SocketConnection(socket, this);
+                connections.add(connection);
+                connectionThreads.execute(connection);
+            } catch (IOException e) {
+                //Accepting ends when the server Socket is closed
+            }
+        }
+    }
+
+    /**
+     * Method to hand a line read from a client to the server
+     *
+     * @param connection The client
+     * @param line The line
+     */
+    void received(SocketConnection connection, String line){
+        server.received(connection, line);
+    }
+
+    /**
+     * Method to forget a client that disconnected and tell the server
+     *
+     * @param connection The client
+     */
+    void disconnected(SocketConnection connection){
+        connections.remove(connection);
+        server.disconnected(connection);
+    }
+}
@@ -0,0 +1,45 @@
+package scrabble.server;
+
+/**
+ * Class for the connection of one client to the GameServer
+ *
+ * A connection sends lines of the text protocol to its client and remembers the GameSession it joined. Lines can be
+ * sent from any thread, so each subclass must keep the lines of different threads whole and in order.
+ */
+abstract class Connection {
+
+    /**
+     * The GameSession the client joined, null before it joins
+     */
+    private volatile GameSession session;
+
+    /**
+     * Method to send a line to the client
+     *
+     * @param line The line, without a new line
+     */
+    abstract void send(String line);
+
+    /**
+     * Method to close the connection, after which lines sent are dropped
+     */
+    abstract void close();
+
+    /**
+     * Accessor Method for the GameSession
+     *
+     * @return The GameSession the client joined, null before it joins
+     */
+    GameSession getSession(){
+        return session;
+    }
+
+    /**
+     * Mutator Method for the GameSession
+     *
+     * @param session The GameSession the client joined, null if it left or could not join
+     */
+    void setSession(GameSession session){
+        this.session = session;
+    }
+}
@@ -0,0 +1,346 @@
+package scrabble.server;
+
+import scrabble.GameEngine;
+import scrabble.GameEventLog;
+import scrabble.Lexicon;
+import scrabble.LexiconRegistry;
+import scrabble.exceptions.InvalidGameServerException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class that hosts many games of Scrabble in one program over a line based text protocol
+ *
+ * Clients connect with TCP and send one command per line. A client first sends JOIN followed by the name of a game
+ * and the name of its Player; the first client to join a name creates the game and it starts once a second client
+ * joins. After that each line is parsed by UserInput.parseInput exactly like the commands of the UserInterface, and
+ * the server answers with lines like TURN, FRAME, PLACED, SCORED, ERROR and GAMEOVER.
+ *
+ * Every game runs on the event loop of its own GameSession, which borrows a thread from a pool the size of the
+ * machine only while it has lines to run, and every game shares the one Lexicon of the server. Clients are served by
+ * a single NIO selector thread by default, so idle and slow clients hold no threads either.
+ *
+ * A server given a GameEventLog appends every command its games accept to the log. If the server stops while games
+ * are being played, a new server given the same log rebuilds them, and each Player takes their seat back by joining
+ * the game again with the same name.
+ */
+public class GameServer implements AutoCloseable {
+
+    /**
+     * Enum of the ways clients can be served
+     */
+    public enum Mode {
+        NIO,
+        BLOCKING
+    }
+
+    /**
+     * Port the server listens on when none is given
+     */
+    public final static int DEFAULT_PORT = 4040;
+
+    /**
+     * Lexicon shared by every game
+     */
+    private final Lexicon lexicon;
+
+    /**
+     * Transport the clients connect with
+     */
+    private final Transport transport;
+
+    /**
+     * Games that have not ended, by name
+     */
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Pool the event loops of the games run on
+     */
+    private final ExecutorService sessionPool;
+
+    /**
+     * Log the commands of every game are appended to, null if they are not logged
+     */
+    private final GameEventLog eventLog;
+
+    /**
+     * True once the server is closing, so clients it disconnects do not end their games
+     */
+    private volatile boolean closing;
+
+    /**
+     * GameServer Constructor for the default word list
+     *
+     * @param port Port to listen on, 0 for any free port
+     * @throws IOException If the word list is missing or the port can not be listened on
+     */
+    public GameServer(int port) throws IOException {
+        this(port, LexiconRegistry.getLexicon());
+    }
+
+    /**
+     * GameServer Constructor that serves clients with NIO
+     *
+     * @param port Port to listen on, 0 for any free port
+     * @param lexicon Lexicon shared by every game
+     * @throws IOException If the port can not be listened on
+     * @throws InvalidGameServerException If the Lexicon is null
+     */
+    public GameServer(int port, Lexicon lexicon) throws IOException {
+        this(port, lexicon, Mode.NIO);
+    }
+
+    /**
+     * GameServer Constructor
+     *
+     * @param port Port to listen on, 0 for any free port
+     * @param lexicon Lexicon shared by every game
+     * @param mode The way clients are served
+     * @throws IOException If the port can not be listened on
+     * @throws InvalidGameServerException If the Lexicon or Mode is null
+     */
+    public GameServer(int port, Lexicon lexicon, Mode mode) throws IOException {
+        this(port, lexicon, mode, null);
+    }
+
+    /**
+     * GameServer Constructor that logs the commands of its games and rebuilds the games a log holds
+     *
+     * @param port Port to listen on, 0 for any free port
+     * @param lexicon Lexicon shared by every game
+     * @param mode The way clients are served
+     * @param eventLog File of the GameEventLog, null if the games are not logged
+     * @throws IOException If the port can not be listened on or the log can not be opened
+     * @throws InvalidGameServerException If the Lexicon or Mode is null
+     */
+    public GameServer(int port, Lexicon lexicon, Mode mode, Path eventLog) throws IOException {
+        if (lexicon == null || mode == null){
+            throw new InvalidGameServerException("The lexicon and mode can not be null.");
+        }
+
+        this.lexicon = lexicon;
+        this.sessionPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), daemon("scrabble-session"));
+        this.eventLog = eventLog == null ? null : new GameEventLog(eventLog, lexicon);
+
+        if (this.eventLog != null){
+            for (Map.Entry<String, GameEngine> game : this.eventLog.getRecoveredGames().entrySet()) {
+                sessions.put(game.getKey(), new GameSession(game.getKey(), this, game.getValue(), sessionPool));
+            }
+        }
+
+        try {
+            this.transport = mode == Mode.NIO ? new NioTransport(this, port) : new BlockingTransport(this, port);
+        } catch (IOException e) {
+            if (this.eventLog != null){
+                this.eventLog.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Method to start accepting clients
+     *
+     * @return The server
+     * @throws IOException If the transport can not start
+     */
+    public GameServer start() throws IOException {
+        transport.start();
+        return this;
+    }
+
+    /**
+     * Accessor Method for the port
+     *
+     * @return The port the server listens on
+     */
+    public int getPort(){
+        return transport.getPort();
+    }
+
+    /**
+     * Method to find the number of games that have not ended
+     *
+     * @return The number of games waiting for a Player or being played
+     */
+    public int getSessionCount(){
+        return sessions.size();
+    }
+
+    /**
+     * Method to stop accepting clients and disconnect every client
+     *
+     * Games being played are not ended, so a server given the same GameEventLog can rebuild them.
+     */
+    @Override
+    public void close(){
+        closing = true;
+        transport.close();
+        sessionPool.shutdown();
+
+        try {
+            sessionPool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (eventLog != null){
+            try {
+                eventLog.close();
+            } catch (IOException e) {
+                //The events already forced to the disk are kept either way
+            }
+        }
+    }
+
+    /**
+     * Method to run a line sent by a client
+     *
+     * Called by the thread of the transport reading the client. JOIN is handled here, every other line is queued to
+     * the client's game without being split. Errors for a client in a game are queued behind its replies as well.
+     *
+     * @param connection The client
+     * @param line The line
+     */
+    void received(Connection connection, String line){
+
+        GameSession session = connection.getSession();
+
+        if (line.regionMatches(true, 0, "JOIN ", 0, 5) || line.equalsIgnoreCase("JOIN")){
+            String[] tokens = line.trim().split(" +");
+
+            if (tokens.length != 3){
+                reply(connection, "ERROR Use JOIN <game> <name>.");
+            }
+            else if (session != null){
+                session.execute(connection, () -> session.joinAgain(connection, line));
+            }
+            else {
+                GameSession joined = sessions.computeIfAbsent(tokens[1], this::newSession);
+                connection.setSession(joined);
+                joined.execute(connection, () -> joined.join(connection, tokens[2]));
+            }
+        }
+        else if (session == null){
+            reply(connection, "ERROR Join a game first (JOIN <game> <name>).");
+        }
+        else {
+            session.execute(connection, () -> session.command(connection, line));
+        }
+    }
+
+    /**
+     * Method to tell a client a line it sent could not be read
+     *
+     * Called by the thread of the transport reading the client.
+     *
+     * @param connection The client
+     * @param error The ERROR line
+     */
+    void refused(Connection connection, String error){
+        reply(connection, error);
+    }
+
+    /**
+     * Method to send a line to a client after the replies of its game it is still owed
+     *
+     * @param connection The client
+     * @param line The line
+     */
+    private void reply(Connection connection, String line){
+
+        GameSession session = connection.getSession();
+
+        if (session == null){
+            connection.send(line);
+        }
+        else {
+            session.queue(connection, line);
+        }
+    }
+
+    /**
+     * Method to take a client that disconnected out of its game
+     *
+     * @param connection The client
+     */
+    void disconnected(Connection connection){
+
+        GameSession session = connection.getSession();
+
+        if (session != null && !closing){
+            session.execute(connection, () -> session.leave(connection));
+        }
+    }
+
+    /**
+     * Method to create the session of a new game, logged if the server has a GameEventLog
+     *
+     * @param name Name of the game
+     * @return The session
+     */
+    private GameSession newSession(String name){
+        GameEngine engine = eventLog == null ? new GameEngine(lexicon) : eventLog.newGame(name);
+        return new GameSession(name, this, engine, sessionPool);
+    }
+
+    /**
+     * Method to forget a game that ended, so its name can be joined again
+     *
+     * @param session The game
+     */
+    void ended(GameSession session){
+        sessions.remove(session.getName(), session);
+    }
+
+    /**
+     * Method to make a ThreadFactory of daemon threads, which do not keep the program running
+     *
+     * @param name Name of the threads
+     * @return The ThreadFactory
+     */
+    static ThreadFactory daemon(String name){
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Main method to run a server until the program is stopped
+     *
+     * @param args The port to listen on, DEFAULT_PORT if none is given, then NIO or BLOCKING, then the file of a
+     *             GameEventLog to log and recover the games with
+     * @throws IOException If the word list is missing, the port can not be listened on or the log can not be opened
+     */
+    public static void main(String[] args) throws IOException {
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Mode mode = args.length > 1 ? Mode.valueOf(args[1].toUpperCase()) : Mode.NIO;
+        Path eventLog = args.length > 2 ? Paths.get(args[2]) : null;
+        GameServer server = new GameServer(port, LexiconRegistry.getLexicon(), mode, eventLog).start();
+
+        if (server.getSessionCount() > 0){
+            System.out.println("Recovered " + server.getSessionCount() + " games from " + eventLog);
+        }
+
+        System.out.println("Scrabble server listening on port " + server.getPort());
+
+        //The accept thread is a daemon, so the main thread waits for the program to be stopped
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            server.close();
+        }
+    }
+}
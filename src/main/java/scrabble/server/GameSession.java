@@ -0,0 +1,703 @@
+package scrabble.server;
+
+import scrabble.GameEngine;
+import scrabble.MoveInfo;
+import scrabble.Player;
+import scrabble.Tile;
+import scrabble.UserInput;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Class that runs one game of the GameServer for the two clients that joined it
+ *
+ * Each session is a small event loop: the lines of both clients are queued as tasks and run one at a time on a
+ * thread borrowed from the server's shared pool, which is given back as soon as the queue is empty. The GameEngine of
+ * a session is only used by its loop, so it needs no locks, and thousands of idle sessions hold no threads at all.
+ *
+ * The replies of a task are held until the commands it ran are on the disk of the engine's GameEventLog, so a client
+ * is never told of a move the server could lose. The loop runs the next tasks meanwhile, and their replies are sent
+ * after the held ones. A client stays in the session until the replies it is owed are sent, so every line a client
+ * sends is answered in the order it was sent.
+ */
+class GameSession {
+
+    /**
+     * Logger of the failures the sessions did not expect
+     */
+    private final static Logger LOGGER = Logger.getLogger(GameSession.class.getName());
+
+    /**
+     * Name of the game the clients joined
+     */
+    private final String name;
+
+    /**
+     * Server the session belongs to
+     */
+    private final GameServer server;
+
+    /**
+     * Engine that runs the turns of the game
+     */
+    private final GameEngine engine;
+
+    /**
+     * Connection of each Player, by the index of the Player
+     */
+    private final Connection[] seats = new Connection[GameEngine.PLAYER_COUNT];
+
+    /**
+     * Shared pool the tasks of the session run on
+     */
+    private final Executor pool;
+
+    /**
+     * Tasks waiting to run
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * True while a thread of the pool is running the tasks
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * True once the session has been removed from the server, only used by the event loop
+     */
+    private boolean ended;
+
+    /**
+     * True once a command of the session could not be logged, only used by the event loop
+     */
+    private boolean lost;
+
+    /**
+     * Replies of the task being run, only used by the event loop
+     */
+    private List<Runnable> outbox = new ArrayList<>();
+
+    /**
+     * Replies of the tasks run, in order, each waiting for the commands it answers to be logged, only used by the
+     * event loop
+     */
+    private final Queue<HeldReplies> held = new ArrayDeque<>();
+
+    /**
+     * Class for the replies of a task and the future of the commands they answer
+     */
+    private final static class HeldReplies {
+
+        /**
+         * Future completed once the commands are on the disk
+         */
+        private final CompletableFuture<Void> logged;
+
+        /**
+         * The replies, in the order they were made
+         */
+        private final List<Runnable> replies;
+
+        /**
+         * HeldReplies Constructor
+         *
+         * @param logged Future completed once the commands are on the disk
+         * @param replies The replies
+         */
+        private HeldReplies(CompletableFuture<Void> logged, List<Runnable> replies){
+            this.logged = logged;
+            this.replies = replies;
+        }
+    }
+
+    /**
+     * GameSession Constructor
+     *
+     * @param name Name of the game
+     * @param server Server the session belongs to
+     * @param engine Engine of the game, a new game or one rebuilt from a GameEventLog
+     * @param pool Shared pool the tasks of the session run on
+     */
+    GameSession(String name, GameServer server, GameEngine engine, Executor pool){
+        this.name = name;
+        this.server = server;
+        this.engine = engine;
+        this.pool = pool;
+    }
+
+    /**
+     * Accessor Method for the name of the game
+     *
+     * @return The name the clients joined
+     */
+    String getName(){
+        return name;
+    }
+
+    /**
+     * Method to queue a task for a client to run after the tasks already queued
+     *
+     * @param connection The client the task is for, who is sent an ERROR if the task fails
+     * @param task The task
+     */
+    void execute(Connection connection, Runnable task){
+        tasks.add(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "A line of game " + name + " failed", e);
+                reply(connection, "ERROR The server could not run the command.");
+            } finally {
+                flush();
+            }
+        });
+        schedule();
+    }
+
+    /**
+     * Method to queue a line for a client of the session to send after the replies it is owed
+     *
+     * @param connection The client
+     * @param line The line
+     */
+    void queue(Connection connection, String line){
+        execute(connection, () -> reply(connection, line));
+    }
+
+    /**
+     * Method to send the replies of the task run, once the commands it ran are on the disk
+     *
+     * Run by the event loop of the session.
+     */
+    private void flush(){
+
+        if (outbox.isEmpty()){
+            return;
+        }
+
+        CompletableFuture<Void> logged = engine.getLogged();
+        held.add(new HeldReplies(logged, outbox));
+        outbox = new ArrayList<>();
+
+        if (logged.isDone()){
+            release();
+        }
+        else {
+            //Completed by the writer thread of the log, so the replies are sent by a task of the loop
+            logged.whenComplete((done, failure) -> {
+                tasks.add(this::release);
+                schedule();
+            });
+        }
+    }
+
+    /**
+     * Method to send the held replies whose commands are on the disk, in the order the tasks were run
+     *
+     * Run by the event loop of the session. If a command could not be logged the game can not be rebuilt after a
+     * crash, so it ends and its clients are told.
+     */
+    private void release(){
+
+        HeldReplies next;
+
+        while ((next = held.peek()) != null && next.logged.isDone()) {
+            held.poll();
+
+            try {
+                next.logged.join();
+            } catch (CompletionException e) {
+                lose(e.getCause());
+                continue;
+            }
+
+            if (!lost){
+                next.replies.forEach(Runnable::run);
+            }
+        }
+    }
+
+    /**
+     * Method to end a game whose commands could not be logged, telling its clients
+     *
+     * @param failure Why the commands could not be logged
+     */
+    private void lose(Throwable failure){
+
+        if (lost){
+            return;
+        }
+
+        lost = true;
+        LOGGER.log(Level.SEVERE, "Game " + name + " could not be logged", failure);
+
+        for (int i = 0; i < seats.length; i++) {
+            if (seats[i] != null){
+                seats[i].send("ERROR Game " + name + " could not be saved.");
+
+                if (seats[i].getSession() == this){
+                    seats[i].setSession(null);
+                }
+                seats[i] = null;
+            }
+        }
+
+        if (!ended){
+            end();
+        }
+    }
+
+    /**
+     * Method to give the session a thread of the pool if it does not have one
+     */
+    private void schedule(){
+        if (running.compareAndSet(false, true)){
+            try {
+                pool.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                //The server is closed, so the tasks left will never run
+                tasks.clear();
+            }
+        }
+    }
+
+    /**
+     * Method to run the tasks queued until there are none left
+     */
+    private void drain(){
+        try {
+            Runnable task;
+
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    //Sending the ERROR failed as well, the loop carries on with the next task
+                    LOGGER.log(Level.WARNING, "A task of game " + name + " failed", e);
+                }
+            }
+        } finally {
+            running.set(false);
+
+            //A task queued after the last poll but before running was cleared would otherwise wait forever
+            if (!tasks.isEmpty()){
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Method for a client to take the next seat of the game, the game starts once both seats are taken
+     *
+     * Run by the event loop of the session. In a game rebuilt from a GameEventLog the client takes back the empty
+     * seat of the Player with the same name, and the game carries on once both seats are taken again.
+     *
+     * @param connection The client
+     * @param playerName The name of the client's Player
+     */
+    void join(Connection connection, String playerName){
+
+        int seat = seatOf(connection);
+
+        if (seat >= 0){
+            reply(connection, "ERROR You have already joined " + name + ".");
+            return;
+        }
+        if (!ended && engine.getState() != GameEngine.State.SETUP && engine.getState() != GameEngine.State.GAME_OVER){
+            rejoin(connection, playerName);
+            return;
+        }
+        if (ended || engine.getState() != GameEngine.State.SETUP){
+            unseat(connection);
+            reply(connection, "ERROR Game " + name + (ended ? " has ended." : " is full."));
+            return;
+        }
+
+        try {
+            seat = engine.getScrabble().getPlayers()[0] == null ? 0 : 1;
+            engine.addPlayer(playerName);
+        } catch (RuntimeException e) {
+            unseat(connection);
+            reply(connection, "ERROR " + e.getMessage());
+            return;
+        }
+
+        seats[seat] = connection;
+        reply(connection, "JOINED " + name + " " + seat);
+
+        if (engine.getState() == GameEngine.State.PLAYING){
+            broadcast("START " + name);
+            turn();
+        }
+    }
+
+    /**
+     * Method to run a JOIN of a client that was in the session when it sent the line
+     *
+     * Run by the event loop of the session. A client still seated has already joined, a client taken out of the
+     * session has its JOIN run by the server once it has left.
+     *
+     * @param connection The client
+     * @param line The JOIN line
+     */
+    void joinAgain(Connection connection, String line){
+
+        if (seatOf(connection) >= 0){
+            reply(connection, "ERROR You have already joined " + name + ".");
+        }
+        else {
+            outbox.add(() -> server.received(connection, line));
+        }
+    }
+
+    /**
+     * Method for a client to take back the empty seat of a Player in a game being played
+     *
+     * @param connection The client
+     * @param playerName The name of the client's Player
+     */
+    private void rejoin(Connection connection, String playerName){
+
+        Player[] players = engine.getScrabble().getPlayers();
+        int seat = -1;
+
+        for (int i = 0; i < seats.length; i++) {
+            if (seats[i] == null && players[i].getName().equals(playerName)){
+                seat = i;
+                break;
+            }
+        }
+
+        if (seat < 0){
+            unseat(connection);
+            reply(connection, "ERROR Game " + name + " is full.");
+            return;
+        }
+
+        seats[seat] = connection;
+        reply(connection, "JOINED " + name + " " + seat);
+
+        if (seats[0] != null && seats[1] != null){
+            broadcast("START " + name);
+            turn();
+
+            //A move placed before the server stopped is still waiting for the opponent to answer it
+            if (engine.getState() == GameEngine.State.AWAITING_CHALLENGE){
+                broadcast("PENDING " + engine.getCurrentPlayerIndex() + " " + engine.getPendingMove().getMoveScore());
+            }
+        }
+    }
+
+    /**
+     * Method to run a line of the text protocol sent by a client who joined the game
+     *
+     * Run by the event loop of the session. Only the Player whose turn it is can make a move, only their opponent can
+     * answer a challenge and either can end the game.
+     *
+     * @param connection The client
+     * @param line The line, parsed by UserInput.parseInput
+     */
+    void command(Connection connection, String line){
+
+        int seat = seatOf(connection);
+
+        if (seat < 0){
+            reply(connection, "ERROR Join a game first (JOIN <game> <name>).");
+            return;
+        }
+
+        UserInput input;
+        try {
+            input = UserInput.parseInput(line);
+        } catch (RuntimeException e) {
+            input = null;
+        }
+
+        //Lines parseInput can not make sense of are errors
+        if (input == null){
+            input = new UserInput(UserInput.UserInputType.ERROR);
+        }
+
+        try {
+            switch (input.getInputType()) {
+                case HELP:
+                    reply(connection, "HELP JOIN <game> <name>, PASS, QUIT, EXCHANGE <tiles>, BLANK <letters>, "
+                            + "CHALLENGE <Y/N>, NAME <name>, <grid reference> <A/D> <word>");
+                    break;
+
+                case QUIT:
+                    if (engine.getState() == GameEngine.State.SETUP){
+                        reply(connection, "LEFT " + seat);
+                        leave(connection);
+                        break;
+                    }
+                    engine.quit();
+                    broadcast("QUIT " + seat);
+                    gameOver();
+                    break;
+
+                case CHALLENGE:
+                    if (engine.getState() != GameEngine.State.AWAITING_CHALLENGE || seat == engine.getCurrentPlayerIndex()){
+                        reply(connection, "ERROR There is no move for you to challenge.");
+                        break;
+                    }
+                    challenge(input.getWord()[0] == 'Y');
+                    break;
+
+                case ERROR:
+                    reply(connection, "ERROR Unknown command, send HELP for the commands.");
+                    break;
+
+                default:
+                    if (engine.getState() != GameEngine.State.PLAYING || seat != engine.getCurrentPlayerIndex()){
+                        reply(connection, "ERROR It is not your turn.");
+                        break;
+                    }
+                    move(connection, seat, input, line);
+            }
+        } catch (RuntimeException e) {
+            reply(connection, "ERROR " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method for a client to leave the game, a game in progress ends as if it was quit
+     *
+     * Run by the event loop of the session.
+     *
+     * @param connection The client
+     */
+    void leave(Connection connection){
+
+        int seat = seatOf(connection);
+
+        if (seat < 0){
+            return;
+        }
+
+        unseat(connection);
+
+        switch (engine.getState()) {
+            case SETUP:
+                //The game can not start without the Player who left, so it is forgotten and can be joined again
+                end();
+                break;
+
+            case PLAYING:
+            case AWAITING_CHALLENGE:
+                engine.quit();
+                broadcast("LEFT " + seat);
+                gameOver();
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Method to make a move of the Player whose turn it is
+     *
+     * @param connection The client of the Player
+     * @param seat The index of the Player
+     * @param input The parsed move
+     * @param line The line of the move
+     */
+    private void move(Connection connection, int seat, UserInput input, String line){
+
+        switch (input.getInputType()) {
+            case PASS:
+                engine.pass();
+                broadcast("PASSED " + seat);
+                turn();
+                break;
+
+            case EXCHANGE:
+                engine.exchange(input.getWord());
+                broadcast("EXCHANGED " + seat + " " + input.getWord().length);
+                turn();
+                break;
+
+            case BLANK:
+                engine.setBlanks(input.getWord());
+                reply(connection, frame(engine.getCurrentPlayer()));
+                break;
+
+            case NAME:
+                engine.rename(input.getName());
+                broadcast("RENAMED " + seat + " " + engine.getCurrentPlayer().getName());
+                break;
+
+            case PLACE_TILE:
+                MoveInfo move = engine.place(input.getStartPosition(), input.getWordDirection(), input.getWord());
+                broadcast("PLACED " + seat + " " + move.getMoveScore() + " " + line.trim());
+                break;
+
+            default:
+                reply(connection, "ERROR A game can only be restarted by joining a new one.");
+        }
+    }
+
+    /**
+     * Method for the opponent to answer the pending move
+     *
+     * @param challenged True if the opponent challenges the move
+     */
+    private void challenge(boolean challenged){
+
+        int mover = engine.getCurrentPlayerIndex();
+
+        if (engine.challenge(challenged)){
+            broadcast("REMOVED " + mover);
+        }
+        else {
+            MoveInfo move = engine.getLastMove();
+            broadcast("SCORED " + mover + " " + move.getMoveScore() + " " + move.getPlayer().getScore());
+        }
+
+        if (engine.getState() == GameEngine.State.GAME_OVER){
+            gameOver();
+        }
+        else {
+            turn();
+        }
+    }
+
+    /**
+     * Method to tell both clients whose turn it is and the Player whose turn it is their Frame
+     */
+    private void turn(){
+
+        Player player = engine.getCurrentPlayer();
+        int seat = engine.getCurrentPlayerIndex();
+
+        broadcast("TURN " + seat + " " + player.getName() + " " + player.getScore());
+        send(seat, frame(player));
+    }
+
+    /**
+     * Method to tell both clients the final scores and end the session
+     */
+    private void gameOver(){
+
+        Player[] players = engine.getScrabble().getPlayers();
+        Player winner = engine.getWinner();
+
+        broadcast("GAMEOVER " + players[0].getScore() + " " + players[1].getScore() + " "
+                + (winner == null ? "DRAW" : winner == players[0] ? "0" : "1"));
+
+        for (Connection seat : seats) {
+            if (seat != null){
+                unseat(seat);
+            }
+        }
+
+        end();
+    }
+
+    /**
+     * Method to remove the session from the server, so a new game of the same name can be joined
+     */
+    private void end(){
+        ended = true;
+        server.ended(this);
+    }
+
+    /**
+     * Method to make the FRAME line of a Player
+     *
+     * @param player The Player
+     * @return FRAME followed by the letters of the Player's Tiles, _ for a blank not yet set
+     */
+    private static String frame(Player player){
+
+        StringBuilder line = new StringBuilder("FRAME ");
+
+        for (Tile tile : player.getPlayerFrame().returnFrame()) {
+            line.append(tile.getCharacter() == ' ' ? '_' : tile.getCharacter());
+        }
+
+        return line.toString();
+    }
+
+    /**
+     * Method to find the seat of a client
+     *
+     * @param connection The client
+     * @return The index of the client's Player, -1 if the client has no seat
+     */
+    private int seatOf(Connection connection){
+        for (int i = 0; i < seats.length; i++) {
+            if (seats[i] == connection){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method to send a line to the client of a seat
+     *
+     * @param seat The index of the Player
+     * @param line The line
+     */
+    private void send(int seat, String line){
+        if (seats[seat] != null){
+            reply(seats[seat], line);
+        }
+    }
+
+    /**
+     * Method to send a line to a client once the commands run so far are on the disk
+     *
+     * @param connection The client
+     * @param line The line
+     */
+    private void reply(Connection connection, String line){
+        outbox.add(() -> connection.send(line));
+    }
+
+    /**
+     * Method to take a client out of the session
+     *
+     * The seat is freed at once, but the client only leaves the session once the replies before it are sent, so the
+     * lines the client sends meanwhile are still answered in order, as by a client that has not joined.
+     *
+     * @param connection The client
+     */
+    private void unseat(Connection connection){
+
+        int seat = seatOf(connection);
+        if (seat >= 0){
+            seats[seat] = null;
+        }
+
+        outbox.add(() -> {
+            if (connection.getSession() == this){
+                connection.setSession(null);
+            }
+        });
+    }
+
+    /**
+     * Method to send a line to both clients
+     *
+     * @param line The line
+     */
+    private void broadcast(String line){
+        for (int i = 0; i < seats.length; i++) {
+            send(i, line);
+        }
+    }
+}
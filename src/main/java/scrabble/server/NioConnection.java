@@ -0,0 +1,274 @@
+package scrabble.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class for a client served by the NioTransport
+ *
+ * The bytes of a line are gathered in a small array until its new line arrives, and only a whole line becomes a
+ * String for UserInput.parseInput. Lines sent to the client are encoded into a direct ByteBuffer without making
+ * byte arrays, and a client that stops reading is disconnected once MAX_OUTPUT bytes are waiting for it.
+ */
+class NioConnection extends Connection {
+
+    /**
+     * Longest line a client can send, longer lines are answered with an error
+     */
+    final static int MAX_LINE = 256;
+
+    /**
+     * Size the output buffer starts at
+     */
+    private final static int INITIAL_OUTPUT = 512;
+
+    /**
+     * Most bytes that can wait to be written before the client is disconnected
+     */
+    final static int MAX_OUTPUT = 64 * 1024;
+
+    /**
+     * Channel of the client
+     */
+    private final SocketChannel channel;
+
+    /**
+     * Transport the client connected with
+     */
+    private final NioTransport transport;
+
+    /**
+     * Key of the channel in the transport's Selector, only used by the selector thread
+     */
+    private SelectionKey key;
+
+    /**
+     * Bytes of the line being read, only used by the selector thread
+     */
+    private final byte[] line = new byte[MAX_LINE];
+
+    /**
+     * Number of bytes of the line read so far
+     */
+    private int length;
+
+    /**
+     * True if the line being read is longer than MAX_LINE
+     */
+    private boolean overflow;
+
+    /**
+     * Bytes waiting to be written, null until the first line is sent, guarded by this
+     */
+    private ByteBuffer output;
+
+    /**
+     * True while the connection is queued for the selector thread to write, guarded by this
+     */
+    private boolean flushQueued;
+
+    /**
+     * True once the connection is closed
+     */
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * NioConnection Constructor
+     *
+     * @param channel Channel of the client, in non-blocking mode
+     * @param transport Transport the client connected with
+     */
+    NioConnection(SocketChannel channel, NioTransport transport){
+        this.channel = channel;
+        this.transport = transport;
+    }
+
+    /**
+     * Mutator Method for the SelectionKey
+     *
+     * @param key Key of the channel in the transport's Selector
+     */
+    void setKey(SelectionKey key){
+        this.key = key;
+    }
+
+    /**
+     * Method to read the bytes the client has sent and hand each whole line to the transport
+     *
+     * Called by the selector thread when the channel is readable.
+     *
+     * @param buffer Buffer shared by every client to read into
+     */
+    void read(ByteBuffer buffer){
+
+        buffer.clear();
+
+        try {
+            if (channel.read(buffer) < 0){
+                close();
+                return;
+            }
+        } catch (IOException e) {
+            close();
+            return;
+        }
+
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+
+            if (b == '\n'){
+                endLine();
+            }
+            else if (b != '\r'){
+                if (length < MAX_LINE){
+                    line[length++] = b;
+                }
+                else {
+                    overflow = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to hand the line read to the transport and start the next line
+     */
+    private void endLine(){
+
+        if (overflow){
+            //Sent after the replies to the lines before it
+            transport.refused(this, "ERROR Lines can not be longer than " + MAX_LINE + " bytes.");
+        }
+        else {
+            transport.received(this, new String(line, 0, length, StandardCharsets.UTF_8));
+        }
+
+        length = 0;
+        overflow = false;
+    }
+
+    /**
+     * Method to send a line to the client
+     *
+     * Called by any thread. The line is encoded into the output buffer and the selector thread is asked to write it.
+     *
+     * @param text The line, without a new line
+     */
+    @Override
+    synchronized void send(String text){
+
+        if (closed.get()){
+            return;
+        }
+
+        if (!reserve(text.length() * 3 + 1)){
+            //The client is not reading what it is sent
+            close();
+            return;
+        }
+
+        //Lines are nearly always ASCII, so each char is put as a byte unless it is not
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c < 0x80){
+                output.put((byte) c);
+            }
+            else {
+                output.put(text.substring(i).getBytes(StandardCharsets.UTF_8));
+                break;
+            }
+        }
+        output.put((byte) '\n');
+
+        if (!flushQueued){
+            flushQueued = true;
+            transport.requestFlush(this);
+        }
+    }
+
+    /**
+     * Method to make room in the output buffer, growing it up to MAX_OUTPUT
+     *
+     * @param bytes Most bytes that will be put
+     * @return True if there is room
+     */
+    private boolean reserve(int bytes){
+
+        if (output == null){
+            output = ByteBuffer.allocateDirect(Math.max(INITIAL_OUTPUT, bytes));
+        }
+
+        if (output.remaining() < bytes){
+            int needed = output.position() + bytes;
+
+            if (needed > MAX_OUTPUT){
+                return false;
+            }
+
+            ByteBuffer grown = ByteBuffer.allocateDirect(Math.min(MAX_OUTPUT, Math.max(needed, output.capacity() * 2)));
+            output.flip();
+            grown.put(output);
+            output = grown;
+        }
+
+        return true;
+    }
+
+    /**
+     * Method to write as much of the output buffer as the client will take
+     *
+     * Called by the selector thread. If bytes are left the channel is watched until it is writable again.
+     */
+    synchronized void flush(){
+
+        flushQueued = false;
+
+        if (closed.get() || output == null){
+            return;
+        }
+
+        output.flip();
+
+        try {
+            channel.write(output);
+        } catch (IOException e) {
+            close();
+            return;
+        }
+
+        output.compact();
+
+        try {
+            key.interestOps(output.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        } catch (CancelledKeyException e) {
+            //Another thread closed the connection
+        }
+    }
+
+    /**
+     * Method to close the channel and tell the server the client disconnected, only the first call has an effect
+     */
+    @Override
+    void close(){
+
+        if (!closed.compareAndSet(false, true)){
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            //The channel is closed either way
+        }
+
+        transport.disconnected(this);
+    }
+}
@@ -0,0 +1,263 @@
+package scrabble.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Class for the transport that serves every client from one thread with a non-blocking Selector
+ *
+ * The selector thread accepts clients, reads whatever bytes each client has sent into one shared direct ByteBuffer
+ * and splits them into lines, so an idle or slow client only costs its channel and a few small buffers. Lines sent to
+ * clients are encoded straight into each client's direct output buffer by the thread sending them and written out by
+ * the selector thread, which waits for the client to be writable again if it is slow to read.
+ */
+class NioTransport implements Transport, Runnable {
+
+    /**
+     * Logger of the failures of single clients, which do not stop the selector thread
+     */
+    private final static Logger LOGGER = Logger.getLogger(NioTransport.class.getName());
+
+    /**
+     * Size of the buffer bytes are read into, shared by every client
+     */
+    private final static int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Server the clients connect to
+     */
+    private final GameServer server;
+
+    /**
+     * Channel the clients connect to
+     */
+    private final ServerSocketChannel serverChannel;
+
+    /**
+     * Selector the selector thread waits on
+     */
+    private final Selector selector;
+
+    /**
+     * Buffer the bytes of every client are read into, only used by the selector thread
+     */
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+
+    /**
+     * Clients with lines waiting to be written, queued by the threads that sent them
+     */
+    private final Queue<NioConnection> flushes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * NioTransport Constructor
+     *
+     * @param server Server the clients connect to
+     * @param port Port to listen on, 0 for any free port
+     * @throws IOException If the port can not be listened on
+     */
+    NioTransport(GameServer server, int port) throws IOException {
+        this.server = server;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+
+        serverChannel.bind(new InetSocketAddress(port), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Method to start the selector thread
+     */
+    @Override
+    public void start(){
+        GameServer.daemon("scrabble-selector").newThread(this).start();
+    }
+
+    /**
+     * Accessor Method for the port
+     *
+     * @return The port the clients connect to
+     */
+    @Override
+    public int getPort(){
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Method to stop the selector thread and close every client's channel
+     */
+    @Override
+    public void close(){
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            //The channel is closed either way
+        }
+
+        selector.wakeup();
+    }
+
+    /**
+     * Method to run the selector thread until the transport is closed
+     */
+    @Override
+    public void run(){
+        try {
+            while (serverChannel.isOpen()) {
+                selector.select();
+
+                //Write the lines other threads sent since the last select
+                NioConnection flushed;
+                while ((flushed = flushes.poll()) != null) {
+                    try {
+                        flushed.flush();
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.WARNING, "A client of the selector thread failed", e);
+                        flushed.close();
+                    }
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    if (!key.isValid()){
+                        continue;
+                    }
+
+                    if (key.isAcceptable()){
+                        accept();
+                        continue;
+                    }
+
+                    NioConnection connection = (NioConnection) key.attachment();
+
+                    try {
+                        if (key.isReadable()){
+                            connection.read(readBuffer);
+                        }
+                        if (key.isValid() && key.isWritable()){
+                            connection.flush();
+                        }
+                    } catch (CancelledKeyException e) {
+                        //Another thread closed the connection
+                    } catch (RuntimeException e) {
+                        //Only the client whose line failed is disconnected, the other clients are still served
+                        LOGGER.log(Level.WARNING, "A client of the selector thread failed", e);
+                        connection.close();
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            //The selector can not be used any more, so every client is disconnected below
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof NioConnection){
+                    ((NioConnection) key.attachment()).close();
+                }
+            }
+
+            try {
+                selector.close();
+            } catch (IOException e) {
+                //The selector is closed either way
+            }
+        }
+    }
+
+    /**
+     * Method to accept every client waiting to connect
+     *
+     * A client that can not be accepted or set up, such as one that reset its connection or arrived when the program
+     * had no file descriptors left, is closed without affecting the clients already connected.
+     */
+    private void accept(){
+
+        while (true) {
+            SocketChannel channel;
+
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                //The clients still waiting are accepted on a later select
+                LOGGER.log(Level.WARNING, "A client could not be accepted", e);
+                return;
+            }
+
+            if (channel == null){
+                return;
+            }
+
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+                NioConnection connection = new NioConnection(channel, this);
+                connection.setKey(channel.register(selector, SelectionKey.OP_READ, connection));
+                connection.send("WELCOME");
+            } catch (IOException e) {
+                try {
+                    channel.close();
+                } catch (IOException closed) {
+                    //The channel is closed either way
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for a client to ask the selector thread to write the lines sent to it
+     *
+     * Called by any thread.
+     *
+     * @param connection The client
+     */
+    void requestFlush(NioConnection connection){
+        flushes.add(connection);
+        selector.wakeup();
+    }
+
+    /**
+     * Method to hand a line read from a client to the server
+     *
+     * @param connection The client
+     * @param line The line
+     */
+    void received(NioConnection connection, String line){
+        server.received(connection, line);
+    }
+
+    /**
+     * Method to tell the server a line of a client could not be read
+     *
+     * @param connection The client
+     * @param error The ERROR line
+     */
+    void refused(NioConnection connection, String error){
+        server.refused(connection, error);
+    }
+
+    /**
+     * Method to tell the server a client disconnected
+     *
+     * @param connection The client
+     */
+    void disconnected(NioConnection connection){
+        server.disconnected(connection);
+    }
+}
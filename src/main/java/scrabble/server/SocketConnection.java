@@ -0,0 +1,99 @@
+package scrabble.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class for a client connected with a blocking Socket, whose lines are read by a thread of its own
+ *
+ * The thread only waits for lines and hands them to the GameServer; the game itself runs on the event loop of the
+ * client's GameSession. Lines sent to the client are written under a lock so lines from different threads stay whole.
+ */
+class SocketConnection extends Connection implements Runnable {
+
+    /**
+     * The Socket of the client
+     */
+    private final Socket socket;
+
+    /**
+     * Transport the client connected with
+     */
+    private final BlockingTransport transport;
+
+    /**
+     * Writer of the lines sent to the client
+     */
+    private final Writer out;
+
+    /**
+     * SocketConnection Constructor
+     *
+     * @param socket The Socket of the client
+     * @param transport Transport the client connected with
+     * @throws IOException If the Socket can not be written
+     */
+    SocketConnection(Socket socket, BlockingTransport transport) throws IOException {
+        this.socket = socket;
+        this.transport = transport;
+        this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to read the lines of the client until it disconnects
+     */
+    @Override
+    public void run(){
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            send("WELCOME");
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                transport.received(this, line);
+            }
+        } catch (IOException e) {
+            //The client disconnected without closing its side
+        } finally {
+            transport.disconnected(this);
+            close();
+        }
+    }
+
+    /**
+     * Method to send a line to the client, closing the connection if it can not be written
+     *
+     * @param line The line, without a new line
+     */
+    @Override
+    synchronized void send(String line){
+        if (socket.isClosed()){
+            return;
+        }
+
+        try {
+            out.write(line);
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    /**
+     * Method to close the Socket, which also ends the thread reading it
+     */
+    @Override
+    void close(){
+        try {
+            socket.close();
+        } catch (IOException e) {
+            //The Socket is closed either way
+        }
+    }
+}
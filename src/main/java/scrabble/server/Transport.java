@@ -0,0 +1,31 @@
+package scrabble.server;
+
+import java.io.IOException;
+
+/**
+ * Interface for the way clients connect to the GameServer
+ *
+ * A transport accepts clients, reads their lines and hands each whole line to GameServer.received, and tells the
+ * server when a client disconnects with GameServer.disconnected.
+ */
+interface Transport {
+
+    /**
+     * Method to start accepting clients
+     *
+     * @throws IOException If the transport can not start
+     */
+    void start() throws IOException;
+
+    /**
+     * Accessor Method for the port
+     *
+     * @return The port clients connect to
+     */
+    int getPort();
+
+    /**
+     * Method to stop accepting clients and disconnect every client
+     */
+    void close();
+}
@@ -3,21 +3,24 @@ package scrabble.userInterface;
 // Imports required for javaFx
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
 import javafx.geometry.Pos;
-import javafx.scene.control.TextArea;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 import javafx.stage.Screen;
 import scrabble.*;
-import scrabble.exceptions.InvalidFrameException;
-import scrabble.exceptions.InvalidScrabbleException;
 
-import java.io.FileNotFoundException;
-import java.util.Random;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 
 public class UserInterface extends Application{
@@ -26,16 +29,25 @@ public class UserInterface extends Application{
     private Stage gameStage;
     private GridPane gameFrame;
     private TextField gameTextInput;
-    private TextArea gameTextLog;
+    private ListView<String> gameTextLog;
     private GridPane gameBoard;
     private Scrabble scrabble;
 
-    // Variables used in gameFlow
-    private int playerTurn = 0;
-    private boolean setup = true;
-    private boolean challenge = false;
-    private boolean gameOver = false;
-    private MoveInfo currentMove;
+    // Label of each square of the board, updated in place when the square changes
+    private Label[][] squareLabels;
+
+    // Engine that runs the turns of the game, only read while no command is running
+    private GameEngine engine;
+
+    // Runs the commands of the engine off the JavaFx application thread
+    private AsyncGameEngine asyncEngine;
+
+    // True while a command is running, input is ignored until it completes
+    private boolean busy;
+
+    // Most recent lines of the game dialogue, shown by gameTextLog
+    private GameLog gameLog;
+    private LogLines logLines;
 
 
     /**
@@ -55,23 +67,37 @@ public class UserInterface extends Application{
     @Override
     public void start(Stage gameStage) {
 
-        // Creates a new instance of scrabble
-        try {
-            scrabble = new Scrabble();
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        }
-
         // Assigns the gameStage
         this.gameStage = gameStage;
 
         gameStage.setTitle("scrabble");
 
+        // Closing the window mid-game still writes the game log to its spill file
+        gameStage.setOnCloseRequest(event -> shutDown());
+
         // Setting up of the JavaFx Elements
         gameFrame = new GridPane();
         gameTextInput = setUpTextInput();
         gameTextLog = setUpTextLog();
-        gameBoard = setUpBoard(scrabble.getBoard());
+        gameBoard = setUpBoard();
+
+        // Creates a new instance of scrabble, loading the dictionary in the background while the stage is shown
+        busy = true;
+        AsyncGameEngine.load().whenComplete((loaded, error) -> Platform.runLater(() -> {
+            if(error != null) {
+                log("- Error: The dictionary could not be loaded: " + AsyncGameEngine.cause(error).getMessage() + "\n");
+                return;
+            }
+
+            asyncEngine = loaded;
+            engine = loaded.getEngine();
+            scrabble = engine.getScrabble();
+            busy = false;
+
+            // Draws every square, as all squares of a new board are marked as changed
+            updateBoard(scrabble.getBoard());
+            log("- Welcome to scrabble, please enter name for player 1 and 2\n");
+        }));
 
         // Dynamic sizing for gameBoard and gameTextLog
         gameTextLog.prefHeightProperty().bind(gameFrame.heightProperty());
@@ -98,11 +124,10 @@ public class UserInterface extends Application{
     }
 
     /**
-     * Method used to display the scrabble board
-     * @param board: Scrabble board object
+     * Method used to display the scrabble board, its squares are drawn once the game is loaded
      * @return GridPane representing the game board
      */
-    private GridPane setUpBoard(Board board) {
+    private GridPane setUpBoard() {
 
         // Declares a new gripPane
         GridPane gameBoard = new GridPane();
@@ -133,43 +158,20 @@ public class UserInterface extends Application{
 
         }
 
+        // Creates one label for each square of the scrabble board, kept for the whole game
+        squareLabels = new Label[15][15];
+
         // Loops through each row of the scrabble board
-        for(int i = 1; i < 16; i++) {
+        for(int i = 0; i < 15; i++) {
 
             // Loops through each index of the current row of the scrabble board
-            for(int j = 1; j < 16; j++) {
+            for(int j = 0; j < 15; j++) {
 
-                // Creates a label to represent the current index
+                // Creates a label to represent the current index and adds it to the GridPane
                 Label label = new Label(" ");
-
-                // Gets the type of the square at the current index, sets the labels color and text appropriately
-                switch(board.getSquare(i-1,j-1).getType()) {
-                    case NORMAL:
-                        label.setStyle("-fx-background-color: #e6e7e8; -fx-border-color:black; -fx-alignment: center");
-                        break;
-                    case TRIPLE_WORD:
-                        label.setStyle("-fx-background-color: #ed2207; -fx-border-color:black; -fx-alignment: center");
-                        label.setText("3W");
-                        break;
-
-                    case START:
-                    case DOUBLE_WORD:
-                        label.setStyle("-fx-background-color: #2f6ced; -fx-border-color:black; -fx-alignment: center");
-                        label.setText("2W");
-                        break;
-                    case DOUBLE_LETTER:
-                        label.setStyle("-fx-background-color: #64a4e8; -fx-border-color:black; -fx-alignment: center");
-                        label.setText("2L");
-                        break;
-                    case TRIPLE_LETTER:
-                        label.setStyle("-fx-background-color: #e3625d; -fx-border-color: black; -fx-alignment: center");
-                        label.setText("3L");
-                        break;
-                }
-
-                // Adds the label representing the square in the scrabble board the the GripPane
                 label.setPrefSize(55,55);
-                gameBoard.add(label, j, i);
+                squareLabels[i][j] = label;
+                gameBoard.add(label, j+1, i+1);
             }
         }
 
@@ -178,79 +180,157 @@ public class UserInterface extends Application{
     }
 
     /**
-     * Method used to visually update the board
+     * Method used to visually update the board, redrawing only the squares that changed since the last update
+     * @param board: Scrabble board object
      */
-    private void updateBoard() {
+    private void updateBoard(Board board) {
 
         // Loops through each row of the scrabble board
         for(int i = 0; i < 15; i++) {
 
-            // Loops through each index of the current row of the scrabble board
-            for(int j = 0; j < 15; j++) {
-                // Creates a label to represent the current index
-                Label label = new Label(" ");
+            // Takes the squares of the row changed since the last update
+            int changed = board.takeChangedSquares(i);
 
-                // Checks if the current board square has a tile in it
-                if(scrabble.getBoard().getSquare(i,j).isEmpty()) {
-
-                    // Gets the type of the square at the current index, sets the labels color and text appropriately
-                    switch (scrabble.getBoard().getSquare(i, j).getType()) {
-                        case NORMAL:
-                            label.setStyle("-fx-background-color: #e6e7e8; -fx-border-color:black; -fx-alignment: center");
-                            break;
-                        case TRIPLE_WORD:
-                            label.setStyle("-fx-background-color: #ed2207; -fx-border-color:black; -fx-alignment: center");
-                            label.setText("3W");
-                            break;
-                        case START:
-                        case DOUBLE_WORD:
-                            label.setStyle("-fx-background-color: #2f6ced; -fx-border-color:black; -fx-alignment: center");
-                            label.setText("2W");
-                            break;
-                        case DOUBLE_LETTER:
-                            label.setStyle("-fx-background-color: #64a4e8; -fx-border-color:black; -fx-alignment: center");
-                            label.setText("2L");
-                            break;
-                        case TRIPLE_LETTER:
-                            label.setStyle("-fx-background-color: #e3625d; -fx-border-color: black; -fx-alignment: center");
-                            label.setText("3L");
-                            break;
-                    }
-                }
+            // Loops through each changed index of the current row
+            for(; changed != 0; changed &= changed - 1) {
+                int j = Integer.numberOfTrailingZeros(changed);
+                drawSquare(squareLabels[i][j], board.getSquare(i, j));
+            }
+        }
+    }
 
-                // Sets the style and text of the label accordingly if the current square contains a tile on it
-                else{
-                    label.setStyle("-fx-background-color: #f2c66d; -fx-border-color:black; -fx-alignment: center");
-                    label.setText(scrabble.getBoard().getSquare(i,j).toString());
-                }
+    /**
+     * Method used to set the color and text of the label of a square
+     * @param label: Label representing the square
+     * @param square: Square of the scrabble board
+     */
+    private void drawSquare(Label label, Square square) {
 
-                // Updates the current label
-                label.setPrefSize(55,55);
-                gameBoard.add(label, j+1, i+1);
-            }
+        // Sets the style and text of the label accordingly if the current square contains a tile on it
+        if(!square.isEmpty()) {
+            label.setStyle("-fx-background-color: #f2c66d; -fx-border-color:black; -fx-alignment: center");
+            label.setText(square.toString());
+            return;
         }
 
+        // Gets the type of the square, sets the labels color and text appropriately
+        switch(square.getType()) {
+            case NORMAL:
+                label.setStyle("-fx-background-color: #e6e7e8; -fx-border-color:black; -fx-alignment: center");
+                label.setText(" ");
+                break;
+            case TRIPLE_WORD:
+                label.setStyle("-fx-background-color: #ed2207; -fx-border-color:black; -fx-alignment: center");
+                label.setText("3W");
+                break;
+            case START:
+            case DOUBLE_WORD:
+                label.setStyle("-fx-background-color: #2f6ced; -fx-border-color:black; -fx-alignment: center");
+                label.setText("2W");
+                break;
+            case DOUBLE_LETTER:
+                label.setStyle("-fx-background-color: #64a4e8; -fx-border-color:black; -fx-alignment: center");
+                label.setText("2L");
+                break;
+            case TRIPLE_LETTER:
+                label.setStyle("-fx-background-color: #e3625d; -fx-border-color: black; -fx-alignment: center");
+                label.setText("3L");
+                break;
+        }
     }
 
 
     /**
-     * Method to setup the TextArea displaying the terminal output of the game
-     * @return TextArea
+     * Method to setup the ListView displaying the terminal output of the game
+     * @return ListView showing the lines of the gameLog
      */
-    private TextArea setUpTextLog() {
+    private ListView<String> setUpTextLog() {
+
+        // Creates the log, spilling old lines to the file named by the scrabble.logFile property if it is set
+        String logFile = System.getProperty("scrabble.logFile");
+        try {
+            gameLog = logFile == null ? new GameLog() : new GameLog(GameLog.DEFAULT_CAPACITY, Paths.get(logFile));
+        } catch (IOException e) {
+            e.printStackTrace();
+            gameLog = new GameLog();
+        }
+        logLines = new LogLines(gameLog);
 
-        // Creates a new TextArea
-        TextArea text_flow = new TextArea();
+        // Creates a new ListView, which only creates cells for the lines on screen and reuses them when scrolling
+        ListView<String> text_flow = new ListView<>(logLines);
 
-        // Setup for the TextArea
+        // Setup for the ListView, cells wrap long lines to the width of the log
         text_flow.setEditable(false);
-        text_flow.setWrapText(true);
-        text_flow.appendText("- Welcome to scrabble, please enter name for player 1 and 2\n");
+        text_flow.setFocusTraversable(false);
+        text_flow.setCellFactory(list -> new ListCell<String>() {
+            {
+                setPrefWidth(0);
+                setWrapText(true);
+            }
 
-        // Returns the TextArea
+            @Override
+            protected void updateItem(String line, boolean empty) {
+                super.updateItem(line, empty);
+                setText(empty ? null : line);
+            }
+        });
+
+        // Returns the ListView
         return text_flow;
     }
 
+    /**
+     * Method to add text to the game log and scroll to it
+     * @param text: One or more lines, each ended by a new line
+     */
+    private void log(String text) {
+
+        // Adds each line of the text to the log
+        for(String line : text.split("\n")) {
+            logLines.add(line);
+        }
+
+        // The lines dropped by the batch are written to the spill file once rather than per line
+        try {
+            gameLog.flush();
+        } catch (UncheckedIOException e) {
+            e.printStackTrace();
+        }
+
+        gameTextLog.scrollTo(logLines.size() - 1);
+    }
+
+    /**
+     * Method to close the game log, writing any lines kept to its spill file
+     */
+    private void closeLog() {
+        try {
+            gameLog.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Method to close the game log and the engine thread when the game is left
+     */
+    private void shutDown() {
+        closeLog();
+
+        // The engine is null if the window is closed while the dictionary is still loading
+        if(asyncEngine != null) {
+            asyncEngine.close();
+        }
+    }
+
+    /**
+     * Method run by javaFx when the application exits
+     */
+    @Override
+    public void stop() {
+        shutDown();
+    }
+
 
     /**
      * Method to setup the TextField used to get user input for the game
@@ -263,19 +343,19 @@ public class UserInterface extends Application{
 
         // Setup for event handler for when the user enters input into the TextField
         gameText.setOnKeyReleased(event -> {
-            if (event.getCode() == KeyCode.ENTER && !(gameText.getText().equals("")) ){
+            if (event.getCode() == KeyCode.ENTER && !(gameText.getText().equals("")) && !busy){
 
                 // Displays the users input to the gameTextLog
-                gameTextLog.appendText(gameText.getText() + "\n");
+                log(gameText.getText() + "\n");
 
                 // Checks if the game has been setup, if not the setUpEvent is called to handle the input
-                if(setup) {
+                if(engine.getState() == GameEngine.State.SETUP) {
 
                     setUpEvent(gameText);
                 }
 
                 // Checks if the game has ended, if so the gameOver is called to handle the input
-                else if(gameOver) {
+                else if(engine.getState() == GameEngine.State.GAME_OVER) {
 
                     gameOverEvent(gameText);
                 }
@@ -299,34 +379,20 @@ public class UserInterface extends Application{
      */
     private void setUpEvent(TextField gameText) {
 
+        // Creates a player with the given gameText input on the engine thread
+        run(asyncEngine.addPlayer(gameText.getCharacters().toString()), player -> {
 
-        // Try catch to handles errors when setting up the each player
-        try {
+            // Displays the players name to the user
+            log("- Player " + (engine.getState() == GameEngine.State.SETUP ? 1 : 2) + " name set to " + player.getName() + "\n");
 
-            // Creates a player with the given gameTExt input
-            scrabble.createPlayer(gameText.getCharacters().toString(), playerTurn);
+            // If both players have been created the beginning of the game is displayed
+            if(engine.getState() == GameEngine.State.PLAYING) {
 
-            // Displays the players name to the user and increases the number of players
-            gameTextLog.appendText("- Player " + (playerTurn+1) + " name set to " + scrabble.getPlayers()[playerTurn].getName() + "\n");
-            playerTurn++;
-        }catch (Exception e){
-            gameTextLog.appendText(e.getMessage() + "\n");
-        }
-
-        // If two players have been created the beginning of the game is displayed
-        if(playerTurn == 2) {
-
-            // PlayerTurn set to a random player, now is used to contain which players turn it is
-            Random r = new Random();
-            playerTurn = r.nextInt(2);
-
-            // Displays the rules to the user at the start of the game alongside the first players frame
-            gameTextLog.appendText(gameHelp());
-            gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() +"s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
-
-            // Setup set to false so setupEvent cannot be called
-            setup = false;
-        }
+                // Displays the rules to the user at the start of the game alongside the first players frame
+                log(gameHelp());
+                displayTurn();
+            }
+        });
 
         // Sets input box to blank
         gameText.setText("");
@@ -338,284 +404,232 @@ public class UserInterface extends Application{
      */
     private void gameEvent(TextField gameText) {
 
-        // Variable to hold the parsed form of the players input
-        UserInput text;
-
         // Try catch for parsing game event
         try {
 
             // Parses the gameText input
-            text = UserInput.parseInput(gameText.getCharacters().toString());
+            UserInput text = UserInput.parseInput(gameText.getCharacters().toString());
 
             // Check for if a challenge can be made
-            if(!challenge) {
-
-                // Switch statement to get the type of input from the player
-                switch (text.getInputType()) {
-
-                    // Case for when input is type HELP
-                    case HELP:
-
-                        // Game rules are appended to the gameTextLog
-                        gameTextLog.appendText(gameHelp());
-
-                        // Displays the current players frame to the gameTextLog
-                        gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() +"s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
-                        break;
-
-                    // Case for when the input is type PASS
-                    case PASS:
-
-                        // Passes the turn of the current player
-                        gameTextLog.appendText("- Passed turn for " + scrabble.getPlayers()[playerTurn%2].getName() + "\n");
-                        scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().setToBlank();
-                        playerTurn = (playerTurn + 1) % 2;
-
-                        // Displays the current players frame to the gameTextLog
-                        gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() +"s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
-                        break;
-
-                    // Case for when the input is type QUIT
-                    case QUIT:
-
-                        // Sets the gameOver boolean check to true;
-                        gameOver = true;
-                        break;
-
-                    // Case for when the input is type EXCHANGE
-                    case EXCHANGE:
-
-                        // Try catch for if the swapping of tiles fails
-                        try {
-
-                            // Swaps the tiles inputted in text with random tiles in the pool
-                            scrabble.getPlayers()[playerTurn].getPlayerFrame().checkTiles(text.getWord());
-                            scrabble.getPlayers()[playerTurn].getPlayerFrame().swapTiles(text.getWord());
-
-                            // Displays that the swap has been made and goes to the next players turn
-                            gameTextLog.appendText("- Selected tiles have been swapped\n");
-                            playerTurn = (playerTurn + 1) % 2;
-                            gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() +"s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
-
-                        // Catches and displays any exceptions thrown
-                        } catch (Exception e) {
-                            gameTextLog.appendText("- Error: " + e.getMessage() + "\n");
-                        }
-                        break;
-
-                    // Case for when the input is type PLACE_TILE
-                    case PLACE_TILE:
-
-                        // Try catch for if the selected tiles cannot be placed on the board
-                        try {
-
-                            // Checks that the starting position is valid
-                            if (text.getStartPosition().length == 2 && Board.checkValidPosition(text.getStartPosition())) {
-
-                                    // Temporarily stores the information regarding the current move
-                                    currentMove = new MoveInfo(scrabble.getPlayers()[playerTurn % 2], text.getStartPosition(), text.getWordDirection(), text.getWord());
-
-                                    // Displays the move on the board and adds the move to the moveHistory
-                                    scrabble.getBoard().placeTiles(currentMove);
-                                    scrabble.getMoveHistory().add(currentMove);
-                                }
-
-                            // Throws exception if an invalid stating position is entered
-                            else {
-                                throw new InvalidScrabbleException("Invalid Start Position Inputted.\n");
-                            }
-
-                            // Updates the visuals of the board
-                            updateBoard();
-
-                            // Lets the next player challenge the move that will be made
-                            challenge = true;
-                            gameTextLog.appendText("- Does " + scrabble.getPlayers()[(playerTurn + 1) % 2].getName() + " want to challenge this move? (CHALLENGE <Y/N>)\n");
-
-                        // Catches and displays any exceptions thrown
-                        } catch (Exception e) {
-                                gameTextLog.appendText("- Error: " + e.getMessage() + "\n");
-                        }
-                        break;
-
-                    // Case for when the input is type BLANK
-                    case BLANK:
-
-                        // Try catch for if an exception is thrown
-                        try {
+            if(engine.getState() == GameEngine.State.AWAITING_CHALLENGE) {
+                challengeEvent(text);
+            }
+            else {
+                commandEvent(text);
+            }
 
-                            // Checks if the player has a blank tile
-                            if(scrabble.getPlayers()[playerTurn].getPlayerFrame().hasBlank()) {
+        // Catches any exception thrown from parsing gameText
+        } catch(Exception e) {
+            log("- Error: " + e.getMessage() + "\n");
+        }
 
-                                // Sets the blank tile to the inputted character
-                                scrabble.getPlayers()[playerTurn].getPlayerFrame().setBlanks(text.getWord());
+        // Clears input in gameText
+        gameText.setText("");
+    }
 
-                                // Displays that the blank tile has been set and the current players frame to the gameTextLog
-                                gameTextLog.appendText("- Blank tile has been set\n");
-                                gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() + "s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
-                            }
+    /**
+     * Method to run a command on the engine thread and apply its result on the JavaFx application thread
+     * @param command: Future of the command's result
+     * @param then: Applies the result once the command completes without an exception
+     * @param <T> Type of the result of the command
+     */
+    private <T> void run(CompletableFuture<T> command, Consumer<T> then) {
 
-                            // Throws new exception if the player has no blank tile
-                            else {
-                                throw new InvalidFrameException("Player does not have a blank tile to set");
-                            }
+        // Input is ignored until the command completes
+        busy = true;
 
-                        // Catches and displays any exceptions thrown
-                        } catch (Exception e) {
-                            gameTextLog.appendText("- Error: " + e.getMessage() + "\n");
-                        }
-                        break;
+        command.whenComplete((result, error) -> Platform.runLater(() -> {
+            busy = false;
 
-                    // Case for when the input type is RESTART
-                    case RESTART:
+            // Displays any exception thrown by the command
+            if(error != null) {
+                log("- Error: " + AsyncGameEngine.cause(error).getMessage() + "\n");
+            }
+            else {
+                then.accept(result);
+            }
 
-                        // Displays the conditions needed to restart to the user
-                        gameTextLog.appendText("- Cannot restart a game that has not ended (QUIT to end game)\n");
-                        gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() + "s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
-                        break;
+            // Checks if the command ended the game
+            if(engine.getState() == GameEngine.State.GAME_OVER) {
+                displayGameOver();
+            }
+        }));
+    }
 
-                    // Case from when the input is NAME
-                    case NAME:
+    /**
+     * Method to display the end of game, the scores of each player and the winner
+     */
+    private void displayGameOver() {
 
-                        try {
+        Player[] players = engine.getScrabble().getPlayers();
 
-                            // Gets the current players name and sets it to the new name
-                            String temp = scrabble.getPlayers()[playerTurn % 2].getName();
-                            scrabble.getPlayers()[playerTurn % 2].setName(text.getName());
+        // Displays the end of game and scores of each player
+        log("- GAME OVER!\n");
+        log("- "+players[0].getName() +" SCORE: " + players[0].getScore()+"\n");
+        log("- "+players[1].getName() +" SCORE: " + players[1].getScore()+"\n");
 
-                            // Displays name
-                            gameTextLog.appendText("- " + temp + " name set to " + scrabble.getPlayers()[playerTurn % 2].getName() + "\n");
+        // Displays the winner or a draw
+        if(engine.getWinner() != null) {
+            log("- " + engine.getWinner().getName() + " WINS!\n");
+        }
+        else {
+            log("- THE GAME HAS ENDED IN A DRAW!\n");
+        }
 
+        // Displays options for the gameOverEvent
+        log("- Type QUIT to exit game or RESTART to start a new game!\n");
+    }
 
-                            // Catches any exceptions thrown
-                        } catch (Exception e) {
-                            gameTextLog.appendText("- Error: " + e.getMessage() + "\n");
-                        }
+    /**
+     * Method to handle a command from the player whose turn it is
+     * @param text The parsed input of the player
+     */
+    private void commandEvent(UserInput text) {
 
-                        gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() + "s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
-                        break;
+        // Switch statement to get the type of input from the player
+        switch (text.getInputType()) {
 
-                    // Case for any unknown input type
-                    default:
-                        gameTextLog.appendText("- Error: Unknown command\n");
-                }
-            }
+            // Case for when input is type HELP
+            case HELP:
 
-            // Condition for when a challenge can be made for the other user
-            else {
+                // Game rules are appended to the gameTextLog alongside the current players frame
+                log(gameHelp());
+                displayTurn();
+                break;
 
-                // Try catch for challenge input
-                try {
+            // Case for when the input is type PASS
+            case PASS:
 
-                    // Checks if the player has indicated that want to make a challenge
-                    if(text.getWord()[0] == 'Y') {
+                // Passes the turn of the current player
+                String passed = engine.getCurrentPlayer().getName();
+                run(asyncEngine.pass(), done -> {
+                    log("- Passed turn for " + passed + "\n");
+                    displayTurn();
+                });
+                break;
 
-                        // Displays this to the player and sets boolean challengeMade to true to enter the challengeEvent
-                        gameTextLog.appendText("- Challenge has been made\n");
+            // Case for when the input is type QUIT
+            case QUIT:
+                run(asyncEngine.quit(), done -> updateBoard(scrabble.getBoard()));
+                break;
 
-                        // Checks if the word is in the dictionary
-                        boolean checkChallenge = scrabble.dictionaryWords(currentMove);
+            // Case for when the input is type EXCHANGE
+            case EXCHANGE:
 
-                        // Checks if the challenge was successful
-                        if (!checkChallenge) {
+                // Swaps the tiles inputted in text with random tiles in the pool
+                run(asyncEngine.exchange(text.getWord()), done -> {
 
-                            // Displays to the players that the challenge was successful
-                            gameTextLog.appendText("- Challenge was successful, players move has been removed\n");
+                    // Displays that the swap has been made and the next players turn
+                    log("- Selected tiles have been swapped\n");
+                    displayTurn();
+                });
+                break;
 
-                            // Removes the move from the board
-                            scrabble.getBoard().removeMove(currentMove);
+            // Case for when the input is type PLACE_TILE
+            case PLACE_TILE:
 
-                            // Updates the current players frame
-                            scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().setToBlank();
+                // Validates and places the move on the board for the next player to challenge
+                run(asyncEngine.place(text.getStartPosition(), text.getWordDirection(), text.getWord()), move -> {
 
-                            // Updates the visuals of the board
-                            updateBoard();
+                    // Updates the visuals of the board
+                    updateBoard(scrabble.getBoard());
 
-                            // Moves onto the next players turn and displays their frame
-                            playerTurn = (playerTurn % 2) + 1;
-                        } else {
-                            // Displays the result to the players
-                            gameTextLog.appendText("- Challenge has failed, challengers turn has been skipped\n");
+                    log("- Does " + engine.getOpponent().getName() + " want to challenge this move? (CHALLENGE <Y/N>)\n");
+                });
+                break;
 
-                            /// Calls the makeMove method to carry out the most recent move
-                            makeMove();
+            // Case for when the input is type BLANK
+            case BLANK:
 
-                            // Skips the turn of the player who made the challenge
-                        }
-                        gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() + "s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
-                        challenge = false;
-                    }
+                // Sets the blank tile to the inputted character
+                run(asyncEngine.setBlanks(text.getWord()), done -> {
 
-                    // Checks if the user has indicated that do not want to make a move
-                    else if(text.getWord()[0] =='N') {
+                    // Displays that the blank tile has been set and the current players frame to the gameTextLog
+                    log("- Blank tile has been set\n");
+                    displayTurn();
+                });
+                break;
 
-                        // Displays this to the players
-                        gameTextLog.appendText("- Challenge has not been made\n");
+            // Case for when the input type is RESTART
+            case RESTART:
 
-                        // Calls the makeMove method to carry out the most recent move
-                        makeMove();
+                // Displays the conditions needed to restart to the user
+                log("- Cannot restart a game that has not ended (QUIT to end game)\n");
+                displayTurn();
+                break;
 
-                        // Moves to the next players turn
-                        playerTurn = (playerTurn + 1) % 2;
-                        gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() +"s move (" + scrabble.getPlayers()[playerTurn % 2].getScore() + ") \n- " + scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().toString() + "\n");
+            // Case from when the input is NAME
+            case NAME:
 
-                        // Sets challenge to false
-                        challenge = false;
+                // Gets the current players name and sets it to the new name, the current players frame is still displayed on an error
+                String temp = engine.getCurrentPlayer().getName();
+                run(asyncEngine.rename(text.getName()).handle((done, error) -> error), error -> {
+                    if(error == null) {
+                        log("- " + temp + " name set to " + engine.getCurrentPlayer().getName() + "\n");
                     }
-
-                    // Displays the correct format of input if the user did not input Y or N
-                    else{
-                        gameTextLog.appendText("- Error: Incorrect input for Challenge (CHALLENGE Y/N)"  + "\n");
+                    else {
+                        log("- Error: " + AsyncGameEngine.cause(error).getMessage() + "\n");
                     }
 
-                    // Displays the correct format of input if the user did not input CHALLENGE
-                } catch(Exception e) {
-                    gameTextLog.appendText("- Error: Incorrect input for Challenge (CHALLENGE Y/N)"  + "\n");
-                }
-            }
+                    displayTurn();
+                });
+                break;
 
-        // Catches any exception thrown from parsing gameText
-        } catch(Exception e) {
-            gameTextLog.appendText("- Error: " + e.getMessage() + "\n");
+            // Case for any unknown input type
+            default:
+                log("- Error: Unknown command\n");
         }
+    }
 
-        // Clears input in gameText
-        gameText.setText("");
-
-        // Checks if the game is over or if the player has quit the game
-        if(scrabble.isGameOver() || gameOver){
-
-            // Calls gameOver method
-            scrabble.gameOver();
-
-            // Sets boolean gameOver to enter gameOverEvent
-            gameOver = true;
-
-            // Displays the end of game and scores of each player
-            gameTextLog.appendText("- GAME OVER!\n");
-            gameTextLog.appendText("- "+scrabble.getPlayers()[0].getName() +" SCORE: " + scrabble.getPlayers()[0].getScore()+"\n");
-            gameTextLog.appendText("- "+scrabble.getPlayers()[1].getName() +" SCORE: " + scrabble.getPlayers()[1].getScore()+"\n");
+    /**
+     * Method to handle the answer of the opponent to a challenge
+     * @param text The parsed input of the opponent
+     */
+    private void challengeEvent(UserInput text) {
 
-            // Checks which player has the highest score and displays them as winner
-            if(scrabble.getPlayers()[0].getScore() > scrabble.getPlayers()[1].getScore()) {
+        // Displays the correct format of input if the user did not input CHALLENGE Y or N
+        if(text.getInputType() != UserInput.UserInputType.CHALLENGE) {
+            log("- Error: Incorrect input for Challenge (CHALLENGE Y/N)"  + "\n");
+            return;
+        }
 
-                gameTextLog.appendText("- " + scrabble.getPlayers()[0].getName() + " WINS!\n");
-            }
+        boolean challenged = text.getWord()[0] == 'Y';
 
-            else if(scrabble.getPlayers()[0].getScore() < scrabble.getPlayers()[1].getScore()) {
+        if(challenged) {
+            log("- Challenge has been made\n");
+        }
+        else {
+            log("- Challenge has not been made\n");
+        }
 
-                gameTextLog.appendText("- " + scrabble.getPlayers()[1].getName() + " WINS!\n");
+        // Looks up the words of the move on the engine thread and checks if the challenge was successful
+        run(asyncEngine.challenge(challenged), removed -> {
+            if(removed) {
+                log("- Challenge was successful, players move has been removed\n");
+                updateBoard(scrabble.getBoard());
             }
-
             else {
+                if(challenged) {
+                    log("- Challenge has failed, challengers turn has been skipped\n");
+                }
 
-                gameTextLog.appendText("- THE GAME HAS ENDED IN A DRAW!\n");
+                // Displays the points scored by the move to the player
+                MoveInfo move = engine.getLastMove();
+                log("- " + move.getPlayer().getName() + " move scored "+ move.getMoveScore()+". Total score: "+move.getPlayer().getScore()+ "\n");
             }
 
-            // Displays options for the gameOverEvent
-            gameTextLog.appendText("- Type QUIT to exit game or RESTART to start a new game!\n");
-        }
+            if(engine.getState() != GameEngine.State.GAME_OVER) {
+                displayTurn();
+            }
+        });
+    }
 
+    /**
+     * Method to display the name, score and frame of the player whose turn it is
+     */
+    private void displayTurn() {
+        Player player = engine.getCurrentPlayer();
+        log("- " + player.getName() +"s move (" + player.getScore() + ") \n- " + player.getPlayerFrame().toString() + "\n");
     }
 
 
@@ -659,26 +673,28 @@ public class UserInterface extends Application{
                 case QUIT:
 
                     // Program is exited
+                    shutDown();
                     System.exit(0);
                     break;
 
                 // Case for when the input is type RESTART
                 case RESTART:
 
-                    // Closes the current stage and launches a new stage
+                    // Closes the current stage and launches a new stage, the dictionary is already loaded
+                    shutDown();
                     gameStage.close();
                     Platform.runLater(() -> new UserInterface().start(new Stage()));
                     break;
 
                 // Case for any unknown input type
                 default:
-                    gameTextLog.appendText("- Error: Unknown command for end of game (QUIT/RESTART)\n");
+                    log("- Error: Unknown command for end of game (QUIT/RESTART)\n");
             }
 
         // Catches and displays any exceptions thrown
         } catch(Exception e) {
 
-            gameTextLog.appendText("- Error: " + e.getMessage() + "\n");
+            log("- Error: " + e.getMessage() + "\n");
         }
 
         // Clears input in gameText
@@ -687,26 +703,57 @@ public class UserInterface extends Application{
     }
 
     /**
-     * Method to execute the most recent move a player has made
+     * List of the lines of a GameLog for the ListView, which reads the lines from the log's ring buffer
      */
-    private void makeMove(){
+    private static class LogLines extends ObservableListBase<String> {
 
-        // Removes the tiles for the move from the players frame
-        scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().removeTiles(currentMove.getRequiredTiles());
+        // The log whose lines are listed
+        private final GameLog log;
 
-        // Increases the players score by the amount of points the move has made
-        scrabble.getPlayers()[playerTurn % 2].increaseScore(currentMove.getMoveScore());
+        /**
+         * LogLines Constructor
+         * @param log: The log whose lines are listed
+         */
+        private LogLines(GameLog log) {
+            this.log = log;
+        }
 
-        // Refills the players frame
-        scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().fillFrame();
+        /**
+         * Method to add a line to the log, telling the ListView the line added and any line dropped
+         * @param line: The line
+         * @return True as the line is always added
+         */
+        @Override
+        public boolean add(String line) {
+            beginChange();
+
+            String dropped = log.add(line);
+            if(dropped != null) {
+                nextRemove(0, dropped);
+            }
+            nextAdd(log.size() - 1, log.size());
 
-        // Displays the points scored by the move to the player
-        gameTextLog.appendText("- " + scrabble.getPlayers()[playerTurn % 2].getName() + " move scored "+ currentMove.getMoveScore()+". Total score: "+scrabble.getPlayers()[playerTurn % 2].getScore()+ "\n");
+            endChange();
+            return true;
+        }
 
-        // Sets any squares that tiles have been placed on in the move to a normal type square
-        scrabble.getBoard().setWordSquaresNormal(currentMove.getPrimaryWord());
+        /**
+         * Method to get a line of the log
+         * @param index: 0 for the oldest line kept
+         * @return The line
+         */
+        @Override
+        public String get(int index) {
+            return log.get(index);
+        }
 
-        // Resets any blank tiles in the players frame
-        scrabble.getPlayers()[playerTurn % 2].getPlayerFrame().setToBlank();
+        /**
+         * Method to get the number of lines kept
+         * @return The number of lines
+         */
+        @Override
+        public int size() {
+            return log.size();
+        }
     }
 }
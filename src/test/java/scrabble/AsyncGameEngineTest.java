@@ -0,0 +1,108 @@
+package scrabble;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidGameEngineException;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncGameEngineTest {
+
+    @Test
+    @DisplayName("Testing that the engine loads in the background and runs commands on its own thread")
+    void loadAndRun() throws Exception {
+
+        String caller = Thread.currentThread().getName();
+
+        AsyncGameEngine async = AsyncGameEngine.load().get(60, TimeUnit.SECONDS);
+        Player first = async.addPlayer("Killian").get(10, TimeUnit.SECONDS);
+        async.addPlayer("John");
+        String thread = async.submit(game -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS);
+
+        assertAll("Testing the loaded engine\n",
+                () -> assertEquals("Killian", first.getName(), "The Player was not added\n"),
+                () -> assertEquals(GameEngine.State.PLAYING, async.getEngine().getState(), "The game did not start\n"),
+                () -> assertEquals("scrabble-engine", thread, "The command did not run on the engine thread\n"),
+                () -> assertNotEquals(caller, thread, "The command ran on the calling thread\n")
+        );
+
+        async.close();
+    }
+
+
+    @Test
+    @DisplayName("Testing that commands run in the order they were sent")
+    void commandsInOrder() throws Exception {
+
+        GameEngine engine = new GameEngine(new Scrabble(LexiconRegistry.getLexicon()), new Random(1));
+        AsyncGameEngine async = new AsyncGameEngine(engine);
+
+        // None of the commands are waited on until the last
+        async.addPlayer("Killian");
+        async.addPlayer("John");
+        async.submit(game -> setFrame(game.getCurrentPlayer(), "XQZCATS"));
+        CompletableFuture<MoveInfo> placed = async.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "XQZ".toCharArray());
+        CompletableFuture<Boolean> challenged = async.challenge(true);
+
+        boolean removed = challenged.get(10, TimeUnit.SECONDS);
+
+        assertAll("Testing the commands run in order\n",
+                () -> assertTrue(placed.isDone(), "The move was not placed before the challenge\n"),
+                () -> assertTrue(removed, "The challenge of an invalid word failed\n"),
+                () -> assertTrue(engine.getScrabble().getBoard().getSquare(7, 7).isEmpty(), "The challenged move was left on the Board\n"),
+                () -> assertEquals(GameEngine.State.PLAYING, engine.getState(), "The game did not continue\n")
+        );
+
+        async.close();
+    }
+
+
+    @Test
+    @DisplayName("Testing that exceptions thrown by commands complete their futures")
+    void commandExceptions() throws Exception {
+
+        AsyncGameEngine async = new AsyncGameEngine(new GameEngine(LexiconRegistry.getLexicon()));
+
+        CompletableFuture<Void> passed = async.pass();
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> passed.get(10, TimeUnit.SECONDS));
+
+        Throwable[] applied = new Throwable[1];
+        passed.handle((done, error) -> applied[0] = error).get(10, TimeUnit.SECONDS);
+
+        async.close();
+
+        assertAll("Testing the failed command\n",
+                () -> assertTrue(thrown.getCause() instanceof InvalidGameEngineException, "The command's exception was lost\n"),
+                () -> assertTrue(AsyncGameEngine.cause(applied[0]) instanceof InvalidGameEngineException, "The cause was not found\n"),
+                () -> assertTrue(AsyncGameEngine.cause(new CompletionException(new InvalidGameEngineException("x"))) instanceof InvalidGameEngineException, "A CompletionException was not unwrapped\n"),
+                () -> assertEquals(GameEngine.State.SETUP, async.getEngine().getState(), "The failed command changed the game\n"),
+                () -> assertThrows(RejectedExecutionException.class, async::pass, "A command was run after closing\n"),
+                () -> assertThrows(InvalidGameEngineException.class, () -> new AsyncGameEngine(null), "An engine without a game was created\n")
+        );
+    }
+
+
+    /**
+     * Method to give a Player a Frame of known Tiles
+     *
+     * @param player The Player
+     * @param letters The letters of the Tiles
+     * @return The Player
+     */
+    private static Player setFrame(Player player, String letters) {
+        player.getPlayerFrame().returnFrame().clear();
+
+        for (char c : letters.toCharArray()) {
+            player.getPlayerFrame().addTile(new Tile(c));
+        }
+
+        return player;
+    }
+}
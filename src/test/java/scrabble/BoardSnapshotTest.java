@@ -0,0 +1,135 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardSnapshotTest {
+
+    // Declaring variables used in testing
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+    }
+
+
+    @Test
+    @DisplayName("Testing that a snapshot keeps the Board as it was when published")
+    void snapshotIsUnchanged() {
+
+        board.getSquare(7, 7).setTile(new Tile('A'));
+        Tile blank = new Tile(' ');
+        blank.setCharacter('T');
+        board.getSquare(7, 8).setTile(blank);
+        board.getSquare(7, 7).setNormal();
+
+        BoardSnapshot snapshot = board.publishSnapshot();
+
+        // Change the Board after publishing
+        board.getSquare(7, 8).setEmpty();
+        board.getSquare(0, 0).setTile(new Tile('Q'));
+        board.getSquare(0, 0).setNormal();
+
+        assertAll("Testing the published snapshot\n",
+                () -> assertEquals('A', snapshot.getLetter(7, 7), "The Tile on 7 7 was not in the snapshot\n"),
+                () -> assertTrue(snapshot.isBlank(7, 8), "The blank on 7 8 was not in the snapshot\n"),
+                () -> assertEquals('T', snapshot.getLetter(7, 8), "The letter of the blank was not in the snapshot\n"),
+                () -> assertEquals(Square.SquareType.NORMAL, snapshot.getType(7, 7), "The used Start Square was not in the snapshot\n"),
+                () -> assertFalse(snapshot.isOccupied(0, 0), "A later Tile was in the snapshot\n"),
+                () -> assertEquals(Square.SquareType.TRIPLE_WORD, snapshot.getType(0, 0), "A later SquareType was in the snapshot\n"),
+                () -> assertEquals(' ', snapshot.getLetter(0, 0), "An empty Square had a letter\n"),
+                () -> assertEquals(3 << 7, snapshot.getRowOccupancy(7), "The occupancy of row 7 was wrong\n"),
+                () -> assertSame(snapshot, board.getSnapshot(), "The snapshot was not published\n"),
+                () -> assertNotEquals(board.getHash(), snapshot.getHash(), "The snapshot's hash followed the Board\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that only the rows changed are copied")
+    void rowsAreShared() {
+
+        BoardSnapshot empty = board.getSnapshot();
+
+        board.getSquare(7, 7).setTile(new Tile('A'));
+        board.getSquare(8, 7).setTile(new Tile('T'));
+        BoardSnapshot next = board.publishSnapshot();
+
+        assertAll("Testing the rows shared between snapshots\n",
+                () -> assertFalse(next.sharesRow(empty, 7), "Row 7 changed but was shared\n"),
+                () -> assertFalse(next.sharesRow(empty, 8), "Row 8 changed but was shared\n"),
+                () -> {
+                    for (int i = 0; i < Board.BOARD_SIZE; i++) {
+                        if (i != 7 && i != 8) {
+                            assertTrue(next.sharesRow(empty, i), "Row " + i + " did not change but was copied\n");
+                        }
+                    }
+                },
+                () -> assertSame(next, board.publishSnapshot(), "A new snapshot was made when nothing changed\n"),
+                () -> assertEquals(empty.getVersion() + 1, next.getVersion(), "The version did not go up by one\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that readers always see a whole snapshot while the Board changes")
+    void concurrentReaders() throws InterruptedException {
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[3];
+
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                long lastVersion = -1;
+
+                while (failure.get() == null && lastVersion < 2000) {
+                    BoardSnapshot snapshot = board.getSnapshot();
+
+                    // The hash of the Tiles read must match the hash published with them
+                    long hash = 0;
+                    for (int i = 0; i < Board.BOARD_SIZE; i++) {
+                        for (int j = 0; j < Board.BOARD_SIZE; j++) {
+                            if (snapshot.isOccupied(i, j)) {
+                                hash ^= Zobrist.tile(i, j, snapshot.getLetter(i, j), snapshot.isBlank(i, j));
+                            }
+                        }
+                    }
+
+                    if (hash != snapshot.getHash() || snapshot.getVersion() < lastVersion) {
+                        failure.set("Snapshot " + snapshot.getVersion() + " was not whole\n");
+                    }
+                    lastVersion = snapshot.getVersion();
+                }
+            });
+            readers[r].start();
+        }
+
+        // The game thread keeps placing and lifting Tiles, publishing after each
+        for (int n = 1; n <= 2000; n++) {
+            int i = n % Board.BOARD_SIZE;
+            int j = (n * 7) % Board.BOARD_SIZE;
+
+            if (board.isOccupied(i, j)) {
+                board.getSquare(i, j).setEmpty();
+            }
+            else {
+                board.getSquare(i, j).setTile(new Tile((char) ('A' + n % 26)));
+            }
+            board.getSquare((i + 1) % Board.BOARD_SIZE, j).setNormal();
+
+            board.publishSnapshot();
+        }
+
+        for (Thread reader : readers) {
+            reader.join(10_000);
+        }
+
+        assertNull(failure.get(), failure.get());
+    }
+}
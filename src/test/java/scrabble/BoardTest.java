@@ -8,6 +8,8 @@ import scrabble.exceptions.InvalidFrameException;
 import scrabble.exceptions.InvalidMoveInfoException;
 import scrabble.exceptions.InvalidWordException;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -786,4 +788,198 @@ public class BoardTest {
     }
 
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Board Test anchors follow placeTiles and removeMove")
+    void boardTestAnchors(){
+
+        //Set Up Player
+        playerTest.getPlayerFrame().returnFrame().clear();
+        playerTest.getPlayerFrame().addTile(new Tile('C'));
+        playerTest.getPlayerFrame().addTile(new Tile('A'));
+        playerTest.getPlayerFrame().addTile(new Tile('T'));
+
+        //The Start Square is the only anchor on an empty Board
+        boolean startOnly = boardTest.isAnchor(7, 7) && !boardTest.isAnchor(7, 8);
+
+        MoveInfo move = new MoveInfo(playerTest, new int[]{7,7}, UserInput.Direction.HORIZONTAL, new char[]{'C', 'A','T'});
+        boardTest.placeTiles(move);
+
+        long[] anchors = boardTest.getAnchors();
+        int anchorCount = 0;
+        for (long bits : anchors) {
+            anchorCount += Long.bitCount(bits);
+        }
+        int count = anchorCount;
+
+        // assertAll so that all assertions are run and reported together
+        assertAll("Testing the anchors after CAT is placed\n",
+                () -> assertTrue(startOnly, "The Start Square was not the only anchor on an empty Board\n"),
+                //Assert the Squares at each end and above and below each Tile are anchors
+                () -> assertEquals(8, count, "CAT should have 8 anchors around it\n"),
+                () -> assertTrue(boardTest.isAnchor(7, 6), "The Square before the word was not an anchor\n"),
+                () -> assertTrue(boardTest.isAnchor(6, 8), "The Square above the word was not an anchor\n"),
+                () -> assertFalse(boardTest.isAnchor(7, 7), "A Square with a Tile was an anchor\n"),
+                () -> assertFalse(boardTest.isAnchor(6, 6), "A diagonal Square was an anchor\n"),
+                () -> assertThrows(InvalidBoardException.class, ()-> boardTest.isAnchor(15, 0), "Coordinates outside the Board were accepted\n")
+        );
+
+        boardTest.removeMove(move);
+
+        assertAll("Testing the anchors after CAT is removed\n",
+                () -> assertTrue(boardTest.isAnchor(7, 7), "The Start Square was not an anchor again\n"),
+                () -> assertFalse(boardTest.isAnchor(7, 6), "The Square before the removed word was still an anchor\n")
+        );
+    }
+
+    @Test
+    @DisplayName("Board Test cross-checks follow placeTiles and removeMove")
+    void boardTestCrossChecks(){
+
+        boardTest = new Board(Dawg.build(Arrays.asList("CAT", "AT", "TA", "ACT")));
+
+        //Set Up Player
+        playerTest.getPlayerFrame().returnFrame().clear();
+        playerTest.getPlayerFrame().addTile(new Tile('C'));
+        playerTest.getPlayerFrame().addTile(new Tile('A'));
+        playerTest.getPlayerFrame().addTile(new Tile('T'));
+
+        MoveInfo move = new MoveInfo(playerTest, new int[]{7,7}, UserInput.Direction.VERTICAL, new char[]{'A', 'T'});
+        boardTest.placeTiles(move);
+
+        int allowedBefore = boardTest.getCrossCheck(6, 7, UserInput.Direction.HORIZONTAL);
+        int allowedAfter = boardTest.getCrossCheck(9, 7, UserInput.Direction.HORIZONTAL);
+
+        // assertAll so that all assertions are run and reported together
+        assertAll("Testing the cross-checks around AT placed down\n",
+                //Only C makes a word above AT and nothing makes a word after it
+                () -> assertEquals(1 << ('C' - 'A'), allowedBefore, "Only C should be allowed above AT\n"),
+                () -> assertEquals(0, allowedAfter, "No letter should be allowed below AT\n"),
+                () -> assertEquals(2, boardTest.getCrossScore(6, 7, UserInput.Direction.HORIZONTAL), "The cross score should be the value of AT\n"),
+                //A move down the same column does not make a word across it
+                () -> assertEquals(Board.ALL_LETTERS, boardTest.getCrossCheck(6, 7, UserInput.Direction.VERTICAL), "Every letter should be allowed along the word\n"),
+                () -> assertEquals(-1, boardTest.getCrossScore(6, 7, UserInput.Direction.VERTICAL), "There should be no cross score along the word\n"),
+                //Only T makes a word (AT) beside the A
+                () -> assertEquals(1 << ('T' - 'A'), boardTest.getCrossCheck(7, 8, UserInput.Direction.VERTICAL), "Only T should be allowed beside the A\n"),
+                () -> assertEquals(0, boardTest.getCrossCheck(7, 7, UserInput.Direction.HORIZONTAL), "A Square with a Tile should allow no letters\n")
+        );
+
+        boardTest.removeMove(move);
+
+        assertEquals(Board.ALL_LETTERS, boardTest.getCrossCheck(6, 7, UserInput.Direction.HORIZONTAL), "Every letter should be allowed once AT is removed\n");
+    }
+
+    @Test
+    @DisplayName("Board Test occupancy bitboards follow the Squares")
+    void boardTestOccupancy(){
+
+        //Tiles placed straight on the Squares are seen too
+        boardTest.getSquare(7,7).setTile(new Tile('A'));
+        boardTest.getSquare(7,8).setTile(new Tile('T'));
+        boardTest.getSquare(3,14).setTile(new Tile('Q'));
+        boardTest.getSquare(7,8).setEmpty();
+
+        // assertAll so that all assertions are run and reported together
+        assertAll("Testing the row and column occupancy\n",
+                () -> assertTrue(boardTest.isOccupied(7, 7), "Square 7 7 should be occupied\n"),
+                () -> assertFalse(boardTest.isOccupied(7, 8), "Square 7 8 should be empty once its Tile is removed\n"),
+                () -> assertEquals(1 << 7, boardTest.getRowOccupancy(7), "Row 7 should only have column 7 occupied\n"),
+                () -> assertEquals(1 << 14, boardTest.getRowOccupancy(3), "Row 3 should only have column 14 occupied\n"),
+                () -> assertEquals(1 << 3, boardTest.getColumnOccupancy(14), "Column 14 should only have row 3 occupied\n"),
+                () -> assertEquals(0, boardTest.getColumnOccupancy(8), "Column 8 should be empty\n")
+        );
+
+        boardTest.resetBoard();
+
+        assertEquals(0, boardTest.getRowOccupancy(7), "The Board should be empty after a reset\n");
+    }
+
+    @Test
+    @DisplayName("Board Test a copy has the same Tiles and Squares and changes on its own")
+    void boardTestCopy(){
+
+        boardTest.getSquare(7,7).setTile(new Tile('A'));
+        boardTest.getSquare(7,8).setTile(new Tile('T'));
+        boardTest.getSquare(7,7).setNormal();
+
+        Board copy = new Board(boardTest);
+        copy.getSquare(6,8).setTile(new Tile('A'));
+
+        // assertAll so that all assertions are run and reported together
+        assertAll("Testing the copied Board\n",
+                () -> assertEquals('T', copy.getSquare(7,8).getTile().getCharacter(), "The Tile on 7 8 was not copied\n"),
+                () -> assertEquals(Square.SquareType.NORMAL, copy.getSquare(7,7).getType(), "The used Start Square was not copied\n"),
+                () -> assertEquals(Square.SquareType.DOUBLE_LETTER, copy.getSquare(6,8).getType(), "A premium Square was not copied\n"),
+                () -> assertEquals(boardTest.getRowOccupancy(7), copy.getRowOccupancy(7), "The occupancy was not copied\n"),
+                () -> assertFalse(boardTest.isOccupied(6, 8), "A Tile placed on the copy was placed on the Board\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Board Test the hash follows the Tiles on the Board")
+    void boardTestHash(){
+
+        long empty = boardTest.getHash();
+
+        boardTest.getSquare(7,7).setTile(new Tile('A'));
+        boardTest.getSquare(7,8).setTile(new Tile('T'));
+        long at = boardTest.getHash();
+
+        // The same Tiles placed in another order on another Board
+        Board other = new Board();
+        other.getSquare(7,8).setTile(new Tile('T'));
+        other.getSquare(7,7).setTile(new Tile('A'));
+
+        // A blank set to T is not the same as a T
+        Board blank = new Board();
+        Tile blankT = new Tile(' ');
+        blankT.setCharacter('T');
+        blank.getSquare(7,7).setTile(new Tile('A'));
+        blank.getSquare(7,8).setTile(blankT);
+
+        boardTest.getSquare(7,8).setEmpty();
+        long a = boardTest.getHash();
+        boardTest.getSquare(7,7).setEmpty();
+
+        assertAll("Testing the Board hashes\n",
+                () -> assertEquals(0, empty, "An empty Board had a hash\n"),
+                () -> assertEquals(at, other.getHash(), "The order the Tiles were placed changed the hash\n"),
+                () -> assertEquals(at, new Board(other).getHash(), "A copy had a different hash\n"),
+                () -> assertNotEquals(at, blank.getHash(), "A blank had the same hash as its letter\n"),
+                () -> assertNotEquals(at, a, "Removing a Tile did not change the hash\n"),
+                () -> assertEquals(0, boardTest.getHash(), "Removing every Tile did not return to the empty hash\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Board Test the Squares changed since a view last took them")
+    void boardTestChangedSquares(){
+
+        // Every Square of a new Board must be drawn
+        int[] initial = new int[Board.BOARD_SIZE];
+        for (int i = 0; i < Board.BOARD_SIZE; i++) {
+            initial[i] = boardTest.takeChangedSquares(i);
+        }
+
+        boardTest.getSquare(7,7).setTile(new Tile('A'));
+        boardTest.getSquare(7,9).setTile(new Tile('T'));
+        boardTest.getSquare(3,3).setNormal();
+
+        int row7 = boardTest.takeChangedSquares(7);
+        int row3 = boardTest.takeChangedSquares(3);
+        int row0 = boardTest.takeChangedSquares(0);
+
+        assertAll("Testing the changed Squares\n",
+                () -> {
+                    for (int i = 0; i < Board.BOARD_SIZE; i++) {
+                        assertEquals((1 << Board.BOARD_SIZE) - 1, initial[i], "A Square of a new Board was not marked\n");
+                    }
+                },
+                () -> assertEquals((1 << 7) | (1 << 9), row7, "The Tiles placed were not marked\n"),
+                () -> assertEquals(1 << 3, row3, "The SquareType changed was not marked\n"),
+                () -> assertEquals(0, row0, "An unchanged row was marked\n"),
+                () -> assertEquals(0, boardTest.takeChangedSquares(7), "Taking a row did not unmark it\n")
+        );
+    }
+}
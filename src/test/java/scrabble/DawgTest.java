@@ -0,0 +1,168 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidLexiconException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DawgTest {
+
+    // Declaring variables used in testing
+    private Dawg dawg;
+
+    @BeforeEach
+    void setUp() {
+
+        // Small word list with shared prefixes and suffixes, out of order and in mixed case
+        dawg = Dawg.build(Arrays.asList("tops", "TAP", "Top", "TAPS", "TIP", "TIPS", "TOP"));
+    }
+
+
+    @Test
+    @DisplayName("Testing that a Dawg contains every word it was built from")
+    void containsWords() {
+
+        assertAll("Testing contains for each word\n",
+                () -> assertTrue(dawg.contains("TAP".toCharArray()), "The Dawg did not contain TAP\n"),
+                () -> assertTrue(dawg.contains("TAPS".toCharArray()), "The Dawg did not contain TAPS\n"),
+                () -> assertTrue(dawg.contains("TIP".toCharArray()), "The Dawg did not contain TIP\n"),
+                () -> assertTrue(dawg.contains("TOPS".toCharArray()), "The Dawg did not contain TOPS\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a Dawg does not contain prefixes, extensions or other words")
+    void doesNotContainOtherWords() {
+
+        assertAll("Testing contains for words not in the Dawg\n",
+                () -> assertFalse(dawg.contains("T".toCharArray()), "The Dawg contained a prefix\n"),
+                () -> assertFalse(dawg.contains("TA".toCharArray()), "The Dawg contained a prefix\n"),
+                () -> assertFalse(dawg.contains("TAPSS".toCharArray()), "The Dawg contained an extension\n"),
+                () -> assertFalse(dawg.contains("TUP".toCharArray()), "The Dawg contained a word it was not built from\n"),
+                () -> assertFalse(dawg.contains("tap".toCharArray()), "The Dawg contained a lower case word\n"),
+                () -> assertFalse(dawg.contains(new char[0]), "The Dawg contained an empty word\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that contains works on part of a char array")
+    void containsOffset() {
+
+        char[] buffer = "XXTIPSXX".toCharArray();
+
+        assertAll("Testing contains with an offset and length\n",
+                () -> assertTrue(dawg.contains(buffer, 2, 4), "The Dawg did not contain TIPS inside the buffer\n"),
+                () -> assertTrue(dawg.contains(buffer, 2, 3), "The Dawg did not contain TIP inside the buffer\n"),
+                () -> assertFalse(dawg.contains(buffer, 1, 4), "The Dawg contained XTIP\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that duplicate words are counted once and shared suffixes are merged")
+    void sizeAndMinimization() {
+
+        // T -> (A, I, O) -> P -> S, with A, I and O sharing one P node
+        assertAll("Testing the size of the Dawg\n",
+                () -> assertEquals(6, dawg.size(), "The Dawg did not count each word once\n"),
+                () -> assertEquals(6, dawg.getEdgeCount(), "The Dawg did not merge identical nodes\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the builder rejects words out of order or with invalid characters")
+    void builderRejectsInvalidWords() {
+
+        DawgBuilder builder = new DawgBuilder();
+        builder.add("TOP");
+
+        assertAll("Testing DawgBuilder add\n",
+                () -> assertThrows(InvalidLexiconException.class, () -> builder.add("TAP"), "The builder accepted a word out of order\n"),
+                () -> assertThrows(InvalidLexiconException.class, () -> builder.add("TOP"), "The builder accepted a duplicate word\n"),
+                () -> assertThrows(InvalidLexiconException.class, () -> builder.add("TOP1"), "The builder accepted an invalid character\n"),
+                () -> assertThrows(InvalidLexiconException.class, () -> Dawg.build(Arrays.asList("DON'T")), "A Dawg was built with an invalid character\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the full Scrabble dictionary loads into a Dawg")
+    void loadsDictionary() throws IOException {
+
+        Dawg dictionary = Dawg.build(Scrabble.class.getResourceAsStream("sowpods.txt"));
+
+        assertAll("Testing the Scrabble dictionary\n",
+                () -> assertEquals(267752, dictionary.size(), "The dictionary did not contain every word\n"),
+                () -> assertTrue(dictionary.contains("AARDVARK".toCharArray()), "The dictionary did not contain AARDVARK\n"),
+                () -> assertTrue(dictionary.contains("ZZZ".toCharArray()), "The dictionary did not contain ZZZ\n"),
+                () -> assertFalse(dictionary.contains("YABBL".toCharArray()), "The dictionary contained YABBL\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a Dawg written in binary form can be read back")
+    void writeAndRead() throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dawg.write(out);
+
+        Dawg read = Dawg.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertAll("Testing the read Dawg\n",
+                () -> assertEquals(dawg.size(), read.size(), "The read Dawg had a different number of words\n"),
+                () -> assertEquals(dawg.getEdgeCount(), read.getEdgeCount(), "The read Dawg had a different number of edges\n"),
+                () -> assertTrue(read.contains("TAPS".toCharArray()), "The read Dawg did not contain TAPS\n"),
+                () -> assertFalse(read.contains("TUP".toCharArray()), "The read Dawg contained TUP\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a binary Dawg file can be memory mapped")
+    void writeAndMap() throws IOException {
+
+        Path file = Files.createTempFile("dawg", ".dawg");
+
+        try {
+            try (OutputStream out = new FileOutputStream(file.toFile())) {
+                dawg.write(out);
+            }
+
+            Dawg mapped = Dawg.map(file);
+
+            assertAll("Testing the mapped Dawg\n",
+                    () -> assertEquals(dawg.size(), mapped.size(), "The mapped Dawg had a different number of words\n"),
+                    () -> assertTrue(mapped.contains("TIPS".toCharArray()), "The mapped Dawg did not contain TIPS\n"),
+                    () -> assertFalse(mapped.contains("TI".toCharArray()), "The mapped Dawg contained TI\n")
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that an invalid binary Dawg is rejected")
+    void readInvalid() {
+
+        byte[] notDawg = "NOT A DAWG FILE AT ALL".getBytes();
+
+        // Asserts that reading bytes without the Dawg header throws InvalidLexiconException
+        assertThrows(InvalidLexiconException.class, () -> Dawg.read(new ByteArrayInputStream(notDawg)), "Invalid bytes were read as a Dawg\n");
+    }
+}
@@ -0,0 +1,167 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidEndgameSolverException;
+
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndgameSolverTest {
+
+    // Small word list so the whole endgame can be searched without pruning
+    private final static List<String> WORDS = Arrays.asList("AT", "TA", "AS", "AX", "XI", "IT", "TI", "IS", "SI", "QI",
+            "CAT", "CATS", "ACT", "ACTS", "SAT", "SIT", "ITS", "TAX", "SAX", "AXIS", "TAXI", "TAXIS", "QAT", "QATS");
+
+    // Declaring variables used in testing
+    private Gaddag gaddag;
+    private Board board;
+    private EndgameSolver solver;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        gaddag = Gaddag.build(WORDS);
+        board = new Board(gaddag);
+        solver = new EndgameSolver(gaddag, 16);
+        player = new Player("Test", new Pool());
+
+        // Play CAT across through the Start Square
+        player.getPlayerFrame().returnFrame().clear();
+        for (char c : "CAT".toCharArray()) {
+            player.getPlayerFrame().addTile(new Tile(c));
+        }
+        MoveInfo cat = new MoveInfo(player, new int[]{7, 6}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+        board.placeTiles(cat);
+        board.setWordSquaresNormal(cat.getPrimaryWord());
+    }
+
+
+    @Test
+    @DisplayName("Testing that using every Tile at once is found and scored with the opponent's Tiles")
+    void goesOut() {
+
+        EndgameResult result = solver.solve(board, counts("S"), counts("QX"), 1000);
+
+        // CATS scores 6 and the opponent is left with Q and X for 18
+        assertAll("Testing the move that uses the last Tile\n",
+                () -> assertNotNull(result.getMove(), "The solver passed\n"),
+                () -> assertEquals(1, result.getMove().getTilesPlaced(), "The move did not use the last Tile\n"),
+                () -> assertEquals(result.getMove().getScore() + 18, result.getValue(), "The opponent's Tiles were not added to the value\n"),
+                () -> assertTrue(result.isExact(), "The search did not reach the end of the game\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the solver finds the same value as searching every line of the game")
+    void matchesMinimax() {
+
+        String[][] endgames = {{"SIT", "AQX"}, {"XI", "ST"}, {"QS", "ITA"}, {"AXS", "QI"}};
+
+        for (String[] endgame : endgames) {
+            EndgameResult result = solver.solve(board, counts(endgame[0]), counts(endgame[1]), 60_000);
+
+            assertAll("Testing the endgame " + endgame[0] + " against " + endgame[1] + "\n",
+                    () -> assertTrue(result.isExact(), "The search did not reach the end of the game\n"),
+                    () -> assertEquals(minimax(counts(endgame[0]), counts(endgame[1]), 0), result.getValue(), "The value was not the best for both Players\n")
+            );
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that a game can only be solved once its Pool is empty")
+    void poolMustBeEmpty() throws FileNotFoundException {
+
+        Scrabble scrabble = new Scrabble(LexiconRegistry.getLexicon());
+        scrabble.createPlayer("One", 0);
+        scrabble.createPlayer("Two", 1);
+
+        assertAll("Testing games that can not be solved\n",
+                () -> assertThrows(InvalidEndgameSolverException.class, () -> solver.solve(scrabble, scrabble.getPlayers()[0], 100), "A game with Tiles in the Pool was solved\n"),
+                () -> assertThrows(InvalidEndgameSolverException.class, () -> solver.solve(board, counts("A"), counts("B"), 0), "A search with no time was allowed\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the search stops when the time runs out")
+    void timeLimit() throws FileNotFoundException {
+
+        solver = new EndgameSolver(LexiconRegistry.getGaddag(), 16);
+        board = new Board(LexiconRegistry.getLexicon());
+        MoveInfo cat = new MoveInfo(player, new int[]{7, 6}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+        board.placeTiles(cat);
+
+        long start = System.nanoTime();
+        EndgameResult result = solver.solve(board, counts("AEINRST"), counts("DEILORS"), 200);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        assertAll("Testing the search that ran out of time\n",
+                () -> assertTrue(elapsed < 2_000, "The search took " + elapsed + " milliseconds\n"),
+                () -> assertNotNull(result.getMove(), "No move was found in the time\n"),
+                () -> assertFalse(result.isExact(), "Two full racks were solved exactly in the time\n")
+        );
+    }
+
+
+    /**
+     * Method to find the number of each Tile in some letters
+     *
+     * @param letters The letters of the Tiles
+     * @return Number of each Tile, blanks at index 26
+     */
+    private int[] counts(String letters) {
+        return new Rack(letters).getCounts();
+    }
+
+    /**
+     * Method to find the value of an endgame by trying every move on every line, with no pruning or table
+     *
+     * @param own Tiles of the Player to move
+     * @param other Tiles of the opponent
+     * @param passes 1 if the last turn was a pass
+     * @return Points the Player to move gains on the opponent by the end of the game
+     */
+    private int minimax(int[] own, int[] other, int passes) {
+
+        // Passing, which ends the game if the opponent just passed
+        int best = passes == 1 ? value(other) - value(own) : -minimax(other, own, 1);
+
+        for (GeneratedMove move : new MoveGenerator(gaddag).generateMoves(board, own)) {
+            int[] left = own.clone();
+            for (int k = 0; k < move.getWord().length; k++) {
+                if (move.isPlaced(k)) {
+                    left[move.isBlank(k) ? Pool.BLANK : move.getWord()[k] - 'A']--;
+                }
+            }
+
+            move.place(board);
+            int value = Arrays.stream(left).sum() == 0 ? move.getScore() + value(other) : move.getScore() - minimax(other, left, 0);
+            move.remove(board);
+
+            best = Math.max(best, value);
+        }
+
+        return best;
+    }
+
+    /**
+     * Method to find the value of some Tiles
+     *
+     * @param counts Number of each Tile
+     * @return The sum of the Tile values
+     */
+    private int value(int[] counts) {
+        int result = 0;
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            result += counts[letter] * Tile.charValue(Pool.letterChar(letter));
+        }
+        return result;
+    }
+}
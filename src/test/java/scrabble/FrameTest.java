@@ -313,4 +313,27 @@ class FrameTest {
     }
 
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Testing that Frames with the same Tiles have the same hash")
+    void frameHash() {
+
+        frame.returnFrame().clear();
+        frame.addTile(new Tile('C'));
+        frame.addTile(new Tile('A'));
+        frame.addTile(new Tile('T'));
+
+        emptyFrame.addTile(new Tile('T'));
+        emptyFrame.returnFrame().add(new Tile('A'));
+        emptyFrame.addTile(new Tile('C'));
+
+        long hash = frame.getHash();
+        frame.removeTile('A');
+
+        assertAll("Testing the Frame hashes\n",
+                () -> assertEquals(hash, emptyFrame.getHash(), "The same Tiles in another order had a different hash\n"),
+                () -> assertNotEquals(hash, frame.getHash(), "Removing a Tile did not change the hash\n"),
+                () -> assertEquals(new Rack("CT").getHash(), frame.getHash(), "The hash was not the hash of the Frame's Tiles\n")
+        );
+    }
+
+}
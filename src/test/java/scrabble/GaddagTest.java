@@ -0,0 +1,91 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GaddagTest {
+
+    // Declaring variables used in testing
+    private Gaddag gaddag;
+
+    @BeforeEach
+    void setUp() {
+
+        // Small word list with shared prefixes and suffixes, out of order and in mixed case
+        gaddag = Gaddag.build(Arrays.asList("care", "CAR", "Cat", "ARE", "AT", "CARE"));
+    }
+
+
+    @Test
+    @DisplayName("Testing that a Gaddag contains every word it was built from and nothing else")
+    void containsWords() {
+
+        assertAll("Testing contains for words in and out of the Gaddag\n",
+                () -> assertTrue(gaddag.contains("CARE".toCharArray()), "The Gaddag did not contain CARE\n"),
+                () -> assertTrue(gaddag.contains("AT".toCharArray()), "The Gaddag did not contain AT\n"),
+                () -> assertTrue(gaddag.contains("XCATX".toCharArray(), 1, 3), "The Gaddag did not contain CAT inside the buffer\n"),
+                () -> assertFalse(gaddag.contains("CA".toCharArray()), "The Gaddag contained a prefix\n"),
+                () -> assertFalse(gaddag.contains("RE".toCharArray()), "The Gaddag contained a suffix\n"),
+                () -> assertFalse(gaddag.contains("CARES".toCharArray()), "The Gaddag contained an extension\n"),
+                () -> assertFalse(gaddag.contains(new char[0]), "The Gaddag contained an empty word\n"),
+                () -> assertEquals(5, gaddag.size(), "The Gaddag did not count each word once\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that every split of a word can be read leftwards then rightwards")
+    void readsEverySplit() {
+
+        Dawg graph = gaddag.getGraph();
+
+        // CARE split after A: A C then SEPARATOR then R E
+        int a = graph.findEdge(graph.getRoot(), 'A' - 'A');
+        int c = graph.findEdge(graph.getChild(a), 'C' - 'A');
+        int separator = graph.findEdge(graph.getChild(c), Gaddag.SEPARATOR);
+        int r = graph.findEdge(graph.getChild(separator), 'R' - 'A');
+        int e = graph.findEdge(graph.getChild(r), 'E' - 'A');
+
+        // CARE split after E: E R A C with no SEPARATOR
+        int reversed = graph.getRoot();
+        int edge = -1;
+        for (char letter : "ERAC".toCharArray()) {
+            edge = graph.findEdge(reversed, letter - 'A');
+            reversed = edge >= 0 ? graph.getChild(edge) : 0;
+        }
+        int last = edge;
+
+        assertAll("Testing the paths of CARE\n",
+                () -> assertTrue(separator >= 0, "The path A C did not switch to reading rightwards\n"),
+                () -> assertTrue(e >= 0 && graph.isTerminal(e), "The path A C ^ R E did not end a word\n"),
+                () -> assertTrue(r >= 0 && graph.isTerminal(r), "The path A C ^ R did not end the word CAR\n"),
+                () -> assertTrue(last >= 0 && graph.isTerminal(last), "The path E R A C did not end a word\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a Gaddag written in binary form reads back the same")
+    void writeAndRead() throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gaddag.write(out);
+
+        Gaddag copy = Gaddag.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertAll("Testing the Gaddag read back\n",
+                () -> assertEquals(gaddag.size(), copy.size(), "The size changed when written\n"),
+                () -> assertEquals(gaddag.getGraph().getEdgeCount(), copy.getGraph().getEdgeCount(), "The edge count changed when written\n"),
+                () -> assertTrue(copy.contains("CAT".toCharArray()), "The Gaddag read back did not contain CAT\n"),
+                () -> assertFalse(copy.contains("CA".toCharArray()), "The Gaddag read back contained a prefix\n")
+        );
+    }
+}
@@ -0,0 +1,239 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidGameEngineException;
+
+import java.io.FileNotFoundException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEngineTest {
+
+    // Declaring variables used in testing
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() throws FileNotFoundException {
+
+        // Seeded so the first Player is the same each run
+        engine = new GameEngine(new Scrabble(LexiconRegistry.getLexicon()), new Random(1));
+        engine.addPlayer("Killian");
+        engine.addPlayer("John");
+    }
+
+
+    @Test
+    @DisplayName("Testing that the game starts once both Players are named")
+    void setUpPlayers() throws FileNotFoundException {
+
+        GameEngine newEngine = new GameEngine(LexiconRegistry.getLexicon());
+        newEngine.addPlayer("Eanna");
+        GameEngine.State afterOne = newEngine.getState();
+        newEngine.addPlayer("John");
+
+        assertAll("Testing the setup of the Players\n",
+                () -> assertEquals(GameEngine.State.SETUP, afterOne, "The game started with one Player\n"),
+                () -> assertEquals(GameEngine.State.PLAYING, newEngine.getState(), "The game did not start with two Players\n"),
+                () -> assertEquals(Frame.FRAME_SIZE, newEngine.getCurrentPlayer().getPlayerFrame().returnFrame().size(), "The first Player's Frame was not filled\n"),
+                () -> assertThrows(InvalidGameEngineException.class, () -> newEngine.addPlayer("Killian"), "A third Player was added\n"),
+                () -> assertThrows(InvalidGameEngineException.class, () -> new GameEngine(null, new Random()), "A game without a Scrabble was created\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that an unchallenged move is kept, scored and the turn passes")
+    void placeWithoutChallenge() {
+
+        Player mover = engine.getCurrentPlayer();
+        setFrame(mover, "CATSXYZ");
+
+        MoveInfo move = engine.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+        GameEngine.State waiting = engine.getState();
+
+        boolean removed = engine.challenge(false);
+
+        assertAll("Testing the unchallenged move\n",
+                () -> assertEquals(GameEngine.State.AWAITING_CHALLENGE, waiting, "The move did not wait to be challenged\n"),
+                () -> assertFalse(removed, "The move was removed without a challenge\n"),
+                () -> assertEquals(10, mover.getScore(), "The move was not scored\n"),
+                () -> assertEquals(Frame.FRAME_SIZE, mover.getPlayerFrame().returnFrame().size(), "The Frame was not refilled\n"),
+                () -> assertEquals(move, engine.getLastMove(), "The move was not added to the history\n"),
+                () -> assertNotEquals(mover, engine.getCurrentPlayer(), "The turn did not pass\n"),
+                () -> assertEquals(GameEngine.State.PLAYING, engine.getState(), "The game did not return to playing\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a successful challenge takes the move off the Board and passes the turn")
+    void successfulChallenge() {
+
+        Player mover = engine.getCurrentPlayer();
+        setFrame(mover, "CXTSAYZ");
+
+        engine.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "CXT".toCharArray());
+
+        boolean removed = engine.challenge(true);
+
+        assertAll("Testing the successful challenge\n",
+                () -> assertTrue(removed, "The invalid move was kept\n"),
+                () -> assertTrue(engine.getScrabble().getBoard().getSquare(7, 7).isEmpty(), "The Tiles were left on the Board\n"),
+                () -> assertEquals(0, mover.getScore(), "The removed move was scored\n"),
+                () -> assertTrue(mover.getPlayerFrame().checkTiles("CXT".toCharArray()), "The Tiles were not kept in the Frame\n"),
+                () -> assertNull(engine.getLastMove(), "The removed move was added to the history\n"),
+                () -> assertNotEquals(mover, engine.getCurrentPlayer(), "The turn did not pass\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a failed challenge keeps the move and skips the challenger's turn")
+    void failedChallenge() {
+
+        Player mover = engine.getCurrentPlayer();
+        setFrame(mover, "CATSXYZ");
+
+        engine.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+
+        boolean removed = engine.challenge(true);
+
+        assertAll("Testing the failed challenge\n",
+                () -> assertFalse(removed, "The valid move was removed\n"),
+                () -> assertEquals(10, mover.getScore(), "The move was not scored\n"),
+                () -> assertEquals(mover, engine.getCurrentPlayer(), "The challenger's turn was not skipped\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that commands are only accepted in the right state and leave it unchanged when rejected")
+    void commandsCheckState() {
+
+        setFrame(engine.getCurrentPlayer(), "CATSXYZ");
+        Player mover = engine.getCurrentPlayer();
+
+        assertAll("Testing commands before a move is placed\n",
+                () -> assertThrows(InvalidGameEngineException.class, () -> engine.challenge(true), "A challenge was made with no move\n"),
+                () -> assertThrows(InvalidGameEngineException.class, () -> engine.getWinner(), "A winner was found before the game ended\n"),
+                () -> assertThrows(InvalidGameEngineException.class, () -> engine.exchange("QQ".toCharArray()), "Tiles not in the Frame were exchanged\n"),
+                () -> assertThrows(InvalidGameEngineException.class, () -> engine.setBlanks("A".toCharArray()), "A Frame without a blank was set\n"),
+                () -> assertThrows(IllegalArgumentException.class, () -> engine.place(new int[]{0, 0}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray()), "A first move off the Start Square was placed\n"),
+                () -> assertEquals(GameEngine.State.PLAYING, engine.getState(), "A rejected command changed the state\n"),
+                () -> assertEquals(mover, engine.getCurrentPlayer(), "A rejected command passed the turn\n")
+        );
+
+        engine.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+
+        assertAll("Testing commands while a move waits to be challenged\n",
+                () -> assertThrows(InvalidGameEngineException.class, () -> engine.pass(), "A turn was passed during a challenge\n"),
+                () -> assertThrows(InvalidGameEngineException.class, () -> engine.place(new int[]{8, 7}, UserInput.Direction.HORIZONTAL, "AT".toCharArray()), "A second move was placed\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that passing and exchanging end the turn")
+    void passAndExchange() {
+
+        Player first = engine.getCurrentPlayer();
+        engine.pass();
+        Player second = engine.getCurrentPlayer();
+
+        setFrame(second, "AABBCCD");
+        int poolSize = engine.getScrabble().getPool().tilesInPool();
+        engine.exchange("AB".toCharArray());
+
+        assertAll("Testing pass and exchange\n",
+                () -> assertNotEquals(first, second, "Passing did not end the turn\n"),
+                () -> assertEquals(first, engine.getCurrentPlayer(), "Exchanging did not end the turn\n"),
+                () -> assertEquals(Frame.FRAME_SIZE, second.getPlayerFrame().returnFrame().size(), "The Frame was not refilled after exchanging\n"),
+                () -> assertEquals(poolSize, engine.getScrabble().getPool().tilesInPool(), "The exchanged Tiles were not returned to the Pool\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that quitting ends the game and takes back a pending move")
+    void quit() {
+
+        Player mover = engine.getCurrentPlayer();
+        setFrame(mover, "CATSXYZ");
+        setFrame(engine.getOpponent(), "AAAAAAA");
+
+        engine.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+        engine.quit();
+
+        // CATSXYZ is worth 3 + 1 + 1 + 1 + 8 + 4 + 10 = 28 and AAAAAAA 7
+        assertAll("Testing quitting the game\n",
+                () -> assertEquals(GameEngine.State.GAME_OVER, engine.getState(), "The game did not end\n"),
+                () -> assertTrue(engine.getScrabble().getBoard().getSquare(7, 7).isEmpty(), "The pending move was left on the Board\n"),
+                () -> assertEquals(-28, mover.getScore(), "The Tiles left were not taken from the score\n"),
+                () -> assertEquals(engine.getOpponent(), engine.getWinner(), "The Player with the higher score did not win\n"),
+                () -> assertThrows(InvalidGameEngineException.class, () -> engine.quit(), "A finished game was ended again\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that quitting sets the blank Tiles of a pending move back to blank")
+    void quitResetsBlanks() {
+
+        Player mover = engine.getCurrentPlayer();
+        setFrame(mover, "CA SXYZ");
+
+        engine.setBlanks(new char[]{'T'});
+        engine.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+        engine.quit();
+
+        Tile blank = mover.getPlayerFrame().getTile(2);
+
+        assertAll("Testing the blank Tile after quitting\n",
+                () -> assertEquals(' ', blank.getCharacter(), "The blank Tile was left set to a letter\n"),
+                () -> assertEquals(0, blank.getValue(), "The blank Tile was not worth 0\n"),
+                () -> assertTrue(engine.getScrabble().getBoard().getSquare(7, 9).isEmpty(), "The pending move was left on the Board\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the game ends when the Pool is empty and a Player uses every Tile")
+    void gameOver() {
+
+        while (!engine.getScrabble().getPool().isEmpty()) {
+            engine.getScrabble().getPool().removeTile();
+        }
+
+        Player mover = engine.getCurrentPlayer();
+        Player other = engine.getOpponent();
+        setFrame(mover, "CAT");
+        setFrame(other, "Q");
+
+        engine.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+        engine.challenge(false);
+
+        assertAll("Testing the end of the game\n",
+                () -> assertEquals(GameEngine.State.GAME_OVER, engine.getState(), "The game did not end\n"),
+                () -> assertEquals(mover, engine.getWinner(), "The Player who went out did not win\n"),
+                () -> assertEquals(-10, other.getScore(), "The Tiles left were not taken from the score\n")
+        );
+    }
+
+
+    /**
+     * Method to set the Tiles in a Player's Frame
+     *
+     * @param player The Player
+     * @param letters The letters of the Tiles
+     */
+    private void setFrame(Player player, String letters) {
+        player.getPlayerFrame().returnFrame().clear();
+
+        for (char c : letters.toCharArray()) {
+            player.getPlayerFrame().addTile(new Tile(c));
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package scrabble;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidGameEventLogException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEventLogTest {
+
+    @Test
+    @DisplayName("Testing that events are encoded and decoded unchanged")
+    void eventRoundTrip() {
+
+        GameEvent placed = GameEvent.placed(3, new int[]{7, 6}, UserInput.Direction.VERTICAL, "QUIZ".toCharArray());
+        ByteBuffer buffer = ByteBuffer.allocate(placed.size());
+        placed.write(buffer);
+        buffer.flip();
+        GameEvent read = GameEvent.read(buffer);
+
+        ByteBuffer created = ByteBuffer.allocate(GameEvent.created(9, "table", 42).size());
+        GameEvent.created(9, "table", 42).write(created);
+        created.flip();
+        GameEvent readCreated = GameEvent.read(created);
+
+        assertAll("Testing the encoding of events\n",
+                () -> assertEquals(GameEvent.Type.PLACED, read.getType(), "The type was wrong\n"),
+                () -> assertEquals(3, read.getGameId(), "The game id was wrong\n"),
+                () -> assertEquals("QUIZ", read.getText(), "The word was wrong\n"),
+                () -> assertFalse(buffer.hasRemaining(), "The event was not read to its end\n"),
+                () -> assertEquals(5 + 3 + 2 + 4, placed.size(), "The placed event was not compact\n"),
+                () -> assertEquals(5, GameEvent.passed(1).size(), "The pass event was not compact\n"),
+                () -> assertEquals(42, readCreated.getSeed(), "The seed was wrong\n"),
+                () -> assertEquals("table", readCreated.getText(), "The name of the game was wrong\n"),
+                () -> assertThrows(InvalidGameEventLogException.class, () -> GameEvent.read(ByteBuffer.wrap(new byte[]{2, 0})), "Part of an event was read\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a game is rebuilt exactly from its events")
+    void replayRebuildsGame() throws IOException {
+
+        Path file = Files.createTempFile("scrabble", ".events");
+
+        try {
+            GameEngine played;
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                played = log.newGame("table", 11);
+                play(played, 12);
+            }
+
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                GameEngine rebuilt = log.getRecoveredGames().get("table");
+                Player[] before = played.getScrabble().getPlayers();
+                Player[] after = rebuilt.getScrabble().getPlayers();
+
+                assertAll("Testing the rebuilt game\n",
+                        () -> assertEquals(1, log.getRecoveredGames().size(), "The game was not recovered\n"),
+                        () -> assertEquals(played.getState(), rebuilt.getState(), "The state was wrong\n"),
+                        () -> assertEquals(played.getCurrentPlayerIndex(), rebuilt.getCurrentPlayerIndex(), "The Player to move was wrong\n"),
+                        () -> assertEquals(played.getScrabble().getBoard().toString(), rebuilt.getScrabble().getBoard().toString(), "The Board was wrong\n"),
+                        () -> assertEquals(played.getScrabble().getBoard().getHash(), rebuilt.getScrabble().getBoard().getHash(), "The hash of the Board was wrong\n"),
+                        () -> assertEquals(played.getScrabble().getPool().tilesInPool(), rebuilt.getScrabble().getPool().tilesInPool(), "The Pool was wrong\n"),
+                        () -> assertEquals(played.getScrabble().getMoveHistory().size(), rebuilt.getScrabble().getMoveHistory().size(), "The move history was wrong\n"),
+                        () -> assertEquals(before[0].getScore(), after[0].getScore(), "The first score was wrong\n"),
+                        () -> assertEquals(before[1].getScore(), after[1].getScore(), "The second score was wrong\n"),
+                        () -> assertEquals(before[0].getPlayerFrame().toString(), after[0].getPlayerFrame().toString(), "The first Frame was wrong\n"),
+                        () -> assertEquals(before[1].getPlayerFrame().toString(), after[1].getPlayerFrame().toString(), "The second Frame was wrong\n"),
+                        () -> assertEquals(before[0].getName() + before[1].getName(), after[0].getName() + after[1].getName(), "The rename was lost\n")
+                );
+
+                // The rebuilt game keeps logging, so it can be rebuilt again after more moves
+                play(rebuilt, 4);
+                rebuilt.quit();
+            }
+
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                assertEquals(0, Files.size(file), "The events of a game that ended were kept\n");
+                GameEngine next = log.newGame("table", 5);
+                assertTrue(log.getRecoveredGames().isEmpty(), "A game that ended was recovered\n");
+                assertNotNull(next, "A game could not be created after recovery\n");
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that a record cut short by a crash is dropped")
+    void tornRecord() throws IOException {
+
+        Path file = Files.createTempFile("scrabble", ".events");
+
+        try {
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                GameEngine engine = log.newGame("table", 3);
+                engine.addPlayer("Alice");
+                engine.addPlayer("Bob");
+                engine.pass();
+            }
+            long whole = Files.size(file);
+
+            // Half of the header of a record, as if the program stopped while writing it
+            Files.write(file, new byte[]{0, 0, 0}, StandardOpenOption.APPEND);
+
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                assertAll("Testing the log after a torn record\n",
+                        () -> assertEquals(whole, Files.size(file), "The torn record was not cut off\n"),
+                        () -> assertEquals(1, log.getRecoveredGames().size(), "The game before the torn record was lost\n"),
+                        () -> assertEquals("Bob", log.getRecoveredGames().get("table").getScrabble().getPlayers()[1].getName(), "The Players were lost\n")
+                );
+            }
+
+            // A damaged byte in the last record fails its checksum, so only that record is dropped
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[bytes.length - 1] ^= 1;
+            Files.write(file, bytes);
+
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                assertTrue(Files.size(file) < whole, "The damaged record was not cut off\n");
+                assertEquals(1, log.getRecoveredGames().size(), "The game was lost with its damaged record\n");
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that the log is rewritten with only the games still being played")
+    void compaction() throws IOException {
+
+        Path file = Files.createTempFile("scrabble", ".events");
+
+        try {
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                GameEngine ended = log.newGame("ended", 1);
+                play(ended, 6);
+                ended.quit();
+
+                GameEngine live = log.newGame("live", 2);
+                live.addPlayer("Alice");
+                live.addPlayer("Bob");
+                live.pass();
+
+                log.newGame("waiting", 3).addPlayer("Carol");
+            }
+
+            // The records of the game still being played, with the id it was given second
+            long liveSize = 0;
+            for (GameEvent event : new GameEvent[]{GameEvent.created(1, "live", 2), GameEvent.playerAdded(1, "Alice"),
+                    GameEvent.playerAdded(1, "Bob"), GameEvent.passed(1)}) {
+                liveSize += 8 + event.size();
+            }
+            long expected = liveSize;
+
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                assertAll("Testing the rewritten log\n",
+                        () -> assertEquals(expected, Files.size(file), "The log held more than the game being played\n"),
+                        () -> assertEquals(1, log.getRecoveredGames().size(), "The wrong games were recovered\n"),
+                        () -> assertNotNull(log.getRecoveredGames().get("live"), "The game being played was lost\n"),
+                        () -> assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".compact")), "The rewritten file was left behind\n")
+                );
+                log.getRecoveredGames().get("live").pass();
+            }
+
+            // The rewritten log is replayed the same way, with the events appended after it
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                assertEquals(expected + 8 + GameEvent.passed(1).size(), Files.size(file), "The rewritten log lost an event\n");
+                assertEquals(GameEngine.State.PLAYING, log.getRecoveredGames().get("live").getState(), "The game was not rebuilt from the rewritten log\n");
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that events appended at once share a flush to the disk")
+    void groupCommit() throws IOException, InterruptedException {
+
+        Path file = Files.createTempFile("scrabble", ".events");
+
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            int threads = 8;
+            int events = 500;
+
+            try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+                Thread[] appenders = new Thread[threads];
+
+                for (int t = 0; t < threads; t++) {
+                    int id = t;
+                    appenders[t] = new Thread(() -> {
+                        for (int i = 0; i < events; i++) {
+                            CompletableFuture<Void> future = log.append(GameEvent.passed(id));
+                            synchronized (futures) {
+                                futures.add(future);
+                            }
+                        }
+                    });
+                    appenders[t].start();
+                }
+                for (Thread appender : appenders) {
+                    appender.join();
+                }
+
+                log.sync();
+
+                long batches = log.getBatchCount();
+                assertAll("Testing the group commit\n",
+                        () -> assertEquals(threads * events, futures.size(), "An event was not appended\n"),
+                        () -> assertTrue(futures.stream().allMatch(f -> f.isDone() && !f.isCompletedExceptionally()), "An event was not written\n"),
+                        () -> assertTrue(batches < threads * events, "Each event was flushed on its own\n"),
+                        () -> assertEquals((long) threads * events * (8 + 5), Files.size(file), "The records were the wrong size\n")
+                );
+            }
+
+            GameEventLog closed = new GameEventLog(file, LexiconRegistry.getLexicon());
+            closed.close();
+            assertTrue(closed.append(GameEvent.passed(0)).isCompletedExceptionally(), "An event was appended to a closed log\n");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    /**
+     * Plays turns of a game with the best move of each Frame, renaming the second Player and exchanging once
+     */
+    private static void play(GameEngine engine, int turns) throws IOException {
+
+        MoveGenerator generator = new MoveGenerator(LexiconRegistry.getGaddag());
+
+        if (engine.getState() == GameEngine.State.SETUP){
+            engine.addPlayer("Alice");
+            engine.addPlayer("Bob");
+        }
+
+        for (int turn = 0; turn < turns && engine.getState() == GameEngine.State.PLAYING; turn++) {
+            Player player = engine.getCurrentPlayer();
+            GeneratedMove move = generator.bestMove(engine.getScrabble().getBoard(), player.getPlayerFrame());
+
+            if (turn == 1){
+                engine.rename("Robert");
+            }
+
+            if (turn == 2){
+                // A letter rather than a blank is exchanged
+                char letter = player.getPlayerFrame().getTile(0).getCharacter();
+                engine.exchange(new char[]{letter == ' ' ? player.getPlayerFrame().getTile(1).getCharacter() : letter});
+            }
+            else if (move == null){
+                engine.pass();
+            }
+            else {
+                if (move.getBlankLetters().length > 0){
+                    engine.setBlanks(move.getBlankLetters());
+                }
+                engine.place(move.getStartPosition(), move.getDirection(), move.getWord().clone());
+                engine.challenge(turn % 3 == 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package scrabble;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidGameLogException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameLogTest {
+
+    @Test
+    @DisplayName("Testing lines are kept in order until the log is full")
+    void logKeepsLines() {
+
+        GameLog log = new GameLog(3);
+        String first = log.add("- one");
+        log.add("- two");
+
+        assertAll("Testing a log that is not full\n",
+                () -> assertNull(first, "A line was dropped from a log that was not full\n"),
+                () -> assertEquals(2, log.size(), "The number of lines kept was wrong\n"),
+                () -> assertEquals("- one", log.get(0), "The oldest line was not first\n"),
+                () -> assertEquals("- two", log.get(1), "The newest line was not last\n"),
+                () -> assertEquals(3, log.getCapacity(), "The capacity was wrong\n"),
+                () -> assertThrows(InvalidGameLogException.class, () -> log.get(2), "A line past the end was got\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing the oldest line is dropped when the log is full")
+    void logDropsOldest() {
+
+        GameLog log = new GameLog(3);
+        String[] dropped = new String[10];
+
+        for (int i = 0; i < 10; i++) {
+            dropped[i] = log.add("- " + i);
+        }
+
+        assertAll("Testing a full log\n",
+                () -> assertEquals(3, log.size(), "The log grew past its capacity\n"),
+                () -> assertEquals(10, log.getTotal(), "The number of lines added was wrong\n"),
+                () -> assertEquals("- 7", log.get(0), "The oldest line kept was wrong\n"),
+                () -> assertEquals("- 9", log.get(2), "The newest line was wrong\n"),
+                () -> assertNull(dropped[2], "A line was dropped before the log was full\n"),
+                () -> assertEquals("- 0", dropped[3], "The first line was not dropped first\n"),
+                () -> assertEquals("- 6", dropped[9], "The line dropped last was wrong\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing the lines dropped and kept are spilled to the file")
+    void logSpills() throws IOException {
+
+        Path file = Files.createTempFile("scrabble", ".log");
+
+        try {
+            GameLog log = new GameLog(2, file);
+            for (int i = 0; i < 5; i++) {
+                log.add("- " + i);
+            }
+
+            List<String> dropped = Files.readAllLines(file, StandardCharsets.UTF_8);
+            log.close();
+            List<String> all = Files.readAllLines(file, StandardCharsets.UTF_8);
+
+            assertAll("Testing the spill file\n",
+                    () -> assertTrue(dropped.size() <= 3, "Lines still kept were spilled before closing\n"),
+                    () -> assertEquals(Arrays.asList("- 0", "- 1", "- 2", "- 3", "- 4"), all, "The file did not hold the whole log\n"),
+                    () -> assertThrows(InvalidGameLogException.class, () -> log.add("- 5"), "A line was added to a closed log\n")
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing the lines dropped are in the file once the log is flushed")
+    void logFlushes() throws IOException {
+
+        Path file = Files.createTempFile("scrabble", ".log");
+
+        try (GameLog log = new GameLog(2, file)) {
+            for (int i = 0; i < 5; i++) {
+                log.add("- " + i);
+            }
+            log.flush();
+
+            assertEquals(Arrays.asList("- 0", "- 1", "- 2"), Files.readAllLines(file, StandardCharsets.UTF_8), "The lines dropped were not flushed\n");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing invalid logs and lines")
+    void logInvalid() {
+
+        assertAll("Testing invalid arguments\n",
+                () -> assertThrows(InvalidGameLogException.class, () -> new GameLog(0), "A log with no capacity was made\n"),
+                () -> assertThrows(InvalidGameLogException.class, () -> new GameLog().add(null), "A null line was added\n"),
+                () -> assertEquals(GameLog.DEFAULT_CAPACITY, new GameLog().getCapacity(), "The default capacity was wrong\n")
+        );
+    }
+}
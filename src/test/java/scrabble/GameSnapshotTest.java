@@ -0,0 +1,225 @@
+package scrabble;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidGameSnapshotException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSnapshotTest {
+
+    @Test
+    @DisplayName("Testing that a game is loaded exactly as it was saved")
+    void saveAndLoad() throws IOException {
+
+        GameEngine engine = new GameEngine(new Scrabble(LexiconRegistry.getLexicon(), new Pool(21)), new Random(21));
+        engine.addPlayer("Alice");
+        engine.addPlayer("Bob");
+        play(engine, 10);
+
+        byte[] bytes = GameSnapshot.save(engine);
+        GameEngine loaded = GameSnapshot.load(bytes, LexiconRegistry.getLexicon());
+
+        Player[] before = engine.getScrabble().getPlayers();
+        Player[] after = loaded.getScrabble().getPlayers();
+
+        assertAll("Testing the loaded game\n",
+                () -> assertTrue(bytes.length < 1024, "The snapshot was not under a kilobyte\n"),
+                () -> assertEquals(engine.getState(), loaded.getState(), "The state was wrong\n"),
+                () -> assertEquals(engine.getCurrentPlayerIndex(), loaded.getCurrentPlayerIndex(), "The Player to move was wrong\n"),
+                () -> assertEquals(engine.getScrabble().getBoard().toString(), loaded.getScrabble().getBoard().toString(), "The Board was wrong\n"),
+                () -> assertEquals(engine.getScrabble().getBoard().getHash(), loaded.getScrabble().getBoard().getHash(), "The hash of the Board was wrong\n"),
+                () -> assertArrayEquals(types(engine), types(loaded), "The premium Squares used were wrong\n"),
+                () -> assertArrayEquals(poolCounts(engine), poolCounts(loaded), "The Pool was wrong\n"),
+                () -> assertEquals(before[0].getName() + before[1].getName(), after[0].getName() + after[1].getName(), "The names were wrong\n"),
+                () -> assertEquals(before[0].getScore(), after[0].getScore(), "The first score was wrong\n"),
+                () -> assertEquals(before[1].getScore(), after[1].getScore(), "The second score was wrong\n"),
+                () -> assertEquals(before[0].getPlayerFrame().getHash(), after[0].getPlayerFrame().getHash(), "The first Frame was wrong\n"),
+                () -> assertEquals(before[1].getPlayerFrame().getHash(), after[1].getPlayerFrame().getHash(), "The second Frame was wrong\n"),
+                () -> assertEquals(bytes.length, GameSnapshot.save(loaded).length, "The loaded game did not save the same way\n")
+        );
+
+        // The loaded game plays on from where it was saved
+        play(loaded, 4);
+        assertTrue(loaded.getScrabble().getMoveHistory().size() > 0 || loaded.getState() == GameEngine.State.GAME_OVER, "The loaded game could not be played\n");
+    }
+
+
+    @Test
+    @DisplayName("Testing that a move waiting to be challenged is loaded waiting to be challenged")
+    void savePendingMove() throws IOException {
+
+        GameEngine engine = new GameEngine(new Scrabble(LexiconRegistry.getLexicon(), new Pool(5)), new Random(5));
+        engine.addPlayer("Alice");
+        engine.addPlayer("Bob");
+        play(engine, 3);
+
+        MoveGenerator generator = new MoveGenerator(LexiconRegistry.getGaddag());
+        GeneratedMove move = generator.bestMove(engine.getScrabble().getBoard(), engine.getCurrentPlayer().getPlayerFrame());
+        if (move.getBlankLetters().length > 0){
+            engine.setBlanks(move.getBlankLetters());
+        }
+        MoveInfo placed = engine.place(move.getStartPosition(), move.getDirection(), move.getWord().clone());
+
+        GameEngine loaded = GameSnapshot.load(GameSnapshot.save(engine), LexiconRegistry.getLexicon());
+        GameEngine.State waiting = loaded.getState();
+        int pendingScore = loaded.getPendingMove().getMoveScore();
+        String board = loaded.getScrabble().getBoard().toString();
+
+        engine.challenge(false);
+        loaded.challenge(false);
+
+        assertAll("Testing the loaded pending move\n",
+                () -> assertEquals(GameEngine.State.AWAITING_CHALLENGE, waiting, "The move was not waiting to be challenged\n"),
+                () -> assertEquals(placed.getMoveScore(), pendingScore, "The score of the move was wrong\n"),
+                () -> assertTrue(board.length() > 0, "The Board was not loaded\n"),
+                () -> assertEquals(engine.getScrabble().getBoard().toString(), loaded.getScrabble().getBoard().toString(), "The Board was wrong after the move was kept\n"),
+                () -> assertEquals(engine.getScrabble().getPlayers()[0].getScore(), loaded.getScrabble().getPlayers()[0].getScore(), "The first score was wrong\n"),
+                () -> assertEquals(engine.getScrabble().getPlayers()[1].getScore(), loaded.getScrabble().getPlayers()[1].getScore(), "The second score was wrong\n"),
+                () -> assertEquals(engine.getCurrentPlayerIndex(), loaded.getCurrentPlayerIndex(), "The turn did not pass the same way\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a game is loaded after a blank was played as a letter the Player also held")
+    void saveBlankForHeldLetter() throws IOException {
+
+        GameEngine engine = new GameEngine(new Scrabble(LexiconRegistry.getLexicon(), new Pool(8)), new Random(8));
+        engine.addPlayer("Alice");
+        engine.addPlayer("Bob");
+
+        // The Player to move is given A, D, a blank, E, R, S and T so ADD is played with one D and the blank
+        Pool pool = engine.getScrabble().getPool();
+        Frame frame = engine.getCurrentPlayer().getPlayerFrame();
+        while (!frame.isEmpty()) {
+            pool.receiveTile(frame.getTile(0));
+            frame.removeTile(0);
+        }
+        for (char c : "AD ERST".toCharArray()) {
+            pool.takeLetter(c == ' ' ? Pool.BLANK : Rack.index(c));
+            frame.addTile(new Tile(c));
+        }
+
+        engine.setBlanks(new char[]{'D'});
+        engine.place(new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "ADD".toCharArray());
+        engine.challenge(false);
+
+        Tile first = engine.getScrabble().getBoard().getSquare(7, 8).getTile();
+        Tile second = engine.getScrabble().getBoard().getSquare(7, 9).getTile();
+        GameEngine loaded = GameSnapshot.load(GameSnapshot.save(engine), LexiconRegistry.getLexicon());
+
+        assertAll("Testing the game with a blank played as a held letter\n",
+                () -> assertNotSame(first, second, "The same Tile was placed twice\n"),
+                () -> assertNotEquals(0, first.getValue(), "The blank was placed before the D the Player held\n"),
+                () -> assertEquals(0, second.getValue(), "The blank was not placed\n"),
+                () -> assertEquals(engine.getScrabble().getBoard().toString(), loaded.getScrabble().getBoard().toString(), "The Board was wrong\n"),
+                () -> assertArrayEquals(poolCounts(engine), poolCounts(loaded), "The Pool was wrong\n"),
+                () -> assertEquals(engine.getScrabble().getPlayers()[0].getPlayerFrame().getHash(), loaded.getScrabble().getPlayers()[0].getPlayerFrame().getHash(), "The first Frame was wrong\n"),
+                () -> assertEquals(engine.getScrabble().getPlayers()[1].getPlayerFrame().getHash(), loaded.getScrabble().getPlayers()[1].getPlayerFrame().getHash(), "The second Frame was wrong\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a game waiting for a Player is saved to and loaded from a file")
+    void saveToFile() throws IOException {
+
+        GameEngine engine = new GameEngine(LexiconRegistry.getLexicon());
+        engine.addPlayer("Alice");
+
+        Path file = Files.createTempFile("scrabble", ".game");
+
+        try {
+            GameSnapshot.write(engine, file);
+            GameEngine loaded = GameSnapshot.read(file, LexiconRegistry.getLexicon());
+            loaded.addPlayer("Bob");
+
+            assertAll("Testing the game loaded from a file\n",
+                    () -> assertEquals(GameEngine.State.PLAYING, loaded.getState(), "The game did not start with the second Player\n"),
+                    () -> assertEquals("Alice", loaded.getScrabble().getPlayers()[0].getName(), "The first Player was lost\n"),
+                    () -> assertEquals(engine.getScrabble().getPlayers()[0].getPlayerFrame().getHash(), loaded.getScrabble().getPlayers()[0].getPlayerFrame().getHash(), "The Frame was wrong\n"),
+                    () -> assertEquals(100 - 2 * Frame.FRAME_SIZE, loaded.getScrabble().getPool().tilesInPool(), "The Pool was wrong\n")
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that damaged and newer snapshots are refused")
+    void invalidSnapshots() throws IOException {
+
+        GameEngine engine = new GameEngine(LexiconRegistry.getLexicon());
+        engine.addPlayer("Alice");
+        engine.addPlayer("Bob");
+        byte[] bytes = GameSnapshot.save(engine);
+
+        byte[] damaged = bytes.clone();
+        damaged[100] ^= 1;
+        byte[] newer = bytes.clone();
+        newer[2] = (byte) (GameSnapshot.VERSION + 1);
+        byte[] cut = Arrays.copyOf(bytes, bytes.length / 2);
+
+        assertAll("Testing invalid snapshots\n",
+                () -> assertThrows(InvalidGameSnapshotException.class, () -> GameSnapshot.load(damaged, LexiconRegistry.getLexicon()), "A damaged snapshot was loaded\n"),
+                () -> assertThrows(InvalidGameSnapshotException.class, () -> GameSnapshot.load(newer, LexiconRegistry.getLexicon()), "A newer snapshot was loaded\n"),
+                () -> assertThrows(InvalidGameSnapshotException.class, () -> GameSnapshot.load(cut, LexiconRegistry.getLexicon()), "Part of a snapshot was loaded\n"),
+                () -> assertThrows(InvalidGameSnapshotException.class, () -> GameSnapshot.load(new byte[4], LexiconRegistry.getLexicon()), "Too few bytes were loaded\n")
+        );
+    }
+
+
+    /**
+     * Plays turns of a game with the best move of each Frame
+     */
+    private static void play(GameEngine engine, int turns) throws IOException {
+
+        MoveGenerator generator = new MoveGenerator(LexiconRegistry.getGaddag());
+
+        for (int turn = 0; turn < turns && engine.getState() == GameEngine.State.PLAYING; turn++) {
+            GeneratedMove move = generator.bestMove(engine.getScrabble().getBoard(), engine.getCurrentPlayer().getPlayerFrame());
+
+            if (move == null){
+                engine.pass();
+                continue;
+            }
+            if (move.getBlankLetters().length > 0){
+                engine.setBlanks(move.getBlankLetters());
+            }
+            engine.place(move.getStartPosition(), move.getDirection(), move.getWord().clone());
+            engine.challenge(false);
+        }
+    }
+
+    /**
+     * Finds the SquareType of every Square of a game's Board
+     */
+    private static Square.SquareType[] types(GameEngine engine) {
+        Square.SquareType[] types = new Square.SquareType[Board.BOARD_SIZE * Board.BOARD_SIZE];
+
+        for (int k = 0; k < types.length; k++) {
+            types[k] = engine.getScrabble().getBoard().getSquare(k / Board.BOARD_SIZE, k % Board.BOARD_SIZE).getType();
+        }
+        return types;
+    }
+
+    /**
+     * Finds the number of each letter left in a game's Pool
+     */
+    private static int[] poolCounts(GameEngine engine) {
+        int[] counts = new int[Pool.LETTER_COUNT];
+
+        for (int letter = 0; letter < counts.length; letter++) {
+            counts[letter] = engine.getScrabble().getPool().getCount(letter);
+        }
+        return counts;
+    }
+}
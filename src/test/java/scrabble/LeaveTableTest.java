@@ -0,0 +1,171 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidLeaveTableException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeaveTableTest {
+
+    // Declaring variables used in testing
+    private LeaveTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new LeaveTable();
+    }
+
+
+    @Test
+    @DisplayName("Testing that values put in the table are found by their leave key")
+    void putAndGet() {
+
+        long ers = leaveKey("ERS");
+        long q = leaveKey("Q");
+
+        table.put(ers, 9.5f);
+        table.put(q, -7f);
+        table.put(ers, 10f);
+
+        assertAll("Testing the values in the table\n",
+                () -> assertEquals(10f, table.get(ers), "The value of ERS was not replaced\n"),
+                () -> assertEquals(-7f, table.get(q), "The value of Q was wrong\n"),
+                () -> assertEquals(10f, table.get(new Rack("SER")), "The value of the Rack was not found by its key\n"),
+                () -> assertTrue(table.contains(ers), "The table did not contain ERS\n"),
+                () -> assertFalse(table.contains(leaveKey("SER") + 1), "The table contained a leave never put\n"),
+                () -> assertEquals(2, table.size(), "The same leave was counted twice\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that leaves not in the table are valued as the sum of their Tiles")
+    void tileValues() {
+
+        table.setTileValue(Pool.letterIndex('S'), 8f);
+        table.setTileValue(Pool.BLANK, 25f);
+        table.setTileValue(Pool.letterIndex('Q'), -6f);
+
+        assertAll("Testing the values of leaves not in the table\n",
+                () -> assertEquals(35f, table.get(leaveKey("SS Q")), "The leave was not valued by its Tiles\n"),
+                () -> assertEquals(0f, table.get(0), "The empty leave had a value\n"),
+                () -> assertEquals(-42f, table.get(leaveKey("QQQQQQQ")), "A leave too long for the table was not valued by its Tiles\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the table grows past the number of leaves it was sized for")
+    void grows() {
+
+        table = new LeaveTable(4);
+
+        for (int key = 1; key <= 1000; key++) {
+            table.put(key, key);
+        }
+
+        assertAll("Testing the grown table\n",
+                () -> assertEquals(1000, table.size(), "Leaves were lost as the table grew\n"),
+                () -> {
+                    for (int key = 1; key <= 1000; key++) {
+                        assertEquals(key, table.get(key), "The value of leave " + key + " was lost as the table grew\n");
+                    }
+                },
+                () -> assertThrows(InvalidLeaveTableException.class, () -> table.put(leaveKey("AEINRST"), 1f), "A leave of 7 Tiles was put in the table\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a table written in binary form reads back the same")
+    void writeAndRead() throws IOException {
+
+        table.put(leaveKey("ERS"), 9.5f);
+        table.put(leaveKey("UVW"), -12.25f);
+        table.setTileValue(Pool.BLANK, 24f);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        table.write(out);
+
+        LeaveTable copy = LeaveTable.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertAll("Testing the table read back\n",
+                () -> assertEquals(2, copy.size(), "The size changed when written\n"),
+                () -> assertEquals(9.5f, copy.get(leaveKey("ERS")), "The value of ERS changed when written\n"),
+                () -> assertEquals(-12.25f, copy.get(leaveKey("UVW")), "The value of UVW changed when written\n"),
+                () -> assertEquals(24f, copy.getTileValue(Pool.BLANK), "The Tile values changed when written\n"),
+                () -> assertThrows(IOException.class, () -> LeaveTable.read(new ByteArrayInputStream(new byte[8])), "A stream that is not a table was read\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the equity strategy weighs each move's score against the Tiles it keeps")
+    void equityStrategy() {
+
+        Gaddag gaddag = Gaddag.build(Arrays.asList("CAT", "CATS"));
+        Board board = new Board(gaddag);
+        Player player = new Player("Test", new Pool());
+
+        player.getPlayerFrame().returnFrame().clear();
+        for (char c : "CATS".toCharArray()) {
+            player.getPlayerFrame().addTile(new Tile(c));
+        }
+
+        ArrayList<GeneratedMove> moves = new MoveGenerator(gaddag).generateMoves(board, player.getPlayerFrame());
+
+        GeneratedMove greedy = PlayerStrategy.GREEDY.chooseMove(board, player, moves, new Random(1));
+
+        // Keeping the S is worth more than the points it scores
+        table.put(leaveKey("S"), 20f);
+        GeneratedMove equity = PlayerStrategy.equity(table).chooseMove(board, player, moves, new Random(1));
+
+        assertAll("Testing the moves chosen\n",
+                () -> assertEquals("CATS", new String(greedy.getWord()), "The greedy strategy did not play the S\n"),
+                () -> assertEquals("CAT", new String(equity.getWord()), "The equity strategy did not keep the S\n"),
+                () -> assertNull(PlayerStrategy.equity(table).chooseMove(board, player, new ArrayList<>(), new Random(1)), "A move was chosen from no moves\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the generator values every leave of up to 6 Tiles from simulated games")
+    void generator() throws FileNotFoundException {
+
+        Simulator simulator = new Simulator(LexiconRegistry.getLexicon(), LexiconRegistry.getGaddag(), PlayerStrategy.GREEDY, PlayerStrategy.GREEDY, new ForkJoinPool(2));
+        LeaveTableGenerator generator = new LeaveTableGenerator(simulator);
+
+        generator.play(4, 11);
+        LeaveTable generated = generator.build();
+
+        assertAll("Testing the generated table\n",
+                () -> assertTrue(generator.leavesSeen() > 0, "No leaves were recorded from the games\n"),
+                () -> assertEquals(LeaveTableGenerator.LEAVE_COUNT, generated.size(), "Not every leave of up to 6 Tiles was valued\n"),
+                () -> assertTrue(generated.contains(leaveKey("EEEEEE")), "A leave of 6 Tiles was not valued\n"),
+                () -> assertTrue(generated.contains(leaveKey("  ")), "The leave of both blanks was not valued\n"),
+                () -> assertFalse(generated.contains(leaveKey("QQ")), "A leave the Pool can not make was valued\n")
+        );
+    }
+
+
+    /**
+     * Method to find the leave key of some Tiles
+     *
+     * @param letters The letters of the Tiles, ' ' for a blank
+     * @return The Rack leave key
+     */
+    private long leaveKey(String letters) {
+        return new Rack(letters).leaveKey();
+    }
+}
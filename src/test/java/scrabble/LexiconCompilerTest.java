@@ -0,0 +1,54 @@
+package scrabble;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LexiconCompilerTest {
+
+    @Test
+    @DisplayName("Testing the name of the compiled file for a word list")
+    void compiledName() {
+
+        assertAll("Testing compiledName\n",
+                () -> assertEquals("sowpods.dawg", LexiconCompiler.compiledName("sowpods.txt"), "The extension was not replaced\n"),
+                () -> assertEquals("words.dawg", LexiconCompiler.compiledName("words"), "The extension was not added\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a word list compiles to a file that maps to the same words")
+    void compileWordList() throws IOException {
+
+        Path folder = Files.createTempDirectory("lexicon");
+        Path wordList = folder.resolve("words.txt");
+        Path output = folder.resolve("compiled/words.dawg");
+
+        try {
+            Files.write(wordList, Arrays.asList("cat", "cats", "", "dog"), StandardCharsets.UTF_8);
+
+            Dawg compiled = LexiconCompiler.compile(wordList, output);
+            Dawg mapped = Dawg.map(output);
+
+            assertAll("Testing the compiled word list\n",
+                    () -> assertEquals(3, compiled.size(), "The compiled Dawg did not contain each word\n"),
+                    () -> assertEquals(3, mapped.size(), "The mapped Dawg did not contain each word\n"),
+                    () -> assertTrue(mapped.contains("CATS".toCharArray()), "The mapped Dawg did not contain CATS\n"),
+                    () -> assertFalse(mapped.contains("DOGS".toCharArray()), "The mapped Dawg contained DOGS\n")
+            );
+        } finally {
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(output.getParent());
+            Files.deleteIfExists(wordList);
+            Files.deleteIfExists(folder);
+        }
+    }
+}
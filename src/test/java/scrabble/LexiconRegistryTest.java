@@ -0,0 +1,77 @@
+package scrabble;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LexiconRegistryTest {
+
+    @Test
+    @DisplayName("Testing that the same Lexicon is returned for the same word list")
+    void sameLexiconReturned() throws FileNotFoundException {
+
+        Lexicon first = LexiconRegistry.getLexicon();
+        Lexicon second = LexiconRegistry.getLexicon(LexiconRegistry.DEFAULT_WORD_LIST);
+
+        assertAll("Testing the shared Lexicon\n",
+                () -> assertSame(first, second, "A second Lexicon was loaded for the same word list\n"),
+                () -> assertTrue(LexiconRegistry.isLoaded(LexiconRegistry.DEFAULT_WORD_LIST), "The word list was not marked as loaded\n"),
+                () -> assertTrue(first.contains("SCRABBLE".toCharArray()), "The shared Lexicon did not contain SCRABBLE\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that new games share the dictionary")
+    void gamesShareDictionary() throws FileNotFoundException {
+
+        Scrabble game1 = new Scrabble();
+        Scrabble game2 = new Scrabble();
+
+        // Asserts that both games use the same dictionary instance
+        assertSame(game1.getDictionary(), game2.getDictionary(), "Each game loaded its own dictionary\n");
+    }
+
+
+    @Test
+    @DisplayName("Testing that threads loading the dictionary at the same time get one Lexicon")
+    void concurrentLoadsShareLexicon() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ArrayList<Callable<Lexicon>> loads = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            loads.add(LexiconRegistry::getLexicon);
+        }
+
+        try {
+            Lexicon expected = LexiconRegistry.getLexicon();
+
+            // Asserts that every thread got the same Lexicon
+            for (Future<Lexicon> result : executor.invokeAll(loads)) {
+                assertSame(expected, result.get(), "A thread got a different Lexicon\n");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that a missing word list throws FileNotFoundException")
+    void missingWordList() {
+
+        assertAll("Testing a missing word list\n",
+                () -> assertThrows(FileNotFoundException.class, () -> LexiconRegistry.getLexicon("missing.txt"), "A missing word list did not throw FileNotFoundException\n"),
+                () -> assertFalse(LexiconRegistry.isLoaded("missing.txt"), "A missing word list was marked as loaded\n")
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidMonteCarloRankerException;
+
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloRankerTest {
+
+    // Declaring variables used in testing
+    private Gaddag gaddag;
+    private Board board;
+    private Pool pool;
+    private Player player;
+    private Player opponent;
+
+    @BeforeEach
+    void setUp() throws FileNotFoundException {
+        gaddag = LexiconRegistry.getGaddag();
+        board = new Board(LexiconRegistry.getLexicon());
+        pool = new Pool(5);
+        player = new Player("Player", pool);
+        opponent = new Player("Opponent", pool);
+
+        // Play CAT through the Start Square so there is a Board to reply on
+        setFrame("CAT");
+        MoveInfo cat = new MoveInfo(player, new int[]{7, 6}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray());
+        board.placeTiles(cat);
+        board.setWordSquaresNormal(cat.getPrimaryWord());
+
+        setFrame("AEINRST");
+    }
+
+
+    @Test
+    @DisplayName("Testing that the best candidates are simulated and ranked by equity")
+    void ranksCandidates() {
+
+        MonteCarloRanker ranker = new MonteCarloRanker(gaddag, new LeaveTable(), 5, 60_000, 16, new ForkJoinPool(2));
+        int occupied = board.getRowOccupancy(7);
+        int poolSize = pool.tilesInPool();
+
+        List<RankedMove> ranked = ranker.rank(board, player, opponent, pool, 1);
+
+        assertAll("Testing the ranked moves\n",
+                () -> assertEquals(5, ranked.size(), "The wrong number of candidates were ranked\n"),
+                () -> {
+                    for (int i = 0; i < ranked.size(); i++) {
+                        RankedMove move = ranked.get(i);
+
+                        assertEquals(16, move.getIterations(), "A candidate was not simulated the most times\n");
+                        assertTrue(move.getWinProbability() >= 0 && move.getWinProbability() <= 1, "A chance of winning was not between 0 and 1\n");
+                        assertTrue(move.getEquity() < move.getStaticEquity(), "The opponent's reply was not taken off the equity\n");
+                        assertTrue(i == 0 || ranked.get(i - 1).getEquity() >= move.getEquity(), "The candidates were not in order of equity\n");
+                    }
+                },
+                () -> assertEquals(occupied, board.getRowOccupancy(7), "The Board was changed\n"),
+                () -> assertEquals(poolSize, pool.tilesInPool(), "The Pool was changed\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a ranking is the same on any number of threads")
+    void rankIsRepeatable() {
+
+        List<RankedMove> single = new MonteCarloRanker(gaddag, new LeaveTable(), 4, 60_000, 8, new ForkJoinPool(1)).rank(board, player, opponent, pool, 9);
+        List<RankedMove> parallel = new MonteCarloRanker(gaddag, new LeaveTable(), 4, 60_000, 8, new ForkJoinPool(3)).rank(board, player, opponent, pool, 9);
+
+        assertAll("Testing the rankings\n",
+                () -> assertEquals(single.size(), parallel.size(), "The number of candidates changed with more threads\n"),
+                () -> {
+                    for (int i = 0; i < single.size(); i++) {
+                        assertEquals(single.get(i).getMove().toString(), parallel.get(i).getMove().toString(), "The order changed with more threads\n");
+                        assertEquals(single.get(i).getEquity(), parallel.get(i).getEquity(), 1e-9, "The equity changed with more threads\n");
+                    }
+                }
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that simulations stop when the time budget runs out")
+    void timeBudget() {
+
+        MonteCarloRanker ranker = new MonteCarloRanker(gaddag, new LeaveTable(), 3, 100);
+
+        long start = System.nanoTime();
+        List<RankedMove> ranked = ranker.rank(board, player, opponent, pool, 2);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        assertAll("Testing the time taken\n",
+                () -> assertTrue(elapsed < 5_000, "Ranking took " + elapsed + " milliseconds\n"),
+                () -> assertTrue(ranked.get(0).getIterations() > 0, "No simulations were run in the time\n"),
+                () -> assertThrows(InvalidMonteCarloRankerException.class, () -> new MonteCarloRanker(gaddag, new LeaveTable(), 0, 100), "No candidates were allowed\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the chance of winning follows the spread and the Tiles left")
+    void winProbability() {
+
+        assertAll("Testing the chance of winning\n",
+                () -> assertEquals(0.5, MonteCarloRanker.winProbability(0, 50), 1e-6, "An even game was not an even chance\n"),
+                () -> assertTrue(MonteCarloRanker.winProbability(40, 0) > MonteCarloRanker.winProbability(40, 80), "A lead was worth as much early as late\n"),
+                () -> assertEquals(1, MonteCarloRanker.winProbability(30, 40) + MonteCarloRanker.winProbability(-30, 40), 1e-6, "Leading and trailing did not add up\n")
+        );
+    }
+
+
+    /**
+     * Method to set the Tiles in the Player's Frame
+     *
+     * @param letters The letters of the Tiles
+     */
+    private void setFrame(String letters) {
+        player.getPlayerFrame().returnFrame().clear();
+
+        for (char c : letters.toCharArray()) {
+            player.getPlayerFrame().addTile(new Tile(c));
+        }
+    }
+}
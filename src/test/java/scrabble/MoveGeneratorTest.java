@@ -0,0 +1,310 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveGeneratorTest {
+
+    // Small word list so every placement can be checked by brute force
+    private final static List<String> WORDS = Arrays.asList("AT", "TA", "AS", "CAT", "CATS", "ACT", "ACTS", "SAT", "SCAT",
+            "CAST", "TACT", "TACTS", "EAT", "EATS", "TEA", "TEAS", "SEA", "SEAT", "ACE", "ACES", "CASE", "TEST", "SECT");
+
+    // Declaring variables used in testing
+    private Gaddag gaddag;
+    private MoveGenerator generator;
+    private Board board;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        gaddag = Gaddag.build(WORDS);
+        generator = new MoveGenerator(gaddag);
+        board = new Board(gaddag);
+        player = new Player("Test", new Pool());
+    }
+
+
+    @Test
+    @DisplayName("Testing that every first move covers the Start Square")
+    void firstMoveCoversStart() {
+
+        setFrame("CATS");
+        ArrayList<GeneratedMove> moves = generator.generateMoves(board, player.getPlayerFrame());
+
+        assertFalse(moves.isEmpty(), "No moves were found on an empty Board\n");
+
+        for (GeneratedMove move : moves) {
+            boolean coversStart = move.getDirection() == UserInput.Direction.HORIZONTAL
+                    ? move.getRow() == 7 && move.getColumn() <= 7 && move.getColumn() + move.getWord().length > 7
+                    : move.getColumn() == 7 && move.getRow() <= 7 && move.getRow() + move.getWord().length > 7;
+
+            assertTrue(coversStart, "The first move did not cover the Start Square: " + move + "\n");
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that the moves found on an empty Board match every valid placement")
+    void matchesBruteForceEmptyBoard() {
+
+        setFrame("CATSE");
+
+        assertEquals(bruteForce(), generated(), "The moves found did not match every valid placement\n");
+    }
+
+
+    @Test
+    @DisplayName("Testing that the moves found next to Tiles match every valid placement")
+    void matchesBruteForce() {
+
+        // Play CAT across through the Start Square, then ACT down from its A
+        play("CAT", 7, 6, UserInput.Direction.HORIZONTAL);
+        play("ACT", 7, 7, UserInput.Direction.VERTICAL);
+
+        setFrame("SATEC");
+
+        Map<String, Integer> expected = bruteForce();
+
+        assertAll("Testing the moves found next to Tiles\n",
+                () -> assertFalse(expected.isEmpty(), "There should be valid placements to find\n"),
+                () -> assertEquals(expected, generated(), "The moves found did not match every valid placement\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the moves found are the same when the Board has no Lexicon for cross-checks")
+    void boardWithoutLexicon() {
+
+        play("CAT", 7, 6, UserInput.Direction.HORIZONTAL);
+        play("ACT", 7, 7, UserInput.Direction.VERTICAL);
+        setFrame("SATEC");
+
+        Map<String, Integer> expected = generated();
+
+        // Play the same Tiles on a Board without a Lexicon
+        board = new Board();
+        play("CAT", 7, 6, UserInput.Direction.HORIZONTAL);
+        play("ACT", 7, 7, UserInput.Direction.VERTICAL);
+        setFrame("SATEC");
+
+        assertEquals(expected, generated(), "The moves found depended on where the cross-checks came from\n");
+    }
+
+
+    @Test
+    @DisplayName("Testing that blank Tiles can stand for any letter and score nothing")
+    void blankTiles() {
+
+        setFrame("AT");
+        player.getPlayerFrame().addTile(new Tile(' '));
+
+        ArrayList<GeneratedMove> moves = generator.generateMoves(board, player.getPlayerFrame());
+
+        GeneratedMove cat = null;
+        for (GeneratedMove move : moves) {
+            if (new String(move.getWord()).equals("CAT") && move.getRow() == 7 && move.getColumn() == 7 && move.getDirection() == UserInput.Direction.HORIZONTAL) {
+                cat = move;
+            }
+        }
+
+        GeneratedMove blankCat = cat;
+
+        // The blank C scores 0 and A and T score 1 each, doubled by the Start Square
+        assertAll("Testing CAT made with a blank C\n",
+                () -> assertNotNull(blankCat, "CAT was not found using a blank Tile\n"),
+                () -> assertTrue(blankCat.isBlank(0), "The C of CAT was not a blank Tile\n"),
+                () -> assertArrayEquals(new char[]{' ', 'A', 'T'}, blankCat.getRequiredTiles(), "The required Tiles did not show the blank\n"),
+                () -> assertArrayEquals(new char[]{'C'}, blankCat.getBlankLetters(), "The blank letters were wrong\n"),
+                () -> assertEquals(4, blankCat.getScore(), "The blank Tile was not scored as 0\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that using all seven Tiles scores a Bingo")
+    void bingo() {
+
+        gaddag = Gaddag.build(Arrays.asList("CASTATE"));
+        generator = new MoveGenerator(gaddag);
+
+        setFrame("CASTATE");
+
+        GeneratedMove best = generator.bestMove(board, player.getPlayerFrame());
+
+        // 1 + 3 + 1 + 1 + 1 + 1 + 1 = 9 with the C on a Double Letter Square for 12, doubled by the Start Square, plus the Bingo
+        assertAll("Testing the Bingo move\n",
+                () -> assertNotNull(best, "The seven letter word was not found\n"),
+                () -> assertEquals(7, best.getTilesPlaced(), "The move did not place seven Tiles\n"),
+                () -> assertEquals(24 + Board.BINGO, best.getScore(), "The Bingo was not scored\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a generated move can be placed on the Board with the same score")
+    void toMoveInfo() throws FileNotFoundException {
+
+        generator = new MoveGenerator(LexiconRegistry.getGaddag());
+
+        setFrame("RETAINS");
+
+        GeneratedMove best = generator.bestMove(board, player.getPlayerFrame());
+        MoveInfo moveInfo = best.toMoveInfo(player);
+        board.placeTiles(moveInfo);
+
+        assertAll("Testing the best move placed on the Board\n",
+                () -> assertEquals(7, best.getTilesPlaced(), "RETAINS should make a Bingo\n"),
+                () -> assertEquals(moveInfo.getMoveScore(), best.getScore(), "The Board scored the move differently\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that moves are generated quickly with the full word list")
+    void generationTime() throws FileNotFoundException {
+
+        generator = new MoveGenerator(LexiconRegistry.getGaddag());
+
+        play("CAT", 7, 6, UserInput.Direction.HORIZONTAL);
+        setFrame("AEINRST");
+
+        // Warm up before timing
+        for (int i = 0; i < 20; i++) {
+            generator.generateMoves(board, player.getPlayerFrame());
+        }
+
+        int runs = 50;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            generator.generateMoves(board, player.getPlayerFrame());
+        }
+        long average = (System.nanoTime() - start) / runs;
+
+        assertTrue(average < 10_000_000L, "Generating moves took " + average / 1000 + " microseconds\n");
+    }
+
+
+    /**
+     * Method to set the Tiles in the Player's Frame
+     *
+     * @param letters The letters of the Tiles
+     */
+    private void setFrame(String letters) {
+        player.getPlayerFrame().returnFrame().clear();
+
+        for (char c : letters.toCharArray()) {
+            player.getPlayerFrame().addTile(new Tile(c));
+        }
+    }
+
+    /**
+     * Method to place a word on the Board and set its Squares to Normal as a finished move would
+     *
+     * @param word The word, including any Tiles already on the Board
+     * @param i Row of the first letter
+     * @param j Column of the first letter
+     * @param direction Direction of the word
+     */
+    private void play(String word, int i, int j, UserInput.Direction direction) {
+        setFrame(word);
+
+        MoveInfo moveInfo = new MoveInfo(player, new int[]{i, j}, direction, word.toCharArray());
+        board.placeTiles(moveInfo);
+
+        board.setWordSquaresNormal(moveInfo.getPrimaryWord());
+        for (Word auxiliary : moveInfo.getAuxiliaryWords()) {
+            board.setWordSquaresNormal(auxiliary);
+        }
+    }
+
+    /**
+     * Method to find the moves generated for the Player's Frame
+     *
+     * @return The score of each move keyed by the Tiles it places
+     */
+    private Map<String, Integer> generated() {
+        Map<String, Integer> result = new HashMap<>();
+
+        for (GeneratedMove move : generator.generateMoves(board, player.getPlayerFrame())) {
+            StringBuilder key = new StringBuilder();
+
+            for (int k = 0; k < move.getWord().length; k++) {
+                if (move.isPlaced(k)) {
+                    int i = move.getRow() + (move.getDirection() == UserInput.Direction.VERTICAL ? k : 0);
+                    int j = move.getColumn() + (move.getDirection() == UserInput.Direction.HORIZONTAL ? k : 0);
+                    key.append(i).append(',').append(j).append(move.getWord()[k]).append(' ');
+                }
+            }
+
+            assertNull(result.put(key.toString(), move.getScore()), "The move was found twice: " + move + "\n");
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to try every word of the list at every position and direction using the Board's own checks
+     *
+     * @return The score of each valid placement keyed by the Tiles it places
+     */
+    private Map<String, Integer> bruteForce() {
+        Map<String, Integer> result = new HashMap<>();
+
+        for (String word : WORDS) {
+            for (int i = 0; i < Board.BOARD_SIZE; i++) {
+                for (int j = 0; j < Board.BOARD_SIZE; j++) {
+                    for (UserInput.Direction direction : UserInput.Direction.values()) {
+
+                        MoveInfo moveInfo = new MoveInfo(player, new int[]{i, j}, direction, word.toCharArray());
+
+                        try {
+                            board.checkValidMove(moveInfo);
+                        } catch (IllegalArgumentException e) {
+                            continue;
+                        }
+
+                        // The Board does not check words made across the move
+                        boolean valid = true;
+                        for (Word auxiliary : moveInfo.getAuxiliaryWords()) {
+                            valid &= gaddag.contains(auxiliary.getWord());
+                        }
+
+                        if (valid) {
+                            // Score a fresh MoveInfo as checking the move filled in this one
+                            MoveInfo placed = new MoveInfo(player, new int[]{i, j}, direction, word.toCharArray());
+                            board.placeTiles(placed);
+                            board.removeMove(placed);
+
+                            StringBuilder key = new StringBuilder();
+                            int[][] positions = moveInfo.getRequiredTilesPositions();
+                            Integer[] order = new Integer[positions.length];
+                            for (int k = 0; k < order.length; k++) {
+                                order[k] = k;
+                            }
+                            Arrays.sort(order, (a, b) -> positions[a][0] != positions[b][0] ? positions[a][0] - positions[b][0] : positions[a][1] - positions[b][1]);
+
+                            for (int k : order) {
+                                key.append(positions[k][0]).append(',').append(positions[k][1]).append(moveInfo.getRequiredTiles()[k]).append(' ');
+                            }
+
+                            result.put(key.toString(), placed.getMoveScore());
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,185 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidMoveJournalException;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveJournalTest {
+
+    // Declaring variables used in testing
+    private Scrabble scrabble;
+    private MoveGenerator generator;
+    private MoveJournal journal;
+    private Player[] players;
+
+    @BeforeEach
+    void setUp() throws FileNotFoundException {
+        scrabble = new Scrabble(LexiconRegistry.getLexicon(), new Pool(17));
+        scrabble.createPlayer("One", 0);
+        scrabble.createPlayer("Two", 1);
+
+        generator = new MoveGenerator(LexiconRegistry.getGaddag());
+        journal = new MoveJournal(scrabble);
+        players = scrabble.getPlayers();
+    }
+
+
+    @Test
+    @DisplayName("Testing that undoing a move puts back the Board, Frame, score and Pool")
+    void undo() {
+
+        String before = state();
+        String board = scrabble.getBoard().toString();
+
+        GeneratedMove move = generator.bestMove(scrabble.getBoard(), players[0].getPlayerFrame());
+        journal.make(players[0], move);
+
+        String after = state();
+        GeneratedMove undone = journal.undo();
+
+        assertAll("Testing the move taken back\n",
+                () -> assertNotEquals(before, after, "Making the move changed nothing\n"),
+                () -> assertEquals(move.getScore(), Integer.parseInt(after.split(" ")[2]), "The score was not added\n"),
+                () -> assertSame(move, undone, "The wrong move was undone\n"),
+                () -> assertEquals(before, state(), "The game was not put back as it was\n"),
+                () -> assertEquals(board, scrabble.getBoard().toString(), "The premium Squares were not put back\n"),
+                () -> assertFalse(journal.canUndo(), "There was still a move to undo\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that redoing a move draws the same Tiles and a new move forgets the moves undone")
+    void redo() {
+
+        GeneratedMove move = generator.bestMove(scrabble.getBoard(), players[0].getPlayerFrame());
+        journal.make(players[0], move);
+        String after = state();
+
+        journal.undo();
+        journal.redo();
+        String redone = state();
+
+        journal.undo();
+        journal.make(players[0], generator.generateMoves(scrabble.getBoard(), players[0].getPlayerFrame()).get(0));
+
+        assertAll("Testing the move made again\n",
+                () -> assertEquals(after, redone, "Redoing the move did not give the same game\n"),
+                () -> assertFalse(journal.canRedo(), "A move undone could be redone after a new move\n"),
+                () -> assertThrows(InvalidMoveJournalException.class, () -> journal.redo(), "A move was redone after a new move\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a whole game of moves can be undone and redone")
+    void wholeGame() {
+
+        String start = state();
+        String board = scrabble.getBoard().toString();
+
+        // Both Players make their best move until one has none
+        for (int turn = 0; turn < 30; turn++) {
+            Player player = players[turn % 2];
+            GeneratedMove move = generator.bestMove(scrabble.getBoard(), player.getPlayerFrame());
+
+            if (move == null || player.getPlayerFrame().isEmpty()) {
+                break;
+            }
+            journal.make(player, move);
+        }
+
+        String end = state();
+        int moves = journal.size();
+
+        while (journal.canUndo()) {
+            journal.undo();
+        }
+        String undone = state();
+
+        while (journal.canRedo()) {
+            journal.redo();
+        }
+
+        assertAll("Testing the game taken back and made again\n",
+                () -> assertTrue(moves > 10, "Only " + moves + " moves were made\n"),
+                () -> assertEquals(start, undone, "Undoing every move did not give the start of the game\n"),
+                () -> assertNotEquals(0, scrabble.getBoard().getHash(), "Redoing every move left the Board empty\n"),
+                () -> assertEquals(end, state(), "Redoing every move did not give the end of the game\n")
+        );
+
+        while (journal.canUndo()) {
+            journal.undo();
+        }
+
+        assertEquals(board, scrabble.getBoard().toString(), "The Board was not put back as it was\n");
+    }
+
+
+    @Test
+    @DisplayName("Testing that making a move again after undoing it reuses the Tiles it drew")
+    void reuseTiles() {
+
+        GeneratedMove move = generator.bestMove(scrabble.getBoard(), players[0].getPlayerFrame());
+        journal.make(players[0], move);
+        List<Tile> first = new ArrayList<>(players[0].getPlayerFrame().returnFrame());
+
+        journal.undo();
+        journal.make(players[0], move);
+        List<Tile> second = players[0].getPlayerFrame().returnFrame();
+
+        int[] counts = new int[Pool.LETTER_COUNT];
+        for (Tile tile : second) {
+            counts[Rack.index(tile)]++;
+        }
+
+        assertAll("Testing the Tiles drawn again\n",
+                () -> assertEquals(first.size(), second.size(), "The Frame was not refilled\n"),
+                () -> assertTrue(second.stream().allMatch(t -> first.stream().anyMatch(f -> f == t)), "New Tiles were created for the move\n"),
+                () -> assertArrayEquals(counts, players[0].getPlayerFrame().getRack().getCounts(), "The Tiles reused did not match the Rack\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a move the Player does not have the Tiles for is not made")
+    void missingTiles() {
+
+        GeneratedMove move = generator.bestMove(scrabble.getBoard(), players[0].getPlayerFrame());
+        String before = state();
+
+        assertAll("Testing the moves that can not be made\n",
+                () -> assertThrows(InvalidMoveJournalException.class, () -> journal.make(players[1], move), "A move was made with another Player's Tiles\n"),
+                () -> assertEquals(before, state(), "The failed move changed the game\n"),
+                () -> assertThrows(InvalidMoveJournalException.class, () -> journal.undo(), "A move was undone when none were made\n")
+        );
+    }
+
+
+    /**
+     * Method to describe the state of the game
+     *
+     * @return The Board hash, each Player's score and Frame hash, then the Pool counts
+     */
+    private String state() {
+        StringBuilder result = new StringBuilder(Long.toHexString(scrabble.getBoard().getHash()));
+
+        for (Player player : players) {
+            result.append(' ').append(player.getName()).append(' ').append(player.getScore()).append(' ').append(player.getPlayerFrame().getHash());
+        }
+
+        result.append(" Pool");
+        for (int letter = 0; letter < Pool.LETTER_COUNT; letter++) {
+            result.append(' ').append(scrabble.getPool().getCount(letter));
+        }
+
+        return result.toString();
+    }
+}
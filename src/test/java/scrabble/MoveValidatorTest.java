@@ -0,0 +1,126 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveValidatorTest {
+
+    // Declaring variables used in testing
+    private Board board;
+    private Player player;
+    private MoveValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+        player = new Player("Test", new Pool());
+        validator = new MoveValidator(board);
+
+        // CAT across through the Start Square
+        setFrame("CAT");
+        board.placeTiles(new MoveInfo(player, new int[]{7, 7}, UserInput.Direction.HORIZONTAL, "CAT".toCharArray()));
+
+        setFrame("SETAB");
+    }
+
+
+    @Test
+    @DisplayName("Testing that each invalid move gives the code of the first check it fails")
+    void resultCodes() {
+
+        Frame frame = player.getPlayerFrame();
+
+        assertAll("Testing validate for invalid moves\n",
+                () -> assertEquals(MoveValidator.OFF_BOARD, validator.validate(7, 13, UserInput.Direction.HORIZONTAL, "SEAT".toCharArray(), frame), "A word off the Board was not found\n"),
+                () -> assertEquals(MoveValidator.OFF_BOARD, validator.validate(3, 3, UserInput.Direction.HORIZONTAL, "S".toCharArray(), frame), "A one letter word was not found\n"),
+                () -> assertEquals(MoveValidator.NOT_WHOLE_WORD, validator.validate(7, 8, UserInput.Direction.HORIZONTAL, "AT".toCharArray(), frame), "A part of a word was not found\n"),
+                () -> assertEquals(MoveValidator.TILE_MISMATCH, validator.validate(7, 7, UserInput.Direction.HORIZONTAL, "BATS".toCharArray(), frame), "A word not matching the Board was not found\n"),
+                () -> assertEquals(MoveValidator.TILE_COUNT, validator.validate(7, 7, UserInput.Direction.HORIZONTAL, "CAT".toCharArray(), frame), "A move placing no Tiles was not found\n"),
+                () -> assertEquals(MoveValidator.MISSING_TILES, validator.validate(7, 7, UserInput.Direction.HORIZONTAL, "CATTY".toCharArray(), frame), "A move needing Tiles the Frame does not have was not found\n"),
+                () -> assertEquals(MoveValidator.NOT_CONNECTED, validator.validate(2, 2, UserInput.Direction.HORIZONTAL, "BEST".toCharArray(), frame), "A move not connecting was not found\n"),
+                () -> assertEquals(-1, validator.score(), "An invalid move should not be scored\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that valid moves are found and scored the same as the Board")
+    void validMoves() {
+
+        Frame frame = player.getPlayerFrame();
+
+        int catsResult = validator.validate(7, 7, UserInput.Direction.HORIZONTAL, "CATS".toCharArray(), frame);
+        int catsScore = validator.score();
+        int catsCount = validator.getRequiredCount();
+
+        // BET down through the A of CAT does not match the Board
+        int betResult = validator.validate(6, 8, UserInput.Direction.VERTICAL, "BET".toCharArray(), frame);
+
+        assertAll("Testing validate for valid moves\n",
+                () -> assertEquals(MoveValidator.VALID, catsResult, "Extending CAT to CATS was not valid\n"),
+                () -> assertEquals(1, catsCount, "CATS should place one Tile\n"),
+                () -> assertEquals(6, catsScore, "CATS should score 6 as the premiums under CAT are used\n"),
+                () -> assertEquals(MoveValidator.TILE_MISMATCH, betResult, "BET down through the A should not match the Board\n")
+        );
+
+        // Compare with the Board scoring the same move once placed
+        MoveInfo moveInfo = new MoveInfo(player, new int[]{6, 8}, UserInput.Direction.VERTICAL, "TAB".toCharArray());
+        int tabResult = validator.validate(6, 8, UserInput.Direction.VERTICAL, "TAB".toCharArray(), frame);
+        int tabScore = validator.score();
+        board.placeTiles(moveInfo);
+
+        assertAll("Testing TAB down through the A of CAT\n",
+                () -> assertEquals(MoveValidator.VALID, tabResult, "TAB down through the A was not valid\n"),
+                () -> assertEquals(moveInfo.getMoveScore(), tabScore, "The score differed from the Board's score\n"),
+                () -> assertEquals(6, validator.getRequiredRow(0), "The first Tile should be in row 6\n"),
+                () -> assertEquals('T', validator.getRequiredTile(0), "The first Tile should be T\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that generated moves are valid with the same score")
+    void generatedMoves() {
+
+        Gaddag gaddag = Gaddag.build(Arrays.asList("CAT", "CATS", "SCAT", "AT", "TA", "AS", "BE", "BET", "BETS", "BEST", "TAB", "TABS", "SEA", "EAT", "TEA", "EATS", "ABS", "BATS", "STAB"));
+        MoveGenerator generator = new MoveGenerator(gaddag);
+
+        for (GeneratedMove move : generator.generateMoves(board, player.getPlayerFrame())) {
+
+            int result = validator.validate(move.getRow(), move.getColumn(), move.getDirection(), move.getWord(), player.getPlayerFrame());
+
+            assertEquals(MoveValidator.VALID, result, "A generated move was not valid: " + move + "\n");
+            assertEquals(move.getScore(), validator.score(), "A generated move scored differently: " + move + "\n");
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that checkValidMove gives the same messages as before")
+    void messages() {
+
+        assertAll("Testing the messages for each result\n",
+                () -> assertEquals("The Word is not the whole Word on the Board.", MoveValidator.message(MoveValidator.NOT_WHOLE_WORD), "The message for NOT_WHOLE_WORD changed\n"),
+                () -> assertEquals("The Word did not connect to a Word or Start Square.", MoveValidator.message(MoveValidator.NOT_CONNECTED), "The message for NOT_CONNECTED changed\n")
+        );
+    }
+
+
+    /**
+     * Method to set the Tiles in the Player's Frame
+     *
+     * @param letters The letters of the Tiles
+     */
+    private void setFrame(String letters) {
+        player.getPlayerFrame().returnFrame().clear();
+
+        for (char c : letters.toCharArray()) {
+            player.getPlayerFrame().addTile(new Tile(c));
+        }
+    }
+}
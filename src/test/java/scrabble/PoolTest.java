@@ -5,6 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class PoolTest {
@@ -32,6 +34,77 @@ public class PoolTest {
     }
 
 
+    @Test
+    @DisplayName("Testing that Pools with the same seed draw Tiles in the same order")
+    void seededPool() {
+
+        Pool first = new Pool(42);
+        Pool second = new Pool(42);
+
+        // Draws every Tile from both Pools and compares them
+        StringBuilder firstDraws = new StringBuilder();
+        StringBuilder secondDraws = new StringBuilder();
+        while (!first.isEmpty()) {
+            firstDraws.append(first.removeTile().getCharacter());
+            secondDraws.append(second.removeTile().getCharacter());
+        }
+
+        assertEquals(firstDraws.toString(), secondDraws.toString(), "Pools with the same seed drew different Tiles\n");
+    }
+
+
+    @Test
+    @DisplayName("Testing that drawing every Tile draws the standard count of each letter")
+    void drawLetterCounts() {
+
+        int[] drawn = new int[Pool.LETTER_COUNT];
+        while (!pool.isEmpty()) {
+            drawn[pool.drawLetter()]++;
+        }
+
+        assertAll("Testing the letters drawn\n",
+                () -> assertEquals(9, drawn['A' - 'A'], "The wrong number of A Tiles were drawn\n"),
+                () -> assertEquals(12, drawn['E' - 'A'], "The wrong number of E Tiles were drawn\n"),
+                () -> assertEquals(1, drawn['Z' - 'A'], "The wrong number of Z Tiles were drawn\n"),
+                () -> assertEquals(2, drawn[Pool.BLANK], "The wrong number of blank Tiles were drawn\n"),
+                () -> assertThrows(InvalidPoolException.class, () -> pool.drawLetter(), "A letter was drawn from an empty Pool\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a copied Pool has the same Tiles but draws separately")
+    void copyPool() {
+
+        pool.removeTile();
+        Pool copy = pool.copy();
+        copy.removeTile();
+        Pool seededCopy = new Pool(1).copy(new SplittableRandom(5));
+        Pool otherSeededCopy = new Pool(2).copy(new SplittableRandom(5));
+
+        assertAll("Testing the copied Pool\n",
+                () -> assertEquals(99, pool.tilesInPool(), "Drawing from the copy changed the original\n"),
+                () -> assertEquals(98, copy.tilesInPool(), "The copy did not start with the original's Tiles\n"),
+                () -> assertEquals(seededCopy.removeTile(), otherSeededCopy.removeTile(), "Copies with the same Random drew different Tiles\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a blank Tile set to a letter goes back to the Pool as a blank")
+    void receiveSetBlank() {
+
+        Tile blank = new Tile(' ');
+        blank.setCharacter('Q');
+        pool.receiveTile(blank);
+
+        assertAll("Testing the returned blank\n",
+                () -> assertEquals(3, pool.getCount(Pool.BLANK), "The set blank was not counted as a blank\n"),
+                () -> assertEquals(1, pool.getCount('Q' - 'A'), "The set blank was counted as its letter\n")
+        );
+    }
+
+
     @Test
     @DisplayName("Testing that removeTile removes a tile from the Pool")
     void sizeOfPoolAfterRemoval() {
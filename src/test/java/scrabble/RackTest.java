@@ -0,0 +1,118 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidFrameException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RackTest {
+
+    // Declaring variables used in testing
+    private Rack rack;
+
+    @BeforeEach
+    void setUp() {
+        rack = new Rack("RETAINS");
+    }
+
+
+    @Test
+    @DisplayName("Testing that a Rack counts, adds and removes letters")
+    void countsLetters() {
+
+        rack.remove('E' - 'A');
+        rack.add(Pool.BLANK);
+
+        assertAll("Testing the letter counts\n",
+                () -> assertEquals(7, rack.size(), "The size of the Rack was wrong\n"),
+                () -> assertFalse(rack.contains('E' - 'A'), "The removed letter was still in the Rack\n"),
+                () -> assertEquals(1, rack.count(Pool.BLANK), "The blank was not added\n"),
+                () -> assertThrows(InvalidFrameException.class, () -> rack.add('A' - 'A'), "An eighth Tile was added\n"),
+                () -> assertThrows(InvalidFrameException.class, () -> rack.remove('E' - 'A'), "A missing letter was removed\n"),
+                () -> assertThrows(InvalidFrameException.class, () -> new Rack("ab"), "A Rack was made of lower case letters\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that containsAll counts repeated letters and leaves the Rack unchanged")
+    void containsAll() {
+
+        assertAll("Testing containsAll\n",
+                () -> assertTrue(rack.containsAll("STAR".toCharArray(), 4), "The Rack did not contain STAR\n"),
+                () -> assertFalse(rack.containsAll("TATS".toCharArray(), 4), "The Rack contained a second T\n"),
+                () -> assertTrue(rack.containsAll("TATS".toCharArray(), 2), "The length was not used\n"),
+                () -> assertFalse(rack.containsAll("a".toCharArray(), 1), "The Rack contained a lower case letter\n"),
+                () -> assertEquals("AEINRST", rack.toString(), "Checking letters changed the Rack\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the leave key is the same for any order of the same Tiles")
+    void leaveKey() {
+
+        assertAll("Testing leave keys\n",
+                () -> assertEquals(new Rack("NASTIER").leaveKey(), rack.leaveKey(), "The same Tiles gave different keys\n"),
+                () -> assertNotEquals(new Rack("RETAINT").leaveKey(), rack.leaveKey(), "Different Tiles gave the same key\n"),
+                () -> assertEquals(0, new Rack().leaveKey(), "The empty leave did not have key 0\n"),
+                () -> assertEquals("EQ ", Rack.leaveString(new Rack(" QE").leaveKey()), "The key did not give back its letters\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a Frame keeps its Rack in step however its Tiles change")
+    void frameRack() {
+
+        Frame frame = new Player("Test", new Pool()).getPlayerFrame();
+        frame.returnFrame().clear();
+        frame.addTile(new Tile('C'));
+        frame.addTile(new Tile('A'));
+
+        // Changes made straight to the list are picked up
+        frame.returnFrame().add(new Tile('T'));
+        frame.returnFrame().set(0, new Tile('B'));
+        Rack afterList = frame.getRack();
+
+        // A blank set to a letter is still counted as a blank
+        Tile blank = new Tile(' ');
+        frame.addTile(blank);
+        frame.setBlanks(new char[]{'S'});
+
+        assertAll("Testing the Frame's Rack\n",
+                () -> assertEquals("ABT", afterList.toString(), "The Rack did not follow changes to the list\n"),
+                () -> assertEquals(1, frame.getRack().count(Pool.BLANK), "The set blank was not counted as a blank\n"),
+                () -> assertTrue(frame.checkTiles("BATS".toCharArray()), "The set blank did not match its letter\n"),
+                () -> assertFalse(frame.checkTiles("BAT ".toCharArray()), "The set blank matched ' '\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the hash is the same for the same Tiles in any order")
+    void hash() {
+
+        Rack rack = new Rack("ABBA");
+        Rack other = new Rack("BA");
+        other.add(Rack.index('A'));
+        other.add(Rack.index('B'));
+
+        Rack removed = new Rack("ABBAC");
+        removed.remove(Rack.index('C'));
+
+        Rack cleared = new Rack("XYZ");
+        cleared.clear();
+
+        assertAll("Testing the Rack hashes\n",
+                () -> assertEquals(rack.getHash(), other.getHash(), "The order of the Tiles changed the hash\n"),
+                () -> assertEquals(rack.getHash(), removed.getHash(), "Removing a Tile did not undo adding it\n"),
+                () -> assertEquals(rack.getHash(), new Rack(rack).getHash(), "A copy had a different hash\n"),
+                () -> assertEquals(Zobrist.rack(rack.getCounts()), rack.getHash(), "The hash was not the hash of the counts\n"),
+                () -> assertNotEquals(rack.getHash(), new Rack("ABB").getHash(), "Different Tiles had the same hash\n"),
+                () -> assertEquals(0, cleared.getHash(), "An empty Rack had a hash\n")
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package scrabble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.exceptions.InvalidSimulatorException;
+
+import java.io.FileNotFoundException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulatorTest {
+
+    // Declaring variables used in testing
+    private Lexicon dictionary;
+    private Gaddag gaddag;
+
+    @BeforeEach
+    void setUp() throws FileNotFoundException {
+        dictionary = LexiconRegistry.getLexicon();
+        gaddag = LexiconRegistry.getGaddag();
+    }
+
+
+    @Test
+    @DisplayName("Testing that a game played with the same seed gives the same scores")
+    void playGameIsRepeatable() {
+
+        Simulator simulator = new Simulator(dictionary, gaddag, PlayerStrategy.GREEDY, PlayerStrategy.RANDOM);
+
+        int[] first = simulator.playGame(42);
+        int[] second = simulator.playGame(42);
+
+        assertAll("Testing the replayed game\n",
+                () -> assertArrayEquals(first, second, "The same seed gave different scores\n"),
+                () -> assertTrue(first[0] > 0 || first[1] > 0, "No points were scored in the game\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a run gives the same scores on any number of threads")
+    void runIsRepeatable() {
+
+        SimulationResult single = new Simulator(dictionary, gaddag, PlayerStrategy.GREEDY, PlayerStrategy.GREEDY, new ForkJoinPool(1)).run(6, 7);
+        SimulationResult parallel = new Simulator(dictionary, gaddag, PlayerStrategy.GREEDY, PlayerStrategy.GREEDY, new ForkJoinPool(3)).run(6, 7);
+
+        int[] fourth = new Simulator(dictionary, gaddag, PlayerStrategy.GREEDY, PlayerStrategy.GREEDY).playGame(Simulator.gameSeed(7, 3));
+
+        assertAll("Testing the runs\n",
+                () -> assertEquals(6, single.getGames(), "The wrong number of games were played\n"),
+                () -> {
+                    for (int game = 0; game < 6; game++) {
+                        assertEquals(single.getScore(0, game), parallel.getScore(0, game), "Game " + game + " changed with more threads\n");
+                        assertEquals(single.getScore(1, game), parallel.getScore(1, game), "Game " + game + " changed with more threads\n");
+                    }
+                },
+                () -> assertEquals(fourth[0], single.getScore(0, 3), "A game of the run could not be replayed on its own\n"),
+                () -> assertTrue(single.getGamesPerSecond() > 0, "The rate of games was not measured\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that the greedy strategy beats random moves")
+    void greedyBeatsRandom() {
+
+        SimulationResult result = new Simulator(dictionary, gaddag, PlayerStrategy.GREEDY, PlayerStrategy.RANDOM).run(4, 1);
+
+        assertTrue(result.getMeanScore(0) > result.getMeanScore(1), "Random moves scored more than the best moves\n");
+    }
+
+
+    @Test
+    @DisplayName("Testing that a Simulator can not be created without its parts or run without games")
+    void invalidArguments() {
+
+        Simulator simulator = new Simulator(dictionary, gaddag, PlayerStrategy.GREEDY, PlayerStrategy.GREEDY);
+
+        assertAll("Testing invalid arguments\n",
+                () -> assertThrows(InvalidSimulatorException.class, () -> new Simulator(null, gaddag, PlayerStrategy.GREEDY, PlayerStrategy.GREEDY), "A Simulator was created without a dictionary\n"),
+                () -> assertThrows(InvalidSimulatorException.class, () -> new Simulator(dictionary, gaddag, null, PlayerStrategy.GREEDY), "A Simulator was created without a strategy\n"),
+                () -> assertThrows(InvalidSimulatorException.class, () -> simulator.run(0, 1), "A run of no games was started\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing the statistics of a SimulationResult")
+    void resultStatistics() {
+
+        SimulationResult result = new SimulationResult(new int[][]{{300, 400, 500, 400}, {350, 400, 450, 500}}, 2_000_000_000L);
+
+        assertAll("Testing the statistics\n",
+                () -> assertEquals(4, result.getGames(), "The number of games was wrong\n"),
+                () -> assertEquals(2.0, result.getGamesPerSecond(), 1e-9, "The rate of games was wrong\n"),
+                () -> assertEquals(1, result.getWins(0), "The wins of Player 1 were wrong\n"),
+                () -> assertEquals(2, result.getWins(1), "The wins of Player 2 were wrong\n"),
+                () -> assertEquals(1, result.getDraws(), "The draws were wrong\n"),
+                () -> assertEquals(400.0, result.getMeanScore(0), 1e-9, "The mean score was wrong\n"),
+                () -> assertEquals(Math.sqrt(5000), result.getStandardDeviation(0), 1e-9, "The standard deviation was wrong\n"),
+                () -> assertEquals(400, result.getPercentile(0, 50), "The median was wrong\n"),
+                () -> assertEquals(300, result.getPercentile(0, 0), "The lowest score was wrong\n"),
+                () -> assertEquals(500, result.getPercentile(0, 100), "The highest score was wrong\n"),
+                () -> assertArrayEquals(new int[]{1, 0, 2, 0, 1}, result.getHistogram(0, 50), "The histogram was wrong\n"),
+                () -> assertThrows(InvalidSimulatorException.class, () -> result.getMeanScore(2), "A Player not in the results was found\n")
+        );
+    }
+}
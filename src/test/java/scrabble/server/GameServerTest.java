@@ -0,0 +1,583 @@
+package scrabble.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import scrabble.GameEngine;
+import scrabble.GameEventLog;
+import scrabble.LexiconRegistry;
+import scrabble.exceptions.InvalidGameServerException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameServerTest {
+
+    // Declaring variables used in testing
+    private GameServer server;
+    private final List<Client> clients = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(0, LexiconRegistry.getLexicon()).start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Client client : clients) {
+            client.socket.close();
+        }
+        server.close();
+    }
+
+
+    @Test
+    @DisplayName("Testing that two clients can join, play and end a game")
+    void playGame() throws IOException {
+
+        Client alice = connect();
+        Client bob = connect();
+
+        String aliceJoined = alice.send("JOIN table1 Alice").expect("JOINED");
+        String bobJoined = bob.send("JOIN table1 Bob").expect("JOINED");
+        String started = alice.expect("START");
+        bob.expect("START");
+
+        // Either Player can be chosen to go first
+        String[] turn = alice.expect("TURN").split(" ");
+        bob.expect("TURN");
+        Client first = turn[1].equals("0") ? alice : bob;
+        Client second = first == alice ? bob : alice;
+        String frame = first.expect("FRAME");
+
+        String outOfTurn = second.send("PASS").expect("ERROR");
+        String passed = first.send("PASS").expect("PASSED");
+        String[] nextTurn = second.expect("TURN").split(" ");
+        second.expect("FRAME");
+
+        second.send("QUIT");
+        String over = first.expect("GAMEOVER");
+
+        assertAll("Testing a game over the text protocol\n",
+                () -> assertEquals("JOINED table1 0", aliceJoined, "The first client did not take seat 0\n"),
+                () -> assertEquals("JOINED table1 1", bobJoined, "The second client did not take seat 1\n"),
+                () -> assertEquals("START table1", started, "The game did not start\n"),
+                () -> assertEquals(turn[1].equals("0") ? "Alice" : "Bob", turn[2], "The name of the Player to move was wrong\n"),
+                () -> assertEquals(7, frame.length() - "FRAME ".length(), "The Frame sent did not have 7 Tiles\n"),
+                () -> assertEquals("ERROR It is not your turn.", outOfTurn, "A client moved out of turn\n"),
+                () -> assertEquals("PASSED " + turn[1], passed, "The pass was not sent\n"),
+                () -> assertNotEquals(turn[1], nextTurn[1], "The turn did not pass\n"),
+                () -> assertEquals(3, over.split(" ").length - 1, "The game over line was wrong\n")
+        );
+
+        waitForSessions(0);
+    }
+
+
+    @Test
+    @DisplayName("Testing that a placed move waits for the opponent's answer")
+    void placeAndChallenge() throws IOException {
+
+        Client alice = connect();
+        Client bob = connect();
+        alice.send("JOIN table2 Alice").expect("JOINED");
+        bob.send("JOIN table2 Bob");
+
+        String[] turn = alice.expect("TURN").split(" ");
+        Client first = turn[1].equals("0") ? alice : bob;
+        Client second = first == alice ? bob : alice;
+
+        // Places two letters of the Frame across the centre, which may or may not be a word
+        String letters = first.expect("FRAME").substring("FRAME ".length()).replace("_", "");
+        String word = letters.substring(0, 2);
+        String placed = second.expect("PLACED", () -> first.send("H7 A " + word));
+
+        String early = first.send("PASS").expect("ERROR");
+        String answer = second.send("CHALLENGE Y").expect("REMOVED", "SCORED");
+        first.expect("TURN");
+
+        assertAll("Testing the challenge of a placed move\n",
+                () -> assertTrue(placed.startsWith("PLACED " + turn[1] + " "), "The move placed was not sent\n"),
+                () -> assertTrue(placed.endsWith("H7 A " + word), "The line of the move was not sent\n"),
+                () -> assertEquals("ERROR It is not your turn.", early, "A move was made before the challenge\n"),
+                () -> assertTrue(answer.endsWith(turn[1]) || answer.startsWith("SCORED " + turn[1]), "The answer was not for the mover\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing the errors of the text protocol")
+    void protocolErrors() throws IOException {
+
+        Client alice = connect();
+        Client bob = connect();
+        Client carol = connect();
+
+        String notJoined = alice.send("PASS").expect("ERROR");
+        String badJoin = alice.send("JOIN table3").expect("ERROR");
+        alice.send("JOIN table3 Alice").expect("JOINED");
+        String twice = alice.send("JOIN table4 Alice").expect("ERROR");
+        String unknown = alice.send("DANCE").expect("ERROR");
+        String waiting = alice.send("PASS").expect("ERROR");
+        bob.send("JOIN table3 Bob").expect("JOINED");
+        String full = carol.send("JOIN table3 Carol").expect("ERROR");
+        String help = carol.send("JOIN table5 Carol").send("HELP").expect("HELP");
+
+        assertAll("Testing the errors sent to clients\n",
+                () -> assertEquals("ERROR Join a game first (JOIN <game> <name>).", notJoined, "A command was run before joining\n"),
+                () -> assertEquals("ERROR Use JOIN <game> <name>.", badJoin, "A JOIN without a name was accepted\n"),
+                () -> assertEquals("ERROR You have already joined table3.", twice, "A client joined two games\n"),
+                () -> assertEquals("ERROR Unknown command, send HELP for the commands.", unknown, "An unknown command was accepted\n"),
+                () -> assertEquals("ERROR It is not your turn.", waiting, "A move was made before the game started\n"),
+                () -> assertEquals("ERROR Game table3 is full.", full, "A third client joined a game\n"),
+                () -> assertTrue(help.contains("JOIN <game> <name>"), "The commands were not sent\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a game ends when a client disconnects")
+    void disconnect() throws IOException {
+
+        Client alice = connect();
+        Client bob = connect();
+        alice.send("JOIN table6 Alice").expect("JOINED");
+        bob.send("JOIN table6 Bob");
+        bob.expect("TURN");
+
+        alice.socket.close();
+
+        String left = bob.expect("LEFT");
+        bob.expect("GAMEOVER");
+
+        assertEquals("LEFT 0", left, "The other client was not told\n");
+        waitForSessions(0);
+    }
+
+
+    @Test
+    @DisplayName("Testing that many games are played at once")
+    void manySessions() throws IOException {
+
+        int games = 100;
+        Client[][] pairs = new Client[games][2];
+
+        // Every game is joined before any is played
+        for (int g = 0; g < games; g++) {
+            pairs[g][0] = connect().send("JOIN game" + g + " Alice");
+            pairs[g][1] = connect().send("JOIN game" + g + " Bob");
+        }
+        for (Client[] pair : pairs) {
+            pair[0].expect("TURN");
+            pair[1].expect("TURN");
+        }
+        assertEquals(games, server.getSessionCount(), "A game was not created\n");
+
+        for (Client[] pair : pairs) {
+            pair[0].send("QUIT");
+        }
+        for (Client[] pair : pairs) {
+            assertTrue(pair[1].expect("GAMEOVER").startsWith("GAMEOVER "), "A game did not end\n");
+        }
+
+        waitForSessions(0);
+    }
+
+
+    @Test
+    @DisplayName("Testing that lines are framed however their bytes arrive")
+    void lineFraming() throws IOException, InterruptedException {
+
+        Client alice = connect();
+        Client bob = connect();
+        alice.send("JOIN table7 Alice").expect("JOINED");
+
+        // A line split across writes, then two lines in one write
+        OutputStream out = bob.socket.getOutputStream();
+        out.write("JOIN tab".getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        Thread.sleep(50);
+        out.write("le7 Bob\r\nHELP\nDANCE\n".getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+
+        String joined = bob.expect("JOINED");
+        String help = bob.expect("HELP");
+        String unknown = bob.expect("ERROR");
+
+        // A line longer than the server reads is refused but the connection is kept
+        char[] longLine = new char[NioConnection.MAX_LINE + 10];
+        Arrays.fill(longLine, 'A');
+        String tooLong = bob.send(new String(longLine)).expect("ERROR");
+        String after = bob.send("HELP").expect("HELP");
+
+        assertAll("Testing the framing of lines\n",
+                () -> assertEquals("JOINED table7 1", joined, "A line split across writes was not joined\n"),
+                () -> assertTrue(help.startsWith("HELP "), "The second line of a write was lost\n"),
+                () -> assertEquals("ERROR Unknown command, send HELP for the commands.", unknown, "The third line of a write was lost\n"),
+                () -> assertEquals("ERROR Lines can not be longer than " + NioConnection.MAX_LINE + " bytes.", tooLong, "A long line was accepted\n"),
+                () -> assertTrue(after.startsWith("HELP "), "The line after a long line was lost\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that idle clients do not hold threads")
+    void idleClients() throws IOException {
+
+        int threads = Thread.activeCount();
+
+        for (int i = 0; i < 1000; i++) {
+            connect();
+        }
+
+        // The last client can still play while the others are idle
+        Client alice = clients.get(clients.size() - 1);
+        String joined = alice.send("JOIN table8 Alice").expect("JOINED");
+
+        assertAll("Testing many idle clients\n",
+                () -> assertEquals("JOINED table8 0", joined, "A client could not join while others were idle\n"),
+                () -> assertTrue(Thread.activeCount() - threads < 50, "Threads were created for idle clients\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a game can be played over the blocking transport")
+    void blockingMode() throws IOException {
+
+        server.close();
+        server = new GameServer(0, LexiconRegistry.getLexicon(), GameServer.Mode.BLOCKING).start();
+
+        Client alice = connect();
+        Client bob = connect();
+        alice.send("JOIN table9 Alice").expect("JOINED");
+        bob.send("JOIN table9 Bob").expect("JOINED");
+        alice.expect("TURN");
+
+        alice.send("QUIT");
+        String over = bob.expect("GAMEOVER");
+
+        assertAll("Testing the blocking transport\n",
+                () -> assertTrue(over.startsWith("GAMEOVER "), "The game did not end\n"),
+                () -> assertThrows(InvalidGameServerException.class, () -> new GameServer(0, LexiconRegistry.getLexicon(), null), "A server without a mode was created\n")
+        );
+        waitForSessions(0);
+    }
+
+
+    @Test
+    @DisplayName("Testing that the lines a client sends at once are answered in order")
+    void orderedReplies() throws IOException {
+
+        Path file = Files.createTempFile("scrabble", ".events");
+
+        try {
+            // Replies of a logged game wait for the disk, so errors sent at once must wait behind them
+            server.close();
+            server = new GameServer(0, LexiconRegistry.getLexicon(), GameServer.Mode.NIO, file).start();
+
+            Client alice = connect();
+            Client bob = connect();
+            alice.send("JOIN table13 Alice").expect("JOINED");
+            bob.send("JOIN table13 Bob").expect("JOINED");
+            String[] turn = alice.expect("TURN").split(" ");
+            Client first = turn[1].equals("0") ? alice : bob;
+            first.expect("FRAME");
+
+            char[] tooLong = new char[300];
+            Arrays.fill(tooLong, 'A');
+            first.send("HELP").send("xyz").send(new String(tooLong)).send("PASS");
+
+            List<String> replies = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                replies.add(first.expect("HELP", "ERROR", "PASSED"));
+            }
+
+            first.send("QUIT").send("PASS");
+            String over = first.expect("GAMEOVER", "ERROR");
+            String notJoined = first.expect("ERROR");
+
+            assertAll("Testing the order of the replies\n",
+                    () -> assertTrue(replies.get(0).startsWith("HELP"), "HELP was not answered first\n"),
+                    () -> assertEquals("ERROR Unknown command, send HELP for the commands.", replies.get(1), "The unknown line was not answered second\n"),
+                    () -> assertTrue(replies.get(2).startsWith("ERROR Lines can not be longer"), "The long line was not answered third\n"),
+                    () -> assertTrue(replies.get(3).startsWith("PASSED"), "The pass was not answered last\n"),
+                    () -> assertTrue(over.startsWith("GAMEOVER"), "A line after QUIT was answered before the end of the game\n"),
+                    () -> assertEquals("ERROR Join a game first (JOIN <game> <name>).", notJoined, "The line after the game was not refused\n")
+            );
+            waitForSessions(0);
+        } finally {
+            server.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that a game being played is rebuilt from the event log by a new server")
+    void recoverGames() throws IOException {
+
+        Path file = Files.createTempFile("scrabble", ".events");
+
+        try {
+            server.close();
+            server = new GameServer(0, LexiconRegistry.getLexicon(), GameServer.Mode.NIO, file).start();
+
+            Client alice = connect();
+            Client bob = connect();
+            alice.send("JOIN table10 Alice").expect("JOINED");
+            bob.send("JOIN table10 Bob").expect("JOINED");
+            String[] turn = alice.expect("TURN").split(" ");
+            Client first = turn[1].equals("0") ? alice : bob;
+            first.send("PASS").expect("PASSED");
+
+            // The server stops without ending the game, as if it crashed
+            server.close();
+            server = new GameServer(0, LexiconRegistry.getLexicon(), GameServer.Mode.NIO, file).start();
+            int recovered = server.getSessionCount();
+
+            String stranger = connect().send("JOIN table10 Carol").expect("ERROR");
+            Client bobAgain = connect();
+            Client aliceAgain = connect();
+            String bobSeat = bobAgain.send("JOIN table10 Bob").expect("JOINED");
+            String aliceSeat = aliceAgain.send("JOIN table10 Alice").expect("JOINED");
+            String started = bobAgain.expect("START");
+            String[] resumed = bobAgain.expect("TURN").split(" ");
+
+            aliceAgain.send("QUIT");
+            bobAgain.expect("GAMEOVER");
+
+            assertAll("Testing the recovered game\n",
+                    () -> assertEquals(1, recovered, "The game was not recovered\n"),
+                    () -> assertEquals("ERROR Game table10 is full.", stranger, "A new Player took a seat of the recovered game\n"),
+                    () -> assertEquals("JOINED table10 1", bobSeat, "The second Player did not get their seat back\n"),
+                    () -> assertEquals("JOINED table10 0", aliceSeat, "The first Player did not get their seat back\n"),
+                    () -> assertEquals("START table10", started, "The recovered game did not carry on\n"),
+                    () -> assertNotEquals(turn[1], resumed[1], "The pass before the server stopped was lost\n")
+            );
+            waitForSessions(0);
+        } finally {
+            server.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that a client is sent an error when its line fails unexpectedly")
+    void failedTask() throws IOException {
+
+        List<String> sent = new ArrayList<>();
+        Connection connection = new Connection() {
+            @Override
+            void send(String line) {
+                sent.add(line);
+            }
+
+            @Override
+            void close() {
+            }
+        };
+
+        // Runs the tasks on the calling thread so the lines are sent before execute returns
+        GameSession session = new GameSession("table11", server, new GameEngine(LexiconRegistry.getLexicon()), Runnable::run);
+        session.execute(connection, () -> {
+            throw new IllegalStateException("Broken");
+        });
+        session.execute(connection, () -> session.join(connection, "Alice"));
+
+        assertAll("Testing the failed task\n",
+                () -> assertEquals("ERROR The server could not run the command.", sent.get(0), "The client was not told its line failed\n"),
+                () -> assertEquals("JOINED table11 0", sent.get(1), "The session stopped after the failure\n")
+        );
+    }
+
+
+    @Test
+    @DisplayName("Testing that a reply is only sent once the command it answers is on the disk")
+    void writeAhead() throws IOException {
+
+        Path file = Files.createTempFile("scrabble", ".events");
+
+        try (GameEventLog log = new GameEventLog(file, LexiconRegistry.getLexicon())) {
+            // The size of the log when each line was sent
+            List<String> sent = Collections.synchronizedList(new ArrayList<>());
+            Connection[] connections = new Connection[2];
+
+            for (int i = 0; i < connections.length; i++) {
+                connections[i] = new Connection() {
+                    @Override
+                    void send(String line) {
+                        try {
+                            sent.add(line + " @" + Files.size(file));
+                        } catch (IOException e) {
+                            sent.add(line + " @?");
+                        }
+                    }
+
+                    @Override
+                    void close() {
+                    }
+                };
+            }
+
+            GameEngine engine = log.newGame("table12", 12);
+            GameSession session = new GameSession("table12", server, engine, Runnable::run);
+            for (Connection connection : connections) {
+                connection.setSession(session);
+            }
+            session.execute(connections[0], () -> session.join(connections[0], "Alice"));
+            session.execute(connections[1], () -> session.join(connections[1], "Bob"));
+            log.sync();
+            long joined = Files.size(file);
+
+            Connection mover = connections[engine.getCurrentPlayerIndex()];
+            session.execute(mover, () -> session.command(mover, "PASS"));
+            log.sync();
+            long passed = Files.size(file);
+
+            String passLine = sent.stream().filter(line -> line.startsWith("PASSED")).findFirst().orElse("PASSED @none");
+
+            // A log that can not be written ends the game rather than tell the clients of moves it lost
+            log.close();
+            Connection next = connections[engine.getCurrentPlayerIndex()];
+            session.execute(next, () -> session.command(next, "PASS"));
+
+            assertAll("Testing the replies of a logged game\n",
+                    () -> assertTrue(sent.contains("JOINED table12 1 @" + joined), "The second Player joined before it was logged\n"),
+                    () -> assertTrue(passed > joined, "The pass was not logged\n"),
+                    () -> assertEquals("@" + passed, passLine.substring(passLine.lastIndexOf(' ') + 1), "The pass was sent before it was logged\n"),
+                    () -> assertTrue(sent.stream().anyMatch(line -> line.startsWith("ERROR Game table12 could not be saved.")), "The clients were not told the game was lost\n"),
+                    () -> assertNull(next.getSession(), "The client was left in a game that was lost\n")
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    @Test
+    @DisplayName("Testing that a client whose line fails is disconnected without the other clients")
+    void failedClient() throws IOException {
+
+        server.close();
+        server = new GameServer(0, LexiconRegistry.getLexicon()) {
+            @Override
+            void received(Connection connection, String line) {
+                if (line.equals("BOOM")) {
+                    throw new IllegalStateException("Broken");
+                }
+                super.received(connection, line);
+            }
+        }.start();
+
+        Client alice = connect();
+        Client bob = connect();
+        Client carol = connect();
+        alice.send("JOIN table12 Alice").expect("JOINED");
+
+        carol.send("BOOM");
+        IOException dropped = assertThrows(IOException.class, () -> carol.expect("WELCOME"), "The failed client was not disconnected\n");
+
+        bob.send("JOIN table12 Bob").expect("JOINED");
+        String turn = alice.expect("TURN");
+        String late = connect().send("JOIN table13 Dave").expect("JOINED");
+
+        assertAll("Testing the clients after a failed client\n",
+                () -> assertTrue(dropped.getMessage().contains("closed"), "The failed client was not closed\n"),
+                () -> assertTrue(turn.startsWith("TURN "), "The other clients were not served\n"),
+                () -> assertEquals("JOINED table13 0", late, "New clients were not accepted\n")
+        );
+    }
+
+
+    /**
+     * Method to connect a client to the server and read its welcome
+     *
+     * @return The client
+     * @throws IOException If the client can not connect
+     */
+    private Client connect() throws IOException {
+        Client client = new Client(new Socket("localhost", server.getPort()));
+        clients.add(client);
+        client.expect("WELCOME");
+        return client;
+    }
+
+    /**
+     * Method to wait for the server to forget the games that ended
+     *
+     * @param count The number of games that should be left
+     */
+    private void waitForSessions(int count) {
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (server.getSessionCount() != count && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+
+        assertEquals(count, server.getSessionCount(), "The games that ended were not forgotten\n");
+    }
+
+    /**
+     * Class for a client of the text protocol
+     */
+    private static class Client {
+
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        private Client(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setSoTimeout(10_000);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = new PrintWriter(socket.getOutputStream(), true);
+        }
+
+        private Client send(String line) {
+            out.println(line);
+            return this;
+        }
+
+        private String expect(String... prefixes) throws IOException {
+            return expect(prefixes, null);
+        }
+
+        private String expect(String prefix, Runnable action) throws IOException {
+            return expect(new String[]{prefix}, action);
+        }
+
+        // Reads lines until one starts with a prefix, skipping the other lines of the game
+        private String expect(String[] prefixes, Runnable action) throws IOException {
+            if (action != null) {
+                action.run();
+            }
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                for (String prefix : prefixes) {
+                    if (line.startsWith(prefix)) {
+                        return line;
+                    }
+                }
+            }
+
+            throw new IOException("The server closed the connection before " + prefixes[0]);
+        }
+    }
+}